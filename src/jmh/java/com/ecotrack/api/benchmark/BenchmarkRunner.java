@@ -0,0 +1,127 @@
+package com.ecotrack.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark in this package with the GC profiler and compares the results against a baseline file.
+ * <p>
+ * Usage: {@code BenchmarkRunner <result.json> <baseline.json>}. The run fails when a benchmark's throughput drops,
+ * or its allocation per operation grows, by more than {@code -Dbenchmark.baseline.tolerance} (a fraction, default
+ * 0.20). With {@code -Dbenchmark.baseline.update=true} the baseline is rewritten from this run instead. Throughput is
+ * only comparable on the machine that recorded the baseline; allocation per operation is stable across machines.
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    // Small allocations are rounded by the profiler, so a few bytes of drift are not treated as a regression.
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkRunner <result.json> <baseline.json>");
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double tolerance = Double.parseDouble(System.getProperty("benchmark.baseline.tolerance", "0.20"));
+        boolean update = Boolean.getBoolean("benchmark.baseline.update");
+
+        Options options = new OptionsBuilder()
+            .include(BenchmarkRunner.class.getPackageName() + "\\..*Benchmark\\..*")
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+        Map<String, Baseline> measured = measure(new Runner(options).run());
+
+        if (update || !Files.exists(baselineFile)) {
+            OBJECT_MAPPER.writeValue(baselineFile.toFile(), measured);
+            System.out.println("Recorded benchmark baseline in " + baselineFile);
+            return;
+        }
+
+        Map<String, Baseline> baseline = OBJECT_MAPPER.readValue(baselineFile.toFile(), new TypeReference<TreeMap<String, Baseline>>() {});
+        List<String> regressions = compare(baseline, measured, tolerance);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressed by more than " + Math.round(tolerance * 100) + "% against " + baselineFile);
+    }
+
+    private static Map<String, Baseline> measure(Collection<RunResult> runResults) {
+        Map<String, Baseline> measured = new TreeMap<>();
+        for (RunResult runResult : runResults) {
+            Result<?> primary = runResult.getPrimaryResult();
+            double allocated = runResult
+                .getSecondaryResults()
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().endsWith(ALLOCATION_METRIC))
+                .mapToDouble(entry -> entry.getValue().getScore())
+                .findFirst()
+                .orElse(Double.NaN);
+            measured.put(runResult.getParams().getBenchmark(), new Baseline(primary.getScore(), allocated));
+        }
+        return measured;
+    }
+
+    static List<String> compare(Map<String, Baseline> baseline, Map<String, Baseline> measured, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        measured.forEach((benchmark, current) -> {
+            Baseline expected = baseline.get(benchmark);
+            if (expected == null) {
+                System.out.println("No baseline for " + benchmark + ", skipping comparison");
+                return;
+            }
+            if (current.opsPerSecond() < expected.opsPerSecond() * (1 - tolerance)) {
+                regressions.add(
+                    String.format(
+                        "%s: throughput %.0f ops/s is below baseline %.0f ops/s",
+                        benchmark,
+                        current.opsPerSecond(),
+                        expected.opsPerSecond()
+                    )
+                );
+            }
+            if (current.allocatedBytesPerOp() > expected.allocatedBytesPerOp() * (1 + tolerance) + ALLOCATION_SLACK_BYTES) {
+                regressions.add(
+                    String.format(
+                        "%s: allocates %.0f B/op, above baseline %.0f B/op",
+                        benchmark,
+                        current.allocatedBytesPerOp(),
+                        expected.allocatedBytesPerOp()
+                    )
+                );
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * Recorded throughput and allocation of one benchmark.
+     */
+    record Baseline(double opsPerSecond, double allocatedBytesPerOp) {}
+}
@@ -0,0 +1,117 @@
+package com.ecotrack.api.benchmark;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.service.carbon.CarbonEstimateCache;
+import com.ecotrack.api.service.carbon.EmissionCalculationStrategy;
+import com.ecotrack.api.service.carbon.EmissionComputation;
+import com.ecotrack.api.service.carbon.EmissionFactorRegistry;
+import com.ecotrack.api.service.carbon.Scope1DirectEmissionStrategy;
+import com.ecotrack.api.service.carbon.Scope2IndirectEmissionStrategy;
+import com.ecotrack.api.service.carbon.Scope3SupplyChainEmissionStrategy;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import com.ecotrack.api.service.dto.CarbonCalculationResultDTO;
+import com.ecotrack.api.service.impl.CarbonCalculatorService;
+import com.ecotrack.api.service.mapper.CarbonCalculationMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the emission strategies and of the calculator service around them.
+ * <p>
+ * The factor registry is empty and the estimate cache is disabled, so every invocation runs the full validation,
+ * strategy and mapping path.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarbonEngineBenchmark {
+
+    private EmissionCalculationStrategy scope1Strategy;
+    private EmissionCalculationStrategy scope2Strategy;
+    private EmissionCalculationStrategy scope3Strategy;
+    private CarbonCalculatorService carbonCalculatorService;
+
+    private CarbonCalculationRequestDTO scope1Request;
+    private CarbonCalculationRequestDTO scope2Request;
+    private CarbonCalculationRequestDTO scope3Request;
+    private CarbonCalculationRequestDTO invalidRequest;
+
+    @Setup
+    public void setUp() {
+        EmissionFactorRegistry emissionFactorRegistry = new EmissionFactorRegistry(null, null);
+        scope1Strategy = new Scope1DirectEmissionStrategy(emissionFactorRegistry);
+        scope2Strategy = new Scope2IndirectEmissionStrategy(emissionFactorRegistry);
+        scope3Strategy = new Scope3SupplyChainEmissionStrategy(emissionFactorRegistry);
+
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCarbonCalculation().getEstimateCache().setEnabled(false);
+        carbonCalculatorService = new CarbonCalculatorService(
+            List.of(scope1Strategy, scope2Strategy, scope3Strategy),
+            Mappers.getMapper(CarbonCalculationMapper.class),
+            null,
+            null,
+            new CarbonEstimateCache(null, emissionFactorRegistry, applicationProperties, new SimpleMeterRegistry())
+        );
+
+        scope1Request = request(Scope.SCOPE_1, "1250.5", "2.02", "0.15");
+        scope2Request = request(Scope.SCOPE_2, "48000", null, null);
+        scope3Request = request(Scope.SCOPE_3, "730.25", "0.4875", "0.05");
+        invalidRequest = request(Scope.SCOPE_1, "1250.5", "2.02", "1.5");
+    }
+
+    @Benchmark
+    public EmissionComputation scope1Strategy() {
+        return scope1Strategy.calculate(scope1Request);
+    }
+
+    @Benchmark
+    public EmissionComputation scope2StrategyDefaultGridFactor() {
+        return scope2Strategy.calculate(scope2Request);
+    }
+
+    @Benchmark
+    public EmissionComputation scope3Strategy() {
+        return scope3Strategy.calculate(scope3Request);
+    }
+
+    @Benchmark
+    public CarbonCalculationResultDTO calculateValidRequest() {
+        return carbonCalculatorService.calculate(scope1Request);
+    }
+
+    @Benchmark
+    public Object calculateRejectedRequest() {
+        try {
+            return carbonCalculatorService.calculate(invalidRequest);
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    static CarbonCalculationRequestDTO request(Scope scope, String activityData, String emissionFactor, String efficiencyRatio) {
+        CarbonCalculationRequestDTO request = new CarbonCalculationRequestDTO();
+        request.setTenantId("tenant-benchmark");
+        request.setSupplierId("supplier-benchmark");
+        request.setScope(scope);
+        request.setActivityData(new BigDecimal(activityData));
+        request.setEmissionFactor(emissionFactor == null ? null : new BigDecimal(emissionFactor));
+        request.setEfficiencyRatio(efficiencyRatio == null ? null : new BigDecimal(efficiencyRatio));
+        return request;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecotrack.api.benchmark;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.converter.RecordMetadataConverter;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.service.carbon.EmissionComputation;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.ecotrack.api.service.mapper.CarbonCalculationMapper;
+import com.ecotrack.api.service.mapper.EmissionRecordMapper;
+import com.ecotrack.api.service.utils.RecordMetadata;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the DTO mappers and the metadata JSON converter used on every persisted emission record.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmissionMappingBenchmark {
+
+    private CarbonCalculationMapper carbonCalculationMapper;
+    private EmissionRecordMapper emissionRecordMapper;
+    private RecordMetadataConverter recordMetadataConverter;
+
+    private CarbonCalculationRequestDTO request;
+    private EmissionComputation computation;
+    private EmissionRecord emissionRecord;
+    private EmissionRecordDTO emissionRecordDTO;
+    private RecordMetadata metadata;
+    private String metadataJson;
+
+    @Setup
+    public void setUp() {
+        carbonCalculationMapper = Mappers.getMapper(CarbonCalculationMapper.class);
+        emissionRecordMapper = new EmissionRecordMapper();
+        recordMetadataConverter = new RecordMetadataConverter();
+
+        request = CarbonEngineBenchmark.request(Scope.SCOPE_1, "1250.5", "2.02", "0.15");
+        request.setDateRecorded(LocalDate.of(2026, 3, 31));
+        computation = new EmissionComputation(2147L, new BigDecimal("2.02"), new BigDecimal("0.15"), "SCOPE_1_DIRECT:E=A*EF*(1-ER)");
+
+        metadata = new RecordMetadata("tenant-benchmark");
+        metadata.setStatus("SUBMITTED");
+        metadata.setSubmittedBy("benchmark");
+        metadata.setRole("ROLE_USER");
+        metadata.setVerified(Boolean.FALSE);
+        metadata.setFlagged(Boolean.FALSE);
+        metadataJson = recordMetadataConverter.convertToDatabaseColumn(metadata);
+
+        emissionRecordDTO = carbonCalculationMapper.toComputedEmissionRecordDTO(request, computation);
+        emissionRecordDTO.setId(1001L);
+        emissionRecordDTO.setConfidenceScore(80);
+        emissionRecordDTO.setUncertaintyFactor(new BigDecimal("0.1000"));
+        emissionRecordDTO.setMetadata(metadata);
+        emissionRecord = emissionRecordMapper.toEntity(emissionRecordDTO);
+    }
+
+    @Benchmark
+    public EmissionRecordDTO toComputedEmissionRecordDTO() {
+        return carbonCalculationMapper.toComputedEmissionRecordDTO(request, computation);
+    }
+
+    @Benchmark
+    public EmissionRecordDTO emissionRecordToDto() {
+        return emissionRecordMapper.toDto(emissionRecord);
+    }
+
+    @Benchmark
+    public EmissionRecord emissionRecordToEntity() {
+        return emissionRecordMapper.toEntity(emissionRecordDTO);
+    }
+
+    @Benchmark
+    public RecordMetadata recordMetadataRoundTrip() {
+        return recordMetadataConverter.convertToEntityAttribute(recordMetadataConverter.convertToDatabaseColumn(metadata));
+    }
+
+    @Benchmark
+    public RecordMetadata recordMetadataRead() {
+        return recordMetadataConverter.convertToEntityAttribute(metadataJson);
+    }
+}
@@ -1,5 +1,8 @@
 package com.ecotrack.api.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +16,60 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final CarbonCalculation carbonCalculation = new CarbonCalculation();
+
+    private final Partitioning partitioning = new Partitioning();
+
+    private final Imports imports = new Imports();
+
+    private final Exports exports = new Exports();
+
+    private final ReadReplicas readReplicas = new ReadReplicas();
+
+    private final Throttling throttling = new Throttling();
+
+    private final TenantPools tenantPools = new TenantPools();
+
+    private final TenantSchemas tenantSchemas = new TenantSchemas();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public CarbonCalculation getCarbonCalculation() {
+        return carbonCalculation;
+    }
+
+    public Partitioning getPartitioning() {
+        return partitioning;
+    }
+
+    public Imports getImports() {
+        return imports;
+    }
+
+    public Exports getExports() {
+        return exports;
+    }
+
+    public ReadReplicas getReadReplicas() {
+        return readReplicas;
+    }
+
+    public Throttling getThrottling() {
+        return throttling;
+    }
+
+    public TenantPools getTenantPools() {
+        return tenantPools;
+    }
+
+    public TenantSchemas getTenantSchemas() {
+        return tenantSchemas;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +84,733 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class CarbonCalculation {
+
+        private final Batch batch = new Batch();
+
+        private final EmissionFactors emissionFactors = new EmissionFactors();
+
+        private final Formulas formulas = new Formulas();
+
+        private final EstimateCache estimateCache = new EstimateCache();
+
+        private final SeriesCache seriesCache = new SeriesCache();
+
+        private final Uncertainty uncertainty = new Uncertainty();
+
+        private final Scenarios scenarios = new Scenarios();
+
+        private final Recalculation recalculation = new Recalculation();
+
+        private final Rollups rollups = new Rollups();
+
+        public Batch getBatch() {
+            return batch;
+        }
+
+        public EmissionFactors getEmissionFactors() {
+            return emissionFactors;
+        }
+
+        public Formulas getFormulas() {
+            return formulas;
+        }
+
+        public EstimateCache getEstimateCache() {
+            return estimateCache;
+        }
+
+        public SeriesCache getSeriesCache() {
+            return seriesCache;
+        }
+
+        public Uncertainty getUncertainty() {
+            return uncertainty;
+        }
+
+        public Scenarios getScenarios() {
+            return scenarios;
+        }
+
+        public Recalculation getRecalculation() {
+            return recalculation;
+        }
+
+        public Rollups getRollups() {
+            return rollups;
+        }
+
+        public static class Batch {
+
+            /**
+             * Maximum number of calculation requests accepted in a single batch call.
+             */
+            private int maxItems = 10000;
+
+            /**
+             * Number of emission records flushed per JDBC batch before the persistence context is cleared.
+             */
+            private int persistChunkSize = 500;
+
+            public int getMaxItems() {
+                return maxItems;
+            }
+
+            public void setMaxItems(int maxItems) {
+                this.maxItems = maxItems;
+            }
+
+            public int getPersistChunkSize() {
+                return persistChunkSize;
+            }
+
+            public void setPersistChunkSize(int persistChunkSize) {
+                this.persistChunkSize = persistChunkSize;
+            }
+        }
+
+        public static class EmissionFactors {
+
+            /**
+             * How often the in-memory emission factor registry checks the database for factors published on other nodes.
+             */
+            private Duration refreshInterval = Duration.ofMinutes(5);
+
+            public Duration getRefreshInterval() {
+                return refreshInterval;
+            }
+
+            public void setRefreshInterval(Duration refreshInterval) {
+                this.refreshInterval = refreshInterval;
+            }
+        }
+
+        public static class Formulas {
+
+            /**
+             * How long a compiled tenant formula is reused before it is reloaded, to pick up edits made on other nodes.
+             */
+            private Duration cacheTtl = Duration.ofMinutes(5);
+
+            public Duration getCacheTtl() {
+                return cacheTtl;
+            }
+
+            public void setCacheTtl(Duration cacheTtl) {
+                this.cacheTtl = cacheTtl;
+            }
+        }
+
+        public static class EstimateCache {
+
+            /**
+             * Whether results of the read-only estimate endpoint are cached.
+             */
+            private boolean enabled = true;
+
+            /**
+             * Maximum number of distinct estimate inputs kept on the heap.
+             */
+            private long maxEntries = 10000;
+
+            /**
+             * How long a cached estimate is served before it is recomputed.
+             */
+            private Duration timeToLive = Duration.ofMinutes(10);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+        }
+
+        public static class SeriesCache {
+
+            /**
+             * Whether emission time series are cached. Writes to a tenant's records invalidate its cached series.
+             */
+            private boolean enabled = true;
+
+            /**
+             * Maximum number of time series kept on the heap, across all tenants.
+             */
+            private long maxEntries = 1000;
+
+            /**
+             * How long a cached time series is served; bounds how stale a series can be after writes on other nodes.
+             */
+            private Duration timeToLive = Duration.ofMinutes(5);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+        }
+
+        public static class Uncertainty {
+
+            /**
+             * Monte Carlo iterations used when the caller does not ask for a specific number.
+             */
+            private int defaultIterations = 10000;
+
+            /**
+             * Upper bound on the iterations a caller may request for one simulation.
+             */
+            private int maxIterations = 200000;
+
+            public int getDefaultIterations() {
+                return defaultIterations;
+            }
+
+            public void setDefaultIterations(int defaultIterations) {
+                this.defaultIterations = defaultIterations;
+            }
+
+            public int getMaxIterations() {
+                return maxIterations;
+            }
+
+            public void setMaxIterations(int maxIterations) {
+                this.maxIterations = maxIterations;
+            }
+        }
+
+        public static class Scenarios {
+
+            /**
+             * How long a tenant's ledger snapshot is reused by what-if scenarios before it is reloaded.
+             */
+            private Duration snapshotTtl = Duration.ofMinutes(5);
+
+            /**
+             * Maximum number of scenarios evaluated in a single request.
+             */
+            private int maxScenarios = 50;
+
+            public Duration getSnapshotTtl() {
+                return snapshotTtl;
+            }
+
+            public void setSnapshotTtl(Duration snapshotTtl) {
+                this.snapshotTtl = snapshotTtl;
+            }
+
+            public int getMaxScenarios() {
+                return maxScenarios;
+            }
+
+            public void setMaxScenarios(int maxScenarios) {
+                this.maxScenarios = maxScenarios;
+            }
+        }
+
+        public static class Recalculation {
+
+            /**
+             * Number of records recalculated, written and checkpointed per transaction by a recalculation job.
+             */
+            private int chunkSize = 500;
+
+            /**
+             * How long a running job may go without checkpointing before another node takes it over; must be well
+             * above the time a chunk takes.
+             */
+            private Duration staleAfter = Duration.ofMinutes(5);
+
+            /**
+             * When pending jobs and jobs whose runner stopped are resumed, besides at startup.
+             */
+            private String resumeCron = "0 */5 * * * *";
+
+            public int getChunkSize() {
+                return chunkSize;
+            }
+
+            public void setChunkSize(int chunkSize) {
+                this.chunkSize = chunkSize;
+            }
+
+            public Duration getStaleAfter() {
+                return staleAfter;
+            }
+
+            public void setStaleAfter(Duration staleAfter) {
+                this.staleAfter = staleAfter;
+            }
+
+            public String getResumeCron() {
+                return resumeCron;
+            }
+
+            public void setResumeCron(String resumeCron) {
+                this.resumeCron = resumeCron;
+            }
+        }
+
+        public static class Rollups {
+
+            /**
+             * When emission rollups are reconciled against the records they summarize.
+             */
+            private String reconcileCron = "0 30 2 * * *";
+
+            public String getReconcileCron() {
+                return reconcileCron;
+            }
+
+            public void setReconcileCron(String reconcileCron) {
+                this.reconcileCron = reconcileCron;
+            }
+        }
+    }
+
+    public static class Partitioning {
+
+        /**
+         * When future emission record partitions are created and a pending backfill is advanced.
+         */
+        private String maintenanceCron = "0 15 2 * * *";
+
+        /**
+         * Number of years after the current one that must already have emission record partitions.
+         */
+        private int yearsAhead = 1;
+
+        /**
+         * Number of rows copied per transaction while emission records are backfilled into the partitioned table.
+         */
+        private int backfillBatchSize = 5000;
+
+        public String getMaintenanceCron() {
+            return maintenanceCron;
+        }
+
+        public void setMaintenanceCron(String maintenanceCron) {
+            this.maintenanceCron = maintenanceCron;
+        }
+
+        public int getYearsAhead() {
+            return yearsAhead;
+        }
+
+        public void setYearsAhead(int yearsAhead) {
+            this.yearsAhead = yearsAhead;
+        }
+
+        public int getBackfillBatchSize() {
+            return backfillBatchSize;
+        }
+
+        public void setBackfillBatchSize(int backfillBatchSize) {
+            this.backfillBatchSize = backfillBatchSize;
+        }
+    }
+
+    public static class Imports {
+
+        /**
+         * Number of rejected rows per emission import whose errors are kept; further rejections are only counted.
+         */
+        private int maxReportedErrors = 1000;
+
+        /**
+         * Number of rows read between two progress updates of an emission import.
+         */
+        private int progressInterval = 5000;
+
+        public int getMaxReportedErrors() {
+            return maxReportedErrors;
+        }
+
+        public void setMaxReportedErrors(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        public int getProgressInterval() {
+            return progressInterval;
+        }
+
+        public void setProgressInterval(int progressInterval) {
+            this.progressInterval = progressInterval;
+        }
+    }
+
+    public static class Exports {
+
+        /**
+         * Number of rows an export fetches from the database per round trip.
+         */
+        private int fetchSize = 1000;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
+
+    public static class ReadReplicas {
+
+        /**
+         * Whether read-only transactions are routed to the replicas below; when disabled every transaction uses the
+         * primary data source.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Replication lag above which a replica stops receiving reads until it has caught up.
+         */
+        private Duration maxLag = Duration.ofSeconds(10);
+
+        /**
+         * How often the replication lag of each replica is measured.
+         */
+        private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+        private List<Node> nodes = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        public List<Node> getNodes() {
+            return nodes;
+        }
+
+        public void setNodes(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        public static class Node {
+
+            private String url;
+
+            /**
+             * Defaults to the primary data source's username.
+             */
+            private String username;
+
+            /**
+             * Defaults to the primary data source's password.
+             */
+            private String password;
+
+            /**
+             * Defaults to the primary pool's maximum size.
+             */
+            private Integer maximumPoolSize;
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+        }
+    }
+    public static class Throttling {
+
+        /**
+         * Whether throttled endpoints are limited per tenant; when disabled every request is let through.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Single and batch carbon calculations, scenarios and uncertainty simulations.
+         */
+        private final Budget calculation = new Budget(20, 40, 8);
+
+        /**
+         * Paged and cursor listings of records, reports and imports.
+         */
+        private final Budget list = new Budget(50, 100, 16);
+
+        /**
+         * Bulk reads and writes of the ledger: record exports and bulk updates.
+         */
+        private final Budget export = new Budget(0.2, 2, 2);
+
+        /**
+         * Record imports, which hold a connection for the whole upload and then merge it in the background.
+         */
+        private final Budget imports = new Budget(0.2, 2, 2);
+
+        /**
+         * Aggregates over a tenant's ledger: totals, time series and calculated emission reports.
+         */
+        private final Budget report = new Budget(5, 10, 4);
+
+        /**
+         * How long a tenant's budget for a class of endpoints stays unused, with no request in progress and every
+         * token back, before it is evicted along with its meters.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Budget getCalculation() {
+            return calculation;
+        }
+
+        public Budget getList() {
+            return list;
+        }
+
+        public Budget getExport() {
+            return export;
+        }
+
+        public Budget getImports() {
+            return imports;
+        }
+
+        public Budget getReport() {
+            return report;
+        }
+
+        public static class Budget {
+
+            /**
+             * Sustained requests per second a tenant may make to endpoints of the class.
+             */
+            private double requestsPerSecond;
+
+            /**
+             * Requests a tenant may make at once on top of the sustained rate after being idle.
+             */
+            private int burst;
+
+            /**
+             * Requests of a tenant that may be in progress at the same time.
+             */
+            private int maxConcurrent;
+
+            public Budget(double requestsPerSecond, int burst, int maxConcurrent) {
+                this.requestsPerSecond = requestsPerSecond;
+                this.burst = burst;
+                this.maxConcurrent = maxConcurrent;
+            }
+
+            public double getRequestsPerSecond() {
+                return requestsPerSecond;
+            }
+
+            public void setRequestsPerSecond(double requestsPerSecond) {
+                this.requestsPerSecond = requestsPerSecond;
+            }
+
+            public int getBurst() {
+                return burst;
+            }
+
+            public void setBurst(int burst) {
+                this.burst = burst;
+            }
+
+            public int getMaxConcurrent() {
+                return maxConcurrent;
+            }
+
+            public void setMaxConcurrent(int maxConcurrent) {
+                this.maxConcurrent = maxConcurrent;
+            }
+        }
+    }
+
+    public static class TenantPools {
+
+        /**
+         * Whether the tenants below get connection pools of their own; all other tenants share the primary pool.
+         * Cannot be combined with read replicas.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long a pool whose tenant is unassigned at runtime may finish the queries in progress before it is closed.
+         */
+        private Duration drainTimeout = Duration.ofMinutes(5);
+
+        private List<Dedicated> dedicated = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getDrainTimeout() {
+            return drainTimeout;
+        }
+
+        public void setDrainTimeout(Duration drainTimeout) {
+            this.drainTimeout = drainTimeout;
+        }
+
+        public List<Dedicated> getDedicated() {
+            return dedicated;
+        }
+
+        public void setDedicated(List<Dedicated> dedicated) {
+            this.dedicated = dedicated;
+        }
+
+        public static class Dedicated {
+
+            private String tenantId;
+
+            /**
+             * Defaults to the primary pool's maximum size.
+             */
+            private Integer maximumPoolSize;
+
+            public String getTenantId() {
+                return tenantId;
+            }
+
+            public void setTenantId(String tenantId) {
+                this.tenantId = tenantId;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+        }
+    }
+
+    public static class TenantSchemas {
+
+        /**
+         * When the tenant schemas are updated, interrupted moves resumed, and moved tenants purged from the shared tables.
+         */
+        private String maintenanceCron = "0 */10 * * * *";
+
+        /**
+         * Number of rows copied or purged per transaction while a tenant is moved to its schema.
+         */
+        private int batchSize = 5000;
+
+        public String getMaintenanceCron() {
+            return maintenanceCron;
+        }
+
+        public void setMaintenanceCron(String maintenanceCron) {
+            this.maintenanceCron = maintenanceCron;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,11 +1,13 @@
 package com.ecotrack.api.config;
 
+import com.ecotrack.api.security.TenantContext;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -38,9 +40,17 @@ public class AsyncConfiguration implements AsyncConfigurer {
         executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
         executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
         executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
+        // Async work runs for the tenant of the caller that submitted it.
+        executor.setTaskDecorator(TenantContext::wrap);
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer tenantTaskSchedulerCustomizer() {
+        // Scheduled tasks are decorated when registered at startup, so every run starts without tenant.
+        return scheduler -> scheduler.setTaskDecorator(TenantContext::wrap);
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -22,8 +22,10 @@ public class CacheConfiguration {
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final javax.cache.configuration.Configuration<Object, Object> carbonEstimateCacheConfiguration;
+    private final javax.cache.configuration.Configuration<Object, Object> emissionSeriesCacheConfiguration;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
 
         jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
@@ -35,6 +37,30 @@ public class CacheConfiguration {
                 .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
                 .build()
         );
+
+        ApplicationProperties.CarbonCalculation.EstimateCache estimateCache = applicationProperties
+            .getCarbonCalculation()
+            .getEstimateCache();
+        carbonEstimateCacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class,
+                Object.class,
+                ResourcePoolsBuilder.heap(estimateCache.getMaxEntries())
+            )
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(estimateCache.getTimeToLive()))
+                .build()
+        );
+
+        ApplicationProperties.CarbonCalculation.SeriesCache seriesCache = applicationProperties.getCarbonCalculation().getSeriesCache();
+        emissionSeriesCacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class,
+                Object.class,
+                ResourcePoolsBuilder.heap(seriesCache.getMaxEntries())
+            )
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(seriesCache.getTimeToLive()))
+                .build()
+        );
     }
 
     @Bean
@@ -50,16 +76,26 @@ public class CacheConfiguration {
             createCache(cm, com.ecotrack.api.domain.User.class.getName());
             createCache(cm, com.ecotrack.api.domain.Authority.class.getName());
             createCache(cm, com.ecotrack.api.domain.User.class.getName() + ".authorities");
+            createCache(cm, com.ecotrack.api.service.carbon.CarbonEstimateCache.CACHE_NAME, carbonEstimateCacheConfiguration);
+            createCache(cm, com.ecotrack.api.service.series.EmissionSeriesCache.CACHE_NAME, emissionSeriesCacheConfiguration);
             // jhipster-needle-ehcache-add-entry
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, jcacheConfiguration);
+    }
+
+    private void createCache(
+        javax.cache.CacheManager cm,
+        String cacheName,
+        javax.cache.configuration.Configuration<Object, Object> configuration
+    ) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, configuration);
         }
     }
 
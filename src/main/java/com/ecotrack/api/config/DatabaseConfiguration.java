@@ -1,12 +1,65 @@
 package com.ecotrack.api.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @EnableJpaRepositories({ "com.ecotrack.api.repository" })
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
-public class DatabaseConfiguration {}
+public class DatabaseConfiguration {
+
+    /**
+     * Binds the current tenant to the transactions of the auto-configured pool. With read replicas or tenant pools, the
+     * {@code dataSource} bean is the routing data source of {@link ReadReplicaConfiguration} or
+     * {@link TenantPoolConfiguration}, which binds it itself.
+     */
+    @Bean
+    public static BeanPostProcessor tenantAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && "dataSource".equals(beanName)) {
+                    return new TenantAwareDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * The primary Hikari pool, created the way the auto-configuration does, for the configurations that replace the
+     * {@code dataSource} bean with a routing data source in front of it.
+     */
+    @Bean
+    @ConditionalOnExpression("${application.read-replicas.enabled:false} or ${application.tenant-pools.enabled:false}")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        DataSourceBuilder<HikariDataSource> builder = details == null
+            ? properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+            : DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(details.getDriverClassName())
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword());
+        HikariDataSource dataSource = builder.build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+}
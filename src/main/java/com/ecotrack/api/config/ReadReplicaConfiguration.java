@@ -0,0 +1,90 @@
+package com.ecotrack.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Routes read-only transactions to read replicas when {@code application.read-replicas.enabled} is set.
+ * <p>
+ * Replaces the auto-configured data source with the same Hikari primary pool, plus one pool per replica configured
+ * like the primary. Each pool reports the usual {@code hikaricp.*} metrics under its own {@code pool} tag, and
+ * {@code ecotrack.datasource.replica.lag} reports the replication lag of each replica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaConfiguration.class);
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        ApplicationProperties applicationProperties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        ApplicationProperties.ReadReplicas properties = applicationProperties.getReadReplicas();
+        String poolName = primaryDataSource.getPoolName() != null ? primaryDataSource.getPoolName() : "Hikari";
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (ApplicationProperties.ReadReplicas.Node node : properties.getNodes()) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName(poolName + "-replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(node.getUrl());
+            if (node.getUsername() != null) {
+                replica.setUsername(node.getUsername());
+                replica.setPassword(node.getPassword());
+            }
+            if (node.getMaximumPoolSize() != null) {
+                replica.setMaximumPoolSize(node.getMaximumPoolSize());
+            }
+            // The tenant is bound per transaction on replica connections, which only holds without auto-commit.
+            replica.setAutoCommit(false);
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        LOG.info("Routing read-only transactions to {} read replica(s)", replicas.size());
+
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(
+            primaryDataSource,
+            replicas,
+            properties.getMaxLag()
+        );
+        meterRegistry.ifAvailable(registry ->
+            replicas.forEach(replica ->
+                Gauge.builder("ecotrack.datasource.replica.lag", routingDataSource, r -> r.getReplicationLags().get(replica.getPoolName()))
+                    .description("Replication lag of a read replica, NaN while it cannot be reached")
+                    .baseUnit("seconds")
+                    .tag("pool", replica.getPoolName())
+                    .register(registry)
+            )
+        );
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        // Defer fetching the connection until the first statement, when the transaction's read-only flag is known.
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+            new TenantAwareDataSource(readReplicaRoutingDataSource)
+        );
+        dataSource.setDefaultAutoCommit(false);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecotrack.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to a healthy read replica, round robin, and everything else to the primary.
+ * <p>
+ * A replica is healthy while its last measured replication lag is at most {@code application.read-replicas.max-lag};
+ * replicas that lag, cannot be reached or are not streaming from the primary are skipped, and reads fall back to the
+ * primary when none is healthy. The route is chosen when the connection is first used, so this data source must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag; NULL while
+    // its WAL receiver is not streaming, as it then stops receiving and an unchanged receive LSN says nothing.
+    private static final String LAG_SQL =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+        "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+        "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final List<Replica> replicas;
+
+    private final Duration maxLag;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, Duration maxLag) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        Map<Object, Object> targets = new HashMap<>();
+        this.replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Replication lag of each replica in seconds, as last measured; {@code NaN} for replicas that could not be reached or
+     * are not streaming.
+     */
+    public Map<String, Double> getReplicationLags() {
+        Map<String, Double> lags = new HashMap<>();
+        replicas.forEach(replica -> lags.put(replica.name(), replica.lagSeconds));
+        return lags;
+    }
+
+    @Scheduled(fixedDelayString = "${application.read-replicas.lag-check-interval:PT5S}")
+    public void checkReplicationLag() {
+        for (Replica replica : replicas) {
+            double lagSeconds;
+            try (
+                Connection connection = replica.dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(LAG_SQL);
+                ResultSet resultSet = statement.executeQuery()
+            ) {
+                resultSet.next();
+                lagSeconds = resultSet.getDouble(1);
+                if (resultSet.wasNull()) {
+                    log.debug("Read replica {} is not streaming from the primary", replica.name());
+                    lagSeconds = Double.NaN;
+                }
+            } catch (SQLException e) {
+                log.debug("Could not measure the replication lag of {}: {}", replica.name(), e.getMessage());
+                lagSeconds = Double.NaN;
+            }
+            boolean healthy = !Double.isNaN(lagSeconds) && lagSeconds * 1000 <= maxLag.toMillis();
+            if (healthy != replica.healthy) {
+                log.info("Read replica {} is {} (lag {} s)", replica.name(), healthy ? "in rotation" : "out of rotation", lagSeconds);
+            }
+            replica.lagSeconds = lagSeconds;
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).name();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+
+        // Out of rotation until the first lag check has passed.
+        private volatile boolean healthy;
+
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
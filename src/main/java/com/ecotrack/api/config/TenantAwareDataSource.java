@@ -0,0 +1,117 @@
+package com.ecotrack.api.config;
+
+import com.ecotrack.api.security.TenantContext;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Binds the current tenant ({@link TenantContext}) as {@code app.current_tenant} to the transaction running on each
+ * connection, so RLS policies apply to every transaction that touches tenant data. Tenants moved to a schema of their
+ * own ({@code tenant_schema}) also get that schema first on the transaction's {@code search_path}, so the unqualified
+ * SQL of Hibernate and of the native queries uses the tenant's tables instead of the shared ones.
+ * <p>
+ * The tenant is set right before the first statement of a transaction, after Spring has prepared the connection
+ * (read-only flag, isolation level), and again after each commit or rollback. Requests that never use the database
+ * therefore cost nothing, and the setting costs one round trip per transaction. It is transaction-local, so it only
+ * holds on pools without auto-commit, and it never outlives the transaction that set it.
+ */
+public class TenantAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    static final String BIND_TENANT_SQL =
+        "SELECT set_config('app.current_tenant', ?, true), " +
+        "(SELECT set_config('search_path', quote_ident(schema_name) || ', public', true) " +
+        "FROM public.tenant_schema WHERE tenant_id = ? AND status = 'ACTIVE')";
+
+    // Methods that run SQL, or hand out the raw connection that could; the tenant is bound before these.
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall", "unwrap");
+
+    public TenantAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return tenantAware(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return tenantAware(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Close the target data source, so a wrapped pool is still shut down with the application context.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection tenantAware(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] { ConnectionProxy.class },
+            new TenantBindingInvocationHandler(connection)
+        );
+    }
+
+    private static final class TenantBindingInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private boolean bound;
+
+        private TenantBindingInvocationHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Tenant-aware proxy for target Connection [" + target + "]";
+                case "commit", "rollback":
+                    bound = false;
+                    break;
+                default:
+                    if (!bound && STATEMENT_METHODS.contains(method.getName())) {
+                        bindTenant();
+                    }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        private void bindTenant() throws SQLException {
+            String tenantId = TenantContext.getTenantId();
+            if (tenantId != null && !target.getAutoCommit()) {
+                try (PreparedStatement statement = target.prepareStatement(BIND_TENANT_SQL)) {
+                    statement.setString(1, tenantId);
+                    statement.setString(2, tenantId);
+                    statement.execute();
+                }
+            }
+            bound = true;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecotrack.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Gives the tenants listed in {@code application.tenant-pools.dedicated} connection pools of their own when
+ * {@code application.tenant-pools.enabled} is set, so a heavy tenant cannot starve the others of connections.
+ * <p>
+ * Replaces the auto-configured data source with the same Hikari pool, shared by all other tenants, behind a
+ * {@link TenantPoolRoutingDataSource}. The {@code tenantpools} management endpoint lists the dedicated pools and
+ * assigns or unassigns tenants at runtime.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.tenant-pools", name = "enabled", havingValue = "true")
+public class TenantPoolConfiguration {
+
+    public TenantPoolConfiguration(ApplicationProperties applicationProperties) {
+        if (applicationProperties.getReadReplicas().isEnabled()) {
+            throw new IllegalStateException("application.tenant-pools cannot be combined with application.read-replicas");
+        }
+    }
+
+    @Bean
+    public TenantPoolRoutingDataSource tenantPoolRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        ApplicationProperties applicationProperties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        ApplicationProperties.TenantPools properties = applicationProperties.getTenantPools();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        TenantPoolRoutingDataSource routingDataSource = new TenantPoolRoutingDataSource(
+            primaryDataSource,
+            registry == null ? null : new MicrometerMetricsTrackerFactory(registry),
+            properties.getDrainTimeout()
+        );
+        properties.getDedicated().forEach(dedicated -> routingDataSource.assign(dedicated.getTenantId(), dedicated.getMaximumPoolSize()));
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(TenantPoolRoutingDataSource tenantPoolRoutingDataSource) {
+        return new TenantAwareDataSource(tenantPoolRoutingDataSource);
+    }
+
+    @Bean
+    public TenantPoolsEndpoint tenantPoolsEndpoint(TenantPoolRoutingDataSource tenantPoolRoutingDataSource) {
+        return new TenantPoolsEndpoint(tenantPoolRoutingDataSource);
+    }
+}
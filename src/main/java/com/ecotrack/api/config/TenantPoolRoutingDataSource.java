@@ -0,0 +1,172 @@
+package com.ecotrack.api.config;
+
+import com.ecotrack.api.security.TenantContext;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Routes the connections of tenants with a dedicated pool to that pool, and everyone else to the shared pool.
+ * <p>
+ * Dedicated pools are configured like the shared one except for their name ({@code <shared>-tenant-<tenantId>}) and
+ * maximum size, and report the usual {@code hikaricp.*} metrics under their own {@code pool} tag. Tenants can be
+ * assigned and unassigned while the application runs: new pools start on their first connection, and a pool whose
+ * tenant is unassigned stops handing out connections at once but is only closed once its queries in progress have
+ * finished, or the drain timeout has passed.
+ * <p>
+ * The tenant is read from {@link TenantContext} when the connection is fetched; the tenant binding itself is left to
+ * the {@link TenantAwareDataSource} wrapped around this data source.
+ */
+public class TenantPoolRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantPoolRoutingDataSource.class);
+
+    private final HikariDataSource shared;
+
+    private final MetricsTrackerFactory metricsTrackerFactory;
+
+    private final Duration drainTimeout;
+
+    private final ConcurrentMap<String, HikariDataSource> dedicated = new ConcurrentHashMap<>();
+
+    public TenantPoolRoutingDataSource(HikariDataSource shared, MetricsTrackerFactory metricsTrackerFactory, Duration drainTimeout) {
+        this.shared = shared;
+        this.metricsTrackerFactory = metricsTrackerFactory;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTargetDataSource().getConnection(username, password);
+    }
+
+    /**
+     * Give a tenant a pool of its own, replacing the pool it may already have.
+     *
+     * @param tenantId the tenant to assign
+     * @param maximumPoolSize the maximum size of its pool, or {@code null} for the shared pool's maximum size
+     */
+    public synchronized void assign(String tenantId, Integer maximumPoolSize) {
+        if (tenantId == null || tenantId.isBlank()) {
+            throw new IllegalArgumentException("A tenant is required");
+        }
+        if (maximumPoolSize != null && maximumPoolSize < 1) {
+            throw new IllegalArgumentException("The maximum pool size must be positive");
+        }
+        HikariDataSource pool = new HikariDataSource();
+        shared.copyStateTo(pool);
+        pool.setPoolName(shared.getPoolName() + "-tenant-" + tenantId);
+        if (maximumPoolSize != null) {
+            pool.setMaximumPoolSize(maximumPoolSize);
+            if (pool.getMinimumIdle() > maximumPoolSize) {
+                pool.setMinimumIdle(maximumPoolSize);
+            }
+        }
+        if (metricsTrackerFactory != null) {
+            pool.setMetricsTrackerFactory(metricsTrackerFactory);
+        }
+        HikariDataSource previous = dedicated.put(tenantId, pool);
+        log.info("Tenant {} uses dedicated pool {} of up to {} connections", tenantId, pool.getPoolName(), pool.getMaximumPoolSize());
+        if (previous != null) {
+            retire(previous);
+        }
+    }
+
+    /**
+     * Move a tenant back to the shared pool.
+     *
+     * @return whether the tenant had a pool of its own
+     */
+    public synchronized boolean unassign(String tenantId) {
+        HikariDataSource pool = dedicated.remove(tenantId);
+        if (pool == null) {
+            return false;
+        }
+        log.info("Tenant {} uses the shared pool again", tenantId);
+        retire(pool);
+        return true;
+    }
+
+    /**
+     * State of the dedicated pool of each tenant, by tenant.
+     */
+    public Map<String, PoolState> getDedicatedPools() {
+        Map<String, PoolState> pools = new TreeMap<>();
+        dedicated.forEach((tenantId, pool) -> pools.put(tenantId, PoolState.of(pool)));
+        return pools;
+    }
+
+    public PoolState getSharedPool() {
+        return PoolState.of(shared);
+    }
+
+    @Override
+    public void close() {
+        dedicated.values().forEach(HikariDataSource::close);
+        dedicated.clear();
+    }
+
+    DataSource determineTargetDataSource() {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId != null) {
+            HikariDataSource pool = dedicated.get(tenantId);
+            if (pool != null) {
+                return pool;
+            }
+        }
+        return shared;
+    }
+
+    private void retire(HikariDataSource pool) {
+        Thread.ofVirtual()
+            .name(pool.getPoolName() + "-drain")
+            .start(() -> {
+                long deadline = System.nanoTime() + drainTimeout.toNanos();
+                HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+                try {
+                    while (bean != null && bean.getActiveConnections() > 0 && System.nanoTime() < deadline) {
+                        TimeUnit.MILLISECONDS.sleep(200);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                pool.close();
+                log.debug("Closed retired pool {}", pool.getPoolName());
+            });
+    }
+
+    /**
+     * Size and usage of a pool; the connection counts are zero until the pool has handed out its first connection.
+     */
+    public record PoolState(String pool, int maximumPoolSize, int activeConnections, int idleConnections, int pendingThreads) {
+        static PoolState of(HikariDataSource pool) {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean == null
+                ? new PoolState(pool.getPoolName(), pool.getMaximumPoolSize(), 0, 0, 0)
+                : new PoolState(
+                    pool.getPoolName(),
+                    pool.getMaximumPoolSize(),
+                    bean.getActiveConnections(),
+                    bean.getIdleConnections(),
+                    bean.getThreadsAwaitingConnection()
+                );
+        }
+    }
+}
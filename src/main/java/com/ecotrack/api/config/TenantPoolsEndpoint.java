@@ -0,0 +1,44 @@
+package com.ecotrack.api.config;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Management endpoint ({@code /management/tenantpools}) to inspect the connection pools of tenants and move tenants
+ * between dedicated pools and the shared pool without a restart. Changes made here are not persisted: the
+ * configured assignment applies again on the next start.
+ */
+@Endpoint(id = "tenantpools")
+public class TenantPoolsEndpoint {
+
+    private final TenantPoolRoutingDataSource tenantPoolRoutingDataSource;
+
+    public TenantPoolsEndpoint(TenantPoolRoutingDataSource tenantPoolRoutingDataSource) {
+        this.tenantPoolRoutingDataSource = tenantPoolRoutingDataSource;
+    }
+
+    @ReadOperation
+    public Map<String, Object> pools() {
+        return Map.of("shared", tenantPoolRoutingDataSource.getSharedPool(), "dedicated", tenantPoolRoutingDataSource.getDedicatedPools());
+    }
+
+    @WriteOperation
+    public TenantPoolRoutingDataSource.PoolState assign(@Selector String tenantId, @Nullable Integer maximumPoolSize) {
+        if (maximumPoolSize != null && maximumPoolSize < 1) {
+            throw new InvalidEndpointRequestException("maximumPoolSize must be positive", "Invalid maximum pool size");
+        }
+        tenantPoolRoutingDataSource.assign(tenantId, maximumPoolSize);
+        return tenantPoolRoutingDataSource.getDedicatedPools().get(tenantId);
+    }
+
+    @DeleteOperation
+    public Map<String, Boolean> unassign(@Selector String tenantId) {
+        return Map.of("unassigned", tenantPoolRoutingDataSource.unassign(tenantId));
+    }
+}
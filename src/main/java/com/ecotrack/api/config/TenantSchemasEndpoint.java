@@ -0,0 +1,38 @@
+package com.ecotrack.api.config;
+
+import com.ecotrack.api.domain.TenantSchema;
+import com.ecotrack.api.service.TenantSchemaService;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint ({@code /management/tenantschemas}) to list the tenants with a schema of their own, and to move
+ * a tenant from the shared tables into its own schema. The move runs in the background; its progress shows in the
+ * list.
+ */
+@Component
+@Endpoint(id = "tenantschemas")
+public class TenantSchemasEndpoint {
+
+    private final TenantSchemaService tenantSchemaService;
+
+    public TenantSchemasEndpoint(TenantSchemaService tenantSchemaService) {
+        this.tenantSchemaService = tenantSchemaService;
+    }
+
+    @ReadOperation
+    public List<TenantSchema> tenantSchemas() {
+        return tenantSchemaService.findAll();
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> migrate(@Selector String tenantId) {
+        tenantSchemaService.migrate(tenantId);
+        return Map.of("started", true);
+    }
+}
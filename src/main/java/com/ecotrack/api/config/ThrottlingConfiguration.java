@@ -0,0 +1,28 @@
+package com.ecotrack.api.config;
+
+import com.ecotrack.api.web.throttling.TenantThrottle;
+import com.ecotrack.api.web.throttling.TenantThrottlingInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Throttles {@link com.ecotrack.api.web.throttling.Throttled} endpoints per tenant unless
+ * {@code application.throttling.enabled} is turned off.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.throttling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ThrottlingConfiguration implements WebMvcConfigurer {
+
+    private final TenantThrottle tenantThrottle;
+
+    public ThrottlingConfiguration(TenantThrottle tenantThrottle) {
+        this.tenantThrottle = tenantThrottle;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TenantThrottlingInterceptor(tenantThrottle)).addPathPatterns("/api/**");
+    }
+}
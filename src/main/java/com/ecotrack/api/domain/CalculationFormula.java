@@ -0,0 +1,166 @@
+package com.ecotrack.api.domain;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A tenant-defined calculation formula, referenced from calculation requests by its {@code code}.
+ */
+@Entity
+@Table(name = "calculation_formula")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class CalculationFormula extends AbstractAuditingEntity<Long> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "tenant_id", nullable = false, length = 100)
+    private String tenantId;
+
+    @NotNull
+    @Column(name = "code", nullable = false, length = 100)
+    private String code;
+
+    @Column(name = "name", length = 255)
+    private String name;
+
+    @NotNull
+    @Column(name = "expression", nullable = false, columnDefinition = "TEXT")
+    private String expression;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    /**
+     * Scope the formula is intended for, or {@code null} if it may be used for any scope.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope")
+    private Scope scope;
+
+    @Column(name = "active")
+    private Boolean active = true;
+
+    public CalculationFormula() {}
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public void setExpression(String expression) {
+        this.expression = expression;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CalculationFormula)) {
+            return false;
+        }
+        return id != null && id.equals(((CalculationFormula) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "CalculationFormula{" +
+            "id=" +
+            id +
+            ", tenantId='" +
+            tenantId +
+            '\'' +
+            ", code='" +
+            code +
+            '\'' +
+            ", expression='" +
+            expression +
+            '\'' +
+            ", scope=" +
+            scope +
+            ", active=" +
+            active +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.ecotrack.api.domain;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A published emission factor version, shared by all tenants.
+ * <p>
+ * {@code sector}, {@code regionCode} and {@code activityType} are optional; a {@code null} value matches any request.
+ * Rows are never edited in place: a new version is published instead.
+ */
+@Entity
+@Table(name = "emission_factor")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class EmissionFactor extends AbstractAuditingEntity<Long> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private Scope scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sector")
+    private Sector sector;
+
+    /**
+     * ISO 3166-1 alpha-2 country code or 5-character UN/LOCODE.
+     */
+    @Column(name = "region_code", length = 10)
+    private String regionCode;
+
+    /**
+     * Fuel, material or activity the factor applies to, e.g. {@code natural-gas}.
+     */
+    @Column(name = "activity_type", length = 100)
+    private String activityType;
+
+    @NotNull
+    @Column(name = "factor", precision = 21, scale = 6, nullable = false)
+    private BigDecimal factor;
+
+    @Column(name = "unit", length = 50)
+    private String unit;
+
+    @NotNull
+    @Column(name = "valid_from", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "valid_to")
+    private LocalDate validTo;
+
+    @NotNull
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @Column(name = "source", length = 255)
+    private String source;
+
+    public EmissionFactor() {}
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public BigDecimal getFactor() {
+        return factor;
+    }
+
+    public void setFactor(BigDecimal factor) {
+        this.factor = factor;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public void setValidTo(LocalDate validTo) {
+        this.validTo = validTo;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmissionFactor)) {
+            return false;
+        }
+        return id != null && id.equals(((EmissionFactor) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionFactor{" +
+            "id=" +
+            id +
+            ", scope=" +
+            scope +
+            ", sector=" +
+            sector +
+            ", regionCode='" +
+            regionCode +
+            '\'' +
+            ", activityType='" +
+            activityType +
+            '\'' +
+            ", factor=" +
+            factor +
+            ", unit='" +
+            unit +
+            '\'' +
+            ", validFrom=" +
+            validFrom +
+            ", validTo=" +
+            validTo +
+            ", version=" +
+            version +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,213 @@
+package com.ecotrack.api.domain;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.domain.enumeration.EmissionImportStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A bulk import of emission records from an uploaded CSV or NDJSON file.
+ * <p>
+ * Valid rows are COPYed into the {@code emission_import_row} staging table while the upload is read, then merged into
+ * {@code emission_record} by a single set-based insert. Rows that fail validation are counted as rejected and reported
+ * as {@link EmissionImportError}s; the counters are updated while the upload is read so progress can be polled.
+ */
+@Entity
+@Table(name = "emission_import")
+public class EmissionImport extends AbstractAuditingEntity<Long> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "tenant_id", nullable = false, length = 100)
+    private String tenantId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 20)
+    private EmissionImportFormat format;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmissionImportStatus status;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "processed_rows")
+    private Long processedRows = 0L;
+
+    @Column(name = "staged_rows")
+    private Long stagedRows = 0L;
+
+    @Column(name = "imported_rows")
+    private Long importedRows = 0L;
+
+    @Column(name = "rejected_rows")
+    private Long rejectedRows = 0L;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    public EmissionImport() {}
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public EmissionImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(EmissionImportFormat format) {
+        this.format = format;
+    }
+
+    public EmissionImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EmissionImportStatus status) {
+        this.status = status;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public Long getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(Long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public Long getStagedRows() {
+        return stagedRows;
+    }
+
+    public void setStagedRows(Long stagedRows) {
+        this.stagedRows = stagedRows;
+    }
+
+    public Long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(Long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public Long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(Long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmissionImport)) {
+            return false;
+        }
+        return id != null && id.equals(((EmissionImport) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionImport{" +
+            "id=" +
+            id +
+            ", tenantId='" +
+            tenantId +
+            '\'' +
+            ", format=" +
+            format +
+            ", status=" +
+            status +
+            ", processedRows=" +
+            processedRows +
+            ", stagedRows=" +
+            stagedRows +
+            ", importedRows=" +
+            importedRows +
+            ", rejectedRows=" +
+            rejectedRows +
+            '}'
+        );
+    }
+}
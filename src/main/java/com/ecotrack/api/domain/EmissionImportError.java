@@ -0,0 +1,127 @@
+package com.ecotrack.api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+
+/**
+ * A row of an {@link EmissionImport} that was rejected, with the reason.
+ */
+@Entity
+@Table(name = "emission_import_error")
+public class EmissionImportError implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "import_id", nullable = false)
+    private Long importId;
+
+    @NotNull
+    @Column(name = "tenant_id", nullable = false, length = 100)
+    private String tenantId;
+
+    /**
+     * 1-based position of the row in the upload, not counting a CSV header.
+     */
+    @NotNull
+    @Column(name = "row_number", nullable = false)
+    private Long rowNumber;
+
+    @NotNull
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    public EmissionImportError() {}
+
+    public EmissionImportError(Long importId, String tenantId, Long rowNumber, String message) {
+        this.importId = importId;
+        this.tenantId = tenantId;
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getImportId() {
+        return importId;
+    }
+
+    public void setImportId(Long importId) {
+        this.importId = importId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Long getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(Long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmissionImportError)) {
+            return false;
+        }
+        return id != null && id.equals(((EmissionImportError) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionImportError{" +
+            "id=" +
+            id +
+            ", importId=" +
+            importId +
+            ", rowNumber=" +
+            rowNumber +
+            ", message='" +
+            message +
+            '\'' +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,279 @@
+package com.ecotrack.api.domain;
+
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A bulk recalculation of a tenant's emission records from their stored calculation inputs.
+ * <p>
+ * Filters left {@code null} match every record. Records are processed in id order and {@code lastRecordId} is the
+ * checkpoint committed with each chunk, so an interrupted job resumes after the last record it wrote. A running job is
+ * held by the runner in {@code claimedBy}, which refreshes {@code heartbeatAt} with every chunk.
+ */
+@Entity
+@Table(name = "emission_recalculation_job")
+public class EmissionRecalculationJob extends AbstractAuditingEntity<Long> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "tenant_id", nullable = false, length = 100)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope")
+    private Scope scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sector")
+    private Sector sector;
+
+    @Column(name = "region_code", length = 10)
+    private String regionCode;
+
+    @Column(name = "activity_type", length = 100)
+    private String activityType;
+
+    @Column(name = "from_date")
+    private LocalDate fromDate;
+
+    @Column(name = "to_date")
+    private LocalDate toDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RecalculationJobStatus status;
+
+    @Column(name = "last_record_id")
+    private Long lastRecordId;
+
+    @Column(name = "processed_count")
+    private Long processedCount = 0L;
+
+    @Column(name = "changed_count")
+    private Long changedCount = 0L;
+
+    @Column(name = "failed_count")
+    private Long failedCount = 0L;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    public EmissionRecalculationJob() {}
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public RecalculationJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RecalculationJobStatus status) {
+        this.status = status;
+    }
+
+    public Long getLastRecordId() {
+        return lastRecordId;
+    }
+
+    public void setLastRecordId(Long lastRecordId) {
+        this.lastRecordId = lastRecordId;
+    }
+
+    public Long getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(Long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public Long getChangedCount() {
+        return changedCount;
+    }
+
+    public void setChangedCount(Long changedCount) {
+        this.changedCount = changedCount;
+    }
+
+    public Long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(Long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public Instant getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(Instant heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmissionRecalculationJob)) {
+            return false;
+        }
+        return id != null && id.equals(((EmissionRecalculationJob) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionRecalculationJob{" +
+            "id=" +
+            id +
+            ", tenantId='" +
+            tenantId +
+            '\'' +
+            ", status=" +
+            status +
+            ", lastRecordId=" +
+            lastRecordId +
+            ", processedCount=" +
+            processedCount +
+            ", changedCount=" +
+            changedCount +
+            ", failedCount=" +
+            failedCount +
+            '}'
+        );
+    }
+}
@@ -1,15 +1,20 @@
 package com.ecotrack.api.domain;
 
+import com.ecotrack.api.domain.converter.CalculationParametersConverter;
 import com.ecotrack.api.domain.converter.RecordMetadataConverter;
 import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
 import com.ecotrack.api.service.utils.RecordMetadata;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.PartitionKey;
 
 /**
  * A EmissionRecord.
@@ -26,7 +31,9 @@ public class EmissionRecord extends AbstractAuditingEntity<Long> implements Seri
     @SequenceGenerator(name = "sequenceGenerator")
     private Long id;
 
+    // The table is hash-partitioned on tenant_id; updates and deletes name it so they touch a single partition.
     @NotNull
+    @PartitionKey
     @Column(name = "tenant_id", nullable = false, length = 100)
     private String tenantId;
 
@@ -69,11 +76,41 @@ public class EmissionRecord extends AbstractAuditingEntity<Long> implements Seri
     @Column(name = "uncertainty_factor", precision = 21, scale = 4)
     private BigDecimal uncertaintyFactor;
 
+    // Bound as text, so the JSON is cast on write.
     @Convert(converter = RecordMetadataConverter.class)
-    @Column(name = "metadata", columnDefinition = "TEXT")
+    @ColumnTransformer(write = "CAST(? AS jsonb)")
+    @Column(name = "metadata", columnDefinition = "jsonb")
     private RecordMetadata metadata;
 
-    @ManyToOne
+    // Calculation inputs, kept so the record can be recalculated when factors change
+
+    @Column(name = "activity_data", precision = 21, scale = 6)
+    private BigDecimal activityData;
+
+    @Column(name = "emission_factor", precision = 21, scale = 6)
+    private BigDecimal emissionFactor;
+
+    @Column(name = "efficiency_ratio", precision = 21, scale = 6)
+    private BigDecimal efficiencyRatio;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sector")
+    private Sector sector;
+
+    @Column(name = "region_code", length = 10)
+    private String regionCode;
+
+    @Column(name = "activity_type", length = 100)
+    private String activityType;
+
+    @Column(name = "formula_code", length = 100)
+    private String formulaCode;
+
+    @Convert(converter = CalculationParametersConverter.class)
+    @Column(name = "calculation_parameters", columnDefinition = "TEXT")
+    private Map<String, BigDecimal> calculationParameters;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "report_id")
     private EmissionReport report;
 
@@ -207,6 +244,70 @@ public class EmissionRecord extends AbstractAuditingEntity<Long> implements Seri
         this.metadata = metadata;
     }
 
+    public BigDecimal getActivityData() {
+        return activityData;
+    }
+
+    public void setActivityData(BigDecimal activityData) {
+        this.activityData = activityData;
+    }
+
+    public BigDecimal getEmissionFactor() {
+        return emissionFactor;
+    }
+
+    public void setEmissionFactor(BigDecimal emissionFactor) {
+        this.emissionFactor = emissionFactor;
+    }
+
+    public BigDecimal getEfficiencyRatio() {
+        return efficiencyRatio;
+    }
+
+    public void setEfficiencyRatio(BigDecimal efficiencyRatio) {
+        this.efficiencyRatio = efficiencyRatio;
+    }
+
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public String getFormulaCode() {
+        return formulaCode;
+    }
+
+    public void setFormulaCode(String formulaCode) {
+        this.formulaCode = formulaCode;
+    }
+
+    public Map<String, BigDecimal> getCalculationParameters() {
+        return calculationParameters;
+    }
+
+    public void setCalculationParameters(Map<String, BigDecimal> calculationParameters) {
+        this.calculationParameters = calculationParameters;
+    }
+
     public EmissionReport getReport() {
         return report;
     }
@@ -260,6 +361,12 @@ public class EmissionRecord extends AbstractAuditingEntity<Long> implements Seri
             verified +
             ", confidenceScore=" +
             confidenceScore +
+            ", activityData=" +
+            activityData +
+            ", emissionFactor=" +
+            emissionFactor +
+            ", efficiencyRatio=" +
+            efficiencyRatio +
             '}'
         );
     }
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
 
 /**
  * EmissionReport entity for storing emission report data.
@@ -34,8 +35,10 @@ public class EmissionReport extends AbstractAuditingEntity<Long> implements Seri
     @Column(name = "supplier_id", nullable = false, length = 100)
     private String supplierId;
 
+    // Bound as text, so the JSON is cast on write.
     @Convert(converter = RecordMetadataConverter.class)
-    @Column(name = "metadata", columnDefinition = "TEXT")
+    @ColumnTransformer(write = "CAST(? AS jsonb)")
+    @Column(name = "metadata", columnDefinition = "jsonb")
     private RecordMetadata metadata;
 
     @OneToMany(mappedBy = "report", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -0,0 +1,79 @@
+package com.ecotrack.api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Running total of a tenant's emission records for one scope and one day or month.
+ * <p>
+ * Rows are maintained with additive deltas by native upserts whenever emission records are written, and repaired by
+ * the reconciliation job, so the entity is read-only from JPA's point of view. Records without a recording date are
+ * not part of any period.
+ */
+@Entity
+@Immutable
+@Table(name = "emission_rollup")
+public class EmissionRollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @EmbeddedId
+    private EmissionRollupId id;
+
+    @Column(name = "carbon_grams", nullable = false)
+    private Long carbonGrams;
+
+    @Column(name = "record_count", nullable = false)
+    private Long recordCount;
+
+    public EmissionRollup() {}
+
+    public EmissionRollupId getId() {
+        return id;
+    }
+
+    public void setId(EmissionRollupId id) {
+        this.id = id;
+    }
+
+    public Long getCarbonGrams() {
+        return carbonGrams;
+    }
+
+    public void setCarbonGrams(Long carbonGrams) {
+        this.carbonGrams = carbonGrams;
+    }
+
+    public Long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(Long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmissionRollup)) {
+            return false;
+        }
+        return id != null && id.equals(((EmissionRollup) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return "EmissionRollup{" + "id=" + id + ", carbonGrams=" + carbonGrams + ", recordCount=" + recordCount + '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecotrack.api.domain;
+
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import com.ecotrack.api.domain.enumeration.Scope;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Key of an {@link EmissionRollup}: one tenant, scope and period.
+ */
+@Embeddable
+public class EmissionRollupId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "tenant_id", nullable = false, length = 100)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private Scope scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private RollupPeriod periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    public EmissionRollupId() {}
+
+    public EmissionRollupId(String tenantId, Scope scope, RollupPeriod periodType, LocalDate periodStart) {
+        this.tenantId = tenantId;
+        this.scope = scope;
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public RollupPeriod getPeriodType() {
+        return periodType;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmissionRollupId)) {
+            return false;
+        }
+        EmissionRollupId that = (EmissionRollupId) o;
+        return (
+            Objects.equals(tenantId, that.tenantId) &&
+            scope == that.scope &&
+            periodType == that.periodType &&
+            Objects.equals(periodStart, that.periodStart)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenantId, scope, periodType, periodStart);
+    }
+
+    @Override
+    public String toString() {
+        return "EmissionRollupId{" + tenantId + ", " + scope + ", " + periodType + " " + periodStart + '}';
+    }
+}
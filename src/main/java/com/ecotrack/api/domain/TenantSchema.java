@@ -0,0 +1,135 @@
+package com.ecotrack.api.domain;
+
+import com.ecotrack.api.domain.enumeration.TenantSchemaStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A tenant whose rows live in a schema of its own instead of the shared, row-level secured tables.
+ * <p>
+ * While the tenant is {@link TenantSchemaStatus#COPYING COPYING}, its transactions still use the shared tables and its
+ * rows are copied into the schema; once {@link TenantSchemaStatus#ACTIVE ACTIVE}, its transactions resolve the tenant
+ * tables in the schema, and its rows are purged from the shared tables.
+ */
+@Entity
+@Table(name = "tenant_schema")
+public class TenantSchema implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "tenant_id", length = 100)
+    private String tenantId;
+
+    @NotNull
+    @Column(name = "schema_name", nullable = false, length = 63, unique = true)
+    private String schemaName;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TenantSchemaStatus status;
+
+    @Column(name = "created_date")
+    private Instant createdDate;
+
+    @Column(name = "activated_date")
+    private Instant activatedDate;
+
+    /**
+     * When the tenant's rows were removed from the shared tables; {@code null} until then.
+     */
+    @Column(name = "purged_date")
+    private Instant purgedDate;
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    public void setSchemaName(String schemaName) {
+        this.schemaName = schemaName;
+    }
+
+    public TenantSchemaStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TenantSchemaStatus status) {
+        this.status = status;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Instant getActivatedDate() {
+        return activatedDate;
+    }
+
+    public void setActivatedDate(Instant activatedDate) {
+        this.activatedDate = activatedDate;
+    }
+
+    public Instant getPurgedDate() {
+        return purgedDate;
+    }
+
+    public void setPurgedDate(Instant purgedDate) {
+        this.purgedDate = purgedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantSchema)) {
+            return false;
+        }
+        return tenantId != null && tenantId.equals(((TenantSchema) o).tenantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "TenantSchema{" +
+            "tenantId='" +
+            tenantId +
+            '\'' +
+            ", schemaName='" +
+            schemaName +
+            '\'' +
+            ", status=" +
+            status +
+            ", activatedDate=" +
+            activatedDate +
+            ", purgedDate=" +
+            purgedDate +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecotrack.api.domain.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Converter
+public class CalculationParametersConverter implements AttributeConverter<Map<String, BigDecimal>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<TreeMap<String, BigDecimal>> PARAMETERS_TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, BigDecimal> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(new TreeMap<>(attribute));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Unable to serialize calculation parameters", ex);
+        }
+    }
+
+    @Override
+    public Map<String, BigDecimal> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(dbData, PARAMETERS_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Unable to deserialize calculation parameters", ex);
+        }
+    }
+}
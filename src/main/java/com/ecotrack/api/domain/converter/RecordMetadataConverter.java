@@ -1,15 +1,34 @@
 package com.ecotrack.api.domain.converter;
 
 import com.ecotrack.api.service.utils.RecordMetadata;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+/**
+ * Converts {@link RecordMetadata} to the JSON text of a {@code jsonb} column. Absent keys are left out rather than
+ * stored as {@code null}, and keys added to the column outside the application are ignored on read.
+ */
 @Converter
 public class RecordMetadataConverter implements AttributeConverter<RecordMetadata, String> {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .build();
+
+    private static final ObjectReader READER = JSON_MAPPER.readerFor(RecordMetadata.class);
+
+    private static final ObjectWriter WRITER = JSON_MAPPER.writerFor(RecordMetadata.class);
 
     @Override
     public String convertToDatabaseColumn(RecordMetadata attribute) {
@@ -17,7 +36,7 @@ public class RecordMetadataConverter implements AttributeConverter<RecordMetadat
             return null;
         }
         try {
-            return OBJECT_MAPPER.writeValueAsString(attribute);
+            return WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException ex) {
             throw new IllegalArgumentException("Unable to serialize RecordMetadata", ex);
         }
@@ -29,7 +48,7 @@ public class RecordMetadataConverter implements AttributeConverter<RecordMetadat
             return null;
         }
         try {
-            return OBJECT_MAPPER.readValue(dbData, RecordMetadata.class);
+            return READER.readValue(dbData);
         } catch (JsonProcessingException ex) {
             throw new IllegalArgumentException("Unable to deserialize RecordMetadata", ex);
         }
@@ -0,0 +1,9 @@
+package com.ecotrack.api.domain.enumeration;
+
+/**
+ * The EmissionImportFormat enumeration.
+ */
+public enum EmissionImportFormat {
+    CSV,
+    NDJSON,
+}
@@ -0,0 +1,11 @@
+package com.ecotrack.api.domain.enumeration;
+
+/**
+ * The EmissionImportStatus enumeration.
+ */
+public enum EmissionImportStatus {
+    LOADING,
+    MERGING,
+    COMPLETED,
+    FAILED,
+}
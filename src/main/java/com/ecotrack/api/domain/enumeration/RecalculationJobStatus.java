@@ -0,0 +1,11 @@
+package com.ecotrack.api.domain.enumeration;
+
+/**
+ * The RecalculationJobStatus enumeration.
+ */
+public enum RecalculationJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+}
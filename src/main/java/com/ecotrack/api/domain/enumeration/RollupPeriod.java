@@ -0,0 +1,9 @@
+package com.ecotrack.api.domain.enumeration;
+
+/**
+ * The RollupPeriod enumeration.
+ */
+public enum RollupPeriod {
+    DAY,
+    MONTH,
+}
@@ -0,0 +1,9 @@
+package com.ecotrack.api.domain.enumeration;
+
+/**
+ * The TenantSchemaStatus enumeration.
+ */
+public enum TenantSchemaStatus {
+    COPYING,
+    ACTIVE,
+}
@@ -0,0 +1,18 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.CalculationFormula;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link CalculationFormula} entity.
+ */
+@Repository
+public interface CalculationFormulaRepository extends JpaRepository<CalculationFormula, Long> {
+    Page<CalculationFormula> findByTenantId(String tenantId, Pageable pageable);
+
+    Optional<CalculationFormula> findOneByTenantIdAndCodeAndActiveTrue(String tenantId, String code);
+}
@@ -0,0 +1,33 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link EmissionFactor} entity.
+ */
+@Repository
+public interface EmissionFactorRepository extends JpaRepository<EmissionFactor, Long> {
+    @Query(
+        "select max(f.version) from EmissionFactor f where f.scope = :scope" +
+        " and ((:sector is null and f.sector is null) or f.sector = :sector)" +
+        " and ((:regionCode is null and f.regionCode is null) or f.regionCode = :regionCode)" +
+        " and ((:activityType is null and f.activityType is null) or f.activityType = :activityType)"
+    )
+    Optional<Integer> findLatestVersion(
+        @Param("scope") Scope scope,
+        @Param("sector") Sector sector,
+        @Param("regionCode") String regionCode,
+        @Param("activityType") String activityType
+    );
+
+    @Query("select max(f.lastModifiedDate) from EmissionFactor f")
+    Optional<Instant> findLatestModification();
+}
@@ -0,0 +1,15 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionImportError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link EmissionImportError} entity.
+ */
+@Repository
+public interface EmissionImportErrorRepository extends JpaRepository<EmissionImportError, Long> {
+    Page<EmissionImportError> findByImportIdOrderByRowNumber(Long importId, Pageable pageable);
+}
@@ -0,0 +1,114 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionImport;
+import com.ecotrack.api.domain.enumeration.EmissionImportStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link EmissionImport} entity, including the set-based statements that merge an
+ * import's staged rows.
+ */
+@Repository
+public interface EmissionImportRepository extends JpaRepository<EmissionImport, Long> {
+    Page<EmissionImport> findByTenantId(String tenantId, Pageable pageable);
+
+    List<EmissionImport> findByStatusIn(Collection<EmissionImportStatus> statuses);
+
+    /**
+     * Load an import and lock it until the transaction ends, so only one node merges it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM EmissionImport i WHERE i.id = :id")
+    Optional<EmissionImport> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Lock a key for the current transaction. An import holds its lock while it is being loaded, so other nodes can tell
+     * it from an import whose node stopped.
+     *
+     * @return whether the lock was acquired; it is released when the transaction ends.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext(:key))", nativeQuery = true)
+    boolean tryTransactionLock(@Param("key") String key);
+
+    @Modifying
+    @Query(
+        "UPDATE EmissionImport i SET i.processedRows = :processedRows, i.stagedRows = :stagedRows, i.rejectedRows = :rejectedRows " +
+        "WHERE i.id = :id"
+    )
+    int updateProgress(
+        @Param("id") Long id,
+        @Param("processedRows") long processedRows,
+        @Param("stagedRows") long stagedRows,
+        @Param("rejectedRows") long rejectedRows
+    );
+
+    /**
+     * Insert an import's staged rows into {@code emission_record} in row order with one statement.
+     * <p>
+     * Ids are drawn from {@code sequence_generator} exactly like Hibernate's pooled optimizer does: each
+     * {@code nextval} reserves the 50 ids ending at the returned value, so imported ids never collide with ids handed
+     * out by the application.
+     *
+     * @return the number of records inserted
+     */
+    @Modifying
+    @Query(
+        value = "WITH staged AS (" +
+        "SELECT r.*, row_number() OVER (ORDER BY r.row_number) - 1 AS position FROM emission_import_row r WHERE r.import_id = :importId" +
+        "), blocks AS (" +
+        "SELECT block, nextval('sequence_generator') AS hi FROM generate_series(0, (SELECT (count(*) - 1) / 50 FROM staged)) AS block" +
+        ") " +
+        "INSERT INTO emission_record (id, tenant_id, supplier_id, installation_id, product_emission_id, scope, carbon_grams, " +
+        "date_recorded, source, notes, verified, confidence_score, calculation_method, uncertainty_factor, metadata, " +
+        "activity_data, emission_factor, efficiency_ratio, sector, region_code, activity_type, formula_code, calculation_parameters, " +
+        "created_by, created_date, last_modified_by, last_modified_date) " +
+        "SELECT b.hi - 49 + s.position % 50, s.tenant_id, s.supplier_id, s.installation_id, s.product_emission_id, s.scope, " +
+        "s.carbon_grams, s.date_recorded, s.source, s.notes, s.verified, s.confidence_score, s.calculation_method, " +
+        "s.uncertainty_factor, CAST(s.metadata AS jsonb), s.activity_data, s.emission_factor, s.efficiency_ratio, s.sector, " +
+        "s.region_code, s.activity_type, s.formula_code, s.calculation_parameters, :createdBy, :createdDate, :createdBy, :createdDate " +
+        "FROM staged s JOIN blocks b ON b.block = s.position / 50",
+        nativeQuery = true
+    )
+    int mergeStagedRows(@Param("importId") Long importId, @Param("createdBy") String createdBy, @Param("createdDate") Instant createdDate);
+
+    /**
+     * Add an import's staged rows to the day and month {@link com.ecotrack.api.domain.EmissionRollup}s with one upsert.
+     * Rows are upserted in key order, so concurrent writers lock shared rollups in the same order.
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO emission_rollup (tenant_id, scope, period_type, period_start, carbon_grams, record_count) " +
+        "SELECT tenant_id, scope, period_type, period_start, SUM(carbon_grams), COUNT(*) FROM (" +
+        "SELECT tenant_id, scope, 'DAY' AS period_type, date_recorded AS period_start, carbon_grams " +
+        "FROM emission_import_row WHERE import_id = :importId AND date_recorded IS NOT NULL " +
+        "UNION ALL " +
+        "SELECT tenant_id, scope, 'MONTH', CAST(date_trunc('month', date_recorded) AS date), carbon_grams " +
+        "FROM emission_import_row WHERE import_id = :importId AND date_recorded IS NOT NULL" +
+        ") contributions GROUP BY tenant_id, scope, period_type, period_start " +
+        "ORDER BY tenant_id, scope, period_type, period_start " +
+        "ON CONFLICT (tenant_id, scope, period_type, period_start) DO UPDATE SET " +
+        "carbon_grams = emission_rollup.carbon_grams + EXCLUDED.carbon_grams, " +
+        "record_count = emission_rollup.record_count + EXCLUDED.record_count",
+        nativeQuery = true
+    )
+    int addStagedRowsToRollups(@Param("importId") Long importId);
+
+    @Query(value = "SELECT count(*) FROM emission_import_row WHERE import_id = :importId", nativeQuery = true)
+    long countStagedRows(@Param("importId") Long importId);
+
+    @Modifying
+    @Query(value = "DELETE FROM emission_import_row WHERE import_id = :importId", nativeQuery = true)
+    int deleteStagedRows(@Param("importId") Long importId);
+}
@@ -0,0 +1,38 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A validated row of an {@link com.ecotrack.api.domain.EmissionImport}, staged in {@code emission_import_row} until it
+ * is merged into {@code emission_record}. {@code metadata} and {@code calculationParameters} hold the column values
+ * the entity's converters would write.
+ */
+public record EmissionImportRow(
+    Long importId,
+    long rowNumber,
+    String tenantId,
+    String supplierId,
+    String installationId,
+    String productEmissionId,
+    Scope scope,
+    Long carbonGrams,
+    LocalDate dateRecorded,
+    String source,
+    String notes,
+    Boolean verified,
+    Integer confidenceScore,
+    String calculationMethod,
+    BigDecimal uncertaintyFactor,
+    String metadata,
+    BigDecimal activityData,
+    BigDecimal emissionFactor,
+    BigDecimal efficiencyRatio,
+    Sector sector,
+    String regionCode,
+    String activityType,
+    String formulaCode,
+    String calculationParameters
+) {}
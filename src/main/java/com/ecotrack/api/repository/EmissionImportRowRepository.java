@@ -0,0 +1,131 @@
+package com.ecotrack.api.repository;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk writes to the {@code emission_import_row} staging table with PostgreSQL's {@code COPY ... FROM STDIN}.
+ * <p>
+ * COPY streams rows to the server without a round trip per row or statement, which is what makes large imports cheap;
+ * it runs on the connection of the current transaction, so staged rows commit or roll back with it.
+ */
+@Repository
+public class EmissionImportRowRepository {
+
+    static final String COPY_SQL =
+        "COPY emission_import_row (import_id, row_number, tenant_id, supplier_id, installation_id, product_emission_id, " +
+        "scope, carbon_grams, date_recorded, source, notes, verified, confidence_score, calculation_method, uncertainty_factor, " +
+        "metadata, activity_data, emission_factor, efficiency_ratio, sector, region_code, activity_type, formula_code, " +
+        "calculation_parameters) FROM STDIN WITH (FORMAT csv)";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public EmissionImportRowRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Start a COPY into the staging table. Must be called within a transaction.
+     */
+    public Copy startCopy() throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        return new Copy(new PGCopyOutputStream(pgConnection, COPY_SQL, COPY_BUFFER_SIZE));
+    }
+
+    /**
+     * A COPY in progress. Rows are sent as they are written; {@link #finish()} completes the COPY, and closing an
+     * unfinished COPY cancels it.
+     */
+    public static final class Copy implements AutoCloseable {
+
+        private final PGCopyOutputStream output;
+        private final Writer writer;
+
+        Copy(PGCopyOutputStream output) {
+            this.output = output;
+            this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        }
+
+        public void write(EmissionImportRow row) throws IOException {
+            writeRow(writer, row);
+        }
+
+        /**
+         * @return the number of rows the server copied
+         */
+        public long finish() throws IOException, SQLException {
+            writer.flush();
+            return output.endCopy();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (output.isActive()) {
+                output.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Write a row as a COPY CSV line in the column order of {@link #COPY_SQL}. Values are quoted, so only unquoted empty
+     * fields, i.e. {@code null}s, are read as NULL.
+     */
+    static void writeRow(Writer writer, EmissionImportRow row) throws IOException {
+        writeField(writer, row.importId(), true);
+        writeField(writer, row.rowNumber(), false);
+        writeField(writer, row.tenantId(), false);
+        writeField(writer, row.supplierId(), false);
+        writeField(writer, row.installationId(), false);
+        writeField(writer, row.productEmissionId(), false);
+        writeField(writer, row.scope() == null ? null : row.scope().name(), false);
+        writeField(writer, row.carbonGrams(), false);
+        writeField(writer, row.dateRecorded(), false);
+        writeField(writer, row.source(), false);
+        writeField(writer, row.notes(), false);
+        writeField(writer, row.verified(), false);
+        writeField(writer, row.confidenceScore(), false);
+        writeField(writer, row.calculationMethod(), false);
+        writeField(writer, row.uncertaintyFactor() == null ? null : row.uncertaintyFactor().toPlainString(), false);
+        writeField(writer, row.metadata(), false);
+        writeField(writer, row.activityData() == null ? null : row.activityData().toPlainString(), false);
+        writeField(writer, row.emissionFactor() == null ? null : row.emissionFactor().toPlainString(), false);
+        writeField(writer, row.efficiencyRatio() == null ? null : row.efficiencyRatio().toPlainString(), false);
+        writeField(writer, row.sector() == null ? null : row.sector().name(), false);
+        writeField(writer, row.regionCode(), false);
+        writeField(writer, row.activityType(), false);
+        writeField(writer, row.formulaCode(), false);
+        writeField(writer, row.calculationParameters(), false);
+        writer.write('\n');
+    }
+
+    private static void writeField(Writer writer, Object value, boolean first) throws IOException {
+        if (!first) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
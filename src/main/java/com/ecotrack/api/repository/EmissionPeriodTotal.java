@@ -0,0 +1,19 @@
+package com.ecotrack.api.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Total of a tenant's emissions for one group and period of a time series, read from records or rollups.
+ * <p>
+ * An interface projection rather than a record: native queries return the period start as {@code java.sql.Date},
+ * which Spring Data converts for the getter but Hibernate would pass as is to a record constructor.
+ */
+public interface EmissionPeriodTotal {
+    String getGroupKey();
+
+    LocalDate getPeriodStart();
+
+    Long getCarbonGrams();
+
+    Long getRecordCount();
+}
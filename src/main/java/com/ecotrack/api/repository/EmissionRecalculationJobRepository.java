@@ -0,0 +1,56 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionRecalculationJob;
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link EmissionRecalculationJob} entity.
+ */
+@Repository
+public interface EmissionRecalculationJobRepository extends JpaRepository<EmissionRecalculationJob, Long> {
+    Page<EmissionRecalculationJob> findByTenantId(String tenantId, Pageable pageable);
+
+    List<EmissionRecalculationJob> findByStatusIn(Collection<RecalculationJobStatus> statuses);
+
+    /**
+     * Load a job and lock it until the transaction ends, so a chunk is only ever processed by the job's runner.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM EmissionRecalculationJob j WHERE j.id = :id")
+    Optional<EmissionRecalculationJob> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Claim a job for a runner: mark it {@code running} and held by {@code claimedBy}, unless it is {@code completed}
+     * or still {@code running} with a heartbeat at or after {@code staleBefore}.
+     *
+     * @return 1 if the job was claimed, 0 otherwise.
+     */
+    @Modifying
+    @Query(
+        "UPDATE EmissionRecalculationJob j SET j.status = :running, j.claimedBy = :claimedBy, j.heartbeatAt = :now, " +
+        "j.startedAt = COALESCE(j.startedAt, :now), j.finishedAt = NULL, j.errorMessage = NULL " +
+        "WHERE j.id = :id AND j.status <> :completed " +
+        "AND (j.status <> :running OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)"
+    )
+    int claim(
+        @Param("id") Long id,
+        @Param("claimedBy") String claimedBy,
+        @Param("now") Instant now,
+        @Param("staleBefore") Instant staleBefore,
+        @Param("running") RecalculationJobStatus running,
+        @Param("completed") RecalculationJobStatus completed
+    );
+}
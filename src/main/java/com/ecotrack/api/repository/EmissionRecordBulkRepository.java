@@ -0,0 +1,19 @@
+package com.ecotrack.api.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Set-based writes to emission records that bypass loading the entities.
+ */
+public interface EmissionRecordBulkRepository {
+    /**
+     * Apply verification patches to a tenant's records with a single {@code UPDATE ... FROM (VALUES ...)} statement.
+     * Records of other tenants and unknown ids are skipped. The second-level cache region of
+     * {@link com.ecotrack.api.domain.EmissionRecord} is invalidated once for the statement instead of per record.
+     *
+     * @param patches the patches, at most one per id
+     * @return the number of records updated
+     */
+    int applyPatches(String tenantId, List<EmissionRecordPatch> patches, String modifiedBy, Instant modifiedDate);
+}
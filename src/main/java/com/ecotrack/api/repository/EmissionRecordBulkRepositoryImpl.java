@@ -0,0 +1,62 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Implementation of {@link EmissionRecordBulkRepository}.
+ */
+public class EmissionRecordBulkRepositoryImpl implements EmissionRecordBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyPatches(String tenantId, List<EmissionRecordPatch> patches, String modifiedBy, Instant modifiedDate) {
+        if (patches.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(128 + patches.size() * 100).append(
+            "UPDATE emission_record AS er SET verified = COALESCE(p.verified, er.verified), " +
+            "confidence_score = COALESCE(p.confidence_score, er.confidence_score), notes = COALESCE(p.notes, er.notes), " +
+            "last_modified_by = :modifiedBy, last_modified_date = :modifiedDate FROM (VALUES "
+        );
+        for (int i = 0; i < patches.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            // Every value is cast, so PostgreSQL never has to guess the type of a column that is null in every row.
+            sql
+                .append("(CAST(:id")
+                .append(i)
+                .append(" AS bigint), CAST(:verified")
+                .append(i)
+                .append(" AS boolean), CAST(:confidenceScore")
+                .append(i)
+                .append(" AS integer), CAST(:notes")
+                .append(i)
+                .append(" AS text))");
+        }
+        sql.append(") AS p(id, verified, confidence_score, notes) WHERE er.tenant_id = :tenantId AND er.id = p.id");
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString()).unwrap(NativeQuery.class);
+        // Declaring the entity lets Hibernate invalidate just its cache region rather than every region.
+        query.addSynchronizedEntityClass(EmissionRecord.class);
+        query.setParameter("tenantId", tenantId);
+        query.setParameter("modifiedBy", modifiedBy);
+        query.setParameter("modifiedDate", modifiedDate);
+        for (int i = 0; i < patches.size(); i++) {
+            EmissionRecordPatch patch = patches.get(i);
+            query.setParameter("id" + i, patch.id(), StandardBasicTypes.LONG);
+            query.setParameter("verified" + i, patch.verified(), StandardBasicTypes.BOOLEAN);
+            query.setParameter("confidenceScore" + i, patch.confidenceScore(), StandardBasicTypes.INTEGER);
+            query.setParameter("notes" + i, patch.notes(), StandardBasicTypes.STRING);
+        }
+        return query.executeUpdate();
+    }
+}
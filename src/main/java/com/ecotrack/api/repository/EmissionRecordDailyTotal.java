@@ -0,0 +1,10 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.time.LocalDate;
+
+/**
+ * Total of a tenant's {@link com.ecotrack.api.domain.EmissionRecord}s for one scope and recording date, aggregated
+ * from the records themselves.
+ */
+public record EmissionRecordDailyTotal(Scope scope, LocalDate dateRecorded, Long carbonGrams, Long recordCount) {}
@@ -0,0 +1,17 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.time.LocalDate;
+
+/**
+ * Which of a tenant's emission records an export includes; {@code null} criteria do not filter. {@code from} and
+ * {@code to} bound the recording date inclusively and exclude undated records.
+ */
+public record EmissionRecordExportCriteria(
+    String tenantId,
+    Scope scope,
+    String supplierId,
+    LocalDate from,
+    LocalDate to,
+    Boolean verified
+) {}
@@ -0,0 +1,144 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.converter.CalculationParametersConverter;
+import com.ecotrack.api.domain.converter.RecordMetadataConverter;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads a tenant's emission records for export through a forward-only JDBC cursor.
+ * <p>
+ * PostgreSQL only fetches a result set in batches of the fetch size when the statement runs inside a transaction, so
+ * {@link #forEach} must be called within one; rows are then mapped one at a time and never held by a persistence
+ * context, which keeps memory flat for any number of records.
+ */
+@Repository
+public class EmissionRecordExportRepository {
+
+    // Matches idx_emission_record_tenant_date_id, so records stream in order without a sort.
+    private static final String ORDER_BY = " ORDER BY date_recorded, id";
+
+    private static final String SELECT_SQL =
+        "SELECT id, tenant_id, supplier_id, installation_id, product_emission_id, scope, carbon_grams, date_recorded, " +
+        "source, notes, verified, confidence_score, calculation_method, uncertainty_factor, metadata, activity_data, " +
+        "emission_factor, efficiency_ratio, sector, region_code, activity_type, formula_code, calculation_parameters " +
+        "FROM emission_record WHERE tenant_id = ?";
+
+    private static final RecordMetadataConverter METADATA_CONVERTER = new RecordMetadataConverter();
+
+    private static final CalculationParametersConverter CALCULATION_PARAMETERS_CONVERTER = new CalculationParametersConverter();
+
+    private final DataSource dataSource;
+
+    public EmissionRecordExportRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Pass each record matching {@code criteria} to {@code handler}, by recording date then id; undated records come
+     * last. The records are detached copies. Must be called within a transaction.
+     *
+     * @param fetchSize number of rows fetched per round trip.
+     * @return the number of records handled.
+     */
+    public long forEach(EmissionRecordExportCriteria criteria, int fetchSize, RecordHandler handler) throws SQLException, IOException {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(criteria.tenantId());
+        if (criteria.scope() != null) {
+            sql.append(" AND scope = ?");
+            parameters.add(criteria.scope().name());
+        }
+        if (criteria.supplierId() != null) {
+            sql.append(" AND supplier_id = ?");
+            parameters.add(criteria.supplierId());
+        }
+        if (criteria.from() != null) {
+            sql.append(" AND date_recorded >= ?");
+            parameters.add(Date.valueOf(criteria.from()));
+        }
+        if (criteria.to() != null) {
+            sql.append(" AND date_recorded <= ?");
+            parameters.add(Date.valueOf(criteria.to()));
+        }
+        if (criteria.verified() != null) {
+            // Records never reviewed have no flag and count as unverified.
+            sql.append(criteria.verified() ? " AND verified" : " AND verified IS NOT TRUE");
+        }
+        sql.append(ORDER_BY);
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (
+            PreparedStatement statement = connection.prepareStatement(
+                sql.toString(),
+                ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY
+            )
+        ) {
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            long count = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    handler.handle(toRecord(resultSet));
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static EmissionRecord toRecord(ResultSet resultSet) throws SQLException {
+        EmissionRecord record = new EmissionRecord();
+        record.setId(resultSet.getLong("id"));
+        record.setTenantId(resultSet.getString("tenant_id"));
+        record.setSupplierId(resultSet.getString("supplier_id"));
+        record.setInstallationId(resultSet.getString("installation_id"));
+        record.setProductEmissionId(resultSet.getString("product_emission_id"));
+        String scope = resultSet.getString("scope");
+        record.setScope(scope == null ? null : Scope.valueOf(scope));
+        record.setCarbonGrams(resultSet.getObject("carbon_grams", Long.class));
+        Date dateRecorded = resultSet.getDate("date_recorded");
+        record.setDateRecorded(dateRecorded == null ? null : dateRecorded.toLocalDate());
+        record.setSource(resultSet.getString("source"));
+        record.setNotes(resultSet.getString("notes"));
+        record.setVerified(resultSet.getObject("verified", Boolean.class));
+        record.setConfidenceScore(resultSet.getObject("confidence_score", Integer.class));
+        record.setCalculationMethod(resultSet.getString("calculation_method"));
+        record.setUncertaintyFactor(resultSet.getBigDecimal("uncertainty_factor"));
+        record.setMetadata(METADATA_CONVERTER.convertToEntityAttribute(resultSet.getString("metadata")));
+        record.setActivityData(resultSet.getBigDecimal("activity_data"));
+        record.setEmissionFactor(resultSet.getBigDecimal("emission_factor"));
+        record.setEfficiencyRatio(resultSet.getBigDecimal("efficiency_ratio"));
+        String sector = resultSet.getString("sector");
+        record.setSector(sector == null ? null : Sector.valueOf(sector));
+        record.setRegionCode(resultSet.getString("region_code"));
+        record.setActivityType(resultSet.getString("activity_type"));
+        record.setFormulaCode(resultSet.getString("formula_code"));
+        record.setCalculationParameters(
+            CALCULATION_PARAMETERS_CONVERTER.convertToEntityAttribute(resultSet.getString("calculation_parameters"))
+        );
+        return record;
+    }
+
+    @FunctionalInterface
+    public interface RecordHandler {
+        void handle(EmissionRecord record) throws IOException;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecotrack.api.repository;
+
+/**
+ * Verification fields to set on one {@link com.ecotrack.api.domain.EmissionRecord}; {@code null} fields are left
+ * unchanged.
+ */
+public record EmissionRecordPatch(long id, Boolean verified, Integer confidenceScore, String notes) {}
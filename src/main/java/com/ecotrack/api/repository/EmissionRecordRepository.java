@@ -1,6 +1,10 @@
 package com.ecotrack.api.repository;
 
 import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,12 +17,127 @@ import org.springframework.stereotype.Repository;
  * Spring Data JPA repository for the EmissionRecord entity.
  */
 @Repository
-public interface EmissionRecordRepository extends JpaRepository<EmissionRecord, Long> {
+public interface EmissionRecordRepository extends JpaRepository<EmissionRecord, Long>, EmissionRecordBulkRepository {
+    String SELECT_SUMMARY =
+        "SELECT new com.ecotrack.api.repository.EmissionRecordSummary(er.id, er.tenantId, er.supplierId, er.installationId, " +
+        "er.scope, er.carbonGrams, er.dateRecorded, er.verified, er.confidenceScore, er.sector, er.regionCode) ";
+
+    // Containment of the non-null filters, which idx_emission_record_metadata serves.
+    String METADATA_FILTER =
+        "er.metadata @> jsonb_strip_nulls(jsonb_build_object('status', CAST(:status AS text), 'flagged', CAST(:flagged AS boolean)))";
+
     /**
      * Find all emission records for a tenant.
      */
     Page<EmissionRecord> findByTenantId(String tenantId, Pageable pageable);
 
+    /**
+     * Ids among {@code ids} of records that belong to the tenant.
+     */
+    @Query("SELECT er.id FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.id IN :ids")
+    List<Long> findIdsByTenantIdAndIdIn(@Param("tenantId") String tenantId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * First dated emission records of a tenant, newest first. Keyset pages never count, so the page size only bounds
+     * the result; backed by {@code idx_emission_record_tenant_date_id}.
+     */
+    @Query(
+        "SELECT er FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded IS NOT NULL " +
+        "ORDER BY er.dateRecorded DESC, er.id DESC"
+    )
+    List<EmissionRecord> findDatedKeysetPage(@Param("tenantId") String tenantId, Pageable pageable);
+
+    /**
+     * Dated emission records of a tenant that sort after {@code (dateRecorded, id)}, newest first. The redundant
+     * {@code <= :dateRecorded} bound lets the index range scan start at the cursor instead of filtering from the top.
+     */
+    @Query(
+        "SELECT er FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded <= :dateRecorded " +
+        "AND (er.dateRecorded < :dateRecorded OR er.id < :id) ORDER BY er.dateRecorded DESC, er.id DESC"
+    )
+    List<EmissionRecord> findDatedKeysetPageAfter(
+        @Param("tenantId") String tenantId,
+        @Param("dateRecorded") LocalDate dateRecorded,
+        @Param("id") long id,
+        Pageable pageable
+    );
+
+    /**
+     * Undated emission records of a tenant with an id below {@code id}, newest first. They sort after all dated ones.
+     */
+    @Query("SELECT er FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded IS NULL AND er.id < :id ORDER BY er.id DESC")
+    List<EmissionRecord> findUndatedKeysetPageAfter(@Param("tenantId") String tenantId, @Param("id") long id, Pageable pageable);
+
+    /**
+     * Summaries of all emission records.
+     */
+    @Query(value = SELECT_SUMMARY + "FROM EmissionRecord er", countQuery = "SELECT COUNT(er) FROM EmissionRecord er")
+    Page<EmissionRecordSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Summaries of a tenant's emission records.
+     */
+    @Query(
+        value = SELECT_SUMMARY + "FROM EmissionRecord er WHERE er.tenantId = :tenantId",
+        countQuery = "SELECT COUNT(er) FROM EmissionRecord er WHERE er.tenantId = :tenantId"
+    )
+    Page<EmissionRecordSummary> findSummariesByTenantId(@Param("tenantId") String tenantId, Pageable pageable);
+
+    /**
+     * Summaries of {@link #findDatedKeysetPage}.
+     */
+    @Query(
+        SELECT_SUMMARY +
+        "FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded IS NOT NULL ORDER BY er.dateRecorded DESC, er.id DESC"
+    )
+    List<EmissionRecordSummary> findDatedKeysetSummaries(@Param("tenantId") String tenantId, Pageable pageable);
+
+    /**
+     * Summaries of {@link #findDatedKeysetPageAfter}.
+     */
+    @Query(
+        SELECT_SUMMARY +
+        "FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded <= :dateRecorded " +
+        "AND (er.dateRecorded < :dateRecorded OR er.id < :id) ORDER BY er.dateRecorded DESC, er.id DESC"
+    )
+    List<EmissionRecordSummary> findDatedKeysetSummariesAfter(
+        @Param("tenantId") String tenantId,
+        @Param("dateRecorded") LocalDate dateRecorded,
+        @Param("id") long id,
+        Pageable pageable
+    );
+
+    /**
+     * Summaries of {@link #findUndatedKeysetPageAfter}.
+     */
+    @Query(
+        SELECT_SUMMARY +
+        "FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded IS NULL AND er.id < :id ORDER BY er.id DESC"
+    )
+    List<EmissionRecordSummary> findUndatedKeysetSummariesAfter(
+        @Param("tenantId") String tenantId,
+        @Param("id") long id,
+        Pageable pageable
+    );
+
+    /**
+     * A tenant's emission records whose metadata has the given {@code status} and {@code flagged} values, newest first.
+     * Filters passed as {@code null} match every record with metadata; the page must be unsorted.
+     */
+    @Query(
+        value = "SELECT er.* FROM emission_record er WHERE er.tenant_id = :tenantId AND " +
+        METADATA_FILTER +
+        " ORDER BY er.date_recorded DESC NULLS LAST, er.id DESC",
+        countQuery = "SELECT COUNT(*) FROM emission_record er WHERE er.tenant_id = :tenantId AND " + METADATA_FILTER,
+        nativeQuery = true
+    )
+    Page<EmissionRecord> findByTenantIdAndMetadata(
+        @Param("tenantId") String tenantId,
+        @Param("status") String status,
+        @Param("flagged") Boolean flagged,
+        Pageable pageable
+    );
+
     /**
      * Find emission records by supplier.
      */
@@ -30,8 +149,108 @@ public interface EmissionRecordRepository extends JpaRepository<EmissionRecord,
     List<EmissionRecord> findByTenantIdAndVerified(String tenantId, Boolean verified);
 
     /**
-     * Custom query to calculate total emissions by scope and tenant.
+     * Totals of a tenant's dated emission records per scope and recording date. Used to reconcile the
+     * {@link com.ecotrack.api.domain.EmissionRollup} rows; dashboards read the rollups instead.
+     */
+    @Query(
+        "SELECT new com.ecotrack.api.repository.EmissionRecordDailyTotal(er.scope, er.dateRecorded, SUM(er.carbonGrams), COUNT(er)) " +
+        "FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded IS NOT NULL GROUP BY er.scope, er.dateRecorded"
+    )
+    List<EmissionRecordDailyTotal> findDailyTotals(@Param("tenantId") String tenantId);
+
+    /**
+     * Totals of a tenant's dated emission records per supplier, installation or product emission ({@code groupBy}) and
+     * period, where {@code truncation} is the {@code date_trunc} field of the period. Bounds passed as {@code null}
+     * leave the range open.
+     */
+    @Query(
+        value = "SELECT CASE :groupBy WHEN 'SUPPLIER' THEN er.supplier_id WHEN 'INSTALLATION' THEN er.installation_id " +
+        "ELSE er.product_emission_id END AS \"groupKey\", " +
+        "CAST(date_trunc(:truncation, CAST(er.date_recorded AS timestamp)) AS date) AS \"periodStart\", " +
+        "CAST(SUM(er.carbon_grams) AS bigint) AS \"carbonGrams\", COUNT(*) AS \"recordCount\" " +
+        "FROM emission_record er WHERE er.tenant_id = :tenantId AND er.date_recorded IS NOT NULL " +
+        "AND (CAST(:from AS date) IS NULL OR er.date_recorded >= :from) AND (CAST(:to AS date) IS NULL OR er.date_recorded <= :to) " +
+        "GROUP BY 1, 2 ORDER BY 1, 2",
+        nativeQuery = true
+    )
+    List<EmissionPeriodTotal> findPeriodTotals(
+        @Param("tenantId") String tenantId,
+        @Param("groupBy") String groupBy,
+        @Param("truncation") String truncation,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    @Query("SELECT DISTINCT er.tenantId FROM EmissionRecord er")
+    List<String> findTenantIds();
+
+    /**
+     * Uncertainty inputs of a tenant's emission records recorded within a date range (inclusive).
+     */
+    @Query(
+        "SELECT new com.ecotrack.api.repository.EmissionRecordUncertaintyInput(" +
+        "er.scope, er.carbonGrams, er.uncertaintyFactor, er.confidenceScore) " +
+        "FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.dateRecorded BETWEEN :from AND :to"
+    )
+    List<EmissionRecordUncertaintyInput> findUncertaintyInputs(
+        @Param("tenantId") String tenantId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    /**
+     * Scenario inputs of all emission records of a tenant.
+     */
+    @Query(
+        "SELECT new com.ecotrack.api.repository.EmissionRecordScenarioInput(" +
+        "er.scope, er.supplierId, er.carbonGrams, er.efficiencyRatio) " +
+        "FROM EmissionRecord er WHERE er.tenantId = :tenantId"
+    )
+    List<EmissionRecordScenarioInput> findScenarioInputs(@Param("tenantId") String tenantId);
+
+    /**
+     * Create the missing yearly partitions from {@code firstYear} through {@code lastYear}, moving rows of those years
+     * out of the default partitions.
+     *
+     * @return the number of partitions created
+     */
+    @Query(value = "SELECT emission_record_ensure_partitions(:firstYear, :lastYear)", nativeQuery = true)
+    int ensurePartitions(@Param("firstYear") int firstYear, @Param("lastYear") int lastYear);
+
+    /**
+     * Whether the partitioned table is still being backfilled next to the original one.
+     */
+    @Query(value = "SELECT to_regclass('emission_record_partitioned') IS NOT NULL", nativeQuery = true)
+    boolean isPartitionBackfillPending();
+
+    /**
+     * Copy the next batch of existing records into the partitioned table.
+     *
+     * @return the number of records the batch covered, {@code 0} once every record has been copied
+     */
+    @Query(value = "SELECT emission_record_backfill_partitioned(:batchSize)", nativeQuery = true)
+    int backfillPartitions(@Param("batchSize") int batchSize);
+
+    /**
+     * Next chunk of a tenant's recalculable records (those with stored activity data) after {@code afterId}, in id
+     * order. Filters passed as {@code null} match every record; the page size bounds the chunk.
      */
-    @Query("SELECT SUM(er.carbonGrams) FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.scope = :scope")
-    Long calculateTotalEmissionsByScope(@Param("tenantId") String tenantId, @Param("scope") String scope);
+    @Query(
+        "SELECT er FROM EmissionRecord er WHERE er.tenantId = :tenantId AND er.id > :afterId AND er.activityData IS NOT NULL " +
+        "AND (:scope IS NULL OR er.scope = :scope) AND (:sector IS NULL OR er.sector = :sector) " +
+        "AND (:regionCode IS NULL OR er.regionCode = :regionCode) AND (:activityType IS NULL OR er.activityType = :activityType) " +
+        "AND (:fromDate IS NULL OR er.dateRecorded >= :fromDate) AND (:toDate IS NULL OR er.dateRecorded <= :toDate) " +
+        "ORDER BY er.id"
+    )
+    List<EmissionRecord> findRecalculationChunk(
+        @Param("tenantId") String tenantId,
+        @Param("scope") Scope scope,
+        @Param("sector") Sector sector,
+        @Param("regionCode") String regionCode,
+        @Param("activityType") String activityType,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,9 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.math.BigDecimal;
+
+/**
+ * Projection of the {@link com.ecotrack.api.domain.EmissionRecord} columns loaded into a what-if scenario snapshot.
+ */
+public record EmissionRecordScenarioInput(Scope scope, String supplierId, Long carbonGrams, BigDecimal efficiencyRatio) {}
@@ -0,0 +1,23 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.time.LocalDate;
+
+/**
+ * Summary of a {@link com.ecotrack.api.domain.EmissionRecord} for list views. Selected column by column, so listing
+ * neither hydrates entities nor parses their JSON columns.
+ */
+public record EmissionRecordSummary(
+    Long id,
+    String tenantId,
+    String supplierId,
+    String installationId,
+    Scope scope,
+    Long carbonGrams,
+    LocalDate dateRecorded,
+    Boolean verified,
+    Integer confidenceScore,
+    Sector sector,
+    String regionCode
+) {}
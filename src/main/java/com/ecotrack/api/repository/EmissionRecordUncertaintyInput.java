@@ -0,0 +1,9 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.math.BigDecimal;
+
+/**
+ * Projection of the {@link com.ecotrack.api.domain.EmissionRecord} columns needed for uncertainty propagation.
+ */
+public record EmissionRecordUncertaintyInput(Scope scope, Long carbonGrams, BigDecimal uncertaintyFactor, Integer confidenceScore) {}
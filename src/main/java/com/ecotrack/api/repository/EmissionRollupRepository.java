@@ -0,0 +1,106 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.EmissionRollup;
+import com.ecotrack.api.domain.EmissionRollupId;
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link EmissionRollup} entity.
+ */
+@Repository
+public interface EmissionRollupRepository extends JpaRepository<EmissionRollup, EmissionRollupId> {
+    /**
+     * Add a delta to a rollup row, creating it if needed. The upsert is atomic, so concurrent writers never lose each
+     * other's deltas.
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO emission_rollup (tenant_id, scope, period_type, period_start, carbon_grams, record_count) " +
+        "VALUES (:tenantId, :scope, :periodType, :periodStart, :carbonGrams, :recordCount) " +
+        "ON CONFLICT (tenant_id, scope, period_type, period_start) DO UPDATE SET " +
+        "carbon_grams = emission_rollup.carbon_grams + EXCLUDED.carbon_grams, " +
+        "record_count = emission_rollup.record_count + EXCLUDED.record_count",
+        nativeQuery = true
+    )
+    void addDelta(
+        @Param("tenantId") String tenantId,
+        @Param("scope") String scope,
+        @Param("periodType") String periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("carbonGrams") long carbonGrams,
+        @Param("recordCount") long recordCount
+    );
+
+    /**
+     * Remove rollup rows whose records have all been deleted.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM emission_rollup WHERE tenant_id = :tenantId AND record_count = 0 AND carbon_grams = 0", nativeQuery = true)
+    int deleteEmptyByTenantId(@Param("tenantId") String tenantId);
+
+    /**
+     * Per-scope totals of a tenant's rollups of one granularity whose period starts within a range (inclusive).
+     */
+    @Query(
+        "SELECT new com.ecotrack.api.repository.EmissionScopeTotal(r.id.scope, SUM(r.carbonGrams), SUM(r.recordCount)) " +
+        "FROM EmissionRollup r WHERE r.id.tenantId = :tenantId AND r.id.periodType = :periodType " +
+        "AND r.id.periodStart BETWEEN :from AND :to GROUP BY r.id.scope"
+    )
+    List<EmissionScopeTotal> sumByScope(
+        @Param("tenantId") String tenantId,
+        @Param("periodType") RollupPeriod periodType,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    /**
+     * Per-scope totals of all of a tenant's rollups of one granularity.
+     */
+    @Query(
+        "SELECT new com.ecotrack.api.repository.EmissionScopeTotal(r.id.scope, SUM(r.carbonGrams), SUM(r.recordCount)) " +
+        "FROM EmissionRollup r WHERE r.id.tenantId = :tenantId AND r.id.periodType = :periodType GROUP BY r.id.scope"
+    )
+    List<EmissionScopeTotal> sumByScope(@Param("tenantId") String tenantId, @Param("periodType") RollupPeriod periodType);
+
+    /**
+     * Per-scope totals of a tenant's rollups of one granularity per period, where {@code truncation} is the
+     * {@code date_trunc} field of the period. Bounds passed as {@code null} leave the range open.
+     */
+    @Query(
+        value = "SELECT r.scope AS \"groupKey\", " +
+        "CAST(date_trunc(:truncation, CAST(r.period_start AS timestamp)) AS date) AS \"periodStart\", " +
+        "CAST(SUM(r.carbon_grams) AS bigint) AS \"carbonGrams\", CAST(SUM(r.record_count) AS bigint) AS \"recordCount\" " +
+        "FROM emission_rollup r WHERE r.tenant_id = :tenantId AND r.period_type = :periodType AND r.record_count <> 0 " +
+        "AND (CAST(:from AS date) IS NULL OR r.period_start >= :from) AND (CAST(:to AS date) IS NULL OR r.period_start <= :to) " +
+        "GROUP BY 1, 2 ORDER BY 1, 2",
+        nativeQuery = true
+    )
+    List<EmissionPeriodTotal> findScopePeriodTotals(
+        @Param("tenantId") String tenantId,
+        @Param("periodType") String periodType,
+        @Param("truncation") String truncation,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    @Query("SELECT r FROM EmissionRollup r WHERE r.id.tenantId = :tenantId")
+    List<EmissionRollup> findByTenantId(@Param("tenantId") String tenantId);
+
+    @Query("SELECT DISTINCT r.id.tenantId FROM EmissionRollup r")
+    List<String> findTenantIds();
+
+    /**
+     * Serialize reconciliation of a tenant across nodes for the current transaction.
+     *
+     * @return whether the lock was acquired; it is released when the transaction ends.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext(:key))", nativeQuery = true)
+    boolean tryTransactionLock(@Param("key") String key);
+}
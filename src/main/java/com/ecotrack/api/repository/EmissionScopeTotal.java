@@ -0,0 +1,8 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+
+/**
+ * Total of a tenant's emissions for one scope, summed from {@link com.ecotrack.api.domain.EmissionRollup} rows.
+ */
+public record EmissionScopeTotal(Scope scope, Long carbonGrams, Long recordCount) {}
@@ -0,0 +1,84 @@
+package com.ecotrack.api.repository;
+
+import com.ecotrack.api.domain.TenantSchema;
+import com.ecotrack.api.domain.enumeration.TenantSchemaStatus;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link TenantSchema} entity, and the database functions that move a tenant into
+ * its schema (see {@code 20261018000010_added_tenant_schema.xml}).
+ */
+@Repository
+public interface TenantSchemaRepository extends JpaRepository<TenantSchema, String> {
+    List<TenantSchema> findAllByOrderByTenantId();
+
+    @Query("SELECT t.tenantId FROM TenantSchema t WHERE t.status = :status ORDER BY t.tenantId")
+    List<String> findTenantIdsByStatus(@Param("status") TenantSchemaStatus status);
+
+    /**
+     * The tables held per tenant schema that are copied in batches, parents first.
+     */
+    @Query(value = "SELECT table_name FROM tenant_schema_table WHERE batched ORDER BY copy_order", nativeQuery = true)
+    List<String> findBatchedTables();
+
+    /**
+     * All tables held per tenant schema, children first.
+     */
+    @Query(value = "SELECT table_name FROM tenant_schema_table ORDER BY copy_order DESC", nativeQuery = true)
+    List<String> findTablesInPurgeOrder();
+
+    /**
+     * Register the tenant as being copied into the schema, and mirror its writes on the shared tables from now on.
+     *
+     * @return the number of tables mirrored
+     */
+    @Query(value = "SELECT tenant_schema_start(:tenantId, :schemaName)", nativeQuery = true)
+    int start(@Param("tenantId") String tenantId, @Param("schemaName") String schemaName);
+
+    /**
+     * Copy the next batch of the tenant's rows of a table into its schema.
+     *
+     * @return the number of rows the batch covered, {@code 0} once every row has been copied
+     */
+    @Query(value = "SELECT tenant_schema_backfill(:tenantId, :tableName, :batchSize)", nativeQuery = true)
+    int backfill(@Param("tenantId") String tenantId, @Param("tableName") String tableName, @Param("batchSize") int batchSize);
+
+    /**
+     * Copy what is left and switch the tenant to its schema.
+     *
+     * @return the number of rows copied while switching
+     */
+    @Query(value = "SELECT tenant_schema_activate(:tenantId, :batchSize)", nativeQuery = true)
+    int activate(@Param("tenantId") String tenantId, @Param("batchSize") int batchSize);
+
+    /**
+     * Whether every transaction still running started after the tenant switched to its schema, so none of them can
+     * still use the shared tables for it.
+     */
+    @Query(
+        value = "SELECT NOT EXISTS (SELECT 1 FROM pg_stat_activity WHERE datname = current_database() " +
+        "AND pid <> pg_backend_pid() AND xact_start < (SELECT activated_date FROM tenant_schema WHERE tenant_id = :tenantId))",
+        nativeQuery = true
+    )
+    boolean isPurgeable(@Param("tenantId") String tenantId);
+
+    /**
+     * Delete the next batch of the tenant's rows of a table from the shared tables.
+     *
+     * @return the number of rows deleted, {@code 0} once none are left
+     */
+    @Query(value = "SELECT tenant_schema_purge(:tenantId, :tableName, :batchSize)", nativeQuery = true)
+    int purge(@Param("tenantId") String tenantId, @Param("tableName") String tableName, @Param("batchSize") int batchSize);
+
+    /**
+     * Record the purge of the tenant, and stop mirroring writes if no other tenant is being moved.
+     *
+     * @return whether the mirroring triggers were dropped
+     */
+    @Query(value = "SELECT tenant_schema_finish(:tenantId)", nativeQuery = true)
+    boolean finish(@Param("tenantId") String tenantId);
+}
@@ -1,12 +1,21 @@
 package com.ecotrack.api.security;
 
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
 /**
  * Thread-local context for storing the current tenant ID.
  * This is used to propagate tenant information from JWT to database queries.
+ * <p>
+ * The tenant is not inherited by new threads, so pooled and virtual threads never start with a stale tenant. Work
+ * handed to other threads carries it explicitly: {@code @Async} and {@code @Scheduled} tasks through the task
+ * decorators of {@code AsyncConfiguration}, streamed responses and {@code Callable}s returned by controllers through
+ * that of {@code WebConfigurer}, parallel streams and fork/join tasks by wrapping their actions with
+ * {@link #wrap(Runnable)} or {@link #wrap(IntConsumer)}.
  */
 public final class TenantContext {
 
-    private static final ThreadLocal<String> CURRENT_TENANT = new InheritableThreadLocal<>();
+    private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
 
     private TenantContext() {
         // Utility class
@@ -36,4 +45,64 @@ public final class TenantContext {
     public static void clear() {
         CURRENT_TENANT.remove();
     }
+
+    /**
+     * Run a task with the given tenant as the current one, restoring the previous tenant afterwards.
+     *
+     * @param tenantId the tenant ID to run the task with, or null to run it without tenant
+     * @param task the task to run
+     * @return the result of the task
+     */
+    public static <T> T callWithTenant(String tenantId, Supplier<T> task) {
+        String previous = CURRENT_TENANT.get();
+        if (tenantId == null) {
+            CURRENT_TENANT.remove();
+        } else {
+            CURRENT_TENANT.set(tenantId);
+        }
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_TENANT.remove();
+            } else {
+                CURRENT_TENANT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Run a task with the given tenant as the current one, restoring the previous tenant afterwards.
+     *
+     * @param tenantId the tenant ID to run the task with, or null to run it without tenant
+     * @param task the task to run
+     */
+    public static void runWithTenant(String tenantId, Runnable task) {
+        callWithTenant(tenantId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Capture the current tenant for a task that runs on another thread.
+     *
+     * @param task the task to wrap
+     * @return a task that runs with the tenant that was current when it was wrapped
+     */
+    public static Runnable wrap(Runnable task) {
+        String tenantId = CURRENT_TENANT.get();
+        return () -> runWithTenant(tenantId, task);
+    }
+
+    /**
+     * Capture the current tenant for an action that runs on other threads, such as that of a parallel stream.
+     *
+     * @param action the action to wrap
+     * @return an action that runs with the tenant that was current when it was wrapped
+     */
+    public static IntConsumer wrap(IntConsumer action) {
+        String tenantId = CURRENT_TENANT.get();
+        return value -> runWithTenant(tenantId, () -> action.accept(value));
+    }
 }
@@ -0,0 +1,28 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.CalculationFormulaDTO;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service Interface for managing {@link com.ecotrack.api.domain.CalculationFormula}.
+ * <p>
+ * Expressions are compiled on save, so an invalid formula is rejected with a
+ * {@link com.ecotrack.api.service.carbon.formula.FormulaSyntaxException} instead of failing at calculation time.
+ */
+public interface CalculationFormulaService {
+    CalculationFormulaDTO save(CalculationFormulaDTO calculationFormulaDTO);
+
+    CalculationFormulaDTO update(CalculationFormulaDTO calculationFormulaDTO);
+
+    Optional<CalculationFormulaDTO> partialUpdate(CalculationFormulaDTO calculationFormulaDTO);
+
+    Page<CalculationFormulaDTO> findAll(Pageable pageable);
+
+    Page<CalculationFormulaDTO> findByTenantId(String tenantId, Pageable pageable);
+
+    Optional<CalculationFormulaDTO> findOne(Long id);
+
+    void delete(Long id);
+}
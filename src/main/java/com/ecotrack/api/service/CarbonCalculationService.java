@@ -1,9 +1,12 @@
 package com.ecotrack.api.service;
 
+import com.ecotrack.api.service.carbon.EmissionComputation;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchResultDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
 import com.ecotrack.api.service.dto.EmissionReportDTO;
+import java.util.List;
 
 /**
  * Service for calculating carbon emissions with scope-aware strategies.
@@ -19,6 +22,18 @@ public interface CarbonCalculationService {
      */
     EmissionRecordDTO calculateAndSaveEmissionRecord(CarbonCalculationRequestDTO request);
 
+    /**
+     * Calculate emissions for a batch of requests in parallel and persist the successful records in JDBC batches.
+     * Invalid items are reported individually and do not fail the batch.
+     */
+    CarbonCalculationBatchResultDTO calculateAndSaveEmissionRecords(List<CarbonCalculationRequestDTO> requests);
+
+    /**
+     * Recalculate emissions from a stored record's inputs with the current factors and formulas, bypassing the
+     * estimate cache. Thread-safe; used by recalculation jobs.
+     */
+    EmissionComputation recalculate(CarbonCalculationRequestDTO request);
+
     /**
      * Calculate emissions and map the result into an emission report DTO.
      */
@@ -0,0 +1,24 @@
+package com.ecotrack.api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Service for streaming carbon calculations over newline-delimited JSON (NDJSON) feeds.
+ */
+public interface CarbonCalculationStreamService {
+    /**
+     * Read calculation requests incrementally from an NDJSON input, calculate and persist them in fixed-size chunks,
+     * and write one NDJSON result line per input value as soon as its chunk is committed.
+     * <p>
+     * Only one chunk is held in memory at a time; reads and writes are blocking, so a slow client throttles how fast
+     * the input is consumed.
+     *
+     * @param input  the NDJSON request body
+     * @param output the NDJSON response body
+     * @return the number of input values processed
+     * @throws IOException if reading the input or writing the output fails
+     */
+    long calculateAndSaveEmissionRecords(InputStream input, OutputStream output) throws IOException;
+}
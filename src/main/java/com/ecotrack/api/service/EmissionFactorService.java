@@ -0,0 +1,45 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.EmissionFactorDTO;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service Interface for managing {@link com.ecotrack.api.domain.EmissionFactor}.
+ */
+public interface EmissionFactorService {
+    /**
+     * Publish a new emission factor version. The version number is assigned from the existing versions for the same
+     * scope, sector, region and activity type, and the in-memory registry is reloaded once the transaction commits.
+     * A publish that races another one for the same version is retried with the next version.
+     *
+     * @param emissionFactorDTO the factor to publish
+     * @return the persisted factor version
+     * @throws org.springframework.dao.ConcurrencyFailureException if the version stays contended after the retries
+     */
+    EmissionFactorDTO publish(EmissionFactorDTO emissionFactorDTO);
+
+    /**
+     * Get all the emission factor versions.
+     *
+     * @param pageable the pagination information
+     * @return the list of entities
+     */
+    Page<EmissionFactorDTO> findAll(Pageable pageable);
+
+    /**
+     * Get the "id" emission factor version.
+     *
+     * @param id the id of the entity
+     * @return the entity
+     */
+    Optional<EmissionFactorDTO> findOne(Long id);
+
+    /**
+     * Delete the "id" emission factor version.
+     *
+     * @param id the id of the entity
+     */
+    void delete(Long id);
+}
@@ -0,0 +1,39 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.service.dto.EmissionImportDTO;
+import com.ecotrack.api.service.dto.EmissionImportErrorDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service Interface for bulk importing emission records from CSV or NDJSON uploads.
+ * <p>
+ * Uploads are validated row by row while they are read and COPYed into a staging table; the valid rows are then merged
+ * asynchronously, see {@link com.ecotrack.api.service.imports.EmissionImportMerger}.
+ */
+public interface EmissionImportService {
+    /**
+     * Read an upload and stage its valid rows for the tenant. Rejected rows are counted and reported as errors.
+     *
+     * @param tenantId the tenant the records are imported for.
+     * @param format   the format of {@code input}.
+     * @param fileName the name of the uploaded file, if known.
+     * @param input    the upload; it is read to the end and closed.
+     * @return the import, merging or already completed if no row was valid.
+     * @throws IOException if the upload cannot be read; the import is then failed.
+     */
+    EmissionImportDTO importRecords(String tenantId, EmissionImportFormat format, String fileName, InputStream input) throws IOException;
+
+    Page<EmissionImportDTO> findByTenantId(String tenantId, Pageable pageable);
+
+    Optional<EmissionImportDTO> findOne(Long id);
+
+    /**
+     * Rejected rows of an import, in row order.
+     */
+    Page<EmissionImportErrorDTO> findErrors(Long importId, Pageable pageable);
+}
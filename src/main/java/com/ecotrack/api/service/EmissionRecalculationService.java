@@ -0,0 +1,33 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.EmissionRecalculationJobDTO;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service Interface for recalculating stored emission records in bulk, e.g. after an emission factor correction.
+ * <p>
+ * Jobs run asynchronously and checkpoint after every chunk; see
+ * {@link com.ecotrack.api.service.carbon.EmissionRecalculationJobRunner}.
+ */
+public interface EmissionRecalculationService {
+    /**
+     * Create a job for the tenant and filters of {@code request} and start it.
+     */
+    EmissionRecalculationJobDTO start(EmissionRecalculationJobDTO request);
+
+    /**
+     * Restart a failed or interrupted job from its checkpoint.
+     *
+     * @return the job, or empty if it does not exist.
+     * @throws IllegalArgumentException if the job has already completed.
+     */
+    Optional<EmissionRecalculationJobDTO> resume(Long id);
+
+    Page<EmissionRecalculationJobDTO> findAll(Pageable pageable);
+
+    Page<EmissionRecalculationJobDTO> findByTenantId(String tenantId, Pageable pageable);
+
+    Optional<EmissionRecalculationJobDTO> findOne(Long id);
+}
@@ -0,0 +1,23 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.repository.EmissionRecordExportCriteria;
+import com.ecotrack.api.service.exports.EmissionExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service Interface for exporting a tenant's {@link com.ecotrack.api.domain.EmissionRecord}s as CSV or NDJSON.
+ */
+public interface EmissionRecordExportService {
+    /**
+     * Stream the records matching {@code criteria} to {@code output}, by recording date then id, in one read-only
+     * transaction; records are written as they are read, so memory use does not depend on their number.
+     *
+     * @param criteria the tenant and filters of the export.
+     * @param format   the format to write.
+     * @param output   the stream to write to; it is flushed but not closed.
+     * @return the number of records written.
+     * @throws IOException if {@code output} cannot be written.
+     */
+    long export(EmissionRecordExportCriteria criteria, EmissionExportFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.ecotrack.api.service;
+
+/**
+ * Service Interface for maintaining the partitions of the {@link com.ecotrack.api.domain.EmissionRecord} table.
+ */
+public interface EmissionRecordPartitionService {
+    /**
+     * Create the yearly partitions up to the configured number of years ahead.
+     *
+     * @return the number of partitions created
+     */
+    int ensurePartitions();
+
+    /**
+     * Copy existing records into the partitioned table, one batch per transaction, until none are left. Does nothing
+     * once the tables have been swapped.
+     *
+     * @return the number of records the backfill covered
+     */
+    long backfill();
+}
@@ -1,6 +1,11 @@
 package com.ecotrack.api.service;
 
+import com.ecotrack.api.repository.EmissionRecordSummary;
+import com.ecotrack.api.service.dto.CursorPage;
+import com.ecotrack.api.service.dto.EmissionRecordBulkPatchResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.ecotrack.api.service.dto.EmissionRecordPatchDTO;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +22,14 @@ public interface EmissionRecordService {
      */
     EmissionRecordDTO save(EmissionRecordDTO emissionRecordDTO);
 
+    /**
+     * Save a list of emission records using JDBC batching, flushing every configured chunk.
+     *
+     * @param emissionRecordDTOs the entities to save
+     * @return the persisted entities, in the same order
+     */
+    List<EmissionRecordDTO> saveAll(List<EmissionRecordDTO> emissionRecordDTOs);
+
     /**
      * Updates an emission record.
      *
@@ -33,6 +46,17 @@ public interface EmissionRecordService {
      */
     Optional<EmissionRecordDTO> partialUpdate(EmissionRecordDTO emissionRecordDTO);
 
+    /**
+     * Partially updates the verification fields of many emission records of a tenant with a few set-based statements,
+     * without loading the records. Records that do not exist or belong to another tenant are reported, not updated.
+     *
+     * @param tenantId the tenant the records belong to
+     * @param patches the fields to set per record
+     * @return the number of records updated and the ids that were not found
+     * @throws IllegalArgumentException if an id is missing or repeated
+     */
+    EmissionRecordBulkPatchResultDTO bulkPartialUpdate(String tenantId, List<EmissionRecordPatchDTO> patches);
+
     /**
      * Get all the emission records.
      *
@@ -50,6 +74,60 @@ public interface EmissionRecordService {
      */
     Page<EmissionRecordDTO> findByTenantId(String tenantId, Pageable pageable);
 
+    /**
+     * Get the emission records of a tenant by metadata, newest recording date first. The filters are applied by the
+     * database; the sort of {@code pageable} is ignored.
+     *
+     * @param tenantId the tenant ID
+     * @param status the metadata status to match, or {@code null} for any
+     * @param flagged the metadata flag to match, or {@code null} for any
+     * @param pageable the pagination information
+     * @return the list of entities
+     * @throws IllegalArgumentException if neither filter is given
+     */
+    Page<EmissionRecordDTO> findByTenantIdAndMetadata(String tenantId, String status, Boolean flagged, Pageable pageable);
+
+    /**
+     * Get a keyset page of emission records for a tenant, newest recording date first; records without a recording
+     * date come last. Unlike offset pages, the cost of a page does not grow with its position and no count is run.
+     *
+     * @param tenantId the tenant ID
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of records
+     * @return the page and the cursor of the next one
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    CursorPage<EmissionRecordDTO> findByTenantId(String tenantId, String cursor, int size);
+
+    /**
+     * Get summaries of all the emission records, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return the list of summaries
+     */
+    Page<EmissionRecordSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Get summaries of the emission records for a tenant, without loading the entities.
+     *
+     * @param tenantId the tenant ID
+     * @param pageable the pagination information
+     * @return the list of summaries
+     */
+    Page<EmissionRecordSummary> findSummariesByTenantId(String tenantId, Pageable pageable);
+
+    /**
+     * Get a keyset page of emission record summaries for a tenant, in the order of
+     * {@link #findByTenantId(String, String, int)} and with the same cursors.
+     *
+     * @param tenantId the tenant ID
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of records
+     * @return the page and the cursor of the next one
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    CursorPage<EmissionRecordSummary> findSummariesByTenantId(String tenantId, String cursor, int size);
+
     /**
      * Get the "id" emission record.
      *
@@ -0,0 +1,32 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.EmissionTotalsDTO;
+import com.ecotrack.api.service.rollup.EmissionRollupDeltas;
+import java.time.LocalDate;
+
+/**
+ * Service Interface for the {@link com.ecotrack.api.domain.EmissionRollup} totals of emission records.
+ */
+public interface EmissionRollupService {
+    /**
+     * Apply accumulated deltas in the caller's transaction, so rollups commit or roll back with the records.
+     */
+    void apply(EmissionRollupDeltas deltas);
+
+    /**
+     * Per-scope totals of a tenant, read from the rollups.
+     *
+     * @param tenantId the tenant ID
+     * @param from first recording date, inclusive; {@code null} together with {@code to} for all dated records
+     * @param to last recording date, inclusive
+     * @throws IllegalArgumentException if only one bound is given or the range is inverted
+     */
+    EmissionTotalsDTO getTotals(String tenantId, LocalDate from, LocalDate to);
+
+    /**
+     * Recompute a tenant's rollups from its records and repair any drift.
+     *
+     * @return the number of rollup rows that were repaired
+     */
+    int reconcile(String tenantId);
+}
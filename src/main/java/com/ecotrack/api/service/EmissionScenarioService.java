@@ -0,0 +1,20 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.EmissionScenarioDTO;
+import com.ecotrack.api.service.dto.EmissionScenarioResultDTO;
+import java.util.List;
+
+/**
+ * Service for evaluating what-if scenarios against a tenant's emission ledger.
+ */
+public interface EmissionScenarioService {
+    /**
+     * Evaluate scenarios concurrently against one snapshot of the tenant's ledger.
+     *
+     * @param tenantId       the tenant
+     * @param scenarios      the scenarios to evaluate
+     * @param reloadSnapshot whether to reload the ledger snapshot instead of reusing a cached one
+     * @return one result per scenario, in request order
+     */
+    List<EmissionScenarioResultDTO> simulate(String tenantId, List<EmissionScenarioDTO> scenarios, boolean reloadSnapshot);
+}
@@ -0,0 +1,32 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.EmissionSeriesDTO;
+import com.ecotrack.api.service.series.EmissionSeriesGrouping;
+import com.ecotrack.api.service.series.EmissionSeriesPeriod;
+import java.time.LocalDate;
+
+/**
+ * Service for time series of the emissions of {@link com.ecotrack.api.domain.EmissionRecord}s.
+ */
+public interface EmissionSeriesService {
+    /**
+     * Totals of a tenant's dated emission records per period and group, aggregated by the database.
+     *
+     * @param tenantId   the tenant ID
+     * @param period     the period of the buckets
+     * @param groupBy    the dimension to group by
+     * @param from       first recording date, inclusive; {@code null} together with {@code to} for all dated records
+     * @param to         last recording date, inclusive
+     * @param cumulative whether to add running totals per group
+     * @return the series
+     * @throws IllegalArgumentException if only one bound is given or the range is inverted
+     */
+    EmissionSeriesDTO getSeries(
+        String tenantId,
+        EmissionSeriesPeriod period,
+        EmissionSeriesGrouping groupBy,
+        LocalDate from,
+        LocalDate to,
+        boolean cumulative
+    );
+}
@@ -0,0 +1,21 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.service.dto.EmissionUncertaintyDTO;
+import java.time.LocalDate;
+
+/**
+ * Service for propagating the uncertainty of {@link com.ecotrack.api.domain.EmissionRecord}s to tenant totals.
+ */
+public interface EmissionUncertaintyService {
+    /**
+     * Simulate a tenant's emissions recorded within a date range and report mean, P5 and P95 per scope and in total.
+     *
+     * @param tenantId   the tenant
+     * @param from       first recording date, inclusive
+     * @param to         last recording date, inclusive
+     * @param iterations number of Monte Carlo iterations, or {@code null} for the configured default
+     * @param seed       seed for a reproducible run, or {@code null} for a random one
+     * @return the simulated intervals
+     */
+    EmissionUncertaintyDTO simulate(String tenantId, LocalDate from, LocalDate to, Integer iterations, Long seed);
+}
@@ -0,0 +1,38 @@
+package com.ecotrack.api.service;
+
+import com.ecotrack.api.domain.TenantSchema;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service Interface for moving tenants from the shared tables into a {@link TenantSchema} of their own.
+ */
+public interface TenantSchemaService {
+    /**
+     * The tenants that have a schema of their own or are being moved to one.
+     */
+    List<TenantSchema> findAll();
+
+    /**
+     * Move a tenant into a schema of its own while it keeps working, in the background: create the schema, copy the
+     * tenant's rows in batches, switch the tenant to the schema, and leave the purge of the shared tables to the next
+     * maintenance run. Does nothing for a tenant that already uses its schema.
+     */
+    void migrate(String tenantId);
+
+    /**
+     * Update every tenant schema to the tenant changelog, resume interrupted moves, and purge moved tenants from the
+     * shared tables once no transaction can still use them there.
+     */
+    void maintain();
+
+    /**
+     * Run a task against the shared tables, then once against the schema of each tenant that uses one, each time in a
+     * transaction of its own; the tenant is the current one while its schema is used. Failed runs are logged and do
+     * not stop the others.
+     *
+     * @param task given the tenants whose rows must be skipped, because the rows in the shared tables are only copies
+     */
+    void forEachSchema(Consumer<Set<String>> task);
+}
@@ -2,24 +2,51 @@ package com.ecotrack.api.service.carbon;
 
 import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Optional;
 
 abstract class AbstractEmissionCalculationStrategy implements EmissionCalculationStrategy {
 
     private static final BigDecimal ZERO = BigDecimal.ZERO;
-    private static final BigDecimal ONE = BigDecimal.ONE;
 
-    protected BigDecimal requireEmissionFactor(CarbonCalculationRequestDTO request) {
-        if (request.getEmissionFactor() == null) {
-            throw new IllegalArgumentException("Emission factor is required for scope " + request.getScope());
+    private final EmissionFactorRegistry emissionFactorRegistry;
+
+    protected AbstractEmissionCalculationStrategy(EmissionFactorRegistry emissionFactorRegistry) {
+        this.emissionFactorRegistry = emissionFactorRegistry;
+    }
+
+    /**
+     * Registry factor for the request's scope, sector, region and activity, valid on the record date (today if unset).
+     */
+    protected Optional<ResolvedEmissionFactor> lookupEmissionFactor(CarbonCalculationRequestDTO request) {
+        LocalDate date = request.getDateRecorded() == null ? LocalDate.now() : request.getDateRecorded();
+        return emissionFactorRegistry.resolve(
+            request.getScope(),
+            request.getSector(),
+            request.getRegionCode(),
+            request.getActivityType(),
+            date
+        );
+    }
+
+    /**
+     * Compute with the supplied factor, or with the registry factor when none is supplied.
+     */
+    protected EmissionComputation computeWithSuppliedOrRegisteredFactor(CarbonCalculationRequestDTO request, String calculationMethod) {
+        if (request.getEmissionFactor() != null) {
+            return compute(request, request.getEmissionFactor(), calculationMethod);
         }
-        return request.getEmissionFactor();
+        ResolvedEmissionFactor registered = lookupEmissionFactor(request).orElseThrow(() ->
+            new IllegalArgumentException(
+                "Emission factor is required for scope " + request.getScope() + " when no registered factor matches the request"
+            )
+        );
+        return compute(request, registered.factor(), calculationMethod + ";" + registered.reference());
     }
 
     protected EmissionComputation compute(CarbonCalculationRequestDTO request, BigDecimal emissionFactor, String calculationMethod) {
         BigDecimal efficiencyRatio = request.getEfficiencyRatio() == null ? ZERO : request.getEfficiencyRatio();
-        BigDecimal emissions = request.getActivityData().multiply(emissionFactor).multiply(ONE.subtract(efficiencyRatio));
-        Long carbonGrams = emissions.setScale(0, RoundingMode.HALF_UP).longValueExact();
+        Long carbonGrams = FixedPointEmissionArithmetic.carbonGrams(request.getActivityData(), emissionFactor, efficiencyRatio);
         return new EmissionComputation(carbonGrams, emissionFactor, efficiencyRatio, calculationMethod);
     }
 }
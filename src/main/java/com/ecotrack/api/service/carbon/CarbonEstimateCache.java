@@ -0,0 +1,147 @@
+package com.ecotrack.api.service.carbon;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded cache of estimate computations, keyed by the normalized numeric inputs and the emission factor registry
+ * generation.
+ * <p>
+ * Publishing or deleting a factor bumps the registry generation, so entries computed against an older registry are
+ * never served again and simply age out. Requests evaluated with a tenant formula bypass the cache, because formula
+ * edits made on other nodes are not visible until the compiled formula itself expires.
+ */
+@Component
+public class CarbonEstimateCache {
+
+    public static final String CACHE_NAME = "carbonEstimates";
+
+    public static final String METER_NAME = "carbon.calculation.estimate-cache";
+    public static final String METER_DESCRIPTION = "Lookups of cached carbon estimates.";
+    public static final String METER_BASE_UNIT = "lookups";
+    public static final String METER_RESULT_DIMENSION = "result";
+
+    private final CacheManager cacheManager;
+
+    private final EmissionFactorRegistry emissionFactorRegistry;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public CarbonEstimateCache(
+        CacheManager cacheManager,
+        EmissionFactorRegistry emissionFactorRegistry,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.cacheManager = cacheManager;
+        this.emissionFactorRegistry = emissionFactorRegistry;
+        this.applicationProperties = applicationProperties;
+        this.hitCounter = lookupCounterForResultBuilder("hit").register(meterRegistry);
+        this.missCounter = lookupCounterForResultBuilder("miss").register(meterRegistry);
+    }
+
+    /**
+     * Cached computation for the request, or the result of {@code compute} when there is none. Failed computations are
+     * not cached.
+     */
+    public EmissionComputation getOrCompute(CarbonCalculationRequestDTO request, Supplier<EmissionComputation> compute) {
+        Cache<Object, Object> cache = cache();
+        if (cache == null || !isCacheable(request)) {
+            return compute.get();
+        }
+        EstimateKey key = keyOf(request);
+        if (cache.get(key) instanceof EmissionComputation cached) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        EmissionComputation computation = compute.get();
+        cache.put(key, computation);
+        return computation;
+    }
+
+    private Cache<Object, Object> cache() {
+        if (!applicationProperties.getCarbonCalculation().getEstimateCache().isEnabled()) {
+            return null;
+        }
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private boolean isCacheable(CarbonCalculationRequestDTO request) {
+        return (
+            request != null &&
+            request.getScope() != null &&
+            request.getActivityData() != null &&
+            !StringUtils.hasText(request.getFormulaCode())
+        );
+    }
+
+    private EstimateKey keyOf(CarbonCalculationRequestDTO request) {
+        BigDecimal efficiencyRatio = request.getEfficiencyRatio() == null ? BigDecimal.ZERO : request.getEfficiencyRatio();
+        if (request.getEmissionFactor() != null) {
+            // A supplied factor makes the registry coordinates irrelevant, so they are left out to share entries.
+            return new EstimateKey(
+                request.getScope(),
+                normalize(request.getActivityData()),
+                normalize(request.getEmissionFactor()),
+                normalize(efficiencyRatio),
+                null,
+                null,
+                null,
+                null,
+                emissionFactorRegistry.generation()
+            );
+        }
+        return new EstimateKey(
+            request.getScope(),
+            normalize(request.getActivityData()),
+            null,
+            normalize(efficiencyRatio),
+            request.getSector(),
+            request.getRegionCode(),
+            request.getActivityType(),
+            request.getDateRecorded() == null ? LocalDate.now() : request.getDateRecorded(),
+            emissionFactorRegistry.generation()
+        );
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value.stripTrailingZeros();
+    }
+
+    private Counter.Builder lookupCounterForResultBuilder(String result) {
+        return Counter.builder(METER_NAME)
+            .baseUnit(METER_BASE_UNIT)
+            .description(METER_DESCRIPTION)
+            .tag(METER_RESULT_DIMENSION, result);
+    }
+
+    private record EstimateKey(
+        Scope scope,
+        BigDecimal activityData,
+        BigDecimal emissionFactor,
+        BigDecimal efficiencyRatio,
+        Sector sector,
+        String regionCode,
+        String activityType,
+        LocalDate date,
+        long registryGeneration
+    )
+        implements Serializable {}
+}
@@ -7,7 +7,15 @@ import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
  * Scope-specific strategy contract for carbon calculations.
  */
 public interface EmissionCalculationStrategy {
+    /**
+     * Scope handled by this strategy, or {@code null} for strategies that are selected through {@link #supports} only.
+     * Strategies without a scope are consulted before the scope-bound ones.
+     */
     Scope supportsScope();
 
+    default boolean supports(CarbonCalculationRequestDTO request) {
+        return request.getScope() == supportsScope();
+    }
+
     EmissionComputation calculate(CarbonCalculationRequestDTO request);
 }
@@ -1,5 +1,6 @@
 package com.ecotrack.api.service.carbon;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 /**
@@ -10,4 +11,5 @@ public record EmissionComputation(
     BigDecimal emissionFactorUsed,
     BigDecimal efficiencyRatioApplied,
     String calculationMethod
-) {}
+)
+    implements Serializable {}
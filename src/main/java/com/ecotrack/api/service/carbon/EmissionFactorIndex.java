@@ -0,0 +1,143 @@
+package com.ecotrack.api.service.carbon;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable lookup structure over all published emission factor versions.
+ * <p>
+ * Lookups fall back from the most to the least specific key: activity type first, then region (UN/LOCODE, its
+ * country prefix, any region), then sector. Within a key the newest applicable version wins.
+ */
+public final class EmissionFactorIndex {
+
+    static final EmissionFactorIndex EMPTY = new EmissionFactorIndex(0L, Map.of());
+
+    private static final Comparator<ResolvedEmissionFactor> NEWEST_FIRST = Comparator.comparing(ResolvedEmissionFactor::validFrom)
+        .thenComparing(ResolvedEmissionFactor::version)
+        .reversed();
+
+    private final long generation;
+
+    private final Map<Key, ResolvedEmissionFactor[]> versionsByKey;
+
+    private EmissionFactorIndex(long generation, Map<Key, ResolvedEmissionFactor[]> versionsByKey) {
+        this.generation = generation;
+        this.versionsByKey = versionsByKey;
+    }
+
+    public static EmissionFactorIndex build(long generation, Collection<EmissionFactor> factors) {
+        Map<Key, List<ResolvedEmissionFactor>> grouped = new HashMap<>();
+        for (EmissionFactor factor : factors) {
+            Key key = new Key(
+                factor.getScope(),
+                factor.getSector(),
+                normalizeRegion(factor.getRegionCode()),
+                normalizeActivity(factor.getActivityType())
+            );
+            grouped
+                .computeIfAbsent(key, k -> new ArrayList<>())
+                .add(
+                    new ResolvedEmissionFactor(
+                        factor.getId(),
+                        factor.getFactor(),
+                        factor.getUnit(),
+                        factor.getVersion(),
+                        factor.getValidFrom(),
+                        factor.getValidTo()
+                    )
+                );
+        }
+
+        Map<Key, ResolvedEmissionFactor[]> versionsByKey = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, versions) -> {
+            versions.sort(NEWEST_FIRST);
+            versionsByKey.put(key, versions.toArray(ResolvedEmissionFactor[]::new));
+        });
+        return new EmissionFactorIndex(generation, Map.copyOf(versionsByKey));
+    }
+
+    /**
+     * Monotonic number identifying this snapshot; it changes every time the registry is reloaded.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return versionsByKey.values().stream().mapToInt(versions -> versions.length).sum();
+    }
+
+    public Optional<ResolvedEmissionFactor> resolve(Scope scope, Sector sector, String regionCode, String activityType, LocalDate date) {
+        if (scope == null || versionsByKey.isEmpty()) {
+            return Optional.empty();
+        }
+        String region = normalizeRegion(regionCode);
+        String country = region != null && region.length() > 2 ? region.substring(0, 2) : null;
+        String activity = normalizeActivity(activityType);
+
+        for (String activityCandidate : candidates(activity, null)) {
+            for (String regionCandidate : candidates(region, country)) {
+                for (Sector sectorCandidate : candidates(sector, null)) {
+                    Optional<ResolvedEmissionFactor> match = newestValid(
+                        versionsByKey.get(new Key(scope, sectorCandidate, regionCandidate, activityCandidate)),
+                        date
+                    );
+                    if (match.isPresent()) {
+                        return match;
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<ResolvedEmissionFactor> newestValid(ResolvedEmissionFactor[] versions, LocalDate date) {
+        if (versions != null) {
+            for (ResolvedEmissionFactor version : versions) {
+                if (version.isValidOn(date)) {
+                    return Optional.of(version);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @SafeVarargs
+    private static <T> List<T> candidates(T... values) {
+        List<T> candidates = new ArrayList<>(values.length + 1);
+        for (T value : values) {
+            if (value != null && !candidates.contains(value)) {
+                candidates.add(value);
+            }
+        }
+        candidates.add(null);
+        return candidates;
+    }
+
+    private static String normalizeRegion(String regionCode) {
+        if (regionCode == null || regionCode.isBlank()) {
+            return null;
+        }
+        return regionCode.replace(" ", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeActivity(String activityType) {
+        if (activityType == null || activityType.isBlank()) {
+            return null;
+        }
+        return activityType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(Scope scope, Sector sector, String regionCode, String activityType) {}
+}
@@ -0,0 +1,118 @@
+package com.ecotrack.api.service.carbon;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import com.ecotrack.api.repository.EmissionFactorRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory registry of published emission factors.
+ * <p>
+ * Calculations read a volatile reference to an immutable {@link EmissionFactorIndex} and never lock. Reloads build a
+ * complete new index and swap the reference in one write, so in-flight calculations keep using the snapshot they
+ * started with. Reloads happen at startup, after a factor change commits, and periodically when another node has
+ * changed the table.
+ */
+@Component
+public class EmissionFactorRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionFactorRegistry.class);
+
+    private final EmissionFactorRepository emissionFactorRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong generations = new AtomicLong();
+
+    private volatile EmissionFactorIndex index = EmissionFactorIndex.EMPTY;
+
+    private volatile Fingerprint loadedFingerprint;
+
+    public EmissionFactorRegistry(EmissionFactorRepository emissionFactorRepository, PlatformTransactionManager transactionManager) {
+        this.emissionFactorRepository = emissionFactorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public Optional<ResolvedEmissionFactor> resolve(Scope scope, Sector sector, String regionCode, String activityType, LocalDate date) {
+        return index.resolve(scope, sector, regionCode, activityType, date);
+    }
+
+    /**
+     * Generation of the index currently served; changes whenever factors are reloaded.
+     */
+    public long generation() {
+        return index.generation();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadQuietly();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmissionFactorsChanged(EmissionFactorsChangedEvent event) {
+        log.debug("Emission factors changed ({}), reloading registry", event.emissionFactorId());
+        reloadQuietly();
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.carbon-calculation.emission-factors.refresh-interval:PT5M}",
+        fixedDelayString = "${application.carbon-calculation.emission-factors.refresh-interval:PT5M}"
+    )
+    public void refreshIfChanged() {
+        try {
+            if (!Objects.equals(currentFingerprint(), loadedFingerprint)) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh emission factor registry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Load every published factor and atomically replace the served index.
+     */
+    public synchronized void reload() {
+        Fingerprint fingerprint = currentFingerprint();
+        List<EmissionFactor> factors = transactionTemplate.execute(status -> emissionFactorRepository.findAll());
+        EmissionFactorIndex loaded = EmissionFactorIndex.build(generations.incrementAndGet(), factors == null ? List.of() : factors);
+        index = loaded;
+        loadedFingerprint = fingerprint;
+        log.info("Loaded {} emission factor versions (generation {})", loaded.size(), loaded.generation());
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Could not load emission factor registry, keeping generation {}: {}", index.generation(), e.getMessage());
+        }
+    }
+
+    private Fingerprint currentFingerprint() {
+        return transactionTemplate.execute(status ->
+            new Fingerprint(emissionFactorRepository.count(), emissionFactorRepository.findLatestModification().orElse(null))
+        );
+    }
+
+    private record Fingerprint(long count, Instant latestModification) {}
+}
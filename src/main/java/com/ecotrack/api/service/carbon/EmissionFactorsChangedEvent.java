@@ -0,0 +1,6 @@
+package com.ecotrack.api.service.carbon;
+
+/**
+ * Published when emission factor versions are added or removed, so the registry reloads once the change commits.
+ */
+public record EmissionFactorsChangedEvent(Long emissionFactorId) {}
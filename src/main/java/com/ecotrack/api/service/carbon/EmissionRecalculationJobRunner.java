@@ -0,0 +1,287 @@
+package com.ecotrack.api.service.carbon;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.AuditTrail;
+import com.ecotrack.api.domain.EmissionRecalculationJob;
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.enumeration.AuditAction;
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import com.ecotrack.api.repository.AuditTrailRepository;
+import com.ecotrack.api.repository.EmissionRecalculationJobRepository;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.service.CarbonCalculationService;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.mapper.CarbonCalculationMapper;
+import com.ecotrack.api.service.rollup.EmissionRollupDeltas;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes {@link EmissionRecalculationJob}s.
+ * <p>
+ * A job walks its records in id order, one chunk per transaction. Each chunk is recalculated across the common pool,
+ * changed totals are written back as batched updates together with one audit entry per changed record, and the job's
+ * checkpoint is advanced in the same transaction. A job interrupted by a crash or restart therefore resumes after the
+ * last committed chunk without recalculating or auditing any record twice.
+ * <p>
+ * A job is claimed in the database before it runs, and every chunk locks the job row and checks that the claim is
+ * still this runner's, so two nodes never process the same chunk. The claim is refreshed with each checkpoint; a
+ * running job is only taken over once it has not checkpointed for {@code application.carbon-calculation.recalculation
+ * .stale-after}, and a runner whose job was taken over stops at its next chunk.
+ */
+@Component
+public class EmissionRecalculationJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionRecalculationJobRunner.class);
+
+    static final String AUDIT_ENTITY_TYPE = "EmissionRecord";
+
+    private final EmissionRecalculationJobRepository emissionRecalculationJobRepository;
+    private final EmissionRecordRepository emissionRecordRepository;
+    private final AuditTrailRepository auditTrailRepository;
+    private final CarbonCalculationService carbonCalculationService;
+    private final CarbonCalculationMapper carbonCalculationMapper;
+    private final EmissionRollupService emissionRollupService;
+    private final EntityManager entityManager;
+    private final ApplicationProperties applicationProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmissionRecalculationJobRunner(
+        EmissionRecalculationJobRepository emissionRecalculationJobRepository,
+        EmissionRecordRepository emissionRecordRepository,
+        AuditTrailRepository auditTrailRepository,
+        CarbonCalculationService carbonCalculationService,
+        CarbonCalculationMapper carbonCalculationMapper,
+        EmissionRollupService emissionRollupService,
+        EntityManager entityManager,
+        ApplicationProperties applicationProperties,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.emissionRecalculationJobRepository = emissionRecalculationJobRepository;
+        this.emissionRecordRepository = emissionRecordRepository;
+        this.auditTrailRepository = auditTrailRepository;
+        this.carbonCalculationService = carbonCalculationService;
+        this.carbonCalculationMapper = carbonCalculationMapper;
+        this.emissionRollupService = emissionRollupService;
+        this.entityManager = entityManager;
+        this.applicationProperties = applicationProperties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Run a job from its checkpoint until it completes or fails. Does nothing if the job has completed or is running
+     * on a runner that still checkpoints, on this node or another.
+     */
+    @Async
+    public void run(Long jobId) {
+        String runnerId = UUID.randomUUID().toString();
+        Integer claimed = transactionTemplate.execute(status -> claim(jobId, runnerId));
+        if (claimed == null || claimed == 0) {
+            log.debug("Recalculation job {} has completed or is already running", jobId);
+            return;
+        }
+        try {
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> processNextChunk(jobId, runnerId)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Recalculation job {} failed", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> fail(jobId, runnerId, e));
+        }
+    }
+
+    /**
+     * Jobs are run only once the transaction that requested them has committed, so the runner's own transactions
+     * always see them.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecalculationRequested(EmissionRecalculationRequestedEvent event) {
+        run(event.jobId());
+    }
+
+    /**
+     * Whether a job is held by a runner that has checkpointed recently enough to be considered alive.
+     */
+    public boolean isRunning(EmissionRecalculationJob job) {
+        return (
+            job.getStatus() == RecalculationJobStatus.RUNNING &&
+            job.getHeartbeatAt() != null &&
+            !job.getHeartbeatAt().isBefore(Instant.now().minus(staleAfter()))
+        );
+    }
+
+    private int claim(Long jobId, String runnerId) {
+        Instant now = Instant.now();
+        return emissionRecalculationJobRepository.claim(
+            jobId,
+            runnerId,
+            now,
+            now.minus(staleAfter()),
+            RecalculationJobStatus.RUNNING,
+            RecalculationJobStatus.COMPLETED
+        );
+    }
+
+    private boolean processNextChunk(Long jobId, String runnerId) {
+        EmissionRecalculationJob job = findJobForUpdate(jobId);
+        if (!isClaimedBy(job, runnerId)) {
+            log.warn("Recalculation job {} was taken over by another runner after record {}", jobId, job.getLastRecordId());
+            return false;
+        }
+        int chunkSize = Math.max(1, applicationProperties.getCarbonCalculation().getRecalculation().getChunkSize());
+        List<EmissionRecord> records = emissionRecordRepository.findRecalculationChunk(
+            job.getTenantId(),
+            job.getScope(),
+            job.getSector(),
+            job.getRegionCode(),
+            job.getActivityType(),
+            job.getFromDate(),
+            job.getToDate(),
+            job.getLastRecordId() == null ? 0L : job.getLastRecordId(),
+            PageRequest.of(0, chunkSize)
+        );
+
+        // Strategies are stateless, so records are recalculated across the common pool; each index is written by
+        // exactly one task. A record that no longer calculates (e.g. its formula was removed) is left untouched.
+        // Tenant formulas are only resolved for the current tenant, so each task binds the job's tenant, also when the
+        // job was resumed without one.
+        EmissionComputation[] computations = new EmissionComputation[records.size()];
+        IntStream.range(0, records.size())
+            .parallel()
+            .forEach(
+                index ->
+                    TenantContext.runWithTenant(job.getTenantId(), () -> {
+                        try {
+                            computations[index] = carbonCalculationService.recalculate(
+                                carbonCalculationMapper.toCalculationRequest(records.get(index))
+                            );
+                        } catch (RuntimeException e) {
+                            log.debug("Could not recalculate EmissionRecord {}: {}", records.get(index).getId(), e.getMessage());
+                        }
+                    })
+            );
+
+        // Changed records are flushed at commit; align the JDBC batch with the chunk so they go out as one batch.
+        entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+        Instant now = Instant.now();
+        List<AuditTrail> auditTrails = new ArrayList<>();
+        EmissionRollupDeltas rollupDeltas = new EmissionRollupDeltas();
+        long failed = 0;
+        for (int index = 0; index < records.size(); index++) {
+            EmissionRecord record = records.get(index);
+            EmissionComputation computation = computations[index];
+            if (computation == null) {
+                failed++;
+            } else if (
+                !Objects.equals(record.getCarbonGrams(), computation.carbonGrams()) ||
+                !Objects.equals(record.getCalculationMethod(), computation.calculationMethod())
+            ) {
+                auditTrails.add(auditTrail(job, record, computation, now));
+                rollupDeltas.remove(record);
+                record.setCarbonGrams(computation.carbonGrams());
+                record.setCalculationMethod(computation.calculationMethod());
+                rollupDeltas.add(record);
+            }
+        }
+        auditTrailRepository.saveAll(auditTrails);
+        emissionRollupService.apply(rollupDeltas);
+
+        if (!records.isEmpty()) {
+            job.setLastRecordId(records.get(records.size() - 1).getId());
+        }
+        job.setProcessedCount(job.getProcessedCount() + records.size());
+        job.setChangedCount(job.getChangedCount() + auditTrails.size());
+        job.setFailedCount(job.getFailedCount() + failed);
+        job.setHeartbeatAt(now);
+        boolean more = records.size() == chunkSize;
+        if (!more) {
+            job.setStatus(RecalculationJobStatus.COMPLETED);
+            job.setFinishedAt(now);
+            log.info(
+                "Recalculation job {} completed: {} records processed, {} changed, {} failed",
+                jobId,
+                job.getProcessedCount(),
+                job.getChangedCount(),
+                job.getFailedCount()
+            );
+        }
+        return more;
+    }
+
+    private void fail(Long jobId, String runnerId, RuntimeException cause) {
+        EmissionRecalculationJob job = findJobForUpdate(jobId);
+        if (!isClaimedBy(job, runnerId)) {
+            return;
+        }
+        job.setStatus(RecalculationJobStatus.FAILED);
+        job.setFinishedAt(Instant.now());
+        job.setErrorMessage(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+    }
+
+    private static boolean isClaimedBy(EmissionRecalculationJob job, String runnerId) {
+        return job.getStatus() == RecalculationJobStatus.RUNNING && runnerId.equals(job.getClaimedBy());
+    }
+
+    private Duration staleAfter() {
+        return applicationProperties.getCarbonCalculation().getRecalculation().getStaleAfter();
+    }
+
+    private EmissionRecalculationJob findJobForUpdate(Long jobId) {
+        return emissionRecalculationJobRepository
+            .findByIdForUpdate(jobId)
+            .orElseThrow(() -> new IllegalStateException("Recalculation job " + jobId + " no longer exists"));
+    }
+
+    private AuditTrail auditTrail(EmissionRecalculationJob job, EmissionRecord record, EmissionComputation computation, Instant now) {
+        AuditTrail auditTrail = new AuditTrail();
+        auditTrail.setTenantId(record.getTenantId());
+        auditTrail.setAction(AuditAction.UPDATE);
+        auditTrail.setEntityType(AUDIT_ENTITY_TYPE);
+        auditTrail.setEntityId(record.getId());
+        auditTrail.setOldValue(calculatedValue(record.getCarbonGrams(), record.getCalculationMethod()));
+        auditTrail.setNewValue(calculatedValue(computation.carbonGrams(), computation.calculationMethod()));
+        auditTrail.setChangedBy(job.getCreatedBy());
+        auditTrail.setChangedAt(now);
+        auditTrail.setReason("Recalculated by emission recalculation job " + job.getId());
+        return auditTrail;
+    }
+
+    private String calculatedValue(Long carbonGrams, String calculationMethod) {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("carbonGrams", carbonGrams);
+        value.put("calculationMethod", calculationMethod);
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize audit value", e);
+        }
+    }
+}
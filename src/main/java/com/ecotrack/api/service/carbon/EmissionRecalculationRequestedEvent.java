@@ -0,0 +1,6 @@
+package com.ecotrack.api.service.carbon;
+
+/**
+ * Published when a recalculation job is started or resumed, so it is run once the request commits.
+ */
+public record EmissionRecalculationRequestedEvent(Long jobId) {}
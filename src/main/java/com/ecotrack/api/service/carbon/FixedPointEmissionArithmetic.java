@@ -0,0 +1,126 @@
+package com.ecotrack.api.service.carbon;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Scaled-long evaluation of {@code activityData * emissionFactor * (1 - efficiencyRatio)} rounded to whole grams.
+ * <p>
+ * Operands are taken as (unscaled long, scale) pairs and multiplied in 64-bit arithmetic, then rounded
+ * {@link RoundingMode#HALF_UP} by a single division by a power of ten. Whenever an operand has more than 18 digits,
+ * the combined scale exceeds 18 or an intermediate product would overflow, the {@link BigDecimal} reference
+ * computation is used instead, so results are always identical to it.
+ */
+final class FixedPointEmissionArithmetic {
+
+    /** Marker returned by the fast path when the operands are not representable; never a valid result. */
+    static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private FixedPointEmissionArithmetic() {}
+
+    /**
+     * Compute the emitted grams, preferring the fixed-point path.
+     *
+     * @throws ArithmeticException if the result does not fit in a {@code long}, as {@link BigDecimal#longValueExact()} does
+     */
+    static long carbonGrams(BigDecimal activityData, BigDecimal emissionFactor, BigDecimal efficiencyRatio) {
+        long grams = fixedPointCarbonGrams(activityData, emissionFactor, efficiencyRatio);
+        if (grams != NOT_REPRESENTABLE) {
+            return grams;
+        }
+        return bigDecimalCarbonGrams(activityData, emissionFactor, efficiencyRatio);
+    }
+
+    /**
+     * Reference computation the fast path must agree with.
+     */
+    static long bigDecimalCarbonGrams(BigDecimal activityData, BigDecimal emissionFactor, BigDecimal efficiencyRatio) {
+        return activityData
+            .multiply(emissionFactor)
+            .multiply(BigDecimal.ONE.subtract(efficiencyRatio))
+            .setScale(0, RoundingMode.HALF_UP)
+            .longValueExact();
+    }
+
+    /**
+     * Fixed-point computation, or {@link #NOT_REPRESENTABLE} when the caller has to fall back to {@link BigDecimal}.
+     */
+    static long fixedPointCarbonGrams(BigDecimal activityData, BigDecimal emissionFactor, BigDecimal efficiencyRatio) {
+        int activityScale = normalizedScale(activityData);
+        int factorScale = normalizedScale(emissionFactor);
+        int efficiencyScale = normalizedScale(efficiencyRatio);
+        if (activityScale < 0 || factorScale < 0 || efficiencyScale < 0) {
+            return NOT_REPRESENTABLE;
+        }
+        int scale = activityScale + factorScale + efficiencyScale;
+        if (scale > MAX_SCALE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        long activity = unscaled(activityData, activityScale);
+        long factor = unscaled(emissionFactor, factorScale);
+        long efficiency = unscaled(efficiencyRatio, efficiencyScale);
+        if (activity == NOT_REPRESENTABLE || factor == NOT_REPRESENTABLE || efficiency == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        // 1 - e expressed at the scale of e; both terms are below 10^18 in magnitude so this cannot overflow.
+        long retained = POWERS_OF_TEN[efficiencyScale] - efficiency;
+        long product = multiply(multiply(activity, factor), retained);
+        if (product == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+        return roundHalfUp(product, POWERS_OF_TEN[scale]);
+    }
+
+    /**
+     * Scale used for the fixed-point form: negative scales are folded into the unscaled value, and -1 flags values
+     * that cannot be represented.
+     */
+    private static int normalizedScale(BigDecimal value) {
+        int scale = value.scale();
+        if (scale > MAX_SCALE || scale < -MAX_SCALE || value.precision() > MAX_SCALE) {
+            return -1;
+        }
+        return Math.max(scale, 0);
+    }
+
+    private static long unscaled(BigDecimal value, int normalizedScale) {
+        long unscaled = value.unscaledValue().longValue();
+        int shift = normalizedScale - value.scale();
+        return shift == 0 ? unscaled : multiply(unscaled, POWERS_OF_TEN[shift]);
+    }
+
+    private static long multiply(long left, long right) {
+        if (left == NOT_REPRESENTABLE || right == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+        long high = Math.multiplyHigh(left, right);
+        long low = left * right;
+        if (high != (low >> 63) || low == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+        return low;
+    }
+
+    private static long roundHalfUp(long value, long divisor) {
+        long quotient = value / divisor;
+        long remainder = value % divisor;
+        // |remainder| < divisor <= 10^18, so doubling it stays within range.
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(value);
+        }
+        return quotient;
+    }
+}
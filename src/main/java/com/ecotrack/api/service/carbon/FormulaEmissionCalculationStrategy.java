@@ -0,0 +1,92 @@
+package com.ecotrack.api.service.carbon;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.service.carbon.formula.CompiledFormula;
+import com.ecotrack.api.service.carbon.formula.CompiledFormulaCache;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Strategy for tenant-defined formulas, selected by {@code formulaCode} regardless of scope.
+ * <p>
+ * {@code A}, {@code EF} and {@code ER} are bound to the activity data, emission factor (supplied or registered) and
+ * efficiency ratio; any other variable is taken from the request {@code parameters}.
+ * <p>
+ * Formulas are private to their tenant and served from memory, out of reach of RLS, so they are looked up for the
+ * current tenant ({@link TenantContext}) only; a request made out for another tenant is rejected.
+ */
+@Component
+public class FormulaEmissionCalculationStrategy extends AbstractEmissionCalculationStrategy {
+
+    static final String ACTIVITY_DATA = "A";
+    static final String EMISSION_FACTOR = "EF";
+    static final String EFFICIENCY_RATIO = "ER";
+
+    private final CompiledFormulaCache compiledFormulaCache;
+
+    public FormulaEmissionCalculationStrategy(EmissionFactorRegistry emissionFactorRegistry, CompiledFormulaCache compiledFormulaCache) {
+        super(emissionFactorRegistry);
+        this.compiledFormulaCache = compiledFormulaCache;
+    }
+
+    @Override
+    public Scope supportsScope() {
+        return null;
+    }
+
+    @Override
+    public boolean supports(CarbonCalculationRequestDTO request) {
+        return StringUtils.hasText(request.getFormulaCode());
+    }
+
+    @Override
+    public EmissionComputation calculate(CarbonCalculationRequestDTO request) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null || (request.getTenantId() != null && !tenantId.equals(request.getTenantId()))) {
+            throw new IllegalArgumentException("Formula " + request.getFormulaCode() + " is only available to the current tenant");
+        }
+        CompiledFormula formula = compiledFormulaCache.get(tenantId, request.getFormulaCode());
+        String method = "FORMULA_" + request.getFormulaCode() + ":E=" + formula.expression();
+
+        BigDecimal emissionFactor = request.getEmissionFactor();
+        if (emissionFactor == null && formula.usesVariable(EMISSION_FACTOR)) {
+            ResolvedEmissionFactor registered = lookupEmissionFactor(request).orElseThrow(() ->
+                new IllegalArgumentException(
+                    "Formula " + request.getFormulaCode() + " uses EF but no emission factor was supplied or registered"
+                )
+            );
+            emissionFactor = registered.factor();
+            method = method + ";" + registered.reference();
+        }
+        BigDecimal efficiencyRatio = request.getEfficiencyRatio() == null ? BigDecimal.ZERO : request.getEfficiencyRatio();
+
+        List<String> variables = formula.variables();
+        Map<String, BigDecimal> parameters = request.getParameters() == null ? Map.of() : request.getParameters();
+        BigDecimal[] values = new BigDecimal[variables.size()];
+        for (int slot = 0; slot < values.length; slot++) {
+            String variable = variables.get(slot);
+            values[slot] = switch (variable) {
+                case ACTIVITY_DATA -> request.getActivityData();
+                case EMISSION_FACTOR -> emissionFactor;
+                case EFFICIENCY_RATIO -> efficiencyRatio;
+                default -> parameters.get(variable);
+            };
+            if (values[slot] == null) {
+                throw new IllegalArgumentException("Formula " + request.getFormulaCode() + " requires parameter " + variable);
+            }
+        }
+
+        try {
+            long carbonGrams = formula.evaluate(values).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            return new EmissionComputation(carbonGrams, emissionFactor, efficiencyRatio, method);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Formula " + request.getFormulaCode() + " could not be evaluated: " + e.getMessage());
+        }
+    }
+}
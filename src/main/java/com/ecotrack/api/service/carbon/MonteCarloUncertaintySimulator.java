@@ -0,0 +1,136 @@
+package com.ecotrack.api.service.carbon;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo propagation of per-record uncertainty to a total.
+ * <p>
+ * Each record is sampled from a lognormal distribution whose mean is the recorded value and whose relative standard
+ * deviation is the record's relative uncertainty, so samples are never negative. Iterations are split across the
+ * common fork/join pool; every task derives its own generator from the caller's with {@link SplittableRandom#split()}
+ * in a fixed order, so the same seed always yields the same totals regardless of scheduling.
+ */
+public final class MonteCarloUncertaintySimulator {
+
+    static final int ITERATIONS_PER_TASK = 256;
+
+    private MonteCarloUncertaintySimulator() {}
+
+    /**
+     * Simulated totals, one per iteration.
+     *
+     * @param values recorded values
+     * @param relativeStandardUncertainties relative standard deviation of each value; {@code 0} for exact values
+     * @param iterations number of totals to draw
+     * @param random generator the simulation is derived from
+     */
+    public static double[] simulate(double[] values, double[] relativeStandardUncertainties, int iterations, SplittableRandom random) {
+        if (values.length != relativeStandardUncertainties.length) {
+            throw new IllegalArgumentException("Every value needs a relative uncertainty");
+        }
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be greater than zero");
+        }
+
+        // Exact values only shift the total; uncertain ones are stored as lognormal scale and shape so the hot loop
+        // is one exp per record: x = value * exp(-sigma^2 / 2) * exp(sigma * z) has mean value.
+        double exactTotal = 0;
+        int uncertainCount = 0;
+        for (double relativeUncertainty : relativeStandardUncertainties) {
+            if (relativeUncertainty > 0) {
+                uncertainCount++;
+            }
+        }
+        double[] scales = new double[uncertainCount];
+        double[] sigmas = new double[uncertainCount];
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            double relativeUncertainty = relativeStandardUncertainties[i];
+            if (relativeUncertainty > 0) {
+                double sigma = Math.sqrt(Math.log1p(relativeUncertainty * relativeUncertainty));
+                sigmas[next] = sigma;
+                scales[next] = values[i] * Math.exp(-0.5 * sigma * sigma);
+                next++;
+            } else {
+                exactTotal += values[i];
+            }
+        }
+
+        double[] totals = new double[iterations];
+        ForkJoinPool.commonPool().invoke(new SampleTask(totals, 0, iterations, exactTotal, scales, sigmas, random));
+        return totals;
+    }
+
+    /**
+     * Mean and 5th/95th percentiles of simulated totals. Sorts {@code totals} in place.
+     */
+    public static Distribution summarize(double[] totals) {
+        if (totals.length == 0) {
+            throw new IllegalArgumentException("Cannot summarize an empty simulation");
+        }
+        double sum = 0;
+        for (double total : totals) {
+            sum += total;
+        }
+        Arrays.sort(totals);
+        return new Distribution(sum / totals.length, percentile(totals, 0.05), percentile(totals, 0.95));
+    }
+
+    private static double percentile(double[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Summary of a simulated distribution.
+     */
+    public record Distribution(double mean, double p5, double p95) {}
+
+    private static final class SampleTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] totals;
+        private final int from;
+        private final int to;
+        private final double exactTotal;
+        private final double[] scales;
+        private final double[] sigmas;
+        private final SplittableRandom random;
+
+        SampleTask(double[] totals, int from, int to, double exactTotal, double[] scales, double[] sigmas, SplittableRandom random) {
+            this.totals = totals;
+            this.from = from;
+            this.to = to;
+            this.exactTotal = exactTotal;
+            this.scales = scales;
+            this.sigmas = sigmas;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ITERATIONS_PER_TASK) {
+                sample();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SampleTask left = new SampleTask(totals, from, mid, exactTotal, scales, sigmas, random.split());
+            SampleTask right = new SampleTask(totals, mid, to, exactTotal, scales, sigmas, random);
+            invokeAll(left, right);
+        }
+
+        private void sample() {
+            for (int iteration = from; iteration < to; iteration++) {
+                double total = exactTotal;
+                for (int i = 0; i < scales.length; i++) {
+                    total += scales[i] * Math.exp(sigmas[i] * random.nextGaussian());
+                }
+                totals[iteration] = total;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecotrack.api.service.carbon;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Emission factor version selected from the registry for a calculation.
+ */
+public record ResolvedEmissionFactor(Long id, BigDecimal factor, String unit, Integer version, LocalDate validFrom, LocalDate validTo) {
+    boolean isValidOn(LocalDate date) {
+        return !validFrom.isAfter(date) && (validTo == null || !validTo.isBefore(date));
+    }
+
+    /**
+     * Reference appended to the calculation method so persisted records can be traced back to the factor version.
+     */
+    public String reference() {
+        return "EF=REGISTRY#" + id + "v" + version;
+    }
+}
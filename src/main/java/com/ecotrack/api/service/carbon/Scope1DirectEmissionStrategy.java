@@ -12,6 +12,10 @@ public class Scope1DirectEmissionStrategy extends AbstractEmissionCalculationStr
 
     private static final String METHOD = "SCOPE_1_DIRECT:E=A*EF*(1-ER)";
 
+    public Scope1DirectEmissionStrategy(EmissionFactorRegistry emissionFactorRegistry) {
+        super(emissionFactorRegistry);
+    }
+
     @Override
     public Scope supportsScope() {
         return Scope.SCOPE_1;
@@ -19,6 +23,6 @@ public class Scope1DirectEmissionStrategy extends AbstractEmissionCalculationStr
 
     @Override
     public EmissionComputation calculate(CarbonCalculationRequestDTO request) {
-        return compute(request, requireEmissionFactor(request), METHOD);
+        return computeWithSuppliedOrRegisteredFactor(request, METHOD);
     }
 }
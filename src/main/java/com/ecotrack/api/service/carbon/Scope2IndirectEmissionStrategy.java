@@ -14,6 +14,11 @@ public class Scope2IndirectEmissionStrategy extends AbstractEmissionCalculationS
     private static final BigDecimal DEFAULT_2026_EU_GRID_FACTOR = new BigDecimal("125");
     private static final String METHOD_WITH_DEFAULT = "SCOPE_2_INDIRECT_2026_EU_GRID:E=A*EF*(1-ER)";
     private static final String METHOD_WITH_INPUT = "SCOPE_2_INDIRECT_CUSTOM_FACTOR:E=A*EF*(1-ER)";
+    private static final String METHOD_WITH_REGISTRY = "SCOPE_2_INDIRECT_REGISTRY_FACTOR:E=A*EF*(1-ER)";
+
+    public Scope2IndirectEmissionStrategy(EmissionFactorRegistry emissionFactorRegistry) {
+        super(emissionFactorRegistry);
+    }
 
     @Override
     public Scope supportsScope() {
@@ -22,8 +27,11 @@ public class Scope2IndirectEmissionStrategy extends AbstractEmissionCalculationS
 
     @Override
     public EmissionComputation calculate(CarbonCalculationRequestDTO request) {
-        BigDecimal emissionFactor = request.getEmissionFactor() == null ? DEFAULT_2026_EU_GRID_FACTOR : request.getEmissionFactor();
-        String method = request.getEmissionFactor() == null ? METHOD_WITH_DEFAULT : METHOD_WITH_INPUT;
-        return compute(request, emissionFactor, method);
+        if (request.getEmissionFactor() != null) {
+            return compute(request, request.getEmissionFactor(), METHOD_WITH_INPUT);
+        }
+        return lookupEmissionFactor(request)
+            .map(registered -> compute(request, registered.factor(), METHOD_WITH_REGISTRY + ";" + registered.reference()))
+            .orElseGet(() -> compute(request, DEFAULT_2026_EU_GRID_FACTOR, METHOD_WITH_DEFAULT));
     }
 }
@@ -12,6 +12,10 @@ public class Scope3SupplyChainEmissionStrategy extends AbstractEmissionCalculati
 
     private static final String METHOD = "SCOPE_3_SUPPLY_CHAIN:E=A*EF*(1-ER)";
 
+    public Scope3SupplyChainEmissionStrategy(EmissionFactorRegistry emissionFactorRegistry) {
+        super(emissionFactorRegistry);
+    }
+
     @Override
     public Scope supportsScope() {
         return Scope.SCOPE_3;
@@ -19,6 +23,6 @@ public class Scope3SupplyChainEmissionStrategy extends AbstractEmissionCalculati
 
     @Override
     public EmissionComputation calculate(CarbonCalculationRequestDTO request) {
-        return compute(request, requireEmissionFactor(request), METHOD);
+        return computeWithSuppliedOrRegisteredFactor(request, METHOD);
     }
 }
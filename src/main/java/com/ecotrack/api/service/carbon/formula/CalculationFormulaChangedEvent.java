@@ -0,0 +1,6 @@
+package com.ecotrack.api.service.carbon.formula;
+
+/**
+ * Published when a tenant formula is created, changed or removed, so its compiled form is evicted after commit.
+ */
+public record CalculationFormulaChangedEvent(String tenantId, String code) {}
@@ -0,0 +1,73 @@
+package com.ecotrack.api.service.carbon.formula;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, thread-safe evaluator for a parsed formula.
+ * <p>
+ * The expression is compiled once into a tree of lambdas with constants folded and variable names replaced by array
+ * slots, so evaluation does no parsing, map lookups or string handling.
+ */
+public final class CompiledFormula {
+
+    private final String expression;
+
+    private final List<String> variables;
+
+    private final FormulaNode root;
+
+    CompiledFormula(String expression, List<String> variables, FormulaNode root) {
+        this.expression = expression;
+        this.variables = List.copyOf(variables);
+        this.root = root;
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    /**
+     * Variable names in slot order, as expected by {@link #evaluate(BigDecimal[])}.
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    public boolean usesVariable(String name) {
+        return variables.contains(name);
+    }
+
+    /**
+     * Evaluate with values given in {@link #variables()} order.
+     *
+     * @throws ArithmeticException on division by zero
+     */
+    public BigDecimal evaluate(BigDecimal[] values) {
+        if (values.length != variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size() + " values but got " + values.length);
+        }
+        return root.evaluate(values);
+    }
+
+    /**
+     * Evaluate with values looked up by name; every variable must be bound.
+     */
+    public BigDecimal evaluate(Map<String, BigDecimal> bindings) {
+        BigDecimal[] values = new BigDecimal[variables.size()];
+        for (int slot = 0; slot < values.length; slot++) {
+            BigDecimal value = bindings.get(variables.get(slot));
+            if (value == null) {
+                throw new IllegalArgumentException("No value bound for formula variable " + variables.get(slot));
+            }
+            values[slot] = value;
+        }
+        return root.evaluate(values);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledFormula{" + expression + '}';
+    }
+}
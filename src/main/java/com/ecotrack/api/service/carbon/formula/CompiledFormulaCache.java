@@ -0,0 +1,69 @@
+package com.ecotrack.api.service.carbon.formula;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.CalculationFormula;
+import com.ecotrack.api.repository.CalculationFormulaRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-tenant cache of compiled formulas, so each formula is parsed once rather than on every calculation.
+ * <p>
+ * Entries are evicted when the formula changes on this node and expire after the configured TTL to pick up changes
+ * made on other nodes.
+ */
+@Component
+public class CompiledFormulaCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CompiledFormulaCache.class);
+
+    private final CalculationFormulaRepository calculationFormulaRepository;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Map<FormulaKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public CompiledFormulaCache(CalculationFormulaRepository calculationFormulaRepository, ApplicationProperties applicationProperties) {
+        this.calculationFormulaRepository = calculationFormulaRepository;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Compiled active formula for a tenant.
+     *
+     * @throws IllegalArgumentException if the tenant has no active formula with this code
+     */
+    public CompiledFormula get(String tenantId, String code) {
+        FormulaKey key = new FormulaKey(tenantId, code);
+        long now = System.nanoTime();
+        long ttlNanos = applicationProperties.getCarbonCalculation().getFormulas().getCacheTtl().toNanos();
+        Entry entry = entries.get(key);
+        if (entry == null || now - entry.loadedAtNanos() > ttlNanos) {
+            entry = new Entry(load(key), now);
+            entries.put(key, entry);
+        }
+        return entry.formula();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCalculationFormulaChanged(CalculationFormulaChangedEvent event) {
+        log.debug("Evicting compiled formula {} for tenant {}", event.code(), event.tenantId());
+        entries.remove(new FormulaKey(event.tenantId(), event.code()));
+    }
+
+    private CompiledFormula load(FormulaKey key) {
+        CalculationFormula formula = calculationFormulaRepository
+            .findOneByTenantIdAndCodeAndActiveTrue(key.tenantId(), key.code())
+            .orElseThrow(() -> new IllegalArgumentException("No active calculation formula '" + key.code() + "' for tenant"));
+        return FormulaCompiler.compile(formula.getExpression());
+    }
+
+    private record FormulaKey(String tenantId, String code) {}
+
+    private record Entry(CompiledFormula formula, long loadedAtNanos) {}
+}
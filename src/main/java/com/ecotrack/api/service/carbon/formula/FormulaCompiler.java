@@ -0,0 +1,254 @@
+package com.ecotrack.api.service.carbon.formula;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive-descent compiler for calculation formulas.
+ * <p>
+ * Grammar:
+ * <pre>
+ * expression := term (('+' | '-') term)*
+ * term       := unary (('*' | '/') unary)*
+ * unary      := '-' unary | primary
+ * primary    := number | identifier | function '(' expression (',' expression)* ')' | '(' expression ')'
+ * function   := 'min' | 'max' | 'abs'
+ * </pre>
+ * Identifiers are case-sensitive variables such as {@code A}, {@code EF}, {@code ER} or tenant-defined parameters.
+ * Division uses {@link MathContext#DECIMAL128}; all other operations are exact.
+ */
+public final class FormulaCompiler {
+
+    public static final int MAX_EXPRESSION_LENGTH = 2000;
+
+    private static final MathContext DIVISION_CONTEXT = MathContext.DECIMAL128;
+
+    private final String expression;
+
+    private final List<String> variables = new ArrayList<>();
+
+    private int position;
+
+    private FormulaCompiler(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parse and compile an expression.
+     *
+     * @throws FormulaSyntaxException if the expression is not valid
+     */
+    public static CompiledFormula compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new FormulaSyntaxException("Formula expression is empty", 0);
+        }
+        if (expression.length() > MAX_EXPRESSION_LENGTH) {
+            throw new FormulaSyntaxException("Formula expression is longer than " + MAX_EXPRESSION_LENGTH + " characters", 0);
+        }
+        FormulaCompiler compiler = new FormulaCompiler(expression);
+        Term root = compiler.parseExpression();
+        compiler.skipWhitespace();
+        if (compiler.position < expression.length()) {
+            throw new FormulaSyntaxException("Unexpected '" + expression.charAt(compiler.position) + "'", compiler.position);
+        }
+        return new CompiledFormula(expression, compiler.variables, root.node());
+    }
+
+    private Term parseExpression() {
+        Term left = parseTerm();
+        while (true) {
+            if (consume('+')) {
+                Term right = parseTerm();
+                left = binary(left, right, BigDecimal::add);
+            } else if (consume('-')) {
+                Term right = parseTerm();
+                left = binary(left, right, BigDecimal::subtract);
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Term parseTerm() {
+        Term left = parseUnary();
+        while (true) {
+            if (consume('*')) {
+                Term right = parseUnary();
+                left = binary(left, right, BigDecimal::multiply);
+            } else if (consume('/')) {
+                Term right = parseUnary();
+                left = binary(left, right, (l, r) -> l.divide(r, DIVISION_CONTEXT));
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Term parseUnary() {
+        if (consume('-')) {
+            Term operand = parseUnary();
+            if (operand.isConstant()) {
+                return Term.constant(operand.constant().negate());
+            }
+            FormulaNode node = operand.node();
+            return Term.of(values -> node.evaluate(values).negate());
+        }
+        return parsePrimary();
+    }
+
+    private Term parsePrimary() {
+        skipWhitespace();
+        if (position >= expression.length()) {
+            throw new FormulaSyntaxException("Unexpected end of formula", position);
+        }
+        char current = expression.charAt(position);
+        if (consume('(')) {
+            Term inner = parseExpression();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(current) || current == '.') {
+            return parseNumber();
+        }
+        if (Character.isLetter(current) || current == '_') {
+            String identifier = parseIdentifier();
+            if (consume('(')) {
+                return parseFunction(identifier);
+            }
+            return variable(identifier);
+        }
+        throw new FormulaSyntaxException("Unexpected '" + current + "'", position);
+    }
+
+    private Term parseNumber() {
+        int start = position;
+        while (position < expression.length() && (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.')) {
+            position++;
+        }
+        try {
+            return Term.constant(new BigDecimal(expression.substring(start, position)));
+        } catch (NumberFormatException e) {
+            throw new FormulaSyntaxException("Invalid number '" + expression.substring(start, position) + "'", start);
+        }
+    }
+
+    private String parseIdentifier() {
+        int start = position;
+        while (
+            position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || expression.charAt(position) == '_')
+        ) {
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+
+    private Term parseFunction(String name) {
+        int start = position;
+        List<Term> arguments = new ArrayList<>();
+        if (!consume(')')) {
+            do {
+                arguments.add(parseExpression());
+            } while (consume(','));
+            expect(')');
+        }
+        return switch (name) {
+            case "abs" -> {
+                requireArguments(name, arguments, 1, start);
+                Term operand = arguments.get(0);
+                FormulaNode node = operand.node();
+                yield operand.isConstant() ? Term.constant(operand.constant().abs()) : Term.of(values -> node.evaluate(values).abs());
+            }
+            case "min" -> {
+                requireArguments(name, arguments, 2, start);
+                yield binary(arguments.get(0), arguments.get(1), BigDecimal::min);
+            }
+            case "max" -> {
+                requireArguments(name, arguments, 2, start);
+                yield binary(arguments.get(0), arguments.get(1), BigDecimal::max);
+            }
+            default -> throw new FormulaSyntaxException("Unknown function '" + name + "'", start);
+        };
+    }
+
+    private Term variable(String name) {
+        int slot = variables.indexOf(name);
+        if (slot < 0) {
+            slot = variables.size();
+            variables.add(name);
+        }
+        int resolvedSlot = slot;
+        return Term.of(values -> values[resolvedSlot]);
+    }
+
+    private Term binary(Term left, Term right, BinaryOperator operator) {
+        if (left.isConstant() && right.isConstant()) {
+            try {
+                return Term.constant(operator.apply(left.constant(), right.constant()));
+            } catch (ArithmeticException e) {
+                throw new FormulaSyntaxException("Constant sub-expression cannot be evaluated: " + e.getMessage(), position);
+            }
+        }
+        FormulaNode leftNode = left.node();
+        FormulaNode rightNode = right.node();
+        if (right.isConstant()) {
+            BigDecimal constant = right.constant();
+            return Term.of(values -> operator.apply(leftNode.evaluate(values), constant));
+        }
+        if (left.isConstant()) {
+            BigDecimal constant = left.constant();
+            return Term.of(values -> operator.apply(constant, rightNode.evaluate(values)));
+        }
+        return Term.of(values -> operator.apply(leftNode.evaluate(values), rightNode.evaluate(values)));
+    }
+
+    private static void requireArguments(String name, List<Term> arguments, int expected, int position) {
+        if (arguments.size() != expected) {
+            throw new FormulaSyntaxException("Function '" + name + "' expects " + expected + " argument(s)", position);
+        }
+    }
+
+    private boolean consume(char expected) {
+        skipWhitespace();
+        if (position < expression.length() && expression.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!consume(expected)) {
+            throw new FormulaSyntaxException("Expected '" + expected + "'", position);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BinaryOperator {
+        BigDecimal apply(BigDecimal left, BigDecimal right);
+    }
+
+    /**
+     * Compile-time view of a sub-expression: constants are kept separately so they can be folded.
+     */
+    private record Term(FormulaNode node, BigDecimal constant) {
+        static Term of(FormulaNode node) {
+            return new Term(node, null);
+        }
+
+        static Term constant(BigDecimal constant) {
+            return new Term(values -> constant, constant);
+        }
+
+        boolean isConstant() {
+            return constant != null;
+        }
+    }
+}
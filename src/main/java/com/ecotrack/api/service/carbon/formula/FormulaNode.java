@@ -0,0 +1,11 @@
+package com.ecotrack.api.service.carbon.formula;
+
+import java.math.BigDecimal;
+
+/**
+ * Compiled expression node; variables are read from slots resolved at compile time.
+ */
+@FunctionalInterface
+interface FormulaNode {
+    BigDecimal evaluate(BigDecimal[] values);
+}
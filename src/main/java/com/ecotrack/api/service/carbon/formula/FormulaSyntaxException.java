@@ -0,0 +1,20 @@
+package com.ecotrack.api.service.carbon.formula;
+
+/**
+ * Thrown when a calculation formula cannot be parsed.
+ */
+public class FormulaSyntaxException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int position;
+
+    public FormulaSyntaxException(String message, int position) {
+        super(message + " at position " + position);
+        this.position = position;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,206 @@
+package com.ecotrack.api.service.carbon.scenario;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordScenarioInput;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar snapshot of a tenant's emission ledger for what-if scenarios.
+ * <p>
+ * Records are grouped into cells, one per scope and supplier, and stored cell by cell in primitive arrays. Because
+ * emissions are linear in the emission factor, a factor override scales a whole cell's baseline total without touching
+ * its records; only efficiency overrides walk the records of the cells they select. The snapshot is never mutated, so
+ * any number of scenarios can be evaluated against it concurrently.
+ */
+public final class EmissionLedgerSnapshot {
+
+    private static final Scope[] SCOPES = Scope.values();
+
+    private final String tenantId;
+
+    private final Instant loadedAt;
+
+    private final List<String> suppliers;
+
+    private final Map<String, Integer> supplierIndexes;
+
+    private final int[] cellStarts;
+
+    private final double[] carbonGrams;
+
+    private final double[] efficiencyRatios;
+
+    private final double[] baselineByCell;
+
+    private EmissionLedgerSnapshot(
+        String tenantId,
+        Instant loadedAt,
+        List<String> suppliers,
+        Map<String, Integer> supplierIndexes,
+        int[] cellStarts,
+        double[] carbonGrams,
+        double[] efficiencyRatios,
+        double[] baselineByCell
+    ) {
+        this.tenantId = tenantId;
+        this.loadedAt = loadedAt;
+        this.suppliers = suppliers;
+        this.supplierIndexes = supplierIndexes;
+        this.cellStarts = cellStarts;
+        this.carbonGrams = carbonGrams;
+        this.efficiencyRatios = efficiencyRatios;
+        this.baselineByCell = baselineByCell;
+    }
+
+    /**
+     * Build a snapshot from ledger rows. Rows without carbon grams are skipped; records without a supplier share one
+     * {@code null} supplier, and records without an efficiency ratio are taken to have none.
+     */
+    public static EmissionLedgerSnapshot build(String tenantId, List<EmissionRecordScenarioInput> inputs, Instant loadedAt) {
+        Map<String, Integer> supplierIndexes = new HashMap<>();
+        String[] supplierNames = new String[inputs.size()];
+        int[] cellOf = new int[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            EmissionRecordScenarioInput input = inputs.get(i);
+            if (input.carbonGrams() == null || input.scope() == null) {
+                cellOf[i] = -1;
+                continue;
+            }
+            Integer supplier = supplierIndexes.get(input.supplierId());
+            if (supplier == null) {
+                supplier = supplierIndexes.size();
+                supplierIndexes.put(input.supplierId(), supplier);
+                supplierNames[supplier] = input.supplierId();
+            }
+            cellOf[i] = supplier * SCOPES.length + input.scope().ordinal();
+        }
+
+        // Counting sort by cell: cellStarts[c] .. cellStarts[c + 1] is the record range of cell c.
+        int cellCount = supplierIndexes.size() * SCOPES.length;
+        int[] cellStarts = new int[cellCount + 1];
+        for (int cell : cellOf) {
+            if (cell >= 0) {
+                cellStarts[cell + 1]++;
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+        int[] next = Arrays.copyOf(cellStarts, cellCount);
+        double[] carbonGrams = new double[cellStarts[cellCount]];
+        double[] efficiencyRatios = new double[carbonGrams.length];
+        double[] baselineByCell = new double[cellCount];
+        for (int i = 0; i < inputs.size(); i++) {
+            int cell = cellOf[i];
+            if (cell < 0) {
+                continue;
+            }
+            int position = next[cell]++;
+            EmissionRecordScenarioInput input = inputs.get(i);
+            carbonGrams[position] = input.carbonGrams();
+            // Records created before calculation inputs were persisted have no efficiency ratio and count as 0.
+            efficiencyRatios[position] = input.efficiencyRatio() == null ? 0 : input.efficiencyRatio().doubleValue();
+            baselineByCell[cell] += carbonGrams[position];
+        }
+
+        return new EmissionLedgerSnapshot(
+            tenantId,
+            loadedAt,
+            Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(supplierNames, supplierIndexes.size()))),
+            supplierIndexes,
+            cellStarts,
+            carbonGrams,
+            efficiencyRatios,
+            baselineByCell
+        );
+    }
+
+    public String tenantId() {
+        return tenantId;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public int recordCount() {
+        return carbonGrams.length;
+    }
+
+    /**
+     * Suppliers in the snapshot, in first-seen order; may contain {@code null} for records without a supplier.
+     */
+    public List<String> suppliers() {
+        return suppliers;
+    }
+
+    /**
+     * Evaluate a scenario. Overrides are applied in order: factor multipliers compound and the last efficiency ratio
+     * selecting a cell wins.
+     */
+    public ScenarioOutcome evaluate(List<ScenarioOverride> overrides) {
+        int cellCount = baselineByCell.length;
+        double[] factorMultipliers = new double[cellCount];
+        double[] targetEfficiencies = new double[cellCount];
+        Arrays.fill(factorMultipliers, 1);
+        Arrays.fill(targetEfficiencies, Double.NaN);
+        for (ScenarioOverride override : overrides) {
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (selects(override, cell)) {
+                    factorMultipliers[cell] *= override.factorMultiplier();
+                    if (!Double.isNaN(override.efficiencyRatio())) {
+                        targetEfficiencies[cell] = override.efficiencyRatio();
+                    }
+                }
+            }
+        }
+
+        double[] scenarioByCell = new double[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            double total = Double.isNaN(targetEfficiencies[cell])
+                ? baselineByCell[cell]
+                : withEfficiency(cell, targetEfficiencies[cell]);
+            scenarioByCell[cell] = total * factorMultipliers[cell];
+        }
+        return new ScenarioOutcome(this, scenarioByCell);
+    }
+
+    private boolean selects(ScenarioOverride override, int cell) {
+        if (override.scope() != null && override.scope().ordinal() != scopeOf(cell)) {
+            return false;
+        }
+        if (override.supplierId() == null) {
+            return true;
+        }
+        Integer supplier = supplierIndexes.get(override.supplierId());
+        return supplier != null && supplier == supplierOf(cell);
+    }
+
+    // E = A * EF * (1 - ER), so moving a record from ER to target scales it by (1 - target) / (1 - ER).
+    private double withEfficiency(int cell, double targetEfficiency) {
+        double remaining = 1 - targetEfficiency;
+        double total = 0;
+        for (int i = cellStarts[cell], end = cellStarts[cell + 1]; i < end; i++) {
+            double previousRemaining = 1 - efficiencyRatios[i];
+            total += previousRemaining > 0 ? carbonGrams[i] * (remaining / previousRemaining) : 0;
+        }
+        return total;
+    }
+
+    double baseline(int cell) {
+        return baselineByCell[cell];
+    }
+
+    static int scopeOf(int cell) {
+        return cell % SCOPES.length;
+    }
+
+    static int supplierOf(int cell) {
+        return cell / SCOPES.length;
+    }
+}
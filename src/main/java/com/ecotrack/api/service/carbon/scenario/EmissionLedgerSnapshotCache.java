@@ -0,0 +1,118 @@
+package com.ecotrack.api.service.carbon.scenario;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant cache of ledger snapshots, so a series of scenarios reads the ledger once.
+ * <p>
+ * Concurrent requests for the same tenant wait for a single load. The load runs outside the map, on the thread that
+ * claimed it, so it never holds a lock other tenants need; the others wait on its future. Snapshots are reloaded after
+ * the configured TTL, or on demand, and expired snapshots are dropped periodically so idle tenants do not keep memory.
+ * A failed load is not cached.
+ */
+@Component
+public class EmissionLedgerSnapshotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionLedgerSnapshotCache.class);
+
+    private final EmissionRecordRepository emissionRecordRepository;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Map<String, CompletableFuture<EmissionLedgerSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    public EmissionLedgerSnapshotCache(EmissionRecordRepository emissionRecordRepository, ApplicationProperties applicationProperties) {
+        this.emissionRecordRepository = emissionRecordRepository;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Snapshot of the tenant's ledger, loading it if absent, expired or {@code reload} is set.
+     */
+    public EmissionLedgerSnapshot get(String tenantId, boolean reload) {
+        boolean stale = reload;
+        while (true) {
+            CompletableFuture<EmissionLedgerSnapshot> current = snapshots.get(tenantId);
+            if (current != null && !stale && !isExpired(current)) {
+                return await(current);
+            }
+            CompletableFuture<EmissionLedgerSnapshot> loading = new CompletableFuture<>();
+            boolean claimed = current == null
+                ? snapshots.putIfAbsent(tenantId, loading) == null
+                : snapshots.replace(tenantId, current, loading);
+            if (claimed) {
+                try {
+                    loading.complete(load(tenantId));
+                } catch (RuntimeException e) {
+                    snapshots.remove(tenantId, loading);
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+                return loading.join();
+            }
+            // Another request swapped in a load that started after this one, which is recent enough to wait for.
+            stale = false;
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.carbon-calculation.scenarios.snapshot-ttl:PT5M}",
+        fixedDelayString = "${application.carbon-calculation.scenarios.snapshot-ttl:PT5M}"
+    )
+    public void evictExpired() {
+        snapshots.values().removeIf(this::isExpired);
+    }
+
+    /**
+     * Whether a snapshot has expired; loads still in progress never have.
+     */
+    private boolean isExpired(CompletableFuture<EmissionLedgerSnapshot> future) {
+        if (!future.isDone()) {
+            return false;
+        }
+        if (future.isCompletedExceptionally()) {
+            return true;
+        }
+        EmissionLedgerSnapshot snapshot = future.join();
+        Duration ttl = applicationProperties.getCarbonCalculation().getScenarios().getSnapshotTtl();
+        return snapshot.loadedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    private static EmissionLedgerSnapshot await(CompletableFuture<EmissionLedgerSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private EmissionLedgerSnapshot load(String tenantId) {
+        long started = System.nanoTime();
+        EmissionLedgerSnapshot snapshot = EmissionLedgerSnapshot.build(
+            tenantId,
+            emissionRecordRepository.findScenarioInputs(tenantId),
+            Instant.now()
+        );
+        log.debug(
+            "Loaded ledger snapshot of {} records for tenant {} in {} ms",
+            snapshot.recordCount(),
+            tenantId,
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return snapshot;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecotrack.api.service.carbon.scenario;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+
+/**
+ * Baseline and scenario totals of one evaluated scenario, in grams of CO2e.
+ */
+public final class ScenarioOutcome {
+
+    private final EmissionLedgerSnapshot snapshot;
+
+    private final double[] scenarioByCell;
+
+    ScenarioOutcome(EmissionLedgerSnapshot snapshot, double[] scenarioByCell) {
+        this.snapshot = snapshot;
+        this.scenarioByCell = scenarioByCell;
+    }
+
+    public EmissionLedgerSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public double baselineTotal() {
+        double total = 0;
+        for (int cell = 0; cell < scenarioByCell.length; cell++) {
+            total += snapshot.baseline(cell);
+        }
+        return total;
+    }
+
+    public double scenarioTotal() {
+        double total = 0;
+        for (double cellTotal : scenarioByCell) {
+            total += cellTotal;
+        }
+        return total;
+    }
+
+    public double baselineForScope(Scope scope) {
+        double total = 0;
+        for (int cell = 0; cell < scenarioByCell.length; cell++) {
+            if (EmissionLedgerSnapshot.scopeOf(cell) == scope.ordinal()) {
+                total += snapshot.baseline(cell);
+            }
+        }
+        return total;
+    }
+
+    public double scenarioForScope(Scope scope) {
+        double total = 0;
+        for (int cell = 0; cell < scenarioByCell.length; cell++) {
+            if (EmissionLedgerSnapshot.scopeOf(cell) == scope.ordinal()) {
+                total += scenarioByCell[cell];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Baseline total of the supplier at {@code supplierIndex} in {@link EmissionLedgerSnapshot#suppliers()}.
+     */
+    public double baselineForSupplier(int supplierIndex) {
+        double total = 0;
+        for (int cell = 0; cell < scenarioByCell.length; cell++) {
+            if (EmissionLedgerSnapshot.supplierOf(cell) == supplierIndex) {
+                total += snapshot.baseline(cell);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Scenario total of the supplier at {@code supplierIndex} in {@link EmissionLedgerSnapshot#suppliers()}.
+     */
+    public double scenarioForSupplier(int supplierIndex) {
+        double total = 0;
+        for (int cell = 0; cell < scenarioByCell.length; cell++) {
+            if (EmissionLedgerSnapshot.supplierOf(cell) == supplierIndex) {
+                total += scenarioByCell[cell];
+            }
+        }
+        return total;
+    }
+}
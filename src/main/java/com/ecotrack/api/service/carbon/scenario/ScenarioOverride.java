@@ -0,0 +1,13 @@
+package com.ecotrack.api.service.carbon.scenario;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+
+/**
+ * One change applied by a what-if scenario to the records it selects.
+ *
+ * @param scope scope to change, or {@code null} for all scopes
+ * @param supplierId supplier to change, or {@code null} for all suppliers
+ * @param factorMultiplier multiplier applied to the emission factor; {@code 1} leaves it unchanged
+ * @param efficiencyRatio efficiency ratio the records are recomputed with, or {@code NaN} to keep theirs
+ */
+public record ScenarioOverride(Scope scope, String supplierId, double factorMultiplier, double efficiencyRatio) {}
@@ -0,0 +1,144 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.ecotrack.api.domain.CalculationFormula} entity.
+ */
+public class CalculationFormulaDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    @NotBlank
+    @Size(max = 100)
+    private String tenantId;
+
+    @NotBlank
+    @Size(max = 100)
+    private String code;
+
+    @Size(max = 255)
+    private String name;
+
+    @NotBlank
+    @Size(max = 2000)
+    private String expression;
+
+    private String description;
+
+    private Scope scope;
+
+    private Boolean active;
+
+    public CalculationFormulaDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public void setExpression(String expression) {
+        this.expression = expression;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CalculationFormulaDTO that = (CalculationFormulaDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "CalculationFormulaDTO{" +
+            "id=" +
+            id +
+            ", tenantId='" +
+            tenantId +
+            '\'' +
+            ", code='" +
+            code +
+            '\'' +
+            ", expression='" +
+            expression +
+            '\'' +
+            ", scope=" +
+            scope +
+            ", active=" +
+            active +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * Outcome of a single item of a batch carbon calculation.
+ */
+public class CarbonCalculationBatchItemResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        CREATED,
+        FAILED,
+    }
+
+    private int index;
+
+    private Status status;
+
+    private EmissionRecordDTO emissionRecord;
+
+    private String error;
+
+    public CarbonCalculationBatchItemResultDTO() {}
+
+    public static CarbonCalculationBatchItemResultDTO created(int index, EmissionRecordDTO emissionRecord) {
+        CarbonCalculationBatchItemResultDTO result = new CarbonCalculationBatchItemResultDTO();
+        result.setIndex(index);
+        result.setStatus(Status.CREATED);
+        result.setEmissionRecord(emissionRecord);
+        return result;
+    }
+
+    public static CarbonCalculationBatchItemResultDTO failed(int index, String error) {
+        CarbonCalculationBatchItemResultDTO result = new CarbonCalculationBatchItemResultDTO();
+        result.setIndex(index);
+        result.setStatus(Status.FAILED);
+        result.setError(error);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public EmissionRecordDTO getEmissionRecord() {
+        return emissionRecord;
+    }
+
+    public void setEmissionRecord(EmissionRecordDTO emissionRecord) {
+        this.emissionRecord = emissionRecord;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "CarbonCalculationBatchItemResultDTO{" + "index=" + index + ", status=" + status + ", error='" + error + '\'' + '}';
+    }
+}
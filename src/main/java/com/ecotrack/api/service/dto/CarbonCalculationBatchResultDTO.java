@@ -0,0 +1,64 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Result payload for a batch carbon calculation, with one entry per submitted request in submission order.
+ */
+public class CarbonCalculationBatchResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int total;
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<CarbonCalculationBatchItemResultDTO> results;
+
+    public CarbonCalculationBatchResultDTO() {}
+
+    public CarbonCalculationBatchResultDTO(List<CarbonCalculationBatchItemResultDTO> results) {
+        this.results = results;
+        this.total = results.size();
+        this.failed = (int) results
+            .stream()
+            .filter(result -> result.getStatus() == CarbonCalculationBatchItemResultDTO.Status.FAILED)
+            .count();
+        this.succeeded = total - failed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<CarbonCalculationBatchItemResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<CarbonCalculationBatchItemResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -1,14 +1,17 @@
 package com.ecotrack.api.service.dto;
 
 import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
 import com.ecotrack.api.service.utils.RecordMetadata;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * Input payload for carbon calculations.
@@ -40,6 +43,25 @@ public class CarbonCalculationRequestDTO implements Serializable {
     @DecimalMax("1.0")
     private BigDecimal efficiencyRatio;
 
+    /**
+     * Registry lookup keys, used when no {@code emissionFactor} is supplied.
+     */
+    private Sector sector;
+
+    @Size(max = 10)
+    private String regionCode;
+
+    @Size(max = 100)
+    private String activityType;
+
+    /**
+     * Code of a tenant formula to evaluate instead of the scope default; {@code parameters} binds its extra variables.
+     */
+    @Size(max = 100)
+    private String formulaCode;
+
+    private Map<String, BigDecimal> parameters;
+
     private LocalDate dateRecorded;
 
     private String source;
@@ -119,6 +141,46 @@ public class CarbonCalculationRequestDTO implements Serializable {
         this.efficiencyRatio = efficiencyRatio;
     }
 
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public String getFormulaCode() {
+        return formulaCode;
+    }
+
+    public void setFormulaCode(String formulaCode) {
+        this.formulaCode = formulaCode;
+    }
+
+    public Map<String, BigDecimal> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(Map<String, BigDecimal> parameters) {
+        this.parameters = parameters;
+    }
+
     public LocalDate getDateRecorded() {
         return dateRecorded;
     }
@@ -0,0 +1,12 @@
+package com.ecotrack.api.service.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of results and the opaque cursor of the page after it, {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,187 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.ecotrack.api.domain.EmissionFactor} entity.
+ */
+public class EmissionFactorDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    @NotNull
+    private Scope scope;
+
+    private Sector sector;
+
+    @Size(max = 10)
+    private String regionCode;
+
+    @Size(max = 100)
+    private String activityType;
+
+    @NotNull
+    @DecimalMin(value = "0.0", inclusive = false)
+    private BigDecimal factor;
+
+    @Size(max = 50)
+    private String unit;
+
+    @NotNull
+    private LocalDate validFrom;
+
+    private LocalDate validTo;
+
+    private Integer version;
+
+    @Size(max = 255)
+    private String source;
+
+    public EmissionFactorDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public BigDecimal getFactor() {
+        return factor;
+    }
+
+    public void setFactor(BigDecimal factor) {
+        this.factor = factor;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public void setValidTo(LocalDate validTo) {
+        this.validTo = validTo;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmissionFactorDTO that = (EmissionFactorDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionFactorDTO{" +
+            "id=" +
+            id +
+            ", scope=" +
+            scope +
+            ", sector=" +
+            sector +
+            ", regionCode='" +
+            regionCode +
+            '\'' +
+            ", activityType='" +
+            activityType +
+            '\'' +
+            ", factor=" +
+            factor +
+            ", unit='" +
+            unit +
+            '\'' +
+            ", validFrom=" +
+            validFrom +
+            ", validTo=" +
+            validTo +
+            ", version=" +
+            version +
+            '}'
+        );
+    }
+}
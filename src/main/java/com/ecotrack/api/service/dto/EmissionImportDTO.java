@@ -0,0 +1,179 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.domain.enumeration.EmissionImportStatus;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.ecotrack.api.domain.EmissionImport} entity, including its progress.
+ */
+public class EmissionImportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String tenantId;
+
+    private EmissionImportFormat format;
+
+    private EmissionImportStatus status;
+
+    private String fileName;
+
+    private Long processedRows;
+
+    private Long stagedRows;
+
+    private Long importedRows;
+
+    private Long rejectedRows;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String errorMessage;
+
+    public EmissionImportDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public EmissionImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(EmissionImportFormat format) {
+        this.format = format;
+    }
+
+    public EmissionImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EmissionImportStatus status) {
+        this.status = status;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public Long getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(Long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public Long getStagedRows() {
+        return stagedRows;
+    }
+
+    public void setStagedRows(Long stagedRows) {
+        this.stagedRows = stagedRows;
+    }
+
+    public Long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(Long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public Long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(Long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmissionImportDTO that = (EmissionImportDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionImportDTO{" +
+            "id=" +
+            id +
+            ", tenantId='" +
+            tenantId +
+            '\'' +
+            ", format=" +
+            format +
+            ", status=" +
+            status +
+            ", processedRows=" +
+            processedRows +
+            ", stagedRows=" +
+            stagedRows +
+            ", importedRows=" +
+            importedRows +
+            ", rejectedRows=" +
+            rejectedRows +
+            '}'
+        );
+    }
+}
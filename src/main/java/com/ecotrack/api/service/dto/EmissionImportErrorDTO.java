@@ -0,0 +1,76 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.ecotrack.api.domain.EmissionImportError} entity.
+ */
+public class EmissionImportErrorDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Long importId;
+
+    private Long rowNumber;
+
+    private String message;
+
+    public EmissionImportErrorDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getImportId() {
+        return importId;
+    }
+
+    public void setImportId(Long importId) {
+        this.importId = importId;
+    }
+
+    public Long getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(Long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmissionImportErrorDTO that = (EmissionImportErrorDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "EmissionImportErrorDTO{" + "id=" + id + ", rowNumber=" + rowNumber + ", message='" + message + '\'' + '}';
+    }
+}
@@ -0,0 +1,227 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.ecotrack.api.domain.EmissionRecalculationJob} entity.
+ * <p>
+ * Only the tenant and the record filters are taken from a request; progress fields are maintained by the job.
+ */
+public class EmissionRecalculationJobDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    @NotBlank
+    @Size(max = 100)
+    private String tenantId;
+
+    private Scope scope;
+
+    private Sector sector;
+
+    @Size(max = 10)
+    private String regionCode;
+
+    @Size(max = 100)
+    private String activityType;
+
+    private LocalDate fromDate;
+
+    private LocalDate toDate;
+
+    private RecalculationJobStatus status;
+
+    private Long lastRecordId;
+
+    private Long processedCount;
+
+    private Long changedCount;
+
+    private Long failedCount;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String errorMessage;
+
+    public EmissionRecalculationJobDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public RecalculationJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RecalculationJobStatus status) {
+        this.status = status;
+    }
+
+    public Long getLastRecordId() {
+        return lastRecordId;
+    }
+
+    public void setLastRecordId(Long lastRecordId) {
+        this.lastRecordId = lastRecordId;
+    }
+
+    public Long getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(Long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public Long getChangedCount() {
+        return changedCount;
+    }
+
+    public void setChangedCount(Long changedCount) {
+        this.changedCount = changedCount;
+    }
+
+    public Long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(Long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmissionRecalculationJobDTO that = (EmissionRecalculationJobDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionRecalculationJobDTO{" +
+            "id=" +
+            id +
+            ", tenantId='" +
+            tenantId +
+            '\'' +
+            ", status=" +
+            status +
+            ", lastRecordId=" +
+            lastRecordId +
+            ", processedCount=" +
+            processedCount +
+            ", changedCount=" +
+            changedCount +
+            ", failedCount=" +
+            failedCount +
+            '}'
+        );
+    }
+}
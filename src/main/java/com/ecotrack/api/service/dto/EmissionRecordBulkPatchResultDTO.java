@@ -0,0 +1,62 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk partial update of emission records.
+ */
+public class EmissionRecordBulkPatchResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int requested;
+
+    private int updated;
+
+    /**
+     * Ids of records that do not exist or belong to another tenant, in request order.
+     */
+    private List<Long> notFoundIds = new ArrayList<>();
+
+    public EmissionRecordBulkPatchResultDTO() {}
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public List<Long> getNotFoundIds() {
+        return notFoundIds;
+    }
+
+    public void setNotFoundIds(List<Long> notFoundIds) {
+        this.notFoundIds = notFoundIds;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionRecordBulkPatchResultDTO{" +
+            "requested=" +
+            requested +
+            ", updated=" +
+            updated +
+            ", notFoundIds=" +
+            notFoundIds +
+            '}'
+        );
+    }
+}
@@ -1,11 +1,16 @@
 package com.ecotrack.api.service.dto;
 
 import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
 import com.ecotrack.api.service.utils.RecordMetadata;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * A DTO for the {@link com.ecotrack.api.domain.EmissionRecord} entity.
@@ -17,12 +22,16 @@ public class EmissionRecordDTO implements Serializable {
     private Long id;
 
     @NotNull
+    @Size(max = 100)
     private String tenantId;
 
+    @Size(max = 100)
     private String supplierId;
 
+    @Size(max = 100)
     private String installationId;
 
+    @Size(max = 100)
     private String productEmissionId;
 
     @NotNull
@@ -47,6 +56,32 @@ public class EmissionRecordDTO implements Serializable {
 
     private RecordMetadata metadata;
 
+    /**
+     * Inputs the record was calculated from; kept so it can be recalculated when factors change.
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    private BigDecimal activityData;
+
+    @DecimalMin(value = "0.0", inclusive = false)
+    private BigDecimal emissionFactor;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private BigDecimal efficiencyRatio;
+
+    private Sector sector;
+
+    @Size(max = 10)
+    private String regionCode;
+
+    @Size(max = 100)
+    private String activityType;
+
+    @Size(max = 100)
+    private String formulaCode;
+
+    private Map<String, BigDecimal> calculationParameters;
+
     public EmissionRecordDTO() {}
 
     public EmissionRecordDTO(String tenantId, Scope scope, Long carbonGrams) {
@@ -175,6 +210,70 @@ public class EmissionRecordDTO implements Serializable {
         this.metadata = metadata;
     }
 
+    public BigDecimal getActivityData() {
+        return activityData;
+    }
+
+    public void setActivityData(BigDecimal activityData) {
+        this.activityData = activityData;
+    }
+
+    public BigDecimal getEmissionFactor() {
+        return emissionFactor;
+    }
+
+    public void setEmissionFactor(BigDecimal emissionFactor) {
+        this.emissionFactor = emissionFactor;
+    }
+
+    public BigDecimal getEfficiencyRatio() {
+        return efficiencyRatio;
+    }
+
+    public void setEfficiencyRatio(BigDecimal efficiencyRatio) {
+        this.efficiencyRatio = efficiencyRatio;
+    }
+
+    public Sector getSector() {
+        return sector;
+    }
+
+    public void setSector(Sector sector) {
+        this.sector = sector;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public String getFormulaCode() {
+        return formulaCode;
+    }
+
+    public void setFormulaCode(String formulaCode) {
+        this.formulaCode = formulaCode;
+    }
+
+    public Map<String, BigDecimal> getCalculationParameters() {
+        return calculationParameters;
+    }
+
+    public void setCalculationParameters(Map<String, BigDecimal> calculationParameters) {
+        this.calculationParameters = calculationParameters;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,89 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Verification fields to set on one {@link com.ecotrack.api.domain.EmissionRecord} in a bulk partial update; fields
+ * left {@code null} are not changed.
+ */
+public class EmissionRecordPatchDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Boolean verified;
+
+    private Integer confidenceScore;
+
+    private String notes;
+
+    public EmissionRecordPatchDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getVerified() {
+        return verified;
+    }
+
+    public void setVerified(Boolean verified) {
+        this.verified = verified;
+    }
+
+    public Integer getConfidenceScore() {
+        return confidenceScore;
+    }
+
+    public void setConfidenceScore(Integer confidenceScore) {
+        this.confidenceScore = confidenceScore;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmissionRecordPatchDTO that = (EmissionRecordPatchDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionRecordPatchDTO{" +
+            "id=" +
+            id +
+            ", verified=" +
+            verified +
+            ", confidenceScore=" +
+            confidenceScore +
+            ", notes='" +
+            notes +
+            '\'' +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecotrack.api.service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A named what-if scenario: overrides applied, in order, to a tenant's emission ledger.
+ */
+public class EmissionScenarioDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Size(max = 100)
+    private String name;
+
+    @NotEmpty
+    private List<@Valid EmissionScenarioOverrideDTO> overrides;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<EmissionScenarioOverrideDTO> getOverrides() {
+        return overrides;
+    }
+
+    public void setOverrides(List<EmissionScenarioOverrideDTO> overrides) {
+        this.overrides = overrides;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.io.Serializable;
+
+/**
+ * Baseline and scenario emissions, in grams of CO2e, for one scope, one supplier, or the whole ledger when neither is
+ * set.
+ */
+public class EmissionScenarioDeltaDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Scope scope;
+
+    private String supplierId;
+
+    private long baselineGrams;
+
+    private long scenarioGrams;
+
+    private long deltaGrams;
+
+    public EmissionScenarioDeltaDTO() {}
+
+    public EmissionScenarioDeltaDTO(Scope scope, String supplierId, long baselineGrams, long scenarioGrams) {
+        this.scope = scope;
+        this.supplierId = supplierId;
+        this.baselineGrams = baselineGrams;
+        this.scenarioGrams = scenarioGrams;
+        this.deltaGrams = scenarioGrams - baselineGrams;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public String getSupplierId() {
+        return supplierId;
+    }
+
+    public void setSupplierId(String supplierId) {
+        this.supplierId = supplierId;
+    }
+
+    public long getBaselineGrams() {
+        return baselineGrams;
+    }
+
+    public void setBaselineGrams(long baselineGrams) {
+        this.baselineGrams = baselineGrams;
+    }
+
+    public long getScenarioGrams() {
+        return scenarioGrams;
+    }
+
+    public void setScenarioGrams(long scenarioGrams) {
+        this.scenarioGrams = scenarioGrams;
+    }
+
+    public long getDeltaGrams() {
+        return deltaGrams;
+    }
+
+    public void setDeltaGrams(long deltaGrams) {
+        this.deltaGrams = deltaGrams;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * A change applied by a what-if scenario, e.g. "Scope 2 grid factor drops 20%" ({@code scope=SCOPE_2,
+ * emissionFactorMultiplier=0.8}) or "supplier X improves efficiency to 0.3" ({@code supplierId=X, efficiencyRatio=0.3}).
+ * Unset {@code scope} or {@code supplierId} select every scope or supplier.
+ */
+public class EmissionScenarioOverrideDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Scope scope;
+
+    private String supplierId;
+
+    @DecimalMin(value = "0.0", inclusive = false)
+    private BigDecimal emissionFactorMultiplier;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private BigDecimal efficiencyRatio;
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public String getSupplierId() {
+        return supplierId;
+    }
+
+    public void setSupplierId(String supplierId) {
+        this.supplierId = supplierId;
+    }
+
+    public BigDecimal getEmissionFactorMultiplier() {
+        return emissionFactorMultiplier;
+    }
+
+    public void setEmissionFactorMultiplier(BigDecimal emissionFactorMultiplier) {
+        this.emissionFactorMultiplier = emissionFactorMultiplier;
+    }
+
+    public BigDecimal getEfficiencyRatio() {
+        return efficiencyRatio;
+    }
+
+    public void setEfficiencyRatio(BigDecimal efficiencyRatio) {
+        this.efficiencyRatio = efficiencyRatio;
+    }
+}
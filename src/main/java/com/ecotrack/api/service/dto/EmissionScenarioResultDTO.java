@@ -0,0 +1,73 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outcome of one what-if scenario: total, per-scope and per-supplier deltas against the ledger snapshot it ran on.
+ */
+public class EmissionScenarioResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+
+    private int recordCount;
+
+    private Instant snapshotLoadedAt;
+
+    private EmissionScenarioDeltaDTO total;
+
+    private List<EmissionScenarioDeltaDTO> scopes;
+
+    private List<EmissionScenarioDeltaDTO> suppliers;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public Instant getSnapshotLoadedAt() {
+        return snapshotLoadedAt;
+    }
+
+    public void setSnapshotLoadedAt(Instant snapshotLoadedAt) {
+        this.snapshotLoadedAt = snapshotLoadedAt;
+    }
+
+    public EmissionScenarioDeltaDTO getTotal() {
+        return total;
+    }
+
+    public void setTotal(EmissionScenarioDeltaDTO total) {
+        this.total = total;
+    }
+
+    public List<EmissionScenarioDeltaDTO> getScopes() {
+        return scopes;
+    }
+
+    public void setScopes(List<EmissionScenarioDeltaDTO> scopes) {
+        this.scopes = scopes;
+    }
+
+    public List<EmissionScenarioDeltaDTO> getSuppliers() {
+        return suppliers;
+    }
+
+    public void setSuppliers(List<EmissionScenarioDeltaDTO> suppliers) {
+        this.suppliers = suppliers;
+    }
+}
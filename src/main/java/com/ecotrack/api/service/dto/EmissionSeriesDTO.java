@@ -0,0 +1,87 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.service.series.EmissionSeriesGrouping;
+import com.ecotrack.api.service.series.EmissionSeriesPeriod;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Emission totals of a tenant per period and group, over a recording date range or, when {@code from} and {@code to}
+ * are {@code null}, over all dated records. Points are ordered by group, then period; periods without records are
+ * left out.
+ */
+public class EmissionSeriesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String tenantId;
+
+    private EmissionSeriesPeriod period;
+
+    private EmissionSeriesGrouping groupBy;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private boolean cumulative;
+
+    private List<EmissionSeriesPointDTO> points;
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public EmissionSeriesPeriod getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(EmissionSeriesPeriod period) {
+        this.period = period;
+    }
+
+    public EmissionSeriesGrouping getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(EmissionSeriesGrouping groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public boolean isCumulative() {
+        return cumulative;
+    }
+
+    public void setCumulative(boolean cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    public List<EmissionSeriesPointDTO> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<EmissionSeriesPointDTO> points) {
+        this.points = points;
+    }
+}
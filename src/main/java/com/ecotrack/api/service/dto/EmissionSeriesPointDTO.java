@@ -0,0 +1,78 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Emissions of one group in one period of an {@link EmissionSeriesDTO}, in grams of CO2e.
+ */
+public class EmissionSeriesPointDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String group;
+
+    private LocalDate periodStart;
+
+    private long carbonGrams;
+
+    private long recordCount;
+
+    private Long cumulativeCarbonGrams;
+
+    public EmissionSeriesPointDTO() {}
+
+    public EmissionSeriesPointDTO(String group, LocalDate periodStart, long carbonGrams, long recordCount) {
+        this.group = group;
+        this.periodStart = periodStart;
+        this.carbonGrams = carbonGrams;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * The scope, supplier, installation or product emission; {@code null} for records without one.
+     */
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public long getCarbonGrams() {
+        return carbonGrams;
+    }
+
+    public void setCarbonGrams(long carbonGrams) {
+        this.carbonGrams = carbonGrams;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Emissions of the group up to and including this period, counted from the start of the series; {@code null}
+     * unless a cumulative series was requested.
+     */
+    public Long getCumulativeCarbonGrams() {
+        return cumulativeCarbonGrams;
+    }
+
+    public void setCumulativeCarbonGrams(Long cumulativeCarbonGrams) {
+        this.cumulativeCarbonGrams = cumulativeCarbonGrams;
+    }
+}
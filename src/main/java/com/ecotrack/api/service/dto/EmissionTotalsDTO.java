@@ -0,0 +1,93 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Emission totals of a tenant per scope, over a recording date range or, when {@code from} and {@code to} are
+ * {@code null}, over all dated records.
+ */
+public class EmissionTotalsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String tenantId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private long carbonGrams;
+
+    private long recordCount;
+
+    private List<ScopeEmissionTotalDTO> scopes;
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getCarbonGrams() {
+        return carbonGrams;
+    }
+
+    public void setCarbonGrams(long carbonGrams) {
+        this.carbonGrams = carbonGrams;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public List<ScopeEmissionTotalDTO> getScopes() {
+        return scopes;
+    }
+
+    public void setScopes(List<ScopeEmissionTotalDTO> scopes) {
+        this.scopes = scopes;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "EmissionTotalsDTO{" +
+            "tenantId='" +
+            tenantId +
+            '\'' +
+            ", from=" +
+            from +
+            ", to=" +
+            to +
+            ", carbonGrams=" +
+            carbonGrams +
+            ", recordCount=" +
+            recordCount +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecotrack.api.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Monte Carlo confidence interval of a tenant's emissions over a date range, per scope and in total.
+ */
+public class EmissionUncertaintyDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String tenantId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private int iterations;
+
+    private long seed;
+
+    private List<ScopeUncertaintyDTO> scopes;
+
+    private ScopeUncertaintyDTO total;
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * Seed the simulation was drawn from; passing it back reproduces the same intervals.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public List<ScopeUncertaintyDTO> getScopes() {
+        return scopes;
+    }
+
+    public void setScopes(List<ScopeUncertaintyDTO> scopes) {
+        this.scopes = scopes;
+    }
+
+    public ScopeUncertaintyDTO getTotal() {
+        return total;
+    }
+
+    public void setTotal(ScopeUncertaintyDTO total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.io.Serializable;
+
+/**
+ * Emission total of one scope, in grams of CO2e.
+ */
+public class ScopeEmissionTotalDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Scope scope;
+
+    private long carbonGrams;
+
+    private long recordCount;
+
+    public ScopeEmissionTotalDTO() {}
+
+    public ScopeEmissionTotalDTO(Scope scope, long carbonGrams, long recordCount) {
+        this.scope = scope;
+        this.carbonGrams = carbonGrams;
+        this.recordCount = recordCount;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public long getCarbonGrams() {
+        return carbonGrams;
+    }
+
+    public void setCarbonGrams(long carbonGrams) {
+        this.carbonGrams = carbonGrams;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ScopeEmissionTotalDTO{" + "scope=" + scope + ", carbonGrams=" + carbonGrams + ", recordCount=" + recordCount + '}';
+    }
+}
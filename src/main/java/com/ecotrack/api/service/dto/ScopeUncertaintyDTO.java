@@ -0,0 +1,73 @@
+package com.ecotrack.api.service.dto;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import java.io.Serializable;
+
+/**
+ * Simulated emission distribution for one scope, or for all scopes when {@code scope} is {@code null}. Values are in
+ * grams of CO2e.
+ */
+public class ScopeUncertaintyDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Scope scope;
+
+    private int recordCount;
+
+    private long recordedGrams;
+
+    private long meanGrams;
+
+    private long p5Grams;
+
+    private long p95Grams;
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public long getRecordedGrams() {
+        return recordedGrams;
+    }
+
+    public void setRecordedGrams(long recordedGrams) {
+        this.recordedGrams = recordedGrams;
+    }
+
+    public long getMeanGrams() {
+        return meanGrams;
+    }
+
+    public void setMeanGrams(long meanGrams) {
+        this.meanGrams = meanGrams;
+    }
+
+    public long getP5Grams() {
+        return p5Grams;
+    }
+
+    public void setP5Grams(long p5Grams) {
+        this.p5Grams = p5Grams;
+    }
+
+    public long getP95Grams() {
+        return p95Grams;
+    }
+
+    public void setP95Grams(long p95Grams) {
+        this.p95Grams = p95Grams;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecotrack.api.service.exports;
+
+/**
+ * Output formats of an emission record export.
+ */
+public enum EmissionExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+
+    private final String fileExtension;
+
+    EmissionExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,145 @@
+package com.ecotrack.api.service.exports;
+
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Writes emission records to an export one at a time, so an export of any size is written in constant memory.
+ * <p>
+ * NDJSON rows are emission record objects, one per line, as returned by the REST API. CSV rows have a header of the
+ * same property names; {@code null}s are empty cells, and the {@code metadata} and {@code calculationParameters}
+ * cells hold JSON objects, as {@link com.ecotrack.api.service.imports.EmissionImportReader} expects them.
+ */
+public final class EmissionRecordExportWriter implements Closeable {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+        "id",
+        "tenantId",
+        "supplierId",
+        "installationId",
+        "productEmissionId",
+        "scope",
+        "carbonGrams",
+        "dateRecorded",
+        "source",
+        "notes",
+        "verified",
+        "confidenceScore",
+        "calculationMethod",
+        "uncertaintyFactor",
+        "metadata",
+        "activityData",
+        "emissionFactor",
+        "efficiencyRatio",
+        "sector",
+        "regionCode",
+        "activityType",
+        "formulaCode",
+        "calculationParameters"
+    );
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+        .addColumns(CSV_COLUMNS, CsvSchema.ColumnType.STRING)
+        .build()
+        .withHeader();
+
+    private final ObjectWriter jsonWriter;
+    private final SequenceWriter writer;
+    private final OutputStream output;
+    private final boolean csv;
+    private boolean empty = true;
+
+    private EmissionRecordExportWriter(ObjectWriter jsonWriter, SequenceWriter writer, OutputStream output, boolean csv) {
+        this.jsonWriter = jsonWriter;
+        this.writer = writer;
+        this.output = output;
+        this.csv = csv;
+    }
+
+    /**
+     * Start writing an export; closing the writer flushes it but leaves {@code output} open.
+     */
+    public static EmissionRecordExportWriter open(EmissionExportFormat format, OutputStream output, ObjectMapper objectMapper)
+        throws IOException {
+        // Every record must stay on one line, whatever the application's indentation setting.
+        ObjectWriter jsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        if (format == EmissionExportFormat.CSV) {
+            SequenceWriter rows = CSV_MAPPER.writerFor(String[].class)
+                .with(CSV_SCHEMA)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(output);
+            return new EmissionRecordExportWriter(jsonWriter, rows, output, true);
+        }
+        SequenceWriter rows = jsonWriter
+            .forType(EmissionRecordDTO.class)
+            .withRootValueSeparator("\n")
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValues(output);
+        return new EmissionRecordExportWriter(jsonWriter, rows, output, false);
+    }
+
+    public void write(EmissionRecordDTO record) throws IOException {
+        writer.write(csv ? toCsv(record) : record);
+        empty = false;
+    }
+
+    private String[] toCsv(EmissionRecordDTO record) throws IOException {
+        String[] cells = new String[CSV_COLUMNS.size()];
+        int i = 0;
+        cells[i++] = text(record.getId());
+        cells[i++] = text(record.getTenantId());
+        cells[i++] = text(record.getSupplierId());
+        cells[i++] = text(record.getInstallationId());
+        cells[i++] = text(record.getProductEmissionId());
+        cells[i++] = text(record.getScope());
+        cells[i++] = text(record.getCarbonGrams());
+        cells[i++] = text(record.getDateRecorded());
+        cells[i++] = text(record.getSource());
+        cells[i++] = text(record.getNotes());
+        cells[i++] = text(record.getVerified());
+        cells[i++] = text(record.getConfidenceScore());
+        cells[i++] = text(record.getCalculationMethod());
+        cells[i++] = text(record.getUncertaintyFactor());
+        cells[i++] = record.getMetadata() == null ? "" : jsonWriter.writeValueAsString(record.getMetadata());
+        cells[i++] = text(record.getActivityData());
+        cells[i++] = text(record.getEmissionFactor());
+        cells[i++] = text(record.getEfficiencyRatio());
+        cells[i++] = text(record.getSector());
+        cells[i++] = text(record.getRegionCode());
+        cells[i++] = text(record.getActivityType());
+        cells[i++] = text(record.getFormulaCode());
+        cells[i] = record.getCalculationParameters() == null ? "" : jsonWriter.writeValueAsString(record.getCalculationParameters());
+        return cells;
+    }
+
+    // The CSV generator drops null array elements instead of leaving their cells empty.
+    private static String text(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value == null ? "" : value.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+        if (!csv && !empty) {
+            // The separator only goes between records, but every NDJSON line ends with one.
+            output.write('\n');
+        }
+        output.flush();
+    }
+}
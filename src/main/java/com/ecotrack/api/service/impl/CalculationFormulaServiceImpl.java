@@ -0,0 +1,120 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.domain.CalculationFormula;
+import com.ecotrack.api.repository.CalculationFormulaRepository;
+import com.ecotrack.api.service.CalculationFormulaService;
+import com.ecotrack.api.service.carbon.formula.CalculationFormulaChangedEvent;
+import com.ecotrack.api.service.carbon.formula.FormulaCompiler;
+import com.ecotrack.api.service.dto.CalculationFormulaDTO;
+import com.ecotrack.api.service.mapper.CalculationFormulaMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link CalculationFormula}.
+ */
+@Service
+@Transactional
+public class CalculationFormulaServiceImpl implements CalculationFormulaService {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculationFormulaServiceImpl.class);
+
+    private final CalculationFormulaRepository calculationFormulaRepository;
+    private final CalculationFormulaMapper calculationFormulaMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public CalculationFormulaServiceImpl(
+        CalculationFormulaRepository calculationFormulaRepository,
+        CalculationFormulaMapper calculationFormulaMapper,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.calculationFormulaRepository = calculationFormulaRepository;
+        this.calculationFormulaMapper = calculationFormulaMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public CalculationFormulaDTO save(CalculationFormulaDTO calculationFormulaDTO) {
+        log.debug("Request to save CalculationFormula : {}", calculationFormulaDTO);
+        FormulaCompiler.compile(calculationFormulaDTO.getExpression());
+        CalculationFormula calculationFormula = calculationFormulaMapper.toEntity(calculationFormulaDTO);
+        calculationFormula = calculationFormulaRepository.save(calculationFormula);
+        publishChange(calculationFormula);
+        return calculationFormulaMapper.toDto(calculationFormula);
+    }
+
+    @Override
+    public CalculationFormulaDTO update(CalculationFormulaDTO calculationFormulaDTO) {
+        log.debug("Request to update CalculationFormula : {}", calculationFormulaDTO);
+        FormulaCompiler.compile(calculationFormulaDTO.getExpression());
+        calculationFormulaRepository.findById(calculationFormulaDTO.getId()).ifPresent(this::publishChange);
+        CalculationFormula calculationFormula = calculationFormulaMapper.toEntity(calculationFormulaDTO);
+        calculationFormula = calculationFormulaRepository.save(calculationFormula);
+        publishChange(calculationFormula);
+        return calculationFormulaMapper.toDto(calculationFormula);
+    }
+
+    @Override
+    public Optional<CalculationFormulaDTO> partialUpdate(CalculationFormulaDTO calculationFormulaDTO) {
+        log.debug("Request to partially update CalculationFormula : {}", calculationFormulaDTO);
+        if (calculationFormulaDTO.getExpression() != null) {
+            FormulaCompiler.compile(calculationFormulaDTO.getExpression());
+        }
+
+        return calculationFormulaRepository
+            .findById(calculationFormulaDTO.getId())
+            .map(existingCalculationFormula -> {
+                publishChange(existingCalculationFormula);
+                calculationFormulaMapper.partialUpdate(existingCalculationFormula, calculationFormulaDTO);
+                return existingCalculationFormula;
+            })
+            .map(calculationFormulaRepository::save)
+            .map(calculationFormula -> {
+                publishChange(calculationFormula);
+                return calculationFormulaMapper.toDto(calculationFormula);
+            });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CalculationFormulaDTO> findAll(Pageable pageable) {
+        log.debug("Request to get all CalculationFormulas");
+        return calculationFormulaRepository.findAll(pageable).map(calculationFormulaMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CalculationFormulaDTO> findByTenantId(String tenantId, Pageable pageable) {
+        log.debug("Request to get CalculationFormulas for tenant : {}", tenantId);
+        return calculationFormulaRepository.findByTenantId(tenantId, pageable).map(calculationFormulaMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CalculationFormulaDTO> findOne(Long id) {
+        log.debug("Request to get CalculationFormula : {}", id);
+        return calculationFormulaRepository.findById(id).map(calculationFormulaMapper::toDto);
+    }
+
+    @Override
+    public void delete(Long id) {
+        log.debug("Request to delete CalculationFormula : {}", id);
+        calculationFormulaRepository.findById(id).ifPresent(this::publishChange);
+        calculationFormulaRepository.deleteById(id);
+    }
+
+    /**
+     * Evict the compiled form of the formula under its tenant and code once the transaction commits.
+     */
+    private void publishChange(CalculationFormula calculationFormula) {
+        applicationEventPublisher.publishEvent(
+            new CalculationFormulaChangedEvent(calculationFormula.getTenantId(), calculationFormula.getCode())
+        );
+    }
+}
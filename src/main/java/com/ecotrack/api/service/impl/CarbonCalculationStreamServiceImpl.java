@@ -0,0 +1,123 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.service.CarbonCalculationService;
+import com.ecotrack.api.service.CarbonCalculationStreamService;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchItemResultDTO;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service Implementation for streaming carbon calculations.
+ * <p>
+ * Deliberately not transactional: every chunk goes through {@link CarbonCalculationService#calculateAndSaveEmissionRecords}
+ * in its own transaction, so committed work never depends on the rest of the stream.
+ */
+@Service
+public class CarbonCalculationStreamServiceImpl implements CarbonCalculationStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(CarbonCalculationStreamServiceImpl.class);
+
+    private final CarbonCalculationService carbonCalculationService;
+
+    private final ObjectReader requestReader;
+
+    private final ObjectWriter resultWriter;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties applicationProperties;
+
+    public CarbonCalculationStreamServiceImpl(
+        CarbonCalculationService carbonCalculationService,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.carbonCalculationService = carbonCalculationService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CarbonCalculationRequestDTO.class);
+        this.resultWriter = objectMapper.writerFor(CarbonCalculationBatchItemResultDTO.class);
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Override
+    public long calculateAndSaveEmissionRecords(InputStream input, OutputStream output) throws IOException {
+        int chunkSize = Math.max(1, applicationProperties.getCarbonCalculation().getBatch().getPersistChunkSize());
+        List<PendingItem> pending = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        try (
+            MappingIterator<CarbonCalculationRequestDTO> iterator = requestReader.readValues(input);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+        ) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            boolean more = true;
+            while (more) {
+                try {
+                    more = iterator.hasNextValue();
+                    if (more) {
+                        pending.add(new PendingItem(index, iterator.nextValue(), null));
+                        index++;
+                    }
+                } catch (JsonParseException ex) {
+                    // Malformed JSON leaves the parser without a reliable position to resume from.
+                    pending.add(new PendingItem(index, null, "Malformed NDJSON input: " + ex.getOriginalMessage()));
+                    index++;
+                    more = false;
+                } catch (JsonMappingException ex) {
+                    // Well-formed value that does not bind; the iterator skips to the next root value.
+                    pending.add(new PendingItem(index, null, ex.getOriginalMessage()));
+                    index++;
+                }
+                if (pending.size() >= chunkSize || (!more && !pending.isEmpty())) {
+                    writeChunk(pending, generator);
+                    pending.clear();
+                }
+            }
+        }
+        log.debug("Streamed {} carbon calculation items", index);
+        return index;
+    }
+
+    private void writeChunk(List<PendingItem> pending, JsonGenerator generator) throws IOException {
+        List<CarbonCalculationRequestDTO> requests = pending
+            .stream()
+            .filter(item -> item.error() == null)
+            .map(PendingItem::request)
+            .toList();
+        Iterator<CarbonCalculationBatchItemResultDTO> results = requests.isEmpty()
+            ? List.<CarbonCalculationBatchItemResultDTO>of().iterator()
+            : carbonCalculationService.calculateAndSaveEmissionRecords(requests).getResults().iterator();
+
+        for (PendingItem item : pending) {
+            CarbonCalculationBatchItemResultDTO result;
+            if (item.error() != null) {
+                result = CarbonCalculationBatchItemResultDTO.failed(item.index(), item.error());
+            } else {
+                result = results.next();
+                result.setIndex(item.index());
+            }
+            resultWriter.writeValue(generator, result);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private record PendingItem(int index, CarbonCalculationRequestDTO request, String error) {}
+}
@@ -1,25 +1,35 @@
 package com.ecotrack.api.service.impl;
 
 import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.security.TenantContext;
 import com.ecotrack.api.service.CarbonCalculationService;
 import com.ecotrack.api.service.EmissionRecordService;
 import com.ecotrack.api.service.EmissionReportService;
+import com.ecotrack.api.service.carbon.CarbonEstimateCache;
 import com.ecotrack.api.service.carbon.EmissionCalculationStrategy;
 import com.ecotrack.api.service.carbon.EmissionComputation;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchItemResultDTO;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchResultDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
 import com.ecotrack.api.service.dto.EmissionReportDTO;
 import com.ecotrack.api.service.mapper.CarbonCalculationMapper;
+import jakarta.validation.Validator;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -33,29 +43,47 @@ public class CarbonCalculatorService implements CarbonCalculationService {
     private static final Logger log = LoggerFactory.getLogger(CarbonCalculatorService.class);
 
     private final Map<Scope, EmissionCalculationStrategy> strategiesByScope;
+    private final List<EmissionCalculationStrategy> requestBoundStrategies;
     private final CarbonCalculationMapper carbonCalculationMapper;
     private final EmissionRecordService emissionRecordService;
     private final EmissionReportService emissionReportService;
+    private final CarbonEstimateCache carbonEstimateCache;
+    private final Validator validator;
 
     public CarbonCalculatorService(
         List<EmissionCalculationStrategy> emissionCalculationStrategies,
         CarbonCalculationMapper carbonCalculationMapper,
         EmissionRecordService emissionRecordService,
-        EmissionReportService emissionReportService
+        EmissionReportService emissionReportService,
+        CarbonEstimateCache carbonEstimateCache,
+        Validator validator
     ) {
         this.strategiesByScope = emissionCalculationStrategies
             .stream()
+            .filter(strategy -> strategy.supportsScope() != null)
             .collect(Collectors.toUnmodifiableMap(EmissionCalculationStrategy::supportsScope, Function.identity()));
+        this.requestBoundStrategies = emissionCalculationStrategies
+            .stream()
+            .filter(strategy -> strategy.supportsScope() == null)
+            .toList();
         this.carbonCalculationMapper = carbonCalculationMapper;
         this.emissionRecordService = emissionRecordService;
         this.emissionReportService = emissionReportService;
+        this.carbonEstimateCache = carbonEstimateCache;
+        this.validator = validator;
     }
 
+    /**
+     * Estimates run against the in-memory factor registry and never touch the database, so no transaction (and no pooled
+     * connection) is opened for them. Requests are validated before the cache is consulted, whose key leaves out the
+     * tenant and some inputs, so an invalid request is never answered from it.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CarbonCalculationResultDTO calculate(CarbonCalculationRequestDTO request) {
         log.debug("Request to calculate emissions: {}", request);
-        EmissionComputation computation = compute(request);
+        validateRequest(request);
+        EmissionComputation computation = carbonEstimateCache.getOrCompute(request, () -> evaluate(request));
         return carbonCalculationMapper.toResultDTO(request, computation);
     }
 
@@ -67,6 +95,62 @@ public class CarbonCalculatorService implements CarbonCalculationService {
         return emissionRecordService.save(emissionRecordDTO);
     }
 
+    /**
+     * Batch items are not validated when the body is bound, so each item's constraints, and those of the record computed
+     * from it, are checked here: an item that breaks them fails on its own instead of failing the save of the whole batch.
+     */
+    @Override
+    public CarbonCalculationBatchResultDTO calculateAndSaveEmissionRecords(List<CarbonCalculationRequestDTO> requests) {
+        log.debug("Request to calculate and save {} emission records", requests.size());
+        int size = requests.size();
+        EmissionRecordDTO[] computed = new EmissionRecordDTO[size];
+        String[] errors = new String[size];
+
+        // Strategies are stateless, so items are validated and evaluated across the common pool;
+        // each index is written by exactly one task.
+        IntStream.range(0, size)
+            .parallel()
+            .forEach(
+                TenantContext.wrap(index -> {
+                    try {
+                        CarbonCalculationRequestDTO request = requests.get(index);
+                        Objects.requireNonNull(request, "Calculation request cannot be null");
+                        String violations = describeViolations(request);
+                        if (violations == null) {
+                            EmissionRecordDTO record = carbonCalculationMapper.toComputedEmissionRecordDTO(request, compute(request));
+                            violations = describeViolations(record);
+                            if (violations == null) {
+                                computed[index] = record;
+                            }
+                        }
+                        errors[index] = violations;
+                    } catch (IllegalArgumentException | ArithmeticException | NullPointerException ex) {
+                        errors[index] = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+                    }
+                })
+            );
+
+        List<EmissionRecordDTO> toSave = Arrays.stream(computed).filter(Objects::nonNull).toList();
+        List<EmissionRecordDTO> saved = toSave.isEmpty() ? List.of() : emissionRecordService.saveAll(toSave);
+
+        List<CarbonCalculationBatchItemResultDTO> results = new ArrayList<>(size);
+        int savedIndex = 0;
+        for (int index = 0; index < size; index++) {
+            if (computed[index] != null) {
+                results.add(CarbonCalculationBatchItemResultDTO.created(index, saved.get(savedIndex++)));
+            } else {
+                results.add(CarbonCalculationBatchItemResultDTO.failed(index, errors[index]));
+            }
+        }
+        return new CarbonCalculationBatchResultDTO(results);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmissionComputation recalculate(CarbonCalculationRequestDTO request) {
+        return compute(request);
+    }
+
     @Override
     public EmissionReportDTO calculateToEmissionReport(CarbonCalculationRequestDTO request) {
         log.debug("Request to calculate and map to emission report: {}", request);
@@ -78,13 +162,26 @@ public class CarbonCalculatorService implements CarbonCalculationService {
 
     private EmissionComputation compute(CarbonCalculationRequestDTO request) {
         validateRequest(request);
-        EmissionCalculationStrategy strategy = strategiesByScope.get(request.getScope());
+        return evaluate(request);
+    }
+
+    private EmissionComputation evaluate(CarbonCalculationRequestDTO request) {
+        EmissionCalculationStrategy strategy = selectStrategy(request);
         if (strategy == null) {
             throw new IllegalArgumentException("No calculation strategy configured for scope " + request.getScope());
         }
         return strategy.calculate(request);
     }
 
+    private EmissionCalculationStrategy selectStrategy(CarbonCalculationRequestDTO request) {
+        for (EmissionCalculationStrategy strategy : requestBoundStrategies) {
+            if (strategy.supports(request)) {
+                return strategy;
+            }
+        }
+        return strategiesByScope.get(request.getScope());
+    }
+
     private void validateRequest(CarbonCalculationRequestDTO request) {
         Objects.requireNonNull(request, "Calculation request cannot be null");
 
@@ -108,6 +205,19 @@ public class CarbonCalculatorService implements CarbonCalculationService {
         }
     }
 
+    /**
+     * @return the bean constraint violations of {@code bean}, or {@code null} if there are none.
+     */
+    private String describeViolations(Object bean) {
+        List<String> violations = validator
+            .validate(bean)
+            .stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .toList();
+        return violations.isEmpty() ? null : String.join("; ", violations);
+    }
+
     private void validateReportRequest(CarbonCalculationRequestDTO request) {
         if (!StringUtils.hasText(request.getSupplierId())) {
             throw new IllegalArgumentException("Supplier ID is required for emission report mapping");
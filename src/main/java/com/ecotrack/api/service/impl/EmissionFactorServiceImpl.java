@@ -0,0 +1,132 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.repository.EmissionFactorRepository;
+import com.ecotrack.api.service.EmissionFactorService;
+import com.ecotrack.api.service.carbon.EmissionFactorsChangedEvent;
+import com.ecotrack.api.service.dto.EmissionFactorDTO;
+import com.ecotrack.api.service.mapper.EmissionFactorMapper;
+import java.util.Locale;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Service Implementation for managing {@link EmissionFactor}.
+ */
+@Service
+@Transactional
+public class EmissionFactorServiceImpl implements EmissionFactorService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionFactorServiceImpl.class);
+
+    static final String VERSION_CONSTRAINT = "ux_emission_factor_version";
+
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
+
+    private final EmissionFactorRepository emissionFactorRepository;
+    private final EmissionFactorMapper emissionFactorMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmissionFactorServiceImpl(
+        EmissionFactorRepository emissionFactorRepository,
+        EmissionFactorMapper emissionFactorMapper,
+        ApplicationEventPublisher applicationEventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.emissionFactorRepository = emissionFactorRepository;
+        this.emissionFactorMapper = emissionFactorMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmissionFactorDTO publish(EmissionFactorDTO emissionFactorDTO) {
+        log.debug("Request to publish EmissionFactor : {}", emissionFactorDTO);
+        if (emissionFactorDTO.getValidTo() != null && emissionFactorDTO.getValidTo().isBefore(emissionFactorDTO.getValidFrom())) {
+            throw new IllegalArgumentException("Emission factor validity cannot end before it starts");
+        }
+        // A violation aborts the transaction, so each attempt reads the latest version in a transaction of its own.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> publishNextVersion(emissionFactorDTO));
+            } catch (DataIntegrityViolationException e) {
+                if (!isVersionConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= MAX_PUBLISH_ATTEMPTS) {
+                    throw new ConcurrencyFailureException("Emission factor version is being published concurrently, try again", e);
+                }
+                log.debug("Emission factor version was published concurrently, retrying (attempt {})", attempt);
+            }
+        }
+    }
+
+    private EmissionFactorDTO publishNextVersion(EmissionFactorDTO emissionFactorDTO) {
+        EmissionFactor emissionFactor = emissionFactorMapper.toEntity(emissionFactorDTO);
+        emissionFactor.setId(null);
+        emissionFactor.setRegionCode(
+            StringUtils.hasText(emissionFactor.getRegionCode())
+                ? emissionFactor.getRegionCode().replace(" ", "").toUpperCase(Locale.ROOT)
+                : null
+        );
+        emissionFactor.setActivityType(
+            StringUtils.hasText(emissionFactor.getActivityType()) ? emissionFactor.getActivityType().trim().toLowerCase(Locale.ROOT) : null
+        );
+        int latestVersion = emissionFactorRepository
+            .findLatestVersion(
+                emissionFactor.getScope(),
+                emissionFactor.getSector(),
+                emissionFactor.getRegionCode(),
+                emissionFactor.getActivityType()
+            )
+            .orElse(0);
+        emissionFactor.setVersion(latestVersion + 1);
+        // Flushed here, so a version conflict surfaces inside the attempt that caused it.
+        emissionFactor = emissionFactorRepository.saveAndFlush(emissionFactor);
+        applicationEventPublisher.publishEvent(new EmissionFactorsChangedEvent(emissionFactor.getId()));
+        return emissionFactorMapper.toDto(emissionFactor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionFactorDTO> findAll(Pageable pageable) {
+        log.debug("Request to get all EmissionFactors");
+        return emissionFactorRepository.findAll(pageable).map(emissionFactorMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmissionFactorDTO> findOne(Long id) {
+        log.debug("Request to get EmissionFactor : {}", id);
+        return emissionFactorRepository.findById(id).map(emissionFactorMapper::toDto);
+    }
+
+    @Override
+    public void delete(Long id) {
+        log.debug("Request to delete EmissionFactor : {}", id);
+        emissionFactorRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new EmissionFactorsChangedEvent(id));
+    }
+
+    private static boolean isVersionConflict(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.contains(VERSION_CONSTRAINT);
+    }
+}
@@ -0,0 +1,273 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.EmissionImport;
+import com.ecotrack.api.domain.EmissionImportError;
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.domain.enumeration.EmissionImportStatus;
+import com.ecotrack.api.repository.EmissionImportErrorRepository;
+import com.ecotrack.api.repository.EmissionImportRepository;
+import com.ecotrack.api.repository.EmissionImportRow;
+import com.ecotrack.api.repository.EmissionImportRowRepository;
+import com.ecotrack.api.service.EmissionImportService;
+import com.ecotrack.api.service.TenantSchemaService;
+import com.ecotrack.api.service.dto.EmissionImportDTO;
+import com.ecotrack.api.service.dto.EmissionImportErrorDTO;
+import com.ecotrack.api.service.imports.EmissionImportMerger;
+import com.ecotrack.api.service.imports.EmissionImportReader;
+import com.ecotrack.api.service.imports.EmissionImportRowValidator;
+import com.ecotrack.api.service.imports.EmissionImportStagedEvent;
+import com.ecotrack.api.service.mapper.EmissionImportMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for managing {@link EmissionImport}.
+ * <p>
+ * An upload is staged in one transaction, so an import that fails while it is read leaves no staged rows behind.
+ * Progress counters are committed separately every {@code application.imports.progress-interval} rows, so they can be
+ * polled while the upload is still being read. The staging transaction holds an advisory lock on the import, which
+ * PostgreSQL releases when the node loading it stops, so an import is only failed as interrupted once no node is
+ * loading it any more.
+ */
+@Service
+@Transactional
+public class EmissionImportServiceImpl implements EmissionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionImportServiceImpl.class);
+
+    private static final String LOADING_LOCK_PREFIX = "emission_import:";
+
+    private final EmissionImportRepository emissionImportRepository;
+    private final EmissionImportErrorRepository emissionImportErrorRepository;
+    private final EmissionImportRowRepository emissionImportRowRepository;
+    private final EmissionImportMapper emissionImportMapper;
+    private final EmissionImportRowValidator emissionImportRowValidator;
+    private final EmissionImportMerger emissionImportMerger;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ApplicationProperties applicationProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantSchemaService tenantSchemaService;
+
+    public EmissionImportServiceImpl(
+        EmissionImportRepository emissionImportRepository,
+        EmissionImportErrorRepository emissionImportErrorRepository,
+        EmissionImportRowRepository emissionImportRowRepository,
+        EmissionImportMapper emissionImportMapper,
+        EmissionImportRowValidator emissionImportRowValidator,
+        EmissionImportMerger emissionImportMerger,
+        ApplicationEventPublisher applicationEventPublisher,
+        ApplicationProperties applicationProperties,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        TenantSchemaService tenantSchemaService
+    ) {
+        this.emissionImportRepository = emissionImportRepository;
+        this.emissionImportErrorRepository = emissionImportErrorRepository;
+        this.emissionImportRowRepository = emissionImportRowRepository;
+        this.emissionImportMapper = emissionImportMapper;
+        this.emissionImportRowValidator = emissionImportRowValidator;
+        this.emissionImportMerger = emissionImportMerger;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.applicationProperties = applicationProperties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tenantSchemaService = tenantSchemaService;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmissionImportDTO importRecords(String tenantId, EmissionImportFormat format, String fileName, InputStream input)
+        throws IOException {
+        log.debug("Request to import {} emission records for tenant {}", format, tenantId);
+        EmissionImport emissionImport = new EmissionImport();
+        emissionImport.setTenantId(tenantId);
+        emissionImport.setFormat(format);
+        emissionImport.setFileName(fileName);
+        emissionImport.setStatus(EmissionImportStatus.LOADING);
+        emissionImport.setStartedAt(Instant.now());
+        Long importId = transactionTemplate.execute(status -> emissionImportRepository.save(emissionImport)).getId();
+
+        try {
+            return transactionTemplate.execute(status -> stage(importId, tenantId, format, input));
+        } catch (RuntimeException e) {
+            log.warn("Emission import {} failed while loading: {}", importId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> fail(importId, e));
+            if (e instanceof UncheckedIOException ioException) {
+                throw ioException.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionImportDTO> findByTenantId(String tenantId, Pageable pageable) {
+        log.debug("Request to get EmissionImports for tenant : {}", tenantId);
+        return emissionImportRepository.findByTenantId(tenantId, pageable).map(emissionImportMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmissionImportDTO> findOne(Long id) {
+        log.debug("Request to get EmissionImport : {}", id);
+        return emissionImportRepository.findById(id).map(emissionImportMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionImportErrorDTO> findErrors(Long importId, Pageable pageable) {
+        log.debug("Request to get the errors of EmissionImport : {}", importId);
+        return emissionImportErrorRepository.findByImportIdOrderByRowNumber(importId, pageable).map(emissionImportMapper::toDto);
+    }
+
+    /**
+     * Fail the imports that were interrupted while loading, whose staged rows were rolled back, and merge the ones
+     * that were staged but not yet merged when the application last stopped, in the shared tables and in each tenant
+     * schema. Imports that another node is still loading are left alone.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumeInterruptedImports() {
+        try {
+            tenantSchemaService.forEachSchema(skippedTenantIds -> {
+                List<EmissionImport> interrupted = emissionImportRepository.findByStatusIn(
+                    List.of(EmissionImportStatus.LOADING, EmissionImportStatus.MERGING)
+                );
+                for (EmissionImport emissionImport : interrupted) {
+                    if (skippedTenantIds.contains(emissionImport.getTenantId())) {
+                        continue;
+                    }
+                    if (emissionImport.getStatus() == EmissionImportStatus.LOADING) {
+                        String lockKey = loadingLockKey(emissionImport.getTenantId(), emissionImport.getId());
+                        if (!emissionImportRepository.tryTransactionLock(lockKey)) {
+                            log.debug("Emission import {} is still being loaded by another node", emissionImport.getId());
+                            continue;
+                        }
+                        log.info("Failing emission import {} interrupted while loading", emissionImport.getId());
+                        emissionImport.setStatus(EmissionImportStatus.FAILED);
+                        emissionImport.setFinishedAt(Instant.now());
+                        emissionImport.setErrorMessage("Interrupted while loading; the import must be uploaded again");
+                    } else {
+                        log.info("Resuming merge of emission import {}", emissionImport.getId());
+                        emissionImportMerger.merge(emissionImport.getId());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not resume emission imports: {}", e.getMessage());
+        }
+    }
+
+    private EmissionImportDTO stage(Long importId, String tenantId, EmissionImportFormat format, InputStream input) {
+        // A node that started up between the commit of the import and this lock may have failed it already.
+        if (
+            !emissionImportRepository.tryTransactionLock(loadingLockKey(tenantId, importId)) ||
+            emissionImportRepository.findById(importId).filter(i -> i.getStatus() == EmissionImportStatus.LOADING).isEmpty()
+        ) {
+            throw new IllegalStateException("Emission import " + importId + " is no longer loading");
+        }
+        ApplicationProperties.Imports properties = applicationProperties.getImports();
+        int progressInterval = Math.max(1, properties.getProgressInterval());
+        Progress progress = new Progress();
+        List<EmissionImportError> errors = new ArrayList<>();
+
+        try (
+            EmissionImportReader reader = EmissionImportReader.open(format, input, objectMapper);
+            EmissionImportRowRepository.Copy copy = emissionImportRowRepository.startCopy()
+        ) {
+            for (EmissionImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+                progress.processed++;
+                String error = row.error() != null ? row.error() : emissionImportRowValidator.validate(tenantId, row.record());
+                EmissionImportRow stagingRow = null;
+                if (error == null) {
+                    try {
+                        stagingRow = emissionImportMapper.toStagingRow(importId, row.rowNumber(), row.record());
+                    } catch (IllegalArgumentException e) {
+                        error = e.getMessage();
+                    }
+                }
+                if (stagingRow != null) {
+                    copy.write(stagingRow);
+                    progress.staged++;
+                } else {
+                    progress.rejected++;
+                    if (errors.size() < properties.getMaxReportedErrors()) {
+                        errors.add(new EmissionImportError(importId, tenantId, row.rowNumber(), error));
+                    }
+                }
+                if (progress.processed % progressInterval == 0) {
+                    transactionTemplate.executeWithoutResult(status ->
+                        emissionImportRepository.updateProgress(importId, progress.processed, progress.staged, progress.rejected)
+                    );
+                }
+            }
+            copy.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Staging emission import " + importId, null, e);
+        }
+
+        emissionImportErrorRepository.saveAll(errors);
+        EmissionImport emissionImport = emissionImportRepository
+            .findById(importId)
+            .orElseThrow(() -> new IllegalStateException("Emission import " + importId + " no longer exists"));
+        emissionImport.setProcessedRows(progress.processed);
+        emissionImport.setStagedRows(progress.staged);
+        emissionImport.setRejectedRows(progress.rejected);
+        if (progress.staged > 0) {
+            emissionImport.setStatus(EmissionImportStatus.MERGING);
+            applicationEventPublisher.publishEvent(new EmissionImportStagedEvent(importId));
+        } else {
+            emissionImport.setStatus(EmissionImportStatus.COMPLETED);
+            emissionImport.setFinishedAt(Instant.now());
+        }
+        log.debug("Staged {} of {} rows of emission import {}", progress.staged, progress.processed, importId);
+        return emissionImportMapper.toDto(emissionImport);
+    }
+
+    private static String loadingLockKey(String tenantId, Long importId) {
+        return LOADING_LOCK_PREFIX + tenantId + ":" + importId;
+    }
+
+    private void fail(Long importId, RuntimeException cause) {
+        emissionImportRepository
+            .findById(importId)
+            .ifPresent(emissionImport -> {
+                emissionImport.setStatus(EmissionImportStatus.FAILED);
+                emissionImport.setFinishedAt(Instant.now());
+                emissionImport.setErrorMessage(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+            });
+    }
+
+    private static final class Progress {
+
+        private long processed;
+        private long staged;
+        private long rejected;
+    }
+}
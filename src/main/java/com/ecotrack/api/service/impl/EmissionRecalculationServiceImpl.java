@@ -0,0 +1,130 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.domain.EmissionRecalculationJob;
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import com.ecotrack.api.repository.EmissionRecalculationJobRepository;
+import com.ecotrack.api.service.EmissionRecalculationService;
+import com.ecotrack.api.service.TenantSchemaService;
+import com.ecotrack.api.service.carbon.EmissionRecalculationJobRunner;
+import com.ecotrack.api.service.carbon.EmissionRecalculationRequestedEvent;
+import com.ecotrack.api.service.dto.EmissionRecalculationJobDTO;
+import com.ecotrack.api.service.mapper.EmissionRecalculationJobMapper;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link EmissionRecalculationJob}.
+ */
+@Service
+@Transactional
+public class EmissionRecalculationServiceImpl implements EmissionRecalculationService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionRecalculationServiceImpl.class);
+
+    private final EmissionRecalculationJobRepository emissionRecalculationJobRepository;
+    private final EmissionRecalculationJobMapper emissionRecalculationJobMapper;
+    private final EmissionRecalculationJobRunner emissionRecalculationJobRunner;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TenantSchemaService tenantSchemaService;
+
+    public EmissionRecalculationServiceImpl(
+        EmissionRecalculationJobRepository emissionRecalculationJobRepository,
+        EmissionRecalculationJobMapper emissionRecalculationJobMapper,
+        EmissionRecalculationJobRunner emissionRecalculationJobRunner,
+        ApplicationEventPublisher applicationEventPublisher,
+        TenantSchemaService tenantSchemaService
+    ) {
+        this.emissionRecalculationJobRepository = emissionRecalculationJobRepository;
+        this.emissionRecalculationJobMapper = emissionRecalculationJobMapper;
+        this.emissionRecalculationJobRunner = emissionRecalculationJobRunner;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.tenantSchemaService = tenantSchemaService;
+    }
+
+    @Override
+    public EmissionRecalculationJobDTO start(EmissionRecalculationJobDTO request) {
+        log.debug("Request to start EmissionRecalculationJob : {}", request);
+        if (request.getFromDate() != null && request.getToDate() != null && request.getFromDate().isAfter(request.getToDate())) {
+            throw new IllegalArgumentException("'fromDate' must not be after 'toDate'");
+        }
+        EmissionRecalculationJob job = emissionRecalculationJobMapper.toEntity(request);
+        job.setStatus(RecalculationJobStatus.PENDING);
+        job = emissionRecalculationJobRepository.save(job);
+        applicationEventPublisher.publishEvent(new EmissionRecalculationRequestedEvent(job.getId()));
+        return emissionRecalculationJobMapper.toDto(job);
+    }
+
+    @Override
+    public Optional<EmissionRecalculationJobDTO> resume(Long id) {
+        log.debug("Request to resume EmissionRecalculationJob : {}", id);
+        return emissionRecalculationJobRepository
+            .findById(id)
+            .map(job -> {
+                if (job.getStatus() == RecalculationJobStatus.COMPLETED) {
+                    throw new IllegalArgumentException("Recalculation job " + id + " has already completed");
+                }
+                if (!emissionRecalculationJobRunner.isRunning(job)) {
+                    job.setStatus(RecalculationJobStatus.PENDING);
+                    applicationEventPublisher.publishEvent(new EmissionRecalculationRequestedEvent(id));
+                }
+                return emissionRecalculationJobMapper.toDto(job);
+            });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionRecalculationJobDTO> findAll(Pageable pageable) {
+        log.debug("Request to get all EmissionRecalculationJobs");
+        return emissionRecalculationJobRepository.findAll(pageable).map(emissionRecalculationJobMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionRecalculationJobDTO> findByTenantId(String tenantId, Pageable pageable) {
+        log.debug("Request to get EmissionRecalculationJobs for tenant : {}", tenantId);
+        return emissionRecalculationJobRepository.findByTenantId(tenantId, pageable).map(emissionRecalculationJobMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmissionRecalculationJobDTO> findOne(Long id) {
+        log.debug("Request to get EmissionRecalculationJob : {}", id);
+        return emissionRecalculationJobRepository.findById(id).map(emissionRecalculationJobMapper::toDto);
+    }
+
+    /**
+     * Resume the pending jobs and the running jobs whose runner stopped checkpointing, e.g. because its node went
+     * down, in the shared tables and in each tenant schema. Jobs still running on a live runner are left alone.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${application.carbon-calculation.recalculation.resume-cron:0 */5 * * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumeInterruptedJobs() {
+        try {
+            tenantSchemaService.forEachSchema(skippedTenantIds -> {
+                List<EmissionRecalculationJob> interrupted = emissionRecalculationJobRepository.findByStatusIn(
+                    List.of(RecalculationJobStatus.PENDING, RecalculationJobStatus.RUNNING)
+                );
+                for (EmissionRecalculationJob job : interrupted) {
+                    if (!skippedTenantIds.contains(job.getTenantId()) && !emissionRecalculationJobRunner.isRunning(job)) {
+                        log.info("Resuming recalculation job {} after record {}", job.getId(), job.getLastRecordId());
+                        emissionRecalculationJobRunner.run(job.getId());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not resume recalculation jobs: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.repository.EmissionRecordSummary;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a tenant's emission record listing, after the record with the given recording date and id.
+ * <p>
+ * Clients only see the encoded form, so the sort key can change without breaking the API; a cursor from an older
+ * version is rejected rather than misread.
+ */
+record EmissionRecordCursor(LocalDate dateRecorded, long id) {
+    private static final String VERSION = "1";
+
+    static EmissionRecordCursor after(EmissionRecord emissionRecord) {
+        return new EmissionRecordCursor(emissionRecord.getDateRecorded(), emissionRecord.getId());
+    }
+
+    static EmissionRecordCursor after(EmissionRecordSummary summary) {
+        return new EmissionRecordCursor(summary.dateRecorded(), summary.id());
+    }
+
+    /**
+     * Whether the position lies among the records without a recording date, which are listed after all dated ones.
+     */
+    boolean undated() {
+        return dateRecorded == null;
+    }
+
+    String encode() {
+        String value = VERSION + ":" + (dateRecorded == null ? "" : dateRecorded.toString()) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}.
+     */
+    static EmissionRecordCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new EmissionRecordCursor(parts[1].isEmpty() ? null : LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
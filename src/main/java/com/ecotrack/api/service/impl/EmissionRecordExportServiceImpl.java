@@ -0,0 +1,67 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionRecordExportCriteria;
+import com.ecotrack.api.repository.EmissionRecordExportRepository;
+import com.ecotrack.api.service.EmissionRecordExportService;
+import com.ecotrack.api.service.exports.EmissionExportFormat;
+import com.ecotrack.api.service.exports.EmissionRecordExportWriter;
+import com.ecotrack.api.service.mapper.EmissionRecordMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for exporting {@link com.ecotrack.api.domain.EmissionRecord}s.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmissionRecordExportServiceImpl implements EmissionRecordExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionRecordExportServiceImpl.class);
+
+    private final EmissionRecordExportRepository emissionRecordExportRepository;
+    private final EmissionRecordMapper emissionRecordMapper;
+    private final ApplicationProperties applicationProperties;
+    private final ObjectMapper objectMapper;
+
+    public EmissionRecordExportServiceImpl(
+        EmissionRecordExportRepository emissionRecordExportRepository,
+        EmissionRecordMapper emissionRecordMapper,
+        ApplicationProperties applicationProperties,
+        ObjectMapper objectMapper
+    ) {
+        this.emissionRecordExportRepository = emissionRecordExportRepository;
+        this.emissionRecordMapper = emissionRecordMapper;
+        this.applicationProperties = applicationProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long export(EmissionRecordExportCriteria criteria, EmissionExportFormat format, OutputStream output) throws IOException {
+        log.debug("Request to export {} EmissionRecords : {}", format, criteria);
+        int fetchSize = Math.max(1, applicationProperties.getExports().getFetchSize());
+        long started = System.nanoTime();
+        long count;
+        try (EmissionRecordExportWriter writer = EmissionRecordExportWriter.open(format, output, objectMapper)) {
+            count = emissionRecordExportRepository.forEach(criteria, fetchSize, record ->
+                writer.write(emissionRecordMapper.toDto(record))
+            );
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Exporting emission records of tenant " + criteria.tenantId(), null, e);
+        }
+        log.debug(
+            "Exported {} EmissionRecords of tenant {} in {} ms",
+            count,
+            criteria.tenantId(),
+            (System.nanoTime() - started) / 1_000_000
+        );
+        return count;
+    }
+}
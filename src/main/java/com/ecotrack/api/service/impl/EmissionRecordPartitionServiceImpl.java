@@ -0,0 +1,92 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.service.EmissionRecordPartitionService;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for maintaining the partitions of the emission record table.
+ * <p>
+ * Partitions are created a year or more ahead, so new records rarely land in a default partition. While the table is
+ * being migrated to partitions, the existing records are copied in batches; Liquibase swaps the tables on the first
+ * start after the copy has finished.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmissionRecordPartitionServiceImpl implements EmissionRecordPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionRecordPartitionServiceImpl.class);
+
+    private final EmissionRecordRepository emissionRecordRepository;
+    private final ApplicationProperties applicationProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmissionRecordPartitionServiceImpl(
+        EmissionRecordRepository emissionRecordRepository,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.emissionRecordRepository = emissionRecordRepository;
+        this.applicationProperties = applicationProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public int ensurePartitions() {
+        int currentYear = LocalDate.now(ZoneOffset.UTC).getYear();
+        int lastYear = currentYear + Math.max(0, applicationProperties.getPartitioning().getYearsAhead());
+        Integer created = transactionTemplate.execute(status -> emissionRecordRepository.ensurePartitions(currentYear, lastYear));
+        if (created != null && created > 0) {
+            log.info("Created {} emission record partitions up to {}", created, lastYear);
+        }
+        return created == null ? 0 : created;
+    }
+
+    @Override
+    public long backfill() {
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> emissionRecordRepository.isPartitionBackfillPending()))) {
+            return 0;
+        }
+        int batchSize = Math.max(1, applicationProperties.getPartitioning().getBackfillBatchSize());
+        long covered = 0;
+        int batch;
+        do {
+            Integer rows = transactionTemplate.execute(status -> emissionRecordRepository.backfillPartitions(batchSize));
+            batch = rows == null ? 0 : rows;
+            covered += batch;
+        } while (batch > 0);
+        log.info("Backfilled {} emission records into the partitioned table; the tables are swapped on the next start", covered);
+        return covered;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${application.partitioning.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        try {
+            ensurePartitions();
+            backfill();
+        } catch (RuntimeException e) {
+            log.warn("Could not maintain emission record partitions: {}", e.getMessage());
+        }
+    }
+}
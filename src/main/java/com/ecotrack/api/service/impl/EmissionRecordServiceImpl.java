@@ -1,20 +1,44 @@
 package com.ecotrack.api.service.impl;
 
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.config.Constants;
 import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.repository.EmissionRecordPatch;
 import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRecordSummary;
+import com.ecotrack.api.security.SecurityUtils;
 import com.ecotrack.api.service.EmissionRecordService;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.dto.CursorPage;
+import com.ecotrack.api.service.dto.EmissionRecordBulkPatchResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.ecotrack.api.service.dto.EmissionRecordPatchDTO;
 import com.ecotrack.api.service.mapper.EmissionRecordMapper;
+import com.ecotrack.api.service.rollup.EmissionRollupDeltas;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link EmissionRecord}.
+ * <p>
+ * Every write also applies its delta to the emission rollups in the same transaction, and retires the tenant's cached
+ * emission series once it commits.
  */
 @Service
 @Transactional
@@ -26,25 +50,66 @@ public class EmissionRecordServiceImpl implements EmissionRecordService {
 
     private final EmissionRecordMapper emissionRecordMapper;
 
-    public EmissionRecordServiceImpl(EmissionRecordRepository emissionRecordRepository, EmissionRecordMapper emissionRecordMapper) {
+    private final EntityManager entityManager;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final EmissionRollupService emissionRollupService;
+
+    private final EmissionSeriesCache emissionSeriesCache;
+
+    public EmissionRecordServiceImpl(
+        EmissionRecordRepository emissionRecordRepository,
+        EmissionRecordMapper emissionRecordMapper,
+        EntityManager entityManager,
+        ApplicationProperties applicationProperties,
+        EmissionRollupService emissionRollupService,
+        EmissionSeriesCache emissionSeriesCache
+    ) {
         this.emissionRecordRepository = emissionRecordRepository;
         this.emissionRecordMapper = emissionRecordMapper;
+        this.entityManager = entityManager;
+        this.applicationProperties = applicationProperties;
+        this.emissionRollupService = emissionRollupService;
+        this.emissionSeriesCache = emissionSeriesCache;
     }
 
     @Override
     public EmissionRecordDTO save(EmissionRecordDTO emissionRecordDTO) {
         log.debug("Request to save EmissionRecord : {}", emissionRecordDTO);
-        EmissionRecord emissionRecord = emissionRecordMapper.toEntity(emissionRecordDTO);
-        emissionRecord = emissionRecordRepository.save(emissionRecord);
-        return emissionRecordMapper.toDto(emissionRecord);
+        return persist(emissionRecordDTO);
+    }
+
+    @Override
+    public List<EmissionRecordDTO> saveAll(List<EmissionRecordDTO> emissionRecordDTOs) {
+        log.debug("Request to save {} EmissionRecords", emissionRecordDTOs.size());
+        int chunkSize = Math.max(1, applicationProperties.getCarbonCalculation().getBatch().getPersistChunkSize());
+        // Align the JDBC batch with the flush chunk so each chunk goes out as a single batched INSERT;
+        // ids come from the pooled sequence_generator, so no round-trip per row is needed.
+        entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+
+        List<EmissionRecordDTO> result = new ArrayList<>(emissionRecordDTOs.size());
+        EmissionRollupDeltas rollupDeltas = new EmissionRollupDeltas();
+        for (int from = 0; from < emissionRecordDTOs.size(); from += chunkSize) {
+            List<EmissionRecord> chunk = emissionRecordDTOs
+                .subList(from, Math.min(from + chunkSize, emissionRecordDTOs.size()))
+                .stream()
+                .map(emissionRecordMapper::toEntity)
+                .toList();
+            emissionRecordRepository.saveAll(chunk);
+            chunk.forEach(rollupDeltas::add);
+            entityManager.flush();
+            chunk.stream().map(emissionRecordMapper::toDto).forEach(result::add);
+            entityManager.clear();
+        }
+        emissionRollupService.apply(rollupDeltas);
+        return result;
     }
 
     @Override
     public EmissionRecordDTO update(EmissionRecordDTO emissionRecordDTO) {
         log.debug("Request to update EmissionRecord : {}", emissionRecordDTO);
-        EmissionRecord emissionRecord = emissionRecordMapper.toEntity(emissionRecordDTO);
-        emissionRecord = emissionRecordRepository.save(emissionRecord);
-        return emissionRecordMapper.toDto(emissionRecord);
+        return persist(emissionRecordDTO);
     }
 
     @Override
@@ -54,6 +119,7 @@ public class EmissionRecordServiceImpl implements EmissionRecordService {
         return emissionRecordRepository
             .findById(emissionRecordDTO.getId())
             .map(existingEmissionRecord -> {
+                EmissionRollupDeltas rollupDeltas = new EmissionRollupDeltas().remove(existingEmissionRecord);
                 if (emissionRecordDTO.getTenantId() != null) {
                     existingEmissionRecord.setTenantId(emissionRecordDTO.getTenantId());
                 }
@@ -96,13 +162,77 @@ public class EmissionRecordServiceImpl implements EmissionRecordService {
                 if (emissionRecordDTO.getMetadata() != null) {
                     existingEmissionRecord.setMetadata(emissionRecordDTO.getMetadata());
                 }
+                if (emissionRecordDTO.getActivityData() != null) {
+                    existingEmissionRecord.setActivityData(emissionRecordDTO.getActivityData());
+                }
+                if (emissionRecordDTO.getEmissionFactor() != null) {
+                    existingEmissionRecord.setEmissionFactor(emissionRecordDTO.getEmissionFactor());
+                }
+                if (emissionRecordDTO.getEfficiencyRatio() != null) {
+                    existingEmissionRecord.setEfficiencyRatio(emissionRecordDTO.getEfficiencyRatio());
+                }
+                if (emissionRecordDTO.getSector() != null) {
+                    existingEmissionRecord.setSector(emissionRecordDTO.getSector());
+                }
+                if (emissionRecordDTO.getRegionCode() != null) {
+                    existingEmissionRecord.setRegionCode(emissionRecordDTO.getRegionCode());
+                }
+                if (emissionRecordDTO.getActivityType() != null) {
+                    existingEmissionRecord.setActivityType(emissionRecordDTO.getActivityType());
+                }
+                if (emissionRecordDTO.getFormulaCode() != null) {
+                    existingEmissionRecord.setFormulaCode(emissionRecordDTO.getFormulaCode());
+                }
+                if (emissionRecordDTO.getCalculationParameters() != null) {
+                    existingEmissionRecord.setCalculationParameters(emissionRecordDTO.getCalculationParameters());
+                }
 
+                emissionRollupService.apply(rollupDeltas.add(existingEmissionRecord));
                 return existingEmissionRecord;
             })
             .map(emissionRecordRepository::save)
             .map(emissionRecordMapper::toDto);
     }
 
+    @Override
+    public EmissionRecordBulkPatchResultDTO bulkPartialUpdate(String tenantId, List<EmissionRecordPatchDTO> patches) {
+        log.debug("Request to partially update {} EmissionRecords of tenant {}", patches.size(), tenantId);
+        Set<Long> ids = new HashSet<>(patches.size() * 2);
+        for (EmissionRecordPatchDTO patch : patches) {
+            if (patch.getId() == null) {
+                throw new IllegalArgumentException("Every patch needs an id");
+            }
+            if (!ids.add(patch.getId())) {
+                throw new IllegalArgumentException("Emission record " + patch.getId() + " is patched more than once");
+            }
+        }
+
+        // Verification fields do not feed the rollups, so the records never need to be loaded.
+        String modifiedBy = SecurityUtils.getCurrentUserLogin().orElse(Constants.SYSTEM);
+        Instant modifiedDate = Instant.now();
+        int chunkSize = Math.max(1, applicationProperties.getCarbonCalculation().getBatch().getPersistChunkSize());
+        EmissionRecordBulkPatchResultDTO result = new EmissionRecordBulkPatchResultDTO();
+        result.setRequested(patches.size());
+        for (int from = 0; from < patches.size(); from += chunkSize) {
+            List<EmissionRecordPatch> chunk = patches
+                .subList(from, Math.min(from + chunkSize, patches.size()))
+                .stream()
+                .map(patch -> new EmissionRecordPatch(patch.getId(), patch.getVerified(), patch.getConfidenceScore(), patch.getNotes()))
+                .toList();
+            int updated = emissionRecordRepository.applyPatches(tenantId, chunk, modifiedBy, modifiedDate);
+            result.setUpdated(result.getUpdated() + updated);
+            if (updated < chunk.size()) {
+                List<Long> chunkIds = chunk.stream().map(EmissionRecordPatch::id).toList();
+                Set<Long> found = new HashSet<>(emissionRecordRepository.findIdsByTenantIdAndIdIn(tenantId, chunkIds));
+                chunkIds.stream().filter(id -> !found.contains(id)).forEach(result.getNotFoundIds()::add);
+            }
+        }
+        if (result.getUpdated() > 0) {
+            emissionSeriesCache.invalidate(tenantId);
+        }
+        return result;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<EmissionRecordDTO> findAll(Pageable pageable) {
@@ -117,6 +247,64 @@ public class EmissionRecordServiceImpl implements EmissionRecordService {
         return emissionRecordRepository.findByTenantId(tenantId, pageable).map(emissionRecordMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionRecordDTO> findByTenantIdAndMetadata(String tenantId, String status, Boolean flagged, Pageable pageable) {
+        log.debug("Request to get EmissionRecords for tenant: {} by metadata status: {}, flagged: {}", tenantId, status, flagged);
+        if (status == null && flagged == null) {
+            throw new IllegalArgumentException("A metadata status or flag is required");
+        }
+        PageRequest page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return emissionRecordRepository.findByTenantIdAndMetadata(tenantId, status, flagged, page).map(emissionRecordMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EmissionRecordDTO> findByTenantId(String tenantId, String cursor, int size) {
+        log.debug("Request to get a keyset page of EmissionRecords for tenant: {}", tenantId);
+        CursorPage<EmissionRecord> page = findKeysetPage(
+            cursor,
+            size,
+            (after, limit) ->
+                after == null
+                    ? emissionRecordRepository.findDatedKeysetPage(tenantId, limit)
+                    : emissionRecordRepository.findDatedKeysetPageAfter(tenantId, after.dateRecorded(), after.id(), limit),
+            (afterId, limit) -> emissionRecordRepository.findUndatedKeysetPageAfter(tenantId, afterId, limit),
+            EmissionRecordCursor::after
+        );
+        return new CursorPage<>(page.content().stream().map(emissionRecordMapper::toDto).toList(), page.nextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionRecordSummary> findSummaries(Pageable pageable) {
+        log.debug("Request to get a page of EmissionRecord summaries");
+        return emissionRecordRepository.findAllSummaries(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmissionRecordSummary> findSummariesByTenantId(String tenantId, Pageable pageable) {
+        log.debug("Request to get EmissionRecord summaries for tenant: {}", tenantId);
+        return emissionRecordRepository.findSummariesByTenantId(tenantId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EmissionRecordSummary> findSummariesByTenantId(String tenantId, String cursor, int size) {
+        log.debug("Request to get a keyset page of EmissionRecord summaries for tenant: {}", tenantId);
+        return findKeysetPage(
+            cursor,
+            size,
+            (after, limit) ->
+                after == null
+                    ? emissionRecordRepository.findDatedKeysetSummaries(tenantId, limit)
+                    : emissionRecordRepository.findDatedKeysetSummariesAfter(tenantId, after.dateRecorded(), after.id(), limit),
+            (afterId, limit) -> emissionRecordRepository.findUndatedKeysetSummariesAfter(tenantId, afterId, limit),
+            EmissionRecordCursor::after
+        );
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<EmissionRecordDTO> findOne(Long id) {
@@ -127,6 +315,54 @@ public class EmissionRecordServiceImpl implements EmissionRecordService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete EmissionRecord : {}", id);
-        emissionRecordRepository.deleteById(id);
+        emissionRecordRepository
+            .findById(id)
+            .ifPresent(emissionRecord -> {
+                emissionRecordRepository.delete(emissionRecord);
+                emissionRollupService.apply(new EmissionRollupDeltas().remove(emissionRecord));
+            });
+    }
+
+    /**
+     * Keyset page after {@code cursor}: dated rows from {@code datedPage} (which gets {@code null} for the first page),
+     * topped up with undated rows from {@code undatedPage} once the dated ones run out.
+     */
+    private static <T> CursorPage<T> findKeysetPage(
+        String cursor,
+        int size,
+        BiFunction<EmissionRecordCursor, Pageable, List<T>> datedPage,
+        BiFunction<Long, Pageable, List<T>> undatedPage,
+        Function<T, EmissionRecordCursor> position
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        EmissionRecordCursor after = cursor == null || cursor.isEmpty() ? null : EmissionRecordCursor.decode(cursor);
+        // One record more than requested tells whether another page follows.
+        int limit = size + 1;
+        List<T> records = new ArrayList<>(limit);
+        if (after == null || !after.undated()) {
+            records.addAll(datedPage.apply(after, PageRequest.of(0, limit)));
+        }
+        if (records.size() < limit) {
+            long afterId = after != null && after.undated() ? after.id() : Long.MAX_VALUE;
+            records.addAll(undatedPage.apply(afterId, PageRequest.of(0, limit - records.size())));
+        }
+
+        boolean hasNext = records.size() > size;
+        List<T> content = hasNext ? records.subList(0, size) : records;
+        String nextCursor = hasNext ? position.apply(content.get(size - 1)).encode() : null;
+        return new CursorPage<>(content, nextCursor);
+    }
+
+    private EmissionRecordDTO persist(EmissionRecordDTO emissionRecordDTO) {
+        EmissionRollupDeltas rollupDeltas = new EmissionRollupDeltas();
+        if (emissionRecordDTO.getId() != null) {
+            emissionRecordRepository.findById(emissionRecordDTO.getId()).ifPresent(rollupDeltas::remove);
+        }
+        EmissionRecord emissionRecord = emissionRecordMapper.toEntity(emissionRecordDTO);
+        emissionRecord = emissionRecordRepository.save(emissionRecord);
+        emissionRollupService.apply(rollupDeltas.add(emissionRecord));
+        return emissionRecordMapper.toDto(emissionRecord);
     }
 }
@@ -0,0 +1,187 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.TenantSchemaStatus;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRollupRepository;
+import com.ecotrack.api.repository.EmissionScopeTotal;
+import com.ecotrack.api.repository.TenantSchemaRepository;
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.dto.EmissionTotalsDTO;
+import com.ecotrack.api.service.dto.ScopeEmissionTotalDTO;
+import com.ecotrack.api.service.rollup.EmissionRollupDeltas;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for emission rollups.
+ * <p>
+ * Totals over a date range read month rollups for the whole months it covers and day rollups for the partial months
+ * at either end, so a query touches at most a few dozen rows regardless of how many records a tenant has.
+ */
+@Service
+@Transactional
+public class EmissionRollupServiceImpl implements EmissionRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionRollupServiceImpl.class);
+
+    private static final String RECONCILE_LOCK_PREFIX = "emission_rollup:";
+
+    private final EmissionRollupRepository emissionRollupRepository;
+    private final EmissionRecordRepository emissionRecordRepository;
+    private final TransactionTemplate reconcileTransaction;
+    private final EmissionSeriesCache emissionSeriesCache;
+    private final TenantSchemaRepository tenantSchemaRepository;
+
+    public EmissionRollupServiceImpl(
+        EmissionRollupRepository emissionRollupRepository,
+        EmissionRecordRepository emissionRecordRepository,
+        PlatformTransactionManager transactionManager,
+        EmissionSeriesCache emissionSeriesCache,
+        TenantSchemaRepository tenantSchemaRepository
+    ) {
+        this.emissionRollupRepository = emissionRollupRepository;
+        this.emissionRecordRepository = emissionRecordRepository;
+        this.emissionSeriesCache = emissionSeriesCache;
+        this.tenantSchemaRepository = tenantSchemaRepository;
+        // Records and rollups are read from one snapshot, so the repairs are exact even while writers keep adding
+        // their own deltas; a repair that races a writer on the same row fails and is retried on the next run.
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public void apply(EmissionRollupDeltas deltas) {
+        for (EmissionRollupDeltas.Delta delta : deltas.toList()) {
+            addDelta(delta);
+        }
+        // Every record write passes through here, so it also retires the cached series of the tenants it touched, even
+        // when only a supplier, installation or product changed and the rollups stay the same.
+        deltas.tenantIds().forEach(emissionSeriesCache::invalidate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmissionTotalsDTO getTotals(String tenantId, LocalDate from, LocalDate to) {
+        log.debug("Request to get emission totals for tenant {} from {} to {}", tenantId, from, to);
+        Map<Scope, long[]> totals = new EnumMap<>(Scope.class);
+        if (from == null && to == null) {
+            add(totals, emissionRollupRepository.sumByScope(tenantId, RollupPeriod.MONTH));
+        } else {
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("Both 'from' and 'to' are required for a date range");
+            }
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("'from' must not be after 'to'");
+            }
+            LocalDate firstWholeMonth = from.getDayOfMonth() == 1 ? from : from.withDayOfMonth(1).plusMonths(1);
+            LocalDate endOfLastWholeMonth = to.plusDays(1).getDayOfMonth() == 1 ? to : to.withDayOfMonth(1).minusDays(1);
+            if (firstWholeMonth.isAfter(endOfLastWholeMonth)) {
+                add(totals, emissionRollupRepository.sumByScope(tenantId, RollupPeriod.DAY, from, to));
+            } else {
+                LocalDate lastWholeMonth = endOfLastWholeMonth.withDayOfMonth(1);
+                add(totals, emissionRollupRepository.sumByScope(tenantId, RollupPeriod.MONTH, firstWholeMonth, lastWholeMonth));
+                if (from.isBefore(firstWholeMonth)) {
+                    add(totals, emissionRollupRepository.sumByScope(tenantId, RollupPeriod.DAY, from, firstWholeMonth.minusDays(1)));
+                }
+                if (to.isAfter(endOfLastWholeMonth)) {
+                    add(totals, emissionRollupRepository.sumByScope(tenantId, RollupPeriod.DAY, endOfLastWholeMonth.plusDays(1), to));
+                }
+            }
+        }
+
+        EmissionTotalsDTO result = new EmissionTotalsDTO();
+        result.setTenantId(tenantId);
+        result.setFrom(from);
+        result.setTo(to);
+        List<ScopeEmissionTotalDTO> scopes = new ArrayList<>(totals.size());
+        totals.forEach((scope, total) -> scopes.add(new ScopeEmissionTotalDTO(scope, total[0], total[1])));
+        result.setScopes(scopes);
+        result.setCarbonGrams(scopes.stream().mapToLong(ScopeEmissionTotalDTO::getCarbonGrams).sum());
+        result.setRecordCount(scopes.stream().mapToLong(ScopeEmissionTotalDTO::getRecordCount).sum());
+        return result;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcile(String tenantId) {
+        log.debug("Request to reconcile emission rollups of tenant {}", tenantId);
+        Integer repaired = reconcileTransaction.execute(status -> {
+            // Another node reconciling the same tenant would compute the same repairs; applying them twice would
+            // introduce the very drift they correct.
+            if (!emissionRollupRepository.tryTransactionLock(RECONCILE_LOCK_PREFIX + tenantId)) {
+                log.debug("Emission rollups of tenant {} are being reconciled elsewhere", tenantId);
+                return 0;
+            }
+            List<EmissionRollupDeltas.Delta> drift = EmissionRollupDeltas.drift(
+                tenantId,
+                emissionRecordRepository.findDailyTotals(tenantId),
+                emissionRollupRepository.findByTenantId(tenantId)
+            ).toList();
+            drift.forEach(this::addDelta);
+            emissionRollupRepository.deleteEmptyByTenantId(tenantId);
+            if (!drift.isEmpty()) {
+                emissionSeriesCache.invalidate(tenantId);
+            }
+            return drift.size();
+        });
+        if (repaired != null && repaired > 0) {
+            log.warn("Repaired {} drifted emission rollups of tenant {}", repaired, tenantId);
+        }
+        return repaired == null ? 0 : repaired;
+    }
+
+    @Scheduled(cron = "${application.carbon-calculation.rollups.reconcile-cron:0 30 2 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcileAll() {
+        Set<String> tenantIds = new TreeSet<>(emissionRecordRepository.findTenantIds());
+        tenantIds.addAll(emissionRollupRepository.findTenantIds());
+        tenantIds.addAll(tenantSchemaRepository.findTenantIdsByStatus(TenantSchemaStatus.ACTIVE));
+        for (String tenantId : tenantIds) {
+            try {
+                // Bound to the tenant, the reconciliation reads its schema if it has one.
+                TenantContext.runWithTenant(tenantId, () -> reconcile(tenantId));
+            } catch (RuntimeException e) {
+                log.warn("Could not reconcile emission rollups of tenant {}: {}", tenantId, e.getMessage());
+            }
+        }
+    }
+
+    private void addDelta(EmissionRollupDeltas.Delta delta) {
+        EmissionRollupDeltas.Key key = delta.key();
+        emissionRollupRepository.addDelta(
+            key.tenantId(),
+            key.scope().name(),
+            key.periodType().name(),
+            key.periodStart(),
+            delta.carbonGrams(),
+            delta.recordCount()
+        );
+    }
+
+    private static void add(Map<Scope, long[]> totals, List<EmissionScopeTotal> scopeTotals) {
+        for (EmissionScopeTotal scopeTotal : scopeTotals) {
+            long[] total = totals.computeIfAbsent(scopeTotal.scope(), scope -> new long[2]);
+            total[0] += scopeTotal.carbonGrams() == null ? 0 : scopeTotal.carbonGrams();
+            total[1] += scopeTotal.recordCount() == null ? 0 : scopeTotal.recordCount();
+        }
+    }
+}
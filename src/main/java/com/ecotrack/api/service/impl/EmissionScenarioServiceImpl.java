@@ -0,0 +1,123 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.service.EmissionScenarioService;
+import com.ecotrack.api.service.carbon.scenario.EmissionLedgerSnapshot;
+import com.ecotrack.api.service.carbon.scenario.EmissionLedgerSnapshotCache;
+import com.ecotrack.api.service.carbon.scenario.ScenarioOutcome;
+import com.ecotrack.api.service.carbon.scenario.ScenarioOverride;
+import com.ecotrack.api.service.dto.EmissionScenarioDTO;
+import com.ecotrack.api.service.dto.EmissionScenarioDeltaDTO;
+import com.ecotrack.api.service.dto.EmissionScenarioOverrideDTO;
+import com.ecotrack.api.service.dto.EmissionScenarioResultDTO;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for evaluating what-if scenarios against cached ledger snapshots.
+ */
+@Service
+@Transactional
+public class EmissionScenarioServiceImpl implements EmissionScenarioService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionScenarioServiceImpl.class);
+
+    private final EmissionLedgerSnapshotCache emissionLedgerSnapshotCache;
+
+    private final ApplicationProperties applicationProperties;
+
+    public EmissionScenarioServiceImpl(
+        EmissionLedgerSnapshotCache emissionLedgerSnapshotCache,
+        ApplicationProperties applicationProperties
+    ) {
+        this.emissionLedgerSnapshotCache = emissionLedgerSnapshotCache;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Scenarios run against an in-memory snapshot; only a snapshot load reads the database, in its own transaction.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<EmissionScenarioResultDTO> simulate(String tenantId, List<EmissionScenarioDTO> scenarios, boolean reloadSnapshot) {
+        log.debug("Request to simulate {} scenarios for tenant {}", scenarios.size(), tenantId);
+        int maxScenarios = applicationProperties.getCarbonCalculation().getScenarios().getMaxScenarios();
+        if (scenarios.isEmpty() || scenarios.size() > maxScenarios) {
+            throw new IllegalArgumentException("Between 1 and " + maxScenarios + " scenarios can be simulated at once");
+        }
+        List<List<ScenarioOverride>> overrides = scenarios.stream().map(EmissionScenarioServiceImpl::toOverrides).toList();
+
+        EmissionLedgerSnapshot snapshot = emissionLedgerSnapshotCache.get(tenantId, reloadSnapshot);
+        // The snapshot is immutable, so scenarios are evaluated side by side on the common pool.
+        List<ScenarioOutcome> outcomes = overrides.parallelStream().map(snapshot::evaluate).toList();
+
+        List<EmissionScenarioResultDTO> results = new ArrayList<>(scenarios.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            results.add(toResult(scenarios.get(i).getName(), outcomes.get(i)));
+        }
+        return results;
+    }
+
+    private static List<ScenarioOverride> toOverrides(EmissionScenarioDTO scenario) {
+        if (scenario.getOverrides() == null || scenario.getOverrides().isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + scenario.getName() + " has no overrides");
+        }
+        List<ScenarioOverride> overrides = new ArrayList<>(scenario.getOverrides().size());
+        for (EmissionScenarioOverrideDTO override : scenario.getOverrides()) {
+            if (override.getEmissionFactorMultiplier() == null && override.getEfficiencyRatio() == null) {
+                throw new IllegalArgumentException("An override needs an emission factor multiplier or an efficiency ratio");
+            }
+            if (override.getEmissionFactorMultiplier() != null && override.getEmissionFactorMultiplier().signum() <= 0) {
+                throw new IllegalArgumentException("Emission factor multiplier must be greater than zero");
+            }
+            if (
+                override.getEfficiencyRatio() != null &&
+                (override.getEfficiencyRatio().signum() < 0 || override.getEfficiencyRatio().compareTo(BigDecimal.ONE) > 0)
+            ) {
+                throw new IllegalArgumentException("Efficiency ratio must be between 0 and 1");
+            }
+            overrides.add(
+                new ScenarioOverride(
+                    override.getScope(),
+                    override.getSupplierId(),
+                    override.getEmissionFactorMultiplier() == null ? 1 : override.getEmissionFactorMultiplier().doubleValue(),
+                    override.getEfficiencyRatio() == null ? Double.NaN : override.getEfficiencyRatio().doubleValue()
+                )
+            );
+        }
+        return overrides;
+    }
+
+    private static EmissionScenarioResultDTO toResult(String name, ScenarioOutcome outcome) {
+        EmissionLedgerSnapshot snapshot = outcome.snapshot();
+        EmissionScenarioResultDTO result = new EmissionScenarioResultDTO();
+        result.setName(name);
+        result.setRecordCount(snapshot.recordCount());
+        result.setSnapshotLoadedAt(snapshot.loadedAt());
+        result.setTotal(delta(null, null, outcome.baselineTotal(), outcome.scenarioTotal()));
+
+        List<EmissionScenarioDeltaDTO> scopes = new ArrayList<>();
+        for (Scope scope : Scope.values()) {
+            scopes.add(delta(scope, null, outcome.baselineForScope(scope), outcome.scenarioForScope(scope)));
+        }
+        result.setScopes(scopes);
+
+        List<EmissionScenarioDeltaDTO> suppliers = new ArrayList<>(snapshot.suppliers().size());
+        for (int i = 0; i < snapshot.suppliers().size(); i++) {
+            suppliers.add(delta(null, snapshot.suppliers().get(i), outcome.baselineForSupplier(i), outcome.scenarioForSupplier(i)));
+        }
+        result.setSuppliers(suppliers);
+        return result;
+    }
+
+    private static EmissionScenarioDeltaDTO delta(Scope scope, String supplierId, double baseline, double scenario) {
+        return new EmissionScenarioDeltaDTO(scope, supplierId, Math.round(baseline), Math.round(scenario));
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRecordUncertaintyInput;
+import com.ecotrack.api.service.EmissionUncertaintyService;
+import com.ecotrack.api.service.carbon.MonteCarloUncertaintySimulator;
+import com.ecotrack.api.service.dto.EmissionUncertaintyDTO;
+import com.ecotrack.api.service.dto.ScopeUncertaintyDTO;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for propagating emission record uncertainty with a Monte Carlo simulation.
+ * <p>
+ * A record's {@code uncertaintyFactor} is read as the relative half-width of its 95% interval (0.1 = ±10%), as in the
+ * GHG Protocol uncertainty guidance. Records without one fall back to their {@code confidenceScore} (0-100), where a
+ * score of 100 is exact and every point below widens the interval by 1%. Records with neither are treated as exact.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmissionUncertaintyServiceImpl implements EmissionUncertaintyService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionUncertaintyServiceImpl.class);
+
+    private static final double Z_95 = 1.959963984540054;
+
+    private final EmissionRecordRepository emissionRecordRepository;
+
+    private final ApplicationProperties applicationProperties;
+
+    public EmissionUncertaintyServiceImpl(EmissionRecordRepository emissionRecordRepository, ApplicationProperties applicationProperties) {
+        this.emissionRecordRepository = emissionRecordRepository;
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Override
+    public EmissionUncertaintyDTO simulate(String tenantId, LocalDate from, LocalDate to, Integer iterations, Long seed) {
+        log.debug("Request to simulate emission uncertainty for tenant {} from {} to {}", tenantId, from, to);
+        ApplicationProperties.CarbonCalculation.Uncertainty properties = applicationProperties.getCarbonCalculation().getUncertainty();
+        int iterationCount = iterations == null ? properties.getDefaultIterations() : iterations;
+        if (iterationCount <= 0 || iterationCount > properties.getMaxIterations()) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + properties.getMaxIterations());
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        long effectiveSeed = seed == null ? ThreadLocalRandom.current().nextLong() : seed;
+
+        List<EmissionRecordUncertaintyInput> inputs = emissionRecordRepository.findUncertaintyInputs(tenantId, from, to);
+
+        // Every scope gets its own generator split off in enum order, so adding records to one scope leaves the draws
+        // of the others unchanged.
+        SplittableRandom random = new SplittableRandom(effectiveSeed);
+        double[] totals = new double[iterationCount];
+        int totalRecords = 0;
+        long totalRecordedGrams = 0;
+        List<ScopeUncertaintyDTO> scopes = new ArrayList<>();
+        for (Scope scope : Scope.values()) {
+            SplittableRandom scopeRandom = random.split();
+            List<EmissionRecordUncertaintyInput> scopeInputs = inputs
+                .stream()
+                .filter(input -> input.scope() == scope && input.carbonGrams() != null)
+                .toList();
+            if (scopeInputs.isEmpty()) {
+                continue;
+            }
+            double[] values = new double[scopeInputs.size()];
+            double[] uncertainties = new double[scopeInputs.size()];
+            long recordedGrams = 0;
+            for (int i = 0; i < values.length; i++) {
+                EmissionRecordUncertaintyInput input = scopeInputs.get(i);
+                values[i] = input.carbonGrams();
+                uncertainties[i] = relativeStandardUncertainty(input);
+                recordedGrams += input.carbonGrams();
+            }
+            double[] scopeTotals = MonteCarloUncertaintySimulator.simulate(values, uncertainties, iterationCount, scopeRandom);
+            for (int i = 0; i < iterationCount; i++) {
+                totals[i] += scopeTotals[i];
+            }
+            scopes.add(summarize(scope, values.length, recordedGrams, scopeTotals));
+            totalRecords += values.length;
+            totalRecordedGrams += recordedGrams;
+        }
+
+        EmissionUncertaintyDTO result = new EmissionUncertaintyDTO();
+        result.setTenantId(tenantId);
+        result.setFrom(from);
+        result.setTo(to);
+        result.setIterations(iterationCount);
+        result.setSeed(effectiveSeed);
+        result.setScopes(scopes);
+        result.setTotal(summarize(null, totalRecords, totalRecordedGrams, totals));
+        return result;
+    }
+
+    private static double relativeStandardUncertainty(EmissionRecordUncertaintyInput input) {
+        double halfWidth;
+        if (input.uncertaintyFactor() != null) {
+            halfWidth = input.uncertaintyFactor().doubleValue();
+        } else if (input.confidenceScore() != null) {
+            halfWidth = (100 - Math.min(100, Math.max(0, input.confidenceScore()))) / 100.0;
+        } else {
+            return 0;
+        }
+        return Math.max(0, halfWidth) / Z_95;
+    }
+
+    private static ScopeUncertaintyDTO summarize(Scope scope, int recordCount, long recordedGrams, double[] totals) {
+        MonteCarloUncertaintySimulator.Distribution distribution = MonteCarloUncertaintySimulator.summarize(totals);
+        ScopeUncertaintyDTO dto = new ScopeUncertaintyDTO();
+        dto.setScope(scope);
+        dto.setRecordCount(recordCount);
+        dto.setRecordedGrams(recordedGrams);
+        dto.setMeanGrams(Math.round(distribution.mean()));
+        dto.setP5Grams(Math.round(distribution.p5()));
+        dto.setP95Grams(Math.round(distribution.p95()));
+        return dto;
+    }
+}
@@ -0,0 +1,261 @@
+package com.ecotrack.api.service.impl;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.TenantSchema;
+import com.ecotrack.api.domain.enumeration.TenantSchemaStatus;
+import com.ecotrack.api.repository.TenantSchemaRepository;
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.service.TenantSchemaService;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.liquibase.SpringLiquibaseUtil;
+
+/**
+ * Service Implementation for moving tenants into a {@link TenantSchema} of their own.
+ * <p>
+ * The schema gets the tables of the tenant changelog, the tenant's rows are copied in batches while its writes are
+ * mirrored, and the tenant is switched over in one short transaction. Its rows are purged from the shared tables by a
+ * later maintenance run, once the transactions that started before the switch have ended. Every step is idempotent,
+ * so an interrupted move is resumed by the next maintenance run, on any node.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TenantSchemaServiceImpl implements TenantSchemaService {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantSchemaServiceImpl.class);
+
+    static final String TENANT_CHANGELOG = "classpath:config/liquibase/tenant/master.xml";
+
+    private static final int MAX_SCHEMA_NAME_LENGTH = 63;
+
+    private final TenantSchemaRepository tenantSchemaRepository;
+    private final ApplicationProperties applicationProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final LiquibaseProperties liquibaseProperties;
+    private final ObjectProvider<DataSource> liquibaseDataSource;
+    private final ObjectProvider<DataSource> dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final ResourceLoader resourceLoader;
+
+    private final Set<String> movingTenants = ConcurrentHashMap.newKeySet();
+
+    public TenantSchemaServiceImpl(
+        TenantSchemaRepository tenantSchemaRepository,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        LiquibaseProperties liquibaseProperties,
+        @LiquibaseDataSource ObjectProvider<DataSource> liquibaseDataSource,
+        ObjectProvider<DataSource> dataSource,
+        DataSourceProperties dataSourceProperties,
+        ResourceLoader resourceLoader
+    ) {
+        this.tenantSchemaRepository = tenantSchemaRepository;
+        this.applicationProperties = applicationProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.liquibaseProperties = liquibaseProperties;
+        this.liquibaseDataSource = liquibaseDataSource;
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.resourceLoader = resourceLoader;
+    }
+
+    @Override
+    public List<TenantSchema> findAll() {
+        return transactionTemplate.execute(status -> tenantSchemaRepository.findAllByOrderByTenantId());
+    }
+
+    @Override
+    @Async
+    public void migrate(String tenantId) {
+        try {
+            // The tenant of the caller must not be bound to the migration's own transactions.
+            TenantContext.runWithTenant(null, () -> move(tenantId));
+        } catch (RuntimeException e) {
+            log.error("Could not move tenant {} to its schema", tenantId, e);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Override
+    @Scheduled(cron = "${application.tenant-schemas.maintenance-cron:0 */10 * * * *}")
+    public void maintain() {
+        List<TenantSchema> tenantSchemas;
+        try {
+            tenantSchemas = findAll();
+        } catch (RuntimeException e) {
+            log.warn("Could not maintain tenant schemas: {}", e.getMessage());
+            return;
+        }
+        for (TenantSchema tenantSchema : tenantSchemas) {
+            try {
+                if (tenantSchema.getStatus() == TenantSchemaStatus.COPYING) {
+                    move(tenantSchema.getTenantId());
+                } else {
+                    updateSchema(tenantSchema.getSchemaName());
+                    if (tenantSchema.getPurgedDate() == null) {
+                        purge(tenantSchema.getTenantId());
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not maintain the schema of tenant {}: {}", tenantSchema.getTenantId(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void forEachSchema(Consumer<Set<String>> task) {
+        Set<String> schemaTenantIds = Set.copyOf(
+            transactionTemplate.execute(status -> tenantSchemaRepository.findTenantIdsByStatus(TenantSchemaStatus.ACTIVE))
+        );
+        runInTransaction(null, () -> task.accept(schemaTenantIds));
+        for (String tenantId : schemaTenantIds) {
+            TenantContext.runWithTenant(tenantId, () -> runInTransaction(tenantId, () -> task.accept(Set.of())));
+        }
+    }
+
+    /**
+     * Name of the schema of a tenant: {@code tenant_} followed by the tenant ID, lower-cased and with anything but
+     * letters, digits and underscores replaced by underscores, so the name never needs quoting.
+     */
+    static String schemaNameOf(String tenantId) {
+        String schemaName = "tenant_" + tenantId.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+        return schemaName.length() > MAX_SCHEMA_NAME_LENGTH ? schemaName.substring(0, MAX_SCHEMA_NAME_LENGTH) : schemaName;
+    }
+
+    private void move(String tenantId) {
+        if (!movingTenants.add(tenantId)) {
+            log.debug("Tenant {} is already being moved to its schema", tenantId);
+            return;
+        }
+        try {
+            TenantSchema existing = transactionTemplate.execute(status -> tenantSchemaRepository.findById(tenantId).orElse(null));
+            if (existing != null && existing.getStatus() == TenantSchemaStatus.ACTIVE) {
+                log.debug("Tenant {} already uses schema {}", tenantId, existing.getSchemaName());
+                return;
+            }
+            String schemaName = existing != null ? existing.getSchemaName() : schemaNameOf(tenantId);
+            if (existing == null && findAll().stream().anyMatch(other -> other.getSchemaName().equals(schemaName))) {
+                throw new IllegalArgumentException("Schema " + schemaName + " is already used by another tenant");
+            }
+            updateSchema(schemaName);
+
+            // Rows of the shared tables are only visible to the tenant's own transactions.
+            int batchSize = Math.max(1, applicationProperties.getTenantSchemas().getBatchSize());
+            long copied = TenantContext.callWithTenant(tenantId, () -> {
+                transactionTemplate.execute(status -> tenantSchemaRepository.start(tenantId, schemaName));
+                long rows = 0;
+                for (String table : transactionTemplate.execute(status -> tenantSchemaRepository.findBatchedTables())) {
+                    int batch;
+                    do {
+                        Integer covered = transactionTemplate.execute(status ->
+                            tenantSchemaRepository.backfill(tenantId, table, batchSize)
+                        );
+                        batch = covered == null ? 0 : covered;
+                        rows += batch;
+                    } while (batch > 0);
+                }
+                Integer caughtUp = transactionTemplate.execute(status -> tenantSchemaRepository.activate(tenantId, batchSize));
+                return rows + (caughtUp == null ? 0 : caughtUp);
+            });
+            log.info("Tenant {} uses schema {} after copying {} rows", tenantId, schemaName, copied);
+
+            // The foreign keys of the tenant schema are only added once it is in use.
+            updateSchema(schemaName);
+        } finally {
+            movingTenants.remove(tenantId);
+        }
+    }
+
+    private void purge(String tenantId) {
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> tenantSchemaRepository.isPurgeable(tenantId)))) {
+            log.debug("Tenant {} is not purged yet, transactions from before its move are still running", tenantId);
+            return;
+        }
+        int batchSize = Math.max(1, applicationProperties.getTenantSchemas().getBatchSize());
+        TenantContext.runWithTenant(tenantId, () -> {
+            long purged = 0;
+            for (String table : transactionTemplate.execute(status -> tenantSchemaRepository.findTablesInPurgeOrder())) {
+                int batch;
+                do {
+                    Integer deleted = transactionTemplate.execute(status -> tenantSchemaRepository.purge(tenantId, table, batchSize));
+                    batch = deleted == null ? 0 : deleted;
+                    purged += batch;
+                } while (batch > 0);
+            }
+            Boolean unmirrored = transactionTemplate.execute(status -> tenantSchemaRepository.finish(tenantId));
+            log.info("Purged {} rows of tenant {} from the shared tables", purged, tenantId);
+            if (Boolean.TRUE.equals(unmirrored)) {
+                log.info("No tenant is being moved to its schema any more, writes to the shared tables are no longer mirrored");
+            }
+        });
+    }
+
+    private void updateSchema(String schemaName) {
+        SpringLiquibase liquibase = SpringLiquibaseUtil.createSpringLiquibase(
+            liquibaseDataSource.getIfAvailable(),
+            liquibaseProperties,
+            dataSource.getIfUnique(),
+            dataSourceProperties
+        );
+        // Liquibase keeps its changelog tables in the tenant schema, so the schema must exist first.
+        try (Connection connection = liquibase.getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + schemaName);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create schema " + schemaName, e);
+        }
+        liquibase.setChangeLog(TENANT_CHANGELOG);
+        liquibase.setDefaultSchema(schemaName);
+        liquibase.setLiquibaseSchema(schemaName);
+        liquibase.setChangeLogParameters(Map.of("tenantSchema", schemaName));
+        liquibase.setResourceLoader(resourceLoader);
+        try {
+            liquibase.afterPropertiesSet();
+        } catch (LiquibaseException e) {
+            throw new IllegalStateException("Could not update schema " + schemaName, e);
+        }
+    }
+
+    private void runInTransaction(String tenantId, Runnable task) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> task.run());
+        } catch (RuntimeException e) {
+            log.warn("Could not run on the {}: {}", tenantId == null ? "shared tables" : "schema of tenant " + tenantId, e.getMessage());
+        }
+    }
+}
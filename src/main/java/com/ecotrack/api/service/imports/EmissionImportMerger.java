@@ -0,0 +1,116 @@
+package com.ecotrack.api.service.imports;
+
+import com.ecotrack.api.domain.EmissionImport;
+import com.ecotrack.api.domain.enumeration.EmissionImportStatus;
+import com.ecotrack.api.repository.EmissionImportRepository;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Merges the staged rows of an {@link EmissionImport} into {@code emission_record}.
+ * <p>
+ * The insert, the rollup upsert, the removal of the staged rows and the completion of the import are one transaction,
+ * so an import is either merged completely or still {@link EmissionImportStatus#MERGING} and safe to merge again.
+ */
+@Component
+public class EmissionImportMerger {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionImportMerger.class);
+
+    private final EmissionImportRepository emissionImportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EmissionSeriesCache emissionSeriesCache;
+
+    // Guards against an import being merged twice in this JVM; other nodes wait on the row lock instead.
+    private final Set<Long> mergingImports = ConcurrentHashMap.newKeySet();
+
+    public EmissionImportMerger(
+        EmissionImportRepository emissionImportRepository,
+        PlatformTransactionManager transactionManager,
+        EmissionSeriesCache emissionSeriesCache
+    ) {
+        this.emissionImportRepository = emissionImportRepository;
+        this.emissionSeriesCache = emissionSeriesCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Merge an import that is {@link EmissionImportStatus#MERGING}; does nothing for imports in any other state.
+     */
+    @Async
+    public void merge(Long importId) {
+        if (!mergingImports.add(importId)) {
+            log.debug("Emission import {} is already being merged", importId);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> mergeStagedRows(importId));
+        } catch (RuntimeException e) {
+            log.error("Emission import {} could not be merged", importId, e);
+            transactionTemplate.executeWithoutResult(status -> fail(importId, e));
+        } finally {
+            mergingImports.remove(importId);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImportStaged(EmissionImportStagedEvent event) {
+        merge(event.importId());
+    }
+
+    private void mergeStagedRows(Long importId) {
+        EmissionImport emissionImport = emissionImportRepository
+            .findByIdForUpdate(importId)
+            .orElseThrow(() -> new IllegalStateException("Emission import " + importId + " no longer exists"));
+        if (emissionImport.getStatus() != EmissionImportStatus.MERGING) {
+            log.debug("Emission import {} is {}, nothing to merge", importId, emissionImport.getStatus());
+            return;
+        }
+        // The staging table is unlogged, so a crash empties it; merging what is left would silently drop rows.
+        long staged = emissionImportRepository.countStagedRows(importId);
+        if (staged != emissionImport.getStagedRows()) {
+            throw new IllegalStateException(
+                "Only " + staged + " of " + emissionImport.getStagedRows() + " staged rows are left; the import must be uploaded again"
+            );
+        }
+        Instant now = Instant.now();
+        int imported = emissionImportRepository.mergeStagedRows(importId, emissionImport.getCreatedBy(), now);
+        emissionImportRepository.addStagedRowsToRollups(importId);
+        emissionSeriesCache.invalidate(emissionImport.getTenantId());
+        emissionImportRepository.deleteStagedRows(importId);
+        emissionImport.setImportedRows((long) imported);
+        emissionImport.setStatus(EmissionImportStatus.COMPLETED);
+        emissionImport.setFinishedAt(now);
+        log.info(
+            "Emission import {} completed: {} rows read, {} imported, {} rejected",
+            importId,
+            emissionImport.getProcessedRows(),
+            imported,
+            emissionImport.getRejectedRows()
+        );
+    }
+
+    private void fail(Long importId, RuntimeException cause) {
+        emissionImportRepository.deleteStagedRows(importId);
+        emissionImportRepository
+            .findById(importId)
+            .ifPresent(emissionImport -> {
+                emissionImport.setStatus(EmissionImportStatus.FAILED);
+                emissionImport.setFinishedAt(Instant.now());
+                emissionImport.setErrorMessage(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+            });
+    }
+}
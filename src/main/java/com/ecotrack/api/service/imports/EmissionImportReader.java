@@ -0,0 +1,134 @@
+package com.ecotrack.api.service.imports;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the rows of an emission import one at a time, so an upload of any size is processed in constant memory.
+ * <p>
+ * NDJSON rows are emission record objects, one per line. CSV rows are mapped by their header to the same properties;
+ * empty cells are {@code null}, and the {@code metadata} and {@code calculationParameters} cells hold JSON objects.
+ * A row that does not bind is returned with an error and reading continues with the next row; malformed NDJSON ends
+ * the input, as the parser has no reliable position to resume from.
+ */
+public final class EmissionImportReader implements Closeable {
+
+    private static final Set<String> JSON_COLUMNS = Set.of("metadata", "calculationParameters");
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder().enable(CsvParser.Feature.TRIM_SPACES).build();
+
+    private final ObjectMapper objectMapper;
+    private final MappingIterator<?> iterator;
+    private final boolean csv;
+    private long rowNumber;
+    private boolean exhausted;
+
+    private EmissionImportReader(ObjectMapper objectMapper, MappingIterator<?> iterator, boolean csv) {
+        this.objectMapper = objectMapper;
+        this.iterator = iterator;
+        this.csv = csv;
+    }
+
+    /**
+     * Start reading an upload; closing the reader closes {@code input}.
+     */
+    public static EmissionImportReader open(EmissionImportFormat format, InputStream input, ObjectMapper objectMapper)
+        throws IOException {
+        if (format == EmissionImportFormat.CSV) {
+            MappingIterator<Map<String, String>> rows = CSV_MAPPER.readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input);
+            return new EmissionImportReader(objectMapper, rows, true);
+        }
+        return new EmissionImportReader(objectMapper, objectMapper.readerFor(EmissionRecordDTO.class).readValues(input), false);
+    }
+
+    /**
+     * @return the next row, or {@code null} once the input is exhausted.
+     * @throws IOException if the input cannot be read.
+     */
+    public Row next() throws IOException {
+        if (exhausted) {
+            return null;
+        }
+        Object value;
+        rowNumber++;
+        try {
+            if (!iterator.hasNextValue()) {
+                exhausted = true;
+                return null;
+            }
+            value = iterator.nextValue();
+        } catch (JsonParseException ex) {
+            exhausted = true;
+            return new Row(rowNumber, null, "Malformed " + (csv ? "CSV" : "NDJSON") + " input: " + ex.getOriginalMessage());
+        } catch (JsonMappingException ex) {
+            return new Row(rowNumber, null, describe(ex));
+        }
+        if (!csv) {
+            return new Row(rowNumber, (EmissionRecordDTO) value, null);
+        }
+        try {
+            return new Row(rowNumber, fromCsv((Map<?, ?>) value), null);
+        } catch (JsonMappingException ex) {
+            return new Row(rowNumber, null, describe(ex));
+        } catch (JsonProcessingException ex) {
+            return new Row(rowNumber, null, ex.getOriginalMessage());
+        }
+    }
+
+    private EmissionRecordDTO fromCsv(Map<?, ?> cells) throws JsonProcessingException {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (Map.Entry<?, ?> cell : cells.entrySet()) {
+            String column = String.valueOf(cell.getKey());
+            String text = cell.getValue() == null ? "" : cell.getValue().toString();
+            if (text.isEmpty()) {
+                continue;
+            }
+            if (JSON_COLUMNS.contains(column)) {
+                try {
+                    node.set(column, objectMapper.readTree(text));
+                } catch (JsonProcessingException ex) {
+                    throw new JsonMappingException(null, "'" + column + "' is not valid JSON: " + ex.getOriginalMessage());
+                }
+            } else {
+                node.put(column, text);
+            }
+        }
+        return objectMapper.treeToValue(node, EmissionRecordDTO.class);
+    }
+
+    private static String describe(JsonMappingException ex) {
+        String path = ex
+            .getPath()
+            .stream()
+            .map(reference -> reference.getFieldName() != null ? reference.getFieldName() : String.valueOf(reference.getIndex()))
+            .collect(Collectors.joining("."));
+        return path.isEmpty() ? ex.getOriginalMessage() : "Invalid value for '" + path + "': " + ex.getOriginalMessage();
+    }
+
+    @Override
+    public void close() throws IOException {
+        iterator.close();
+    }
+
+    /**
+     * A row of the upload, numbered from 1 without a CSV header; either {@code record} or {@code error} is set.
+     */
+    public record Row(long rowNumber, EmissionRecordDTO record, String error) {}
+}
@@ -0,0 +1,78 @@
+package com.ecotrack.api.service.imports;
+
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validates imported emission records before they are staged.
+ * <p>
+ * Besides the DTO's own constraints, a row must fit the columns it is copied into: a single value COPY rejects would
+ * fail the whole import instead of just that row.
+ */
+@Component
+public class EmissionImportRowValidator {
+
+    // Integer digits of numeric(21, 6) and numeric(21, 4).
+    private static final int CALCULATION_INPUT_INTEGER_DIGITS = 15;
+    private static final int UNCERTAINTY_FACTOR_INTEGER_DIGITS = 17;
+
+    private final Validator validator;
+
+    public EmissionImportRowValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Validate a record imported for {@code tenantId}, assigning it the tenant when it names none.
+     *
+     * @return the reasons the record is rejected, or {@code null} if it is valid.
+     */
+    public String validate(String tenantId, EmissionRecordDTO record) {
+        List<String> errors = new ArrayList<>();
+        if (record.getId() != null) {
+            errors.add("id: imported records cannot already have an ID");
+        }
+        if (record.getTenantId() == null) {
+            record.setTenantId(tenantId);
+        } else if (!record.getTenantId().equals(tenantId)) {
+            errors.add("tenantId: does not match the tenant of the import");
+        }
+        validator
+            .validate(record)
+            .stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .forEach(errors::add);
+        checkIntegerDigits(errors, "activityData", record.getActivityData(), CALCULATION_INPUT_INTEGER_DIGITS);
+        checkIntegerDigits(errors, "emissionFactor", record.getEmissionFactor(), CALCULATION_INPUT_INTEGER_DIGITS);
+        checkIntegerDigits(errors, "efficiencyRatio", record.getEfficiencyRatio(), CALCULATION_INPUT_INTEGER_DIGITS);
+        checkIntegerDigits(errors, "uncertaintyFactor", record.getUncertaintyFactor(), UNCERTAINTY_FACTOR_INTEGER_DIGITS);
+        checkText(errors, "supplierId", record.getSupplierId());
+        checkText(errors, "installationId", record.getInstallationId());
+        checkText(errors, "productEmissionId", record.getProductEmissionId());
+        checkText(errors, "source", record.getSource());
+        checkText(errors, "notes", record.getNotes());
+        checkText(errors, "calculationMethod", record.getCalculationMethod());
+        checkText(errors, "regionCode", record.getRegionCode());
+        checkText(errors, "activityType", record.getActivityType());
+        checkText(errors, "formulaCode", record.getFormulaCode());
+        return errors.isEmpty() ? null : String.join("; ", errors);
+    }
+
+    private static void checkIntegerDigits(List<String> errors, String property, BigDecimal value, int maxIntegerDigits) {
+        if (value != null && value.precision() - value.scale() > maxIntegerDigits) {
+            errors.add(property + ": must have at most " + maxIntegerDigits + " integer digits");
+        }
+    }
+
+    private static void checkText(List<String> errors, String property, String value) {
+        if (value != null && value.indexOf('\0') >= 0) {
+            errors.add(property + ": must not contain NUL characters");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.ecotrack.api.service.imports;
+
+/**
+ * Published when an import's rows have been staged, so they are merged once the staging transaction commits.
+ */
+public record EmissionImportStagedEvent(Long importId) {}
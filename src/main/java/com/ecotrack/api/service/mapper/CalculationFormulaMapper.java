@@ -0,0 +1,74 @@
+package com.ecotrack.api.service.mapper;
+
+import com.ecotrack.api.domain.CalculationFormula;
+import com.ecotrack.api.service.dto.CalculationFormulaDTO;
+import org.springframework.stereotype.Service;
+
+/**
+ * Mapper for the entity {@link CalculationFormula} and its DTO {@link CalculationFormulaDTO}.
+ */
+@Service
+public class CalculationFormulaMapper {
+
+    public CalculationFormula toEntity(CalculationFormulaDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        CalculationFormula calculationFormula = new CalculationFormula();
+        calculationFormula.setId(dto.getId());
+        calculationFormula.setTenantId(dto.getTenantId());
+        calculationFormula.setCode(dto.getCode());
+        calculationFormula.setName(dto.getName());
+        calculationFormula.setExpression(dto.getExpression());
+        calculationFormula.setDescription(dto.getDescription());
+        calculationFormula.setScope(dto.getScope());
+        calculationFormula.setActive(dto.getActive());
+        return calculationFormula;
+    }
+
+    public CalculationFormulaDTO toDto(CalculationFormula entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        CalculationFormulaDTO calculationFormulaDTO = new CalculationFormulaDTO();
+        calculationFormulaDTO.setId(entity.getId());
+        calculationFormulaDTO.setTenantId(entity.getTenantId());
+        calculationFormulaDTO.setCode(entity.getCode());
+        calculationFormulaDTO.setName(entity.getName());
+        calculationFormulaDTO.setExpression(entity.getExpression());
+        calculationFormulaDTO.setDescription(entity.getDescription());
+        calculationFormulaDTO.setScope(entity.getScope());
+        calculationFormulaDTO.setActive(entity.getActive());
+        return calculationFormulaDTO;
+    }
+
+    public void partialUpdate(CalculationFormula entity, CalculationFormulaDTO dto) {
+        if (dto == null) {
+            return;
+        }
+
+        if (dto.getTenantId() != null) {
+            entity.setTenantId(dto.getTenantId());
+        }
+        if (dto.getCode() != null) {
+            entity.setCode(dto.getCode());
+        }
+        if (dto.getName() != null) {
+            entity.setName(dto.getName());
+        }
+        if (dto.getExpression() != null) {
+            entity.setExpression(dto.getExpression());
+        }
+        if (dto.getDescription() != null) {
+            entity.setDescription(dto.getDescription());
+        }
+        if (dto.getScope() != null) {
+            entity.setScope(dto.getScope());
+        }
+        if (dto.getActive() != null) {
+            entity.setActive(dto.getActive());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecotrack.api.service.mapper;
 
+import com.ecotrack.api.domain.EmissionRecord;
 import com.ecotrack.api.service.carbon.EmissionComputation;
 import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationResultDTO;
@@ -20,6 +21,7 @@ public interface CarbonCalculationMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "carbonGrams", ignore = true)
     @Mapping(target = "calculationMethod", ignore = true)
+    @Mapping(target = "calculationParameters", source = "parameters")
     EmissionRecordDTO toEmissionRecordDTO(CarbonCalculationRequestDTO request);
 
     @Mapping(target = "id", ignore = true)
@@ -41,6 +43,26 @@ public interface CarbonCalculationMapper {
         return dto;
     }
 
+    /**
+     * Calculation request rebuilt from the inputs stored on an emission record.
+     */
+    default CarbonCalculationRequestDTO toCalculationRequest(EmissionRecord emissionRecord) {
+        CarbonCalculationRequestDTO request = new CarbonCalculationRequestDTO();
+        request.setTenantId(emissionRecord.getTenantId());
+        request.setSupplierId(emissionRecord.getSupplierId());
+        request.setScope(emissionRecord.getScope());
+        request.setActivityData(emissionRecord.getActivityData());
+        request.setEmissionFactor(emissionRecord.getEmissionFactor());
+        request.setEfficiencyRatio(emissionRecord.getEfficiencyRatio());
+        request.setSector(emissionRecord.getSector());
+        request.setRegionCode(emissionRecord.getRegionCode());
+        request.setActivityType(emissionRecord.getActivityType());
+        request.setFormulaCode(emissionRecord.getFormulaCode());
+        request.setParameters(emissionRecord.getCalculationParameters());
+        request.setDateRecorded(emissionRecord.getDateRecorded());
+        return request;
+    }
+
     default CarbonCalculationResultDTO toResultDTO(CarbonCalculationRequestDTO request, EmissionComputation computation) {
         CarbonCalculationResultDTO resultDTO = new CarbonCalculationResultDTO();
         resultDTO.setScope(request.getScope());
@@ -0,0 +1,52 @@
+package com.ecotrack.api.service.mapper;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.service.dto.EmissionFactorDTO;
+import org.springframework.stereotype.Service;
+
+/**
+ * Mapper for the entity {@link EmissionFactor} and its DTO {@link EmissionFactorDTO}.
+ */
+@Service
+public class EmissionFactorMapper {
+
+    public EmissionFactor toEntity(EmissionFactorDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        EmissionFactor emissionFactor = new EmissionFactor();
+        emissionFactor.setId(dto.getId());
+        emissionFactor.setScope(dto.getScope());
+        emissionFactor.setSector(dto.getSector());
+        emissionFactor.setRegionCode(dto.getRegionCode());
+        emissionFactor.setActivityType(dto.getActivityType());
+        emissionFactor.setFactor(dto.getFactor());
+        emissionFactor.setUnit(dto.getUnit());
+        emissionFactor.setValidFrom(dto.getValidFrom());
+        emissionFactor.setValidTo(dto.getValidTo());
+        emissionFactor.setVersion(dto.getVersion());
+        emissionFactor.setSource(dto.getSource());
+        return emissionFactor;
+    }
+
+    public EmissionFactorDTO toDto(EmissionFactor entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        EmissionFactorDTO emissionFactorDTO = new EmissionFactorDTO();
+        emissionFactorDTO.setId(entity.getId());
+        emissionFactorDTO.setScope(entity.getScope());
+        emissionFactorDTO.setSector(entity.getSector());
+        emissionFactorDTO.setRegionCode(entity.getRegionCode());
+        emissionFactorDTO.setActivityType(entity.getActivityType());
+        emissionFactorDTO.setFactor(entity.getFactor());
+        emissionFactorDTO.setUnit(entity.getUnit());
+        emissionFactorDTO.setValidFrom(entity.getValidFrom());
+        emissionFactorDTO.setValidTo(entity.getValidTo());
+        emissionFactorDTO.setVersion(entity.getVersion());
+        emissionFactorDTO.setSource(entity.getSource());
+        return emissionFactorDTO;
+    }
+}
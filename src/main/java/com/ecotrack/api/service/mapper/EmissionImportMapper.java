@@ -0,0 +1,92 @@
+package com.ecotrack.api.service.mapper;
+
+import com.ecotrack.api.domain.EmissionImport;
+import com.ecotrack.api.domain.EmissionImportError;
+import com.ecotrack.api.domain.converter.CalculationParametersConverter;
+import com.ecotrack.api.domain.converter.RecordMetadataConverter;
+import com.ecotrack.api.repository.EmissionImportRow;
+import com.ecotrack.api.service.dto.EmissionImportDTO;
+import com.ecotrack.api.service.dto.EmissionImportErrorDTO;
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import org.springframework.stereotype.Service;
+
+/**
+ * Mapper for the entities {@link EmissionImport} and {@link EmissionImportError} and their DTOs, and for imported
+ * records to staged rows.
+ */
+@Service
+public class EmissionImportMapper {
+
+    private final RecordMetadataConverter recordMetadataConverter = new RecordMetadataConverter();
+
+    private final CalculationParametersConverter calculationParametersConverter = new CalculationParametersConverter();
+
+    public EmissionImportDTO toDto(EmissionImport entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        EmissionImportDTO emissionImportDTO = new EmissionImportDTO();
+        emissionImportDTO.setId(entity.getId());
+        emissionImportDTO.setTenantId(entity.getTenantId());
+        emissionImportDTO.setFormat(entity.getFormat());
+        emissionImportDTO.setStatus(entity.getStatus());
+        emissionImportDTO.setFileName(entity.getFileName());
+        emissionImportDTO.setProcessedRows(entity.getProcessedRows());
+        emissionImportDTO.setStagedRows(entity.getStagedRows());
+        emissionImportDTO.setImportedRows(entity.getImportedRows());
+        emissionImportDTO.setRejectedRows(entity.getRejectedRows());
+        emissionImportDTO.setStartedAt(entity.getStartedAt());
+        emissionImportDTO.setFinishedAt(entity.getFinishedAt());
+        emissionImportDTO.setErrorMessage(entity.getErrorMessage());
+        return emissionImportDTO;
+    }
+
+    public EmissionImportErrorDTO toDto(EmissionImportError entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        EmissionImportErrorDTO emissionImportErrorDTO = new EmissionImportErrorDTO();
+        emissionImportErrorDTO.setId(entity.getId());
+        emissionImportErrorDTO.setImportId(entity.getImportId());
+        emissionImportErrorDTO.setRowNumber(entity.getRowNumber());
+        emissionImportErrorDTO.setMessage(entity.getMessage());
+        return emissionImportErrorDTO;
+    }
+
+    /**
+     * Staged row of a validated record. JSON columns are serialized by the entity's own converters, so imported records
+     * read back exactly like records saved through JPA.
+     *
+     * @throws IllegalArgumentException if the metadata or calculation parameters cannot be serialized.
+     */
+    public EmissionImportRow toStagingRow(Long importId, long rowNumber, EmissionRecordDTO dto) {
+        return new EmissionImportRow(
+            importId,
+            rowNumber,
+            dto.getTenantId(),
+            dto.getSupplierId(),
+            dto.getInstallationId(),
+            dto.getProductEmissionId(),
+            dto.getScope(),
+            dto.getCarbonGrams(),
+            dto.getDateRecorded(),
+            dto.getSource(),
+            dto.getNotes(),
+            dto.getVerified(),
+            dto.getConfidenceScore(),
+            dto.getCalculationMethod(),
+            dto.getUncertaintyFactor(),
+            recordMetadataConverter.convertToDatabaseColumn(dto.getMetadata()),
+            dto.getActivityData(),
+            dto.getEmissionFactor(),
+            dto.getEfficiencyRatio(),
+            dto.getSector(),
+            dto.getRegionCode(),
+            dto.getActivityType(),
+            dto.getFormulaCode(),
+            calculationParametersConverter.convertToDatabaseColumn(dto.getCalculationParameters())
+        );
+    }
+}
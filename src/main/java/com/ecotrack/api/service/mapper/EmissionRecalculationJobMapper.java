@@ -0,0 +1,56 @@
+package com.ecotrack.api.service.mapper;
+
+import com.ecotrack.api.domain.EmissionRecalculationJob;
+import com.ecotrack.api.service.dto.EmissionRecalculationJobDTO;
+import org.springframework.stereotype.Service;
+
+/**
+ * Mapper for the entity {@link EmissionRecalculationJob} and its DTO {@link EmissionRecalculationJobDTO}.
+ */
+@Service
+public class EmissionRecalculationJobMapper {
+
+    /**
+     * New job for the tenant and filters of a request; progress is left to the job.
+     */
+    public EmissionRecalculationJob toEntity(EmissionRecalculationJobDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        EmissionRecalculationJob emissionRecalculationJob = new EmissionRecalculationJob();
+        emissionRecalculationJob.setTenantId(dto.getTenantId());
+        emissionRecalculationJob.setScope(dto.getScope());
+        emissionRecalculationJob.setSector(dto.getSector());
+        emissionRecalculationJob.setRegionCode(dto.getRegionCode());
+        emissionRecalculationJob.setActivityType(dto.getActivityType());
+        emissionRecalculationJob.setFromDate(dto.getFromDate());
+        emissionRecalculationJob.setToDate(dto.getToDate());
+        return emissionRecalculationJob;
+    }
+
+    public EmissionRecalculationJobDTO toDto(EmissionRecalculationJob entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        EmissionRecalculationJobDTO emissionRecalculationJobDTO = new EmissionRecalculationJobDTO();
+        emissionRecalculationJobDTO.setId(entity.getId());
+        emissionRecalculationJobDTO.setTenantId(entity.getTenantId());
+        emissionRecalculationJobDTO.setScope(entity.getScope());
+        emissionRecalculationJobDTO.setSector(entity.getSector());
+        emissionRecalculationJobDTO.setRegionCode(entity.getRegionCode());
+        emissionRecalculationJobDTO.setActivityType(entity.getActivityType());
+        emissionRecalculationJobDTO.setFromDate(entity.getFromDate());
+        emissionRecalculationJobDTO.setToDate(entity.getToDate());
+        emissionRecalculationJobDTO.setStatus(entity.getStatus());
+        emissionRecalculationJobDTO.setLastRecordId(entity.getLastRecordId());
+        emissionRecalculationJobDTO.setProcessedCount(entity.getProcessedCount());
+        emissionRecalculationJobDTO.setChangedCount(entity.getChangedCount());
+        emissionRecalculationJobDTO.setFailedCount(entity.getFailedCount());
+        emissionRecalculationJobDTO.setStartedAt(entity.getStartedAt());
+        emissionRecalculationJobDTO.setFinishedAt(entity.getFinishedAt());
+        emissionRecalculationJobDTO.setErrorMessage(entity.getErrorMessage());
+        return emissionRecalculationJobDTO;
+    }
+}
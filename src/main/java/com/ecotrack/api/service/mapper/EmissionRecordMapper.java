@@ -32,6 +32,14 @@ public class EmissionRecordMapper {
         dto.setCalculationMethod(entity.getCalculationMethod());
         dto.setUncertaintyFactor(entity.getUncertaintyFactor());
         dto.setMetadata(entity.getMetadata());
+        dto.setActivityData(entity.getActivityData());
+        dto.setEmissionFactor(entity.getEmissionFactor());
+        dto.setEfficiencyRatio(entity.getEfficiencyRatio());
+        dto.setSector(entity.getSector());
+        dto.setRegionCode(entity.getRegionCode());
+        dto.setActivityType(entity.getActivityType());
+        dto.setFormulaCode(entity.getFormulaCode());
+        dto.setCalculationParameters(entity.getCalculationParameters());
 
         return dto;
     }
@@ -58,6 +66,14 @@ public class EmissionRecordMapper {
         entity.setCalculationMethod(dto.getCalculationMethod());
         entity.setUncertaintyFactor(dto.getUncertaintyFactor());
         entity.setMetadata(dto.getMetadata());
+        entity.setActivityData(dto.getActivityData());
+        entity.setEmissionFactor(dto.getEmissionFactor());
+        entity.setEfficiencyRatio(dto.getEfficiencyRatio());
+        entity.setSector(dto.getSector());
+        entity.setRegionCode(dto.getRegionCode());
+        entity.setActivityType(dto.getActivityType());
+        entity.setFormulaCode(dto.getFormulaCode());
+        entity.setCalculationParameters(dto.getCalculationParameters());
 
         return entity;
     }
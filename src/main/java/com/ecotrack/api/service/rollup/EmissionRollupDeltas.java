@@ -0,0 +1,126 @@
+package com.ecotrack.api.service.rollup;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.EmissionRollup;
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordDailyTotal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Changes to {@link EmissionRollup} rows accumulated over one unit of work.
+ * <p>
+ * Every emission record contributes its carbon grams and a count of one to the day and the month of its recording
+ * date. Removing a record's old contribution before it is changed and adding the new one afterwards yields exactly the
+ * rows the change affects; contributions that cancel out are dropped. Deltas are applied in key order so that
+ * concurrent transactions lock shared rows in the same order. The tenants of every record passed in are kept as well,
+ * since a change that leaves the rollups alone can still change how the tenant's emissions are grouped.
+ */
+public final class EmissionRollupDeltas {
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::tenantId)
+        .thenComparing(Key::scope)
+        .thenComparing(Key::periodType)
+        .thenComparing(Key::periodStart);
+
+    private final Map<Key, long[]> deltas = new TreeMap<>(KEY_ORDER);
+
+    private final Set<String> tenantIds = new TreeSet<>();
+
+    /**
+     * Add the current contribution of a record.
+     */
+    public EmissionRollupDeltas add(EmissionRecord emissionRecord) {
+        contribute(emissionRecord, 1);
+        return this;
+    }
+
+    /**
+     * Remove the current contribution of a record; call before the record is changed or deleted.
+     */
+    public EmissionRollupDeltas remove(EmissionRecord emissionRecord) {
+        contribute(emissionRecord, -1);
+        return this;
+    }
+
+    /**
+     * Deltas that turn a tenant's stored rollups into the totals aggregated from its records.
+     */
+    public static EmissionRollupDeltas drift(
+        String tenantId,
+        Collection<EmissionRecordDailyTotal> actual,
+        Collection<EmissionRollup> stored
+    ) {
+        EmissionRollupDeltas drift = new EmissionRollupDeltas();
+        for (EmissionRecordDailyTotal total : actual) {
+            long carbonGrams = total.carbonGrams() == null ? 0 : total.carbonGrams();
+            drift.contribute(tenantId, total.scope(), total.dateRecorded(), carbonGrams, total.recordCount());
+        }
+        for (EmissionRollup rollup : stored) {
+            Key key = new Key(tenantId, rollup.getId().getScope(), rollup.getId().getPeriodType(), rollup.getId().getPeriodStart());
+            drift.accumulate(key, -rollup.getCarbonGrams(), -rollup.getRecordCount());
+        }
+        return drift;
+    }
+
+    /**
+     * The tenants of the records added or removed, whether or not their rollups change.
+     */
+    public Set<String> tenantIds() {
+        return Collections.unmodifiableSet(tenantIds);
+    }
+
+    /**
+     * The non-zero deltas, in key order.
+     */
+    public List<Delta> toList() {
+        List<Delta> result = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                result.add(new Delta(key, delta[0], delta[1]));
+            }
+        });
+        return result;
+    }
+
+    private void contribute(EmissionRecord emissionRecord, int sign) {
+        if (emissionRecord.getTenantId() != null) {
+            tenantIds.add(emissionRecord.getTenantId());
+        }
+        long carbonGrams = emissionRecord.getCarbonGrams() == null ? 0 : emissionRecord.getCarbonGrams();
+        contribute(emissionRecord.getTenantId(), emissionRecord.getScope(), emissionRecord.getDateRecorded(), sign * carbonGrams, sign);
+    }
+
+    private void contribute(String tenantId, Scope scope, LocalDate dateRecorded, long carbonGrams, long recordCount) {
+        if (tenantId == null || scope == null || dateRecorded == null) {
+            return;
+        }
+        accumulate(new Key(tenantId, scope, RollupPeriod.DAY, dateRecorded), carbonGrams, recordCount);
+        accumulate(new Key(tenantId, scope, RollupPeriod.MONTH, dateRecorded.withDayOfMonth(1)), carbonGrams, recordCount);
+    }
+
+    private void accumulate(Key key, long carbonGrams, long recordCount) {
+        long[] delta = deltas.computeIfAbsent(key, k -> new long[2]);
+        delta[0] += carbonGrams;
+        delta[1] += recordCount;
+    }
+
+    /**
+     * Rollup row a delta applies to.
+     */
+    public record Key(String tenantId, Scope scope, RollupPeriod periodType, LocalDate periodStart) {}
+
+    /**
+     * Change of one rollup row's carbon grams and record count.
+     */
+    public record Delta(Key key, long carbonGrams, long recordCount) {}
+}
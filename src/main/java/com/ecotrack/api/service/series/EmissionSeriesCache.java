@@ -0,0 +1,126 @@
+package com.ecotrack.api.service.series;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.service.dto.EmissionSeriesDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded cache of emission time series, keyed by tenant, series parameters and the tenant's write generation.
+ * <p>
+ * Writes to a tenant's records bump its generation once they commit, so series computed before the write are never
+ * served again and simply age out. Bumping after the commit keeps a concurrent read from caching the pre-write totals
+ * under the new generation. Generations are local to the node; writes on other nodes show up after the time to live.
+ */
+@Component
+public class EmissionSeriesCache {
+
+    public static final String CACHE_NAME = "emissionSeries";
+
+    public static final String METER_NAME = "emission.series-cache";
+    public static final String METER_DESCRIPTION = "Lookups of cached emission time series.";
+    public static final String METER_BASE_UNIT = "lookups";
+    public static final String METER_RESULT_DIMENSION = "result";
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public EmissionSeriesCache(CacheManager cacheManager, ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.applicationProperties = applicationProperties;
+        this.hitCounter = lookupCounterForResultBuilder("hit").register(meterRegistry);
+        this.missCounter = lookupCounterForResultBuilder("miss").register(meterRegistry);
+    }
+
+    /**
+     * Cached series for the parameters, or the result of {@code compute} when there is none.
+     */
+    public EmissionSeriesDTO getOrCompute(
+        String tenantId,
+        EmissionSeriesPeriod period,
+        EmissionSeriesGrouping groupBy,
+        LocalDate from,
+        LocalDate to,
+        boolean cumulative,
+        Supplier<EmissionSeriesDTO> compute
+    ) {
+        Cache<Object, Object> cache = cache();
+        if (cache == null) {
+            return compute.get();
+        }
+        SeriesKey key = new SeriesKey(tenantId, generation(tenantId).get(), period, groupBy, from, to, cumulative);
+        if (cache.get(key) instanceof EmissionSeriesDTO cached) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        EmissionSeriesDTO series = compute.get();
+        cache.put(key, series);
+        return series;
+    }
+
+    /**
+     * Stop serving the tenant's cached series once the current transaction commits, or right away outside of one.
+     */
+    public void invalidate(String tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        generation(tenantId).incrementAndGet();
+                    }
+                }
+            );
+        } else {
+            generation(tenantId).incrementAndGet();
+        }
+    }
+
+    private AtomicLong generation(String tenantId) {
+        return generations.computeIfAbsent(tenantId, id -> new AtomicLong());
+    }
+
+    private Cache<Object, Object> cache() {
+        if (!applicationProperties.getCarbonCalculation().getSeriesCache().isEnabled()) {
+            return null;
+        }
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private Counter.Builder lookupCounterForResultBuilder(String result) {
+        return Counter.builder(METER_NAME)
+            .baseUnit(METER_BASE_UNIT)
+            .description(METER_DESCRIPTION)
+            .tag(METER_RESULT_DIMENSION, result);
+    }
+
+    private record SeriesKey(
+        String tenantId,
+        long generation,
+        EmissionSeriesPeriod period,
+        EmissionSeriesGrouping groupBy,
+        LocalDate from,
+        LocalDate to,
+        boolean cumulative
+    )
+        implements Serializable {}
+}
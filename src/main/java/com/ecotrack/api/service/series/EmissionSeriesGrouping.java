@@ -0,0 +1,11 @@
+package com.ecotrack.api.service.series;
+
+/**
+ * Dimension the points of an emission time series are grouped by.
+ */
+public enum EmissionSeriesGrouping {
+    SCOPE,
+    SUPPLIER,
+    INSTALLATION,
+    PRODUCT_EMISSION
+}
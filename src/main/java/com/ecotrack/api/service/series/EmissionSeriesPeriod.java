@@ -0,0 +1,31 @@
+package com.ecotrack.api.service.series;
+
+/**
+ * Period of the buckets of an emission time series. Weeks start on Monday; each bucket is labelled with its first day.
+ */
+public enum EmissionSeriesPeriod {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month"),
+    QUARTER("quarter");
+
+    private final String truncationField;
+
+    EmissionSeriesPeriod(String truncationField) {
+        this.truncationField = truncationField;
+    }
+
+    /**
+     * The {@code date_trunc} field that maps a date to the start of its bucket.
+     */
+    public String getTruncationField() {
+        return truncationField;
+    }
+
+    /**
+     * Whether buckets are whole months, so they can be summed from month rollups.
+     */
+    public boolean isMonthAligned() {
+        return this == MONTH || this == QUARTER;
+    }
+}
@@ -0,0 +1,182 @@
+package com.ecotrack.api.web.rest;
+
+import com.ecotrack.api.repository.CalculationFormulaRepository;
+import com.ecotrack.api.service.CalculationFormulaService;
+import com.ecotrack.api.service.carbon.formula.FormulaSyntaxException;
+import com.ecotrack.api.service.dto.CalculationFormulaDTO;
+import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for managing {@link com.ecotrack.api.domain.CalculationFormula}.
+ */
+@RestController
+@RequestMapping("/api/calculation-formulas")
+public class CalculationFormulaResource {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculationFormulaResource.class);
+
+    private static final String ENTITY_NAME = "calculationFormula";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final CalculationFormulaService calculationFormulaService;
+    private final CalculationFormulaRepository calculationFormulaRepository;
+
+    public CalculationFormulaResource(
+        CalculationFormulaService calculationFormulaService,
+        CalculationFormulaRepository calculationFormulaRepository
+    ) {
+        this.calculationFormulaService = calculationFormulaService;
+        this.calculationFormulaRepository = calculationFormulaRepository;
+    }
+
+    /**
+     * {@code POST  /calculation-formulas} : Create a new calculationFormula.
+     */
+    @PostMapping("")
+    public ResponseEntity<CalculationFormulaDTO> createCalculationFormula(@Valid @RequestBody CalculationFormulaDTO calculationFormulaDTO)
+        throws URISyntaxException {
+        log.debug("REST request to save CalculationFormula : {}", calculationFormulaDTO);
+        if (calculationFormulaDTO.getId() != null) {
+            throw new BadRequestAlertException("A new calculationFormula cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        try {
+            CalculationFormulaDTO result = calculationFormulaService.save(calculationFormulaDTO);
+            return ResponseEntity.created(new URI("/api/calculation-formulas/" + result.getId()))
+                .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+                .body(result);
+        } catch (FormulaSyntaxException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidformula");
+        }
+    }
+
+    /**
+     * {@code PUT  /calculation-formulas/:id} : Updates an existing calculationFormula.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<CalculationFormulaDTO> updateCalculationFormula(
+        @PathVariable(value = "id", required = false) final Long id,
+        @Valid @RequestBody CalculationFormulaDTO calculationFormulaDTO
+    ) throws URISyntaxException {
+        log.debug("REST request to update CalculationFormula : {}, {}", id, calculationFormulaDTO);
+        if (calculationFormulaDTO.getId() == null) {
+            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
+        }
+        if (!Objects.equals(id, calculationFormulaDTO.getId())) {
+            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
+        }
+
+        if (!calculationFormulaRepository.existsById(id)) {
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+
+        try {
+            CalculationFormulaDTO result = calculationFormulaService.update(calculationFormulaDTO);
+            return ResponseEntity.ok()
+                .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, calculationFormulaDTO.getId().toString()))
+                .body(result);
+        } catch (FormulaSyntaxException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidformula");
+        }
+    }
+
+    /**
+     * {@code PATCH  /calculation-formulas/:id} : Partial updates given fields of an existing calculationFormula, field will ignore if it is null.
+     */
+    @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
+    public ResponseEntity<CalculationFormulaDTO> partialUpdateCalculationFormula(
+        @PathVariable(value = "id", required = false) final Long id,
+        @NotNull @RequestBody CalculationFormulaDTO calculationFormulaDTO
+    ) throws URISyntaxException {
+        log.debug("REST request to partial update CalculationFormula partially : {}, {}", id, calculationFormulaDTO);
+        if (calculationFormulaDTO.getId() == null) {
+            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
+        }
+        if (!Objects.equals(id, calculationFormulaDTO.getId())) {
+            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
+        }
+
+        if (!calculationFormulaRepository.existsById(id)) {
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+
+        try {
+            Optional<CalculationFormulaDTO> result = calculationFormulaService.partialUpdate(calculationFormulaDTO);
+            return ResponseUtil.wrapOrNotFound(
+                result,
+                HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, id.toString())
+            );
+        } catch (FormulaSyntaxException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidformula");
+        }
+    }
+
+    /**
+     * {@code GET  /calculation-formulas} : get all the calculationFormulas.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<CalculationFormulaDTO>> getAllCalculationFormulas(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of CalculationFormulas");
+        Page<CalculationFormulaDTO> page = calculationFormulaService.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /calculation-formulas/tenant/:tenantId} : get the calculationFormulas of a tenant.
+     */
+    @GetMapping("/tenant/{tenantId}")
+    public ResponseEntity<List<CalculationFormulaDTO>> getCalculationFormulasByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get CalculationFormulas for tenant: {}", tenantId);
+        Page<CalculationFormulaDTO> page = calculationFormulaService.findByTenantId(tenantId, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /calculation-formulas/:id} : get the "id" calculationFormula.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CalculationFormulaDTO> getCalculationFormula(@PathVariable("id") Long id) {
+        log.debug("REST request to get CalculationFormula : {}", id);
+        Optional<CalculationFormulaDTO> calculationFormulaDTO = calculationFormulaService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(calculationFormulaDTO);
+    }
+
+    /**
+     * {@code DELETE  /calculation-formulas/:id} : delete the "id" calculationFormula.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteCalculationFormula(@PathVariable("id") Long id) {
+        log.debug("REST request to delete CalculationFormula : {}", id);
+        calculationFormulaService.delete(id);
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
+            .build();
+    }
+}
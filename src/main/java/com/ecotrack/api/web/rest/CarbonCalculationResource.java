@@ -1,17 +1,28 @@
 package com.ecotrack.api.web.rest;
 
+import com.ecotrack.api.config.ApplicationProperties;
 import com.ecotrack.api.service.CarbonCalculationService;
+import com.ecotrack.api.service.CarbonCalculationStreamService;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchResultDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
 import com.ecotrack.api.service.dto.EmissionReportDTO;
 import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import com.ecotrack.api.web.throttling.EndpointClass;
+import com.ecotrack.api.web.throttling.Throttled;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -34,8 +45,18 @@ public class CarbonCalculationResource {
 
     private final CarbonCalculationService carbonCalculationService;
 
-    public CarbonCalculationResource(CarbonCalculationService carbonCalculationService) {
+    private final CarbonCalculationStreamService carbonCalculationStreamService;
+
+    private final ApplicationProperties applicationProperties;
+
+    public CarbonCalculationResource(
+        CarbonCalculationService carbonCalculationService,
+        CarbonCalculationStreamService carbonCalculationStreamService,
+        ApplicationProperties applicationProperties
+    ) {
         this.carbonCalculationService = carbonCalculationService;
+        this.carbonCalculationStreamService = carbonCalculationStreamService;
+        this.applicationProperties = applicationProperties;
     }
 
     /**
@@ -45,6 +66,7 @@ public class CarbonCalculationResource {
      * @return calculated emissions and inputs used
      */
     @PostMapping("/estimate")
+    @Throttled(EndpointClass.CALCULATION)
     public ResponseEntity<CarbonCalculationResultDTO> estimate(@Valid @RequestBody CarbonCalculationRequestDTO request) {
         log.debug("REST request to estimate carbon emissions: {}", request);
         try {
@@ -63,6 +85,7 @@ public class CarbonCalculationResource {
      * @throws URISyntaxException if generated location URI is invalid
      */
     @PostMapping("")
+    @Throttled(EndpointClass.CALCULATION)
     public ResponseEntity<EmissionRecordDTO> calculateAndPersist(@Valid @RequestBody CarbonCalculationRequestDTO request)
         throws URISyntaxException {
         log.debug("REST request to calculate and persist carbon emissions: {}", request);
@@ -76,6 +99,54 @@ public class CarbonCalculationResource {
         }
     }
 
+    /**
+     * {@code POST /carbon-calculations} with an {@code application/x-ndjson} body : Stream calculations line by line.
+     * <p>
+     * Each input line is calculated and persisted in fixed-size chunks, and one NDJSON result line is written back per
+     * input line while the upload is still being read. Per-line failures are reported inline.
+     *
+     * @param request  the HTTP request carrying the NDJSON body
+     * @param response the HTTP response the NDJSON results are written to
+     * @throws IOException if the request body cannot be read or the response cannot be written
+     */
+    @PostMapping(value = "", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Throttled(EndpointClass.CALCULATION)
+    public void calculateAndPersistStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("REST request to stream carbon calculations");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        carbonCalculationStreamService.calculateAndSaveEmissionRecords(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * {@code POST /carbon-calculations/batch} : Calculate emissions for a batch of requests and persist the valid ones.
+     * <p>
+     * Items are validated individually; failures are reported in the per-item results instead of failing the call.
+     *
+     * @param requests the carbon calculation inputs
+     * @return per-item results in submission order
+     */
+    @PostMapping("/batch")
+    @Throttled(EndpointClass.CALCULATION)
+    public ResponseEntity<CarbonCalculationBatchResultDTO> calculateAndPersistBatch(
+        @RequestBody List<CarbonCalculationRequestDTO> requests
+    ) {
+        log.debug("REST request to calculate and persist a batch of carbon emissions: {} items", requests != null ? requests.size() : 0);
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestAlertException("A batch must contain at least one request", ENTITY_NAME, "emptybatch");
+        }
+        int maxItems = applicationProperties.getCarbonCalculation().getBatch().getMaxItems();
+        if (requests.size() > maxItems) {
+            throw new BadRequestAlertException(
+                "A batch cannot contain more than " + maxItems + " requests",
+                ENTITY_NAME,
+                "batchtoolarge"
+            );
+        }
+        CarbonCalculationBatchResultDTO result = carbonCalculationService.calculateAndSaveEmissionRecords(requests);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * {@code POST /carbon-calculations/emission-report} : Calculate and map results into an emission report.
      *
@@ -84,6 +155,7 @@ public class CarbonCalculationResource {
      * @throws URISyntaxException if generated location URI is invalid
      */
     @PostMapping("/emission-report")
+    @Throttled(EndpointClass.REPORT)
     public ResponseEntity<EmissionReportDTO> calculateToEmissionReport(@Valid @RequestBody CarbonCalculationRequestDTO request)
         throws URISyntaxException {
         log.debug("REST request to calculate carbon emissions and map to emission report: {}", request);
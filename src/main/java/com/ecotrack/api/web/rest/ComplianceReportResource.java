@@ -4,6 +4,8 @@ import com.ecotrack.api.repository.ComplianceReportRepository;
 import com.ecotrack.api.service.ComplianceReportService;
 import com.ecotrack.api.service.dto.ComplianceReportDTO;
 import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import com.ecotrack.api.web.throttling.EndpointClass;
+import com.ecotrack.api.web.throttling.Throttled;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -141,6 +143,7 @@ public class ComplianceReportResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of complianceReports in body
      */
     @GetMapping("")
+    @Throttled(EndpointClass.LIST)
     public ResponseEntity<List<ComplianceReportDTO>> getAllComplianceReports(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable
     ) {
@@ -0,0 +1,105 @@
+package com.ecotrack.api.web.rest;
+
+import com.ecotrack.api.security.AuthoritiesConstants;
+import com.ecotrack.api.service.EmissionFactorService;
+import com.ecotrack.api.service.dto.EmissionFactorDTO;
+import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for publishing and browsing {@link com.ecotrack.api.domain.EmissionFactor} versions.
+ * <p>
+ * Factors are immutable once published; a correction is published as a new version.
+ */
+@RestController
+@RequestMapping("/api/emission-factors")
+public class EmissionFactorResource {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionFactorResource.class);
+
+    private static final String ENTITY_NAME = "emissionFactor";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final EmissionFactorService emissionFactorService;
+
+    public EmissionFactorResource(EmissionFactorService emissionFactorService) {
+        this.emissionFactorService = emissionFactorService;
+    }
+
+    /**
+     * {@code POST  /emission-factors} : Publish a new emission factor version; {@code 409 (Conflict)} if concurrent
+     * publishes for the same factor keep taking the version.
+     */
+    @PostMapping("")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<EmissionFactorDTO> publishEmissionFactor(@Valid @RequestBody EmissionFactorDTO emissionFactorDTO)
+        throws URISyntaxException {
+        log.debug("REST request to publish EmissionFactor : {}", emissionFactorDTO);
+        if (emissionFactorDTO.getId() != null) {
+            throw new BadRequestAlertException("A new emissionFactor cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        try {
+            EmissionFactorDTO result = emissionFactorService.publish(emissionFactorDTO);
+            return ResponseEntity.created(new URI("/api/emission-factors/" + result.getId()))
+                .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+                .body(result);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidvalidity");
+        }
+    }
+
+    /**
+     * {@code GET  /emission-factors} : get all the emission factor versions.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<EmissionFactorDTO>> getAllEmissionFactors(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of EmissionFactors");
+        Page<EmissionFactorDTO> page = emissionFactorService.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-factors/:id} : get the "id" emission factor version.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<EmissionFactorDTO> getEmissionFactor(@PathVariable("id") Long id) {
+        log.debug("REST request to get EmissionFactor : {}", id);
+        Optional<EmissionFactorDTO> emissionFactorDTO = emissionFactorService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(emissionFactorDTO);
+    }
+
+    /**
+     * {@code DELETE  /emission-factors/:id} : withdraw the "id" emission factor version.
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> deleteEmissionFactor(@PathVariable("id") Long id) {
+        log.debug("REST request to delete EmissionFactor : {}", id);
+        emissionFactorService.delete(id);
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
+            .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.ecotrack.api.web.rest;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.service.EmissionImportService;
+import com.ecotrack.api.service.dto.EmissionImportDTO;
+import com.ecotrack.api.service.dto.EmissionImportErrorDTO;
+import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import com.ecotrack.api.web.throttling.EndpointClass;
+import com.ecotrack.api.web.throttling.Throttled;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for bulk importing emission records and monitoring {@link com.ecotrack.api.domain.EmissionImport}s.
+ */
+@RestController
+@RequestMapping("/api/emission-imports")
+public class EmissionImportResource {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionImportResource.class);
+
+    private static final String ENTITY_NAME = "emissionImport";
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final EmissionImportService emissionImportService;
+
+    public EmissionImportResource(EmissionImportService emissionImportService) {
+        this.emissionImportService = emissionImportService;
+    }
+
+    /**
+     * {@code POST  /emission-imports?tenantId=} with a {@code text/csv} or {@code application/x-ndjson} body : Import
+     * emission records for a tenant.
+     * <p>
+     * The body is streamed: rows are validated and staged while it is read, and the valid ones are merged into the
+     * tenant's emission records once the upload completes. Poll the returned import for progress and its
+     * {@code /errors} for the rows that were rejected.
+     *
+     * @param tenantId the tenant the records are imported for.
+     * @param fileName the name of the uploaded file, reported with the import.
+     * @param request  the HTTP request carrying the upload.
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)} and the import in body.
+     * @throws IOException if the upload cannot be read.
+     */
+    @PostMapping(value = "", consumes = { TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @Throttled(EndpointClass.IMPORT)
+    public ResponseEntity<EmissionImportDTO> importEmissionRecords(
+        @RequestParam("tenantId") String tenantId,
+        @RequestParam(value = "fileName", required = false) String fileName,
+        HttpServletRequest request
+    ) throws IOException, URISyntaxException {
+        log.debug("REST request to import EmissionRecords for tenant: {}", tenantId);
+        if (tenantId.isBlank() || tenantId.length() > 100) {
+            throw new BadRequestAlertException("A tenantId of at most 100 characters is required", ENTITY_NAME, "invalidtenant");
+        }
+        if (fileName != null && fileName.length() > MAX_FILE_NAME_LENGTH) {
+            throw new BadRequestAlertException("The file name is too long", ENTITY_NAME, "invalidfilename");
+        }
+        EmissionImportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+            ? EmissionImportFormat.NDJSON
+            : EmissionImportFormat.CSV;
+        EmissionImportDTO result = emissionImportService.importRecords(tenantId, format, fileName, request.getInputStream());
+        return ResponseEntity.accepted()
+            .location(new URI("/api/emission-imports/" + result.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code GET  /emission-imports/tenant/:tenantId} : get the emissionImports of a tenant.
+     */
+    @GetMapping("/tenant/{tenantId}")
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionImportDTO>> getEmissionImportsByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get EmissionImports for tenant: {}", tenantId);
+        Page<EmissionImportDTO> page = emissionImportService.findByTenantId(tenantId, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-imports/:id} : get the "id" emissionImport, including its progress.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<EmissionImportDTO> getEmissionImport(@PathVariable("id") Long id) {
+        log.debug("REST request to get EmissionImport : {}", id);
+        Optional<EmissionImportDTO> emissionImportDTO = emissionImportService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(emissionImportDTO);
+    }
+
+    /**
+     * {@code GET  /emission-imports/:id/errors} : get the rejected rows of the "id" emissionImport, in row order.
+     */
+    @GetMapping("/{id}/errors")
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionImportErrorDTO>> getEmissionImportErrors(
+        @PathVariable("id") Long id,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get the errors of EmissionImport : {}", id);
+        Page<EmissionImportErrorDTO> page = emissionImportService.findErrors(id, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+}
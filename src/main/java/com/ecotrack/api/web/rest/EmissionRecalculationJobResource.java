@@ -0,0 +1,122 @@
+package com.ecotrack.api.web.rest;
+
+import com.ecotrack.api.security.AuthoritiesConstants;
+import com.ecotrack.api.service.EmissionRecalculationService;
+import com.ecotrack.api.service.dto.EmissionRecalculationJobDTO;
+import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for starting and monitoring {@link com.ecotrack.api.domain.EmissionRecalculationJob}s.
+ */
+@RestController
+@RequestMapping("/api/emission-recalculation-jobs")
+public class EmissionRecalculationJobResource {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionRecalculationJobResource.class);
+
+    private static final String ENTITY_NAME = "emissionRecalculationJob";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final EmissionRecalculationService emissionRecalculationService;
+
+    public EmissionRecalculationJobResource(EmissionRecalculationService emissionRecalculationService) {
+        this.emissionRecalculationService = emissionRecalculationService;
+    }
+
+    /**
+     * {@code POST  /emission-recalculation-jobs} : Start recalculating the matching emission records of a tenant.
+     *
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)} and the pending job in body.
+     */
+    @PostMapping("")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<EmissionRecalculationJobDTO> startEmissionRecalculationJob(
+        @Valid @RequestBody EmissionRecalculationJobDTO emissionRecalculationJobDTO
+    ) throws URISyntaxException {
+        log.debug("REST request to start EmissionRecalculationJob : {}", emissionRecalculationJobDTO);
+        if (emissionRecalculationJobDTO.getId() != null) {
+            throw new BadRequestAlertException("A new emissionRecalculationJob cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        try {
+            EmissionRecalculationJobDTO result = emissionRecalculationService.start(emissionRecalculationJobDTO);
+            return ResponseEntity.accepted()
+                .location(new URI("/api/emission-recalculation-jobs/" + result.getId()))
+                .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+                .body(result);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidrecalculation");
+        }
+    }
+
+    /**
+     * {@code POST  /emission-recalculation-jobs/:id/resume} : Resume a failed or interrupted job from its checkpoint.
+     */
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<EmissionRecalculationJobDTO> resumeEmissionRecalculationJob(@PathVariable("id") Long id) {
+        log.debug("REST request to resume EmissionRecalculationJob : {}", id);
+        try {
+            Optional<EmissionRecalculationJobDTO> result = emissionRecalculationService.resume(id);
+            return ResponseUtil.wrapOrNotFound(result);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "jobcompleted");
+        }
+    }
+
+    /**
+     * {@code GET  /emission-recalculation-jobs} : get all the emissionRecalculationJobs.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<EmissionRecalculationJobDTO>> getAllEmissionRecalculationJobs(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of EmissionRecalculationJobs");
+        Page<EmissionRecalculationJobDTO> page = emissionRecalculationService.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-recalculation-jobs/tenant/:tenantId} : get the emissionRecalculationJobs of a tenant.
+     */
+    @GetMapping("/tenant/{tenantId}")
+    public ResponseEntity<List<EmissionRecalculationJobDTO>> getEmissionRecalculationJobsByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get EmissionRecalculationJobs for tenant: {}", tenantId);
+        Page<EmissionRecalculationJobDTO> page = emissionRecalculationService.findByTenantId(tenantId, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-recalculation-jobs/:id} : get the "id" emissionRecalculationJob, including its progress.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<EmissionRecalculationJobDTO> getEmissionRecalculationJob(@PathVariable("id") Long id) {
+        log.debug("REST request to get EmissionRecalculationJob : {}", id);
+        Optional<EmissionRecalculationJobDTO> emissionRecalculationJobDTO = emissionRecalculationService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(emissionRecalculationJobDTO);
+    }
+}
@@ -1,24 +1,53 @@
 package com.ecotrack.api.web.rest;
 
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordExportCriteria;
 import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRecordSummary;
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.service.EmissionRecordExportService;
 import com.ecotrack.api.service.EmissionRecordService;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.EmissionSeriesService;
+import com.ecotrack.api.service.EmissionUncertaintyService;
+import com.ecotrack.api.service.dto.CursorPage;
+import com.ecotrack.api.service.dto.EmissionRecordBulkPatchResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.ecotrack.api.service.dto.EmissionRecordPatchDTO;
+import com.ecotrack.api.service.dto.EmissionSeriesDTO;
+import com.ecotrack.api.service.dto.EmissionTotalsDTO;
+import com.ecotrack.api.service.dto.EmissionUncertaintyDTO;
+import com.ecotrack.api.service.exports.EmissionExportFormat;
+import com.ecotrack.api.service.series.EmissionSeriesGrouping;
+import com.ecotrack.api.service.series.EmissionSeriesPeriod;
 import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import com.ecotrack.api.web.throttling.EndpointClass;
+import com.ecotrack.api.web.throttling.Throttled;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -33,8 +62,15 @@ public class EmissionRecordResource {
 
     private static final Logger log = LoggerFactory.getLogger(EmissionRecordResource.class);
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // Same bound Spring Data applies to offset pages.
+    private static final int MAX_CURSOR_PAGE_SIZE = 2000;
+
     private static final String ENTITY_NAME = "emissionRecord";
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -42,9 +78,32 @@ public class EmissionRecordResource {
 
     private final EmissionRecordRepository emissionRecordRepository;
 
-    public EmissionRecordResource(EmissionRecordService emissionRecordService, EmissionRecordRepository emissionRecordRepository) {
+    private final EmissionUncertaintyService emissionUncertaintyService;
+
+    private final EmissionRollupService emissionRollupService;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final EmissionRecordExportService emissionRecordExportService;
+
+    private final EmissionSeriesService emissionSeriesService;
+
+    public EmissionRecordResource(
+        EmissionRecordService emissionRecordService,
+        EmissionRecordRepository emissionRecordRepository,
+        EmissionUncertaintyService emissionUncertaintyService,
+        EmissionRollupService emissionRollupService,
+        ApplicationProperties applicationProperties,
+        EmissionRecordExportService emissionRecordExportService,
+        EmissionSeriesService emissionSeriesService
+    ) {
         this.emissionRecordService = emissionRecordService;
         this.emissionRecordRepository = emissionRecordRepository;
+        this.emissionUncertaintyService = emissionUncertaintyService;
+        this.emissionRollupService = emissionRollupService;
+        this.applicationProperties = applicationProperties;
+        this.emissionRecordExportService = emissionRecordExportService;
+        this.emissionSeriesService = emissionSeriesService;
     }
 
     /**
@@ -132,6 +191,37 @@ public class EmissionRecordResource {
         return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, id.toString()));
     }
 
+    /**
+     * {@code PATCH  /emission-records/tenant/:tenantId} : Partially updates the verification fields of many emission
+     * records of a tenant at once. Fields left null are not changed.
+     *
+     * @param tenantId the tenant the records belong to
+     * @param patches the verified flag, confidence score and notes to set per record id
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of updated records and the ids
+     * that were not found in body, or with status {@code 400 (Bad Request)} if the batch is empty, too large or
+     * patches an id more than once
+     */
+    @PatchMapping(value = "/tenant/{tenantId}", consumes = { "application/json", "application/merge-patch+json" })
+    @Throttled(EndpointClass.EXPORT)
+    public ResponseEntity<EmissionRecordBulkPatchResultDTO> bulkPartialUpdateEmissionRecords(
+        @PathVariable("tenantId") String tenantId,
+        @RequestBody List<EmissionRecordPatchDTO> patches
+    ) {
+        log.debug("REST request to partially update {} EmissionRecords for tenant: {}", patches.size(), tenantId);
+        if (patches.isEmpty()) {
+            throw new BadRequestAlertException("A batch must contain at least one patch", ENTITY_NAME, "emptybatch");
+        }
+        int maxItems = applicationProperties.getCarbonCalculation().getBatch().getMaxItems();
+        if (patches.size() > maxItems) {
+            throw new BadRequestAlertException("A batch cannot contain more than " + maxItems + " patches", ENTITY_NAME, "batchtoolarge");
+        }
+        try {
+            return ResponseEntity.ok(emissionRecordService.bulkPartialUpdate(tenantId, patches));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidpatch");
+        }
+    }
+
     /**
      * {@code GET  /emission-records} : get all the emission records.
      *
@@ -139,6 +229,7 @@ public class EmissionRecordResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of emission records in body
      */
     @GetMapping("")
+    @Throttled(EndpointClass.LIST)
     public ResponseEntity<List<EmissionRecordDTO>> getAllEmissionRecords(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable
     ) {
@@ -156,6 +247,7 @@ public class EmissionRecordResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of emission records in body
      */
     @GetMapping("/tenant/{tenantId}")
+    @Throttled(EndpointClass.LIST)
     public ResponseEntity<List<EmissionRecordDTO>> getEmissionRecordsByTenant(
         @PathVariable("tenantId") String tenantId,
         @org.springdoc.core.annotations.ParameterObject Pageable pageable
@@ -166,6 +258,269 @@ public class EmissionRecordResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId?cursor=} : get a keyset page of emission records for a tenant,
+     * newest recording date first. Pass an empty cursor for the first page, then the {@code X-Next-Cursor} header of
+     * the previous page; the header and the {@code next} link are omitted on the last page.
+     *
+     * @param tenantId the tenant ID
+     * @param cursor the opaque cursor of the page
+     * @param size the maximum number of records, at most {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of emission records in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is invalid
+     */
+    @GetMapping(value = "/tenant/{tenantId}", params = "cursor")
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionRecordDTO>> getEmissionRecordsByTenantAfterCursor(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam("cursor") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get a keyset page of EmissionRecords for tenant: {}", tenantId);
+        CursorPage<EmissionRecordDTO> page;
+        try {
+            page = emissionRecordService.findByTenantId(tenantId, cursor, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidcursor");
+        }
+        return ResponseEntity.ok().headers(cursorHeaders(page)).body(page.content());
+    }
+
+    /**
+     * {@code GET  /emission-records?view=summary} : get summaries of all the emission records. Summaries carry the
+     * identifying and headline columns only and are read without loading the records.
+     *
+     * @param pageable the pagination information
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body
+     */
+    @GetMapping(value = "", params = "view=summary")
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionRecordSummary>> getAllEmissionRecordSummaries(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of EmissionRecord summaries");
+        Page<EmissionRecordSummary> page = emissionRecordService.findSummaries(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId?view=summary} : get summaries of the emission records for a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @param pageable the pagination information
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body
+     */
+    @GetMapping(value = "/tenant/{tenantId}", params = "view=summary")
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionRecordSummary>> getEmissionRecordSummariesByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get EmissionRecord summaries for tenant: {}", tenantId);
+        Page<EmissionRecordSummary> page = emissionRecordService.findSummariesByTenantId(tenantId, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId?view=summary&cursor=} : get a keyset page of emission record
+     * summaries for a tenant. Paged like the full records, and cursors of either view can be used with the other.
+     *
+     * @param tenantId the tenant ID
+     * @param cursor the opaque cursor of the page
+     * @param size the maximum number of records, at most {@value #MAX_CURSOR_PAGE_SIZE}
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of summaries in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is invalid
+     */
+    @GetMapping(value = "/tenant/{tenantId}", params = { "cursor", "view=summary" })
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionRecordSummary>> getEmissionRecordSummariesByTenantAfterCursor(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam("cursor") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get a keyset page of EmissionRecord summaries for tenant: {}", tenantId);
+        CursorPage<EmissionRecordSummary> page;
+        try {
+            page = emissionRecordService.findSummariesByTenantId(tenantId, cursor, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidcursor");
+        }
+        return ResponseEntity.ok().headers(cursorHeaders(page)).body(page.content());
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId/search} : get a tenant's emission records by metadata, newest
+     * recording date first.
+     *
+     * @param tenantId the tenant ID
+     * @param status the metadata status to match
+     * @param flagged the metadata flag to match
+     * @param pageable the pagination information; its sort is ignored
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of emission records in body,
+     * or with status {@code 400 (Bad Request)} if neither filter is given
+     */
+    @GetMapping("/tenant/{tenantId}/search")
+    @Throttled(EndpointClass.LIST)
+    public ResponseEntity<List<EmissionRecordDTO>> searchEmissionRecordsByMetadata(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam(value = "status", required = false) String status,
+        @RequestParam(value = "flagged", required = false) Boolean flagged,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search EmissionRecords for tenant: {} by metadata", tenantId);
+        Page<EmissionRecordDTO> page;
+        try {
+            page = emissionRecordService.findByTenantIdAndMetadata(tenantId, status, flagged, pageable);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "nofilter");
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId/totals} : get a tenant's emission totals per scope.
+     *
+     * @param tenantId the tenant ID
+     * @param from first recording date, inclusive; omit together with {@code to} for all dated records
+     * @param to last recording date, inclusive
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the totals in body,
+     * or with status {@code 400 (Bad Request)} if the range is invalid
+     */
+    @GetMapping("/tenant/{tenantId}/totals")
+    @Throttled(EndpointClass.REPORT)
+    public ResponseEntity<EmissionTotalsDTO> getEmissionTotalsByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam(value = "from", required = false) LocalDate from,
+        @RequestParam(value = "to", required = false) LocalDate to
+    ) {
+        log.debug("REST request to get EmissionRecord totals for tenant: {}", tenantId);
+        try {
+            return ResponseEntity.ok(emissionRollupService.getTotals(tenantId, from, to));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidtotalsrequest");
+        }
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId/series} : get a tenant's emissions per period and scope, supplier,
+     * installation or product emission, aggregated by the database.
+     *
+     * @param tenantId the tenant ID
+     * @param period the period of the buckets
+     * @param groupBy the dimension to group by
+     * @param from first recording date, inclusive; omit together with {@code to} for all dated records
+     * @param to last recording date, inclusive
+     * @param cumulative whether to add running totals per group
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the series in body,
+     * or with status {@code 400 (Bad Request)} if the range is invalid
+     */
+    @GetMapping("/tenant/{tenantId}/series")
+    @Throttled(EndpointClass.REPORT)
+    public ResponseEntity<EmissionSeriesDTO> getEmissionSeriesByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam(value = "period", defaultValue = "MONTH") EmissionSeriesPeriod period,
+        @RequestParam(value = "groupBy", defaultValue = "SCOPE") EmissionSeriesGrouping groupBy,
+        @RequestParam(value = "from", required = false) LocalDate from,
+        @RequestParam(value = "to", required = false) LocalDate to,
+        @RequestParam(value = "cumulative", defaultValue = "false") boolean cumulative
+    ) {
+        log.debug("REST request to get the EmissionRecord series for tenant: {}", tenantId);
+        try {
+            return ResponseEntity.ok(emissionSeriesService.getSeries(tenantId, period, groupBy, from, to, cumulative));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidseriesrequest");
+        }
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId/export} : export a tenant's emission records as CSV or NDJSON,
+     * by recording date then id, undated records last.
+     * <p>
+     * The records are streamed from a database cursor as they are written, in one read-only transaction, so the whole
+     * ledger is exported in a single request; the body is gzip-encoded when the client accepts it.
+     *
+     * @param tenantId the tenant ID
+     * @param format {@code CSV} (default) or {@code NDJSON}
+     * @param scope only records of this scope
+     * @param supplierId only records of this supplier
+     * @param from first recording date, inclusive
+     * @param to last recording date, inclusive
+     * @param verified only verified records, or only unverified ones
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the export in body,
+     * or with status {@code 400 (Bad Request)} if the range is invalid
+     */
+    @GetMapping("/tenant/{tenantId}/export")
+    @Throttled(EndpointClass.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportEmissionRecordsByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam(value = "format", defaultValue = "CSV") EmissionExportFormat format,
+        @RequestParam(value = "scope", required = false) Scope scope,
+        @RequestParam(value = "supplierId", required = false) String supplierId,
+        @RequestParam(value = "from", required = false) LocalDate from,
+        @RequestParam(value = "to", required = false) LocalDate to,
+        @RequestParam(value = "verified", required = false) Boolean verified,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.debug("REST request to export EmissionRecords for tenant: {}", tenantId);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestAlertException("'from' must not be after 'to'", ENTITY_NAME, "invalidexportrequest");
+        }
+        EmissionRecordExportCriteria criteria = new EmissionRecordExportCriteria(tenantId, scope, supplierId, from, to, verified);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // The body is written on an async request thread, which must read the ledger as the tenant of this request.
+        String requestTenantId = TenantContext.getTenantId();
+        StreamingResponseBody body = output -> {
+            try {
+                TenantContext.runWithTenant(requestTenantId, () -> writeExport(criteria, format, gzip, output));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getContentType()));
+        headers.setContentDisposition(
+            ContentDisposition.attachment().filename("emission-records-" + tenantId + "." + format.getFileExtension()).build()
+        );
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    /**
+     * {@code GET  /emission-records/tenant/:tenantId/uncertainty} : simulate confidence intervals of a tenant's emissions.
+     *
+     * @param tenantId the tenant ID
+     * @param from first recording date, inclusive
+     * @param to last recording date, inclusive
+     * @param iterations number of Monte Carlo iterations, defaults to the configured value
+     * @param seed seed for a reproducible simulation, random when omitted
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and mean, P5 and P95 per scope in body,
+     * or with status {@code 400 (Bad Request)} if the range or iteration count is invalid
+     */
+    @GetMapping("/tenant/{tenantId}/uncertainty")
+    @Throttled(EndpointClass.CALCULATION)
+    public ResponseEntity<EmissionUncertaintyDTO> getEmissionUncertaintyByTenant(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam("from") LocalDate from,
+        @RequestParam("to") LocalDate to,
+        @RequestParam(value = "iterations", required = false) Integer iterations,
+        @RequestParam(value = "seed", required = false) Long seed
+    ) {
+        log.debug("REST request to simulate EmissionRecord uncertainty for tenant: {}", tenantId);
+        try {
+            return ResponseEntity.ok(emissionUncertaintyService.simulate(tenantId, from, to, iterations, seed));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invaliduncertaintyrequest");
+        }
+    }
+
     /**
      * {@code GET  /emission-records/:id} : get the "id" emission record.
      *
@@ -193,4 +548,41 @@ public class EmissionRecordResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static HttpHeaders cursorHeaders(CursorPage<?> page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.hasNext()) {
+            headers.add(NEXT_CURSOR_HEADER, page.nextCursor());
+            String next = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", page.nextCursor()).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+
+    private void writeExport(EmissionRecordExportCriteria criteria, EmissionExportFormat format, boolean gzip, OutputStream output) {
+        try {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, EXPORT_BUFFER_SIZE);
+                emissionRecordExportService.export(criteria, format, compressed);
+                compressed.finish();
+            } else {
+                emissionRecordExportService.export(criteria, format, new BufferedOutputStream(output, EXPORT_BUFFER_SIZE));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
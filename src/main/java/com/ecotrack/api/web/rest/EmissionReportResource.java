@@ -4,6 +4,8 @@ import com.ecotrack.api.repository.EmissionReportRepository;
 import com.ecotrack.api.service.EmissionReportService;
 import com.ecotrack.api.service.dto.EmissionReportDTO;
 import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import com.ecotrack.api.web.throttling.EndpointClass;
+import com.ecotrack.api.web.throttling.Throttled;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -139,6 +141,7 @@ public class EmissionReportResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of emissionReports in body
      */
     @GetMapping("")
+    @Throttled(EndpointClass.LIST)
     public ResponseEntity<List<EmissionReportDTO>> getAllEmissionReports(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable
     ) {
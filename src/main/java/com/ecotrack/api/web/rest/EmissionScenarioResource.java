@@ -0,0 +1,56 @@
+package com.ecotrack.api.web.rest;
+
+import com.ecotrack.api.service.EmissionScenarioService;
+import com.ecotrack.api.service.dto.EmissionScenarioDTO;
+import com.ecotrack.api.service.dto.EmissionScenarioResultDTO;
+import com.ecotrack.api.web.rest.errors.BadRequestAlertException;
+import com.ecotrack.api.web.throttling.EndpointClass;
+import com.ecotrack.api.web.throttling.Throttled;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for what-if scenarios over a tenant's {@link com.ecotrack.api.domain.EmissionRecord} ledger.
+ */
+@RestController
+@RequestMapping("/api/emission-scenarios")
+public class EmissionScenarioResource {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissionScenarioResource.class);
+
+    private static final String ENTITY_NAME = "emissionScenario";
+
+    private final EmissionScenarioService emissionScenarioService;
+
+    public EmissionScenarioResource(EmissionScenarioService emissionScenarioService) {
+        this.emissionScenarioService = emissionScenarioService;
+    }
+
+    /**
+     * {@code POST  /emission-scenarios/tenant/:tenantId} : evaluate what-if scenarios against a tenant's ledger.
+     *
+     * @param tenantId the tenant ID
+     * @param reload whether to reload the ledger snapshot instead of reusing the cached one
+     * @param scenarios the scenarios to evaluate
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and one result per scenario in body,
+     * or with status {@code 400 (Bad Request)} if a scenario is invalid
+     */
+    @PostMapping("/tenant/{tenantId}")
+    @Throttled(EndpointClass.CALCULATION)
+    public ResponseEntity<List<EmissionScenarioResultDTO>> simulateScenarios(
+        @PathVariable("tenantId") String tenantId,
+        @RequestParam(value = "reload", defaultValue = "false") boolean reload,
+        @Valid @RequestBody List<@Valid EmissionScenarioDTO> scenarios
+    ) {
+        log.debug("REST request to simulate {} EmissionScenarios for tenant: {}", scenarios.size(), tenantId);
+        try {
+            return ResponseEntity.ok(emissionScenarioService.simulate(tenantId, scenarios, reload));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestAlertException(ex.getMessage(), ENTITY_NAME, "invalidscenario");
+        }
+    }
+}
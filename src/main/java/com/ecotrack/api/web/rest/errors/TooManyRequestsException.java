@@ -0,0 +1,29 @@
+package com.ecotrack.api.web.rest.errors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause.ProblemDetailWithCauseBuilder;
+
+/**
+ * {@code 429 Too Many Requests} with the {@code Retry-After} header telling the client when to try again.
+ */
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class TooManyRequestsException extends ErrorResponseException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TooManyRequestsException(String defaultMessage, long retryAfterSeconds) {
+        super(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ProblemDetailWithCauseBuilder.instance()
+                .withStatus(HttpStatus.TOO_MANY_REQUESTS.value())
+                .withType(ErrorConstants.DEFAULT_TYPE)
+                .withTitle(defaultMessage)
+                .withDetail(defaultMessage + ", retry after " + retryAfterSeconds + " s")
+                .build(),
+            null
+        );
+        getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecotrack.api.web.throttling;
+
+import com.ecotrack.api.config.ApplicationProperties;
+
+/**
+ * Classes of endpoints that are throttled per tenant, each with its own budget under {@code application.throttling}.
+ */
+public enum EndpointClass {
+    CALCULATION,
+    LIST,
+    EXPORT,
+    IMPORT,
+    REPORT;
+
+    ApplicationProperties.Throttling.Budget budget(ApplicationProperties.Throttling throttling) {
+        return switch (this) {
+            case CALCULATION -> throttling.getCalculation();
+            case LIST -> throttling.getList();
+            case EXPORT -> throttling.getExport();
+            case IMPORT -> throttling.getImports();
+            case REPORT -> throttling.getReport();
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.ecotrack.api.web.throttling;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant rate limits and bulkheads for each {@link EndpointClass}.
+ * <p>
+ * The rate limit is a token bucket implemented as a generic cell rate algorithm: a single theoretical arrival time
+ * per tenant and class, advanced by compare-and-set, so admitting a request never locks. The bulkhead is a counter of
+ * requests in progress, capped at the class's {@code max-concurrent}.
+ * <p>
+ * Each tenant and class reports {@code ecotrack.throttle.permits} (requests in progress) and
+ * {@code ecotrack.throttle.tokens} (requests it may still make at once), and {@code ecotrack.throttle.rejected} counts
+ * throttled requests by {@code reason}.
+ * <p>
+ * A limiter with no request in progress whose tokens have all been back for {@code idle-timeout} is evicted with its
+ * meters; the tenant's next request starts from a full bucket, which is where the evicted one was.
+ */
+@Component
+public class TenantThrottle {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ApplicationProperties.Throttling properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Key, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public TenantThrottle(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.properties = applicationProperties.getThrottling();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Try to admit a request of a tenant; an admitted request must be {@link #release released} once it completes.
+     *
+     * @return {@code 0} if the request is admitted, otherwise the nanoseconds after which it may be retried
+     */
+    public long tryAcquire(String tenantId, EndpointClass endpointClass) {
+        Key key = new Key(tenantId, endpointClass);
+        Limiter limiter = limiters.computeIfAbsent(key, this::createLimiter);
+        while (!limiter.tryEnter()) {
+            if (!limiter.isRetired()) {
+                limiter.rejectedByBulkhead.increment();
+                // Nothing tells when a request in progress completes; a second is a reasonable pause.
+                return NANOS_PER_SECOND;
+            }
+            // Evicted since the lookup; the eviction is removing it from the map, which this waits for.
+            limiter = limiters.computeIfAbsent(key, this::createLimiter);
+        }
+        long retryAfter = limiter.tryTake(System.nanoTime());
+        if (retryAfter > 0) {
+            limiter.exit();
+            limiter.rejectedByRate.increment();
+        }
+        return retryAfter;
+    }
+
+    public void release(String tenantId, EndpointClass endpointClass) {
+        Limiter limiter = limiters.get(new Key(tenantId, endpointClass));
+        if (limiter != null) {
+            limiter.exit();
+        }
+    }
+
+    /**
+     * Evict the limiters that have been idle for {@code idle-timeout} and remove their meters.
+     */
+    @Scheduled(
+        initialDelayString = "${application.throttling.idle-timeout:PT10M}",
+        fixedDelayString = "${application.throttling.idle-timeout:PT10M}"
+    )
+    public void evictIdleLimiters() {
+        long idleSince = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        for (Key key : limiters.keySet()) {
+            // Retired and removed in one step, so a request never creates a limiter whose meters are still registered.
+            limiters.computeIfPresent(key, (k, limiter) -> {
+                if (!limiter.tryRetire(idleSince)) {
+                    return limiter;
+                }
+                limiter.meters.forEach(meterRegistry::remove);
+                return null;
+            });
+        }
+    }
+
+    private Limiter createLimiter(Key key) {
+        ApplicationProperties.Throttling.Budget budget = key.endpointClass().budget(properties);
+        Limiter limiter = new Limiter(
+            Math.max(1, Math.round(NANOS_PER_SECOND / budget.getRequestsPerSecond())),
+            Math.max(1, budget.getBurst()),
+            Math.max(1, budget.getMaxConcurrent()),
+            System.nanoTime()
+        );
+        String endpoint = key.endpointClass().name().toLowerCase(Locale.ROOT);
+        Gauge permits = Gauge.builder("ecotrack.throttle.permits", limiter, l -> Math.max(0, l.inProgress.get()))
+            .description("Requests of a tenant in progress on a class of endpoints")
+            .tag("tenant", key.tenantId())
+            .tag("endpoint", endpoint)
+            .register(meterRegistry);
+        Gauge tokens = Gauge.builder("ecotrack.throttle.tokens", limiter, l -> l.availableTokens(System.nanoTime()))
+            .description("Requests a tenant may still make at once to a class of endpoints")
+            .tag("tenant", key.tenantId())
+            .tag("endpoint", endpoint)
+            .register(meterRegistry);
+        limiter.rejectedByRate = rejectedCounter(key.tenantId(), endpoint, "rate");
+        limiter.rejectedByBulkhead = rejectedCounter(key.tenantId(), endpoint, "concurrency");
+        limiter.meters = List.of(permits, tokens, limiter.rejectedByRate, limiter.rejectedByBulkhead);
+        return limiter;
+    }
+
+    private Counter rejectedCounter(String tenantId, String endpoint, String reason) {
+        return Counter.builder("ecotrack.throttle.rejected")
+            .description("Requests of a tenant throttled with 429")
+            .tag("tenant", tenantId)
+            .tag("endpoint", endpoint)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private record Key(String tenantId, EndpointClass endpointClass) {}
+
+    static final class Limiter {
+
+        // Requests in progress of a limiter that has been evicted; no request can enter it any more.
+        private static final int RETIRED = -1;
+
+        private final long emissionInterval;
+
+        private final long burstTolerance;
+
+        private final int maxConcurrent;
+
+        // Theoretical arrival time of the next request at the sustained rate, in System.nanoTime().
+        private final AtomicLong arrivalTime;
+
+        private final AtomicInteger inProgress = new AtomicInteger();
+
+        private Counter rejectedByRate;
+
+        private Counter rejectedByBulkhead;
+
+        private List<Meter> meters = List.of();
+
+        Limiter(long emissionInterval, int burst, int maxConcurrent, long now) {
+            this.emissionInterval = emissionInterval;
+            this.burstTolerance = emissionInterval * burst;
+            this.maxConcurrent = maxConcurrent;
+            this.arrivalTime = new AtomicLong(now);
+        }
+
+        /**
+         * @return {@code 0} if a token was taken, otherwise the nanoseconds until the next one is available
+         */
+        long tryTake(long now) {
+            while (true) {
+                long current = arrivalTime.get();
+                long next = Math.max(current, now) + emissionInterval;
+                long allowedAt = next - burstTolerance;
+                if (allowedAt > now) {
+                    return allowedAt - now;
+                }
+                if (arrivalTime.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        double availableTokens(long now) {
+            return (double) (burstTolerance - Math.max(0, arrivalTime.get() - now)) / emissionInterval;
+        }
+
+        boolean tryEnter() {
+            while (true) {
+                int current = inProgress.get();
+                if (current == RETIRED || current >= maxConcurrent) {
+                    return false;
+                }
+                if (inProgress.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void exit() {
+            inProgress.decrementAndGet();
+        }
+
+        /**
+         * Retire the limiter if no request is in progress and its bucket has been full since {@code idleSince}.
+         *
+         * @return whether the limiter was retired
+         */
+        boolean tryRetire(long idleSince) {
+            return arrivalTime.get() - idleSince <= 0 && inProgress.compareAndSet(0, RETIRED);
+        }
+
+        boolean isRetired() {
+            return inProgress.get() == RETIRED;
+        }
+    }
+}
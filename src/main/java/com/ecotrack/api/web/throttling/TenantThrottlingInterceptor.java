@@ -0,0 +1,71 @@
+package com.ecotrack.api.web.throttling;
+
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.web.rest.errors.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Admits requests to {@link Throttled} endpoints through the {@link TenantThrottle} of the request's tenant, and
+ * answers {@code 429 Too Many Requests} with a {@code Retry-After} header when the tenant is over its budget.
+ * <p>
+ * The permit is held until the request completes, including the asynchronous dispatch of streamed responses such as
+ * exports.
+ */
+public class TenantThrottlingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TenantThrottlingInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = TenantThrottlingInterceptor.class.getName() + ".permit";
+
+    private final TenantThrottle tenantThrottle;
+
+    public TenantThrottlingInterceptor(TenantThrottle tenantThrottle) {
+        this.tenantThrottle = tenantThrottle;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Throttled throttled = handlerMethod.getMethodAnnotation(Throttled.class);
+        String tenantId = TenantContext.getTenantId();
+        if (throttled == null || tenantId == null) {
+            return true;
+        }
+        long retryAfter = tenantThrottle.tryAcquire(tenantId, throttled.value());
+        if (retryAfter > 0) {
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfter + TimeUnit.SECONDS.toNanos(1) - 1));
+            LOG.debug("Throttled {} request of tenant {} for {} s", throttled.value(), tenantId, seconds);
+            throw new TooManyRequestsException("Too many " + throttled.value().name().toLowerCase(Locale.ROOT) + " requests", seconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(tenantId, throttled.value()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull Object handler,
+        @Nullable Exception ex
+    ) {
+        // Not called when a request goes async; the async dispatch that completes it releases the permit.
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            tenantThrottle.release(permit.tenantId(), permit.endpointClass());
+        }
+    }
+
+    private record Permit(String tenantId, EndpointClass endpointClass) {}
+}
@@ -0,0 +1,18 @@
+package com.ecotrack.api.web.throttling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the rate and concurrency of a REST endpoint per tenant, within the budget of its {@link EndpointClass}.
+ * Requests without tenant are not throttled.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Throttled {
+    EndpointClass value();
+}
@@ -0,0 +1,4 @@
+/**
+ * Per-tenant rate limits and bulkheads of REST endpoints.
+ */
+package com.ecotrack.api.web.throttling;
@@ -0,0 +1,98 @@
+package com.ecotrack.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+
+    private Connection primaryConnection;
+
+    private Connection replicaConnection;
+
+    private PreparedStatement replicaStatement;
+
+    private ResultSet lagResult;
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        HikariDataSource replica = mock(HikariDataSource.class);
+        replicaConnection = mock(Connection.class);
+        replicaStatement = mock(PreparedStatement.class);
+        lagResult = mock(ResultSet.class);
+        when(replica.getPoolName()).thenReturn("Hikari-replica-1");
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.prepareStatement(anyString())).thenReturn(replicaStatement);
+        when(replicaStatement.executeQuery()).thenReturn(lagResult);
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(10));
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldKeepWritesAndUncheckedReplicasOnThePrimary() throws SQLException {
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToAReplica() throws SQLException {
+        when(lagResult.getDouble(1)).thenReturn(0.5);
+        routingDataSource.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routingDataSource.getReplicationLags()).containsEntry("Hikari-replica-1", 0.5);
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryWhileTheReplicaLags() throws SQLException {
+        when(lagResult.getDouble(1)).thenReturn(30.0);
+        routingDataSource.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldTakeAReplicaWhoseWalReceiverStoppedOutOfRotation() throws SQLException {
+        when(lagResult.getDouble(1)).thenReturn(0.5);
+        routingDataSource.checkReplicationLag();
+        when(lagResult.getDouble(1)).thenReturn(0.0);
+        when(lagResult.wasNull()).thenReturn(true);
+        routingDataSource.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getReplicationLags().get("Hikari-replica-1")).isNaN();
+    }
+}
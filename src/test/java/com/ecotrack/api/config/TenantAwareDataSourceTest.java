@@ -0,0 +1,82 @@
+package com.ecotrack.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.security.TenantContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+class TenantAwareDataSourceTest {
+
+    private Connection targetConnection;
+
+    private PreparedStatement bindStatement;
+
+    private PreparedStatement queryStatement;
+
+    private TenantAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        bindStatement = mock(PreparedStatement.class);
+        queryStatement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.prepareStatement(TenantAwareDataSource.BIND_TENANT_SQL)).thenReturn(bindStatement);
+        when(targetConnection.prepareStatement("SELECT 1")).thenReturn(queryStatement);
+        dataSource = new TenantAwareDataSource(target);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void shouldBindTheTenantBeforeTheFirstStatementOfEachTransaction() throws SQLException {
+        TenantContext.setTenantId("tenant-a");
+        Connection connection = dataSource.getConnection();
+
+        connection.setReadOnly(true);
+        verify(targetConnection, never()).prepareStatement(TenantAwareDataSource.BIND_TENANT_SQL);
+
+        assertThat(connection.prepareStatement("SELECT 1")).isSameAs(queryStatement);
+        connection.prepareStatement("SELECT 1");
+        InOrder inOrder = inOrder(targetConnection, bindStatement);
+        inOrder.verify(targetConnection).setReadOnly(true);
+        inOrder.verify(bindStatement).setString(1, "tenant-a");
+        inOrder.verify(bindStatement).setString(2, "tenant-a");
+        inOrder.verify(bindStatement).execute();
+        inOrder.verify(targetConnection, times(2)).prepareStatement("SELECT 1");
+
+        connection.commit();
+        connection.prepareStatement("SELECT 1");
+        verify(bindStatement, times(2)).execute();
+        assertThat(DataSourceUtils.getTargetConnection(connection)).isSameAs(targetConnection);
+    }
+
+    @Test
+    void shouldNotBindWithoutTenantOrTransaction() throws SQLException {
+        dataSource.getConnection().prepareStatement("SELECT 1");
+
+        TenantContext.setTenantId("tenant-a");
+        when(targetConnection.getAutoCommit()).thenReturn(true);
+        dataSource.getConnection().prepareStatement("SELECT 1");
+
+        verify(targetConnection, never()).prepareStatement(TenantAwareDataSource.BIND_TENANT_SQL);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecotrack.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+import com.ecotrack.api.security.TenantContext;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantPoolRoutingDataSourceTest {
+
+    private HikariDataSource shared;
+
+    private TenantPoolRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        // Pools only connect on their first connection, which these tests never ask for.
+        shared = new HikariDataSource();
+        shared.setPoolName("Hikari");
+        shared.setJdbcUrl("jdbc:postgresql://localhost:5432/ecotrack");
+        shared.setMaximumPoolSize(10);
+        routingDataSource = new TenantPoolRoutingDataSource(shared, null, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        routingDataSource.close();
+        shared.close();
+    }
+
+    @Test
+    void shouldRouteDedicatedTenantsToTheirOwnPool() {
+        routingDataSource.assign("big-t", 3);
+
+        TenantContext.setTenantId("big-t");
+        HikariDataSource pool = (HikariDataSource) routingDataSource.determineTargetDataSource();
+        assertThat(pool).isNotSameAs(shared);
+        assertThat(pool.getPoolName()).isEqualTo("Hikari-tenant-big-t");
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(pool.getJdbcUrl()).isEqualTo(shared.getJdbcUrl());
+
+        TenantContext.setTenantId("tenant-a");
+        assertThat(routingDataSource.determineTargetDataSource()).isSameAs(shared);
+        TenantContext.clear();
+        assertThat(routingDataSource.determineTargetDataSource()).isSameAs(shared);
+    }
+
+    @Test
+    void shouldDefaultToTheSharedPoolSize() {
+        routingDataSource.assign("big-t", null);
+
+        assertThat(routingDataSource.getDedicatedPools()).hasEntrySatisfying("big-t", state -> {
+            assertThat(state.pool()).isEqualTo("Hikari-tenant-big-t");
+            assertThat(state.maximumPoolSize()).isEqualTo(10);
+            assertThat(state.activeConnections()).isZero();
+        });
+    }
+
+    @Test
+    void shouldMoveUnassignedTenantsBackToTheSharedPool() {
+        routingDataSource.assign("big-t", 3);
+        TenantContext.setTenantId("big-t");
+        HikariDataSource pool = (HikariDataSource) routingDataSource.determineTargetDataSource();
+
+        assertThat(routingDataSource.unassign("big-t")).isTrue();
+        assertThat(routingDataSource.unassign("big-t")).isFalse();
+
+        assertThat(routingDataSource.determineTargetDataSource()).isSameAs(shared);
+        assertThat(routingDataSource.getDedicatedPools()).isEmpty();
+        await().atMost(Duration.ofSeconds(5)).until(pool::isClosed);
+    }
+
+    @Test
+    void shouldRetireThePreviousPoolWhenResized() {
+        routingDataSource.assign("big-t", 3);
+        TenantContext.setTenantId("big-t");
+        HikariDataSource previous = (HikariDataSource) routingDataSource.determineTargetDataSource();
+
+        routingDataSource.assign("big-t", 6);
+
+        assertThat(((HikariDataSource) routingDataSource.determineTargetDataSource()).getMaximumPoolSize()).isEqualTo(6);
+        await().atMost(Duration.ofSeconds(5)).until(previous::isClosed);
+    }
+
+    @Test
+    void shouldRejectInvalidAssignments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> routingDataSource.assign(" ", 3));
+        assertThatIllegalArgumentException().isThrownBy(() -> routingDataSource.assign("big-t", 0));
+    }
+}
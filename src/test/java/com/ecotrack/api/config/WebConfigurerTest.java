@@ -1,20 +1,26 @@
 package com.ecotrack.api.config;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.ecotrack.api.security.TenantContext;
 import jakarta.servlet.*;
 import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import tech.jhipster.config.JHipsterProperties;
 
 /**
@@ -42,6 +48,22 @@ class WebConfigurerTest {
         webConfigurer = new WebConfigurer(env, props);
     }
 
+    @Test
+    void shouldRunAsyncRequestProcessingForTheTenantOfTheRequest() throws Exception {
+        var configurer = new AsyncSupportConfigurer() {
+            AsyncTaskExecutor executor() {
+                return getTaskExecutor();
+            }
+        };
+        webConfigurer.configureAsyncSupport(configurer);
+
+        Future<String> tenantId = TenantContext.callWithTenant("tenant-a", () ->
+            configurer.executor().submit(TenantContext::getTenantId)
+        );
+
+        assertThat(tenantId.get(5, TimeUnit.SECONDS)).isEqualTo("tenant-a");
+    }
+
     @Test
     void shouldCorsFilterOnApiPath() throws Exception {
         props.getCors().setAllowedOrigins(Collections.singletonList("other.domain.com"));
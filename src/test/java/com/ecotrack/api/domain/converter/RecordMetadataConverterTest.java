@@ -0,0 +1,34 @@
+package com.ecotrack.api.domain.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecotrack.api.service.utils.RecordMetadata;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class RecordMetadataConverterTest {
+
+    private final RecordMetadataConverter converter = new RecordMetadataConverter();
+
+    @Test
+    void shouldWriteOnlyThePresentKeys() {
+        RecordMetadata metadata = new RecordMetadata("tenant-a");
+        metadata.setFlagged(true);
+        metadata.setTimestamp(Instant.parse("2026-10-18T08:00:00Z"));
+
+        String json = converter.convertToDatabaseColumn(metadata);
+
+        assertThat(json).isEqualTo("{\"tenantId\":\"tenant-a\",\"timestamp\":\"2026-10-18T08:00:00Z\",\"flagged\":true}");
+        RecordMetadata read = converter.convertToEntityAttribute(json);
+        assertThat(read.getTimestamp()).isEqualTo(metadata.getTimestamp());
+        assertThat(read.getStatus()).isNull();
+    }
+
+    @Test
+    void shouldIgnoreKeysAddedOutsideTheApplication() {
+        RecordMetadata read = converter.convertToEntityAttribute("{\"status\":\"ok\",\"sourceSystem\":\"erp\"}");
+
+        assertThat(read.getStatus()).isEqualTo("ok");
+        assertThat(converter.convertToEntityAttribute(" ")).isNull();
+    }
+}
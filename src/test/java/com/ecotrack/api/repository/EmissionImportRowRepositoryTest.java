@@ -0,0 +1,52 @@
+package com.ecotrack.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class EmissionImportRowRepositoryTest {
+
+    @Test
+    void writesQuotedCsvWithUnquotedNulls() throws IOException {
+        EmissionImportRow row = new EmissionImportRow(
+            7L,
+            3,
+            "tenant-a",
+            null,
+            null,
+            null,
+            Scope.SCOPE_2,
+            1500L,
+            LocalDate.of(2025, 1, 31),
+            "",
+            "said \"hi\",\nthen left",
+            true,
+            80,
+            null,
+            new BigDecimal("1E+2"),
+            null,
+            null,
+            null,
+            null,
+            Sector.CEMENT,
+            null,
+            null,
+            null,
+            null
+        );
+        StringWriter writer = new StringWriter();
+
+        EmissionImportRowRepository.writeRow(writer, row);
+
+        assertThat(writer).hasToString(
+            "\"7\",\"3\",\"tenant-a\",,,,\"SCOPE_2\",\"1500\",\"2025-01-31\",\"\",\"said \"\"hi\"\",\nthen left\",\"true\",\"80\",," +
+            "\"100\",,,,,\"CEMENT\",,,,\n"
+        );
+    }
+}
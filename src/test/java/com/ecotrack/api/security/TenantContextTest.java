@@ -0,0 +1,61 @@
+package com.ecotrack.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link TenantContext} utility class.
+ */
+class TenantContextTest {
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void shouldNotLeakTheTenantIntoPooledThreads() throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            TenantContext.setTenantId("tenant-a");
+            // The worker thread is created here, while tenant-a is current.
+            assertThat(executor.submit(TenantContext::getTenantId).get()).isNull();
+            assertThat(executor.submit(TenantContext.wrap(() -> assertThat(TenantContext.getTenantId()).isEqualTo("tenant-a"))).get())
+                .isNull();
+
+            TenantContext.setTenantId("tenant-b");
+            Runnable task = TenantContext.wrap(() -> assertThat(TenantContext.getTenantId()).isEqualTo("tenant-b"));
+            CompletableFuture.runAsync(task, executor).get();
+            assertThat(executor.submit(TenantContext::getTenantId).get()).isNull();
+        }
+    }
+
+    @Test
+    void shouldPropagateTheTenantIntoParallelStreams() {
+        TenantContext.setTenantId("tenant-a");
+        ConcurrentHashMap<Integer, String> tenants = new ConcurrentHashMap<>();
+
+        IntStream.range(0, 1000).parallel().forEach(TenantContext.wrap(index -> tenants.put(index, TenantContext.getTenantId())));
+
+        assertThat(tenants).hasSize(1000).allSatisfy((index, tenantId) -> assertThat(tenantId).isEqualTo("tenant-a"));
+        assertThat(TenantContext.getTenantId()).isEqualTo("tenant-a");
+    }
+
+    @Test
+    void shouldRestoreThePreviousTenant() {
+        TenantContext.setTenantId("tenant-a");
+
+        assertThat(TenantContext.callWithTenant("tenant-b", TenantContext::getTenantId)).isEqualTo("tenant-b");
+        TenantContext.runWithTenant(null, () -> assertThat(TenantContext.getTenantId()).isNull());
+
+        assertThat(TenantContext.getTenantId()).isEqualTo("tenant-a");
+    }
+}
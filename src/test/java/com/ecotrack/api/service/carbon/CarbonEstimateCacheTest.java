@@ -0,0 +1,115 @@
+package com.ecotrack.api.service.carbon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CarbonEstimateCacheTest {
+
+    private CacheManager cacheManager;
+
+    private EmissionFactorRegistry emissionFactorRegistry;
+
+    private ApplicationProperties applicationProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CarbonEstimateCache carbonEstimateCache;
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // A dedicated provider keeps this manager apart from the one shared by Spring test contexts.
+        cacheManager = new EhcacheCachingProvider().getCacheManager();
+        cacheManager.createCache(CarbonEstimateCache.CACHE_NAME, new MutableConfiguration<Object, Object>());
+        emissionFactorRegistry = mock(EmissionFactorRegistry.class);
+        applicationProperties = new ApplicationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        carbonEstimateCache = new CarbonEstimateCache(cacheManager, emissionFactorRegistry, applicationProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void shouldServeNumericallyEqualInputsFromCache() {
+        carbonEstimateCache.getOrCompute(request("100", "2.5"), counting());
+        EmissionComputation cached = carbonEstimateCache.getOrCompute(request("100.000", "2.50"), counting());
+
+        assertThat(computations).hasValue(1);
+        assertThat(cached.carbonGrams()).isEqualTo(250L);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRecomputeAfterRegistryReload() {
+        when(emissionFactorRegistry.generation()).thenReturn(1L);
+        carbonEstimateCache.getOrCompute(request("100", null), counting());
+        when(emissionFactorRegistry.generation()).thenReturn(2L);
+        carbonEstimateCache.getOrCompute(request("100", null), counting());
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    void shouldBypassCacheForFormulaRequests() {
+        CarbonCalculationRequestDTO request = request("100", "2.5");
+        request.setFormulaCode("KILN");
+        carbonEstimateCache.getOrCompute(request, counting());
+        carbonEstimateCache.getOrCompute(request, counting());
+
+        assertThat(computations).hasValue(2);
+        assertThat(lookups("miss")).isZero();
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        applicationProperties.getCarbonCalculation().getEstimateCache().setEnabled(false);
+        carbonEstimateCache.getOrCompute(request("100", "2.5"), counting());
+        carbonEstimateCache.getOrCompute(request("100", "2.5"), counting());
+
+        assertThat(computations).hasValue(2);
+    }
+
+    private Supplier<EmissionComputation> counting() {
+        return () -> {
+            computations.incrementAndGet();
+            return new EmissionComputation(250L, new BigDecimal("2.5"), BigDecimal.ZERO, "TEST");
+        };
+    }
+
+    private double lookups(String result) {
+        return meterRegistry
+            .get(CarbonEstimateCache.METER_NAME)
+            .tag(CarbonEstimateCache.METER_RESULT_DIMENSION, result)
+            .counter()
+            .count();
+    }
+
+    private CarbonCalculationRequestDTO request(String activityData, String emissionFactor) {
+        CarbonCalculationRequestDTO request = new CarbonCalculationRequestDTO();
+        request.setTenantId("tenant-a");
+        request.setScope(Scope.SCOPE_1);
+        request.setActivityData(new BigDecimal(activityData));
+        request.setEmissionFactor(emissionFactor == null ? null : new BigDecimal(emissionFactor));
+        return request;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ecotrack.api.service.carbon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.domain.enumeration.Sector;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmissionFactorIndexTest {
+
+    private static final LocalDate JAN_2026 = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void shouldPreferMostSpecificKey() {
+        EmissionFactorIndex index = EmissionFactorIndex.build(
+            1L,
+            List.of(
+                factor(1L, Scope.SCOPE_2, null, null, null, "300", 1, JAN_2026, null),
+                factor(2L, Scope.SCOPE_2, null, "DE", null, "380", 1, JAN_2026, null),
+                factor(3L, Scope.SCOPE_2, Sector.CEMENT, "DE", null, "390", 1, JAN_2026, null),
+                factor(4L, Scope.SCOPE_2, null, "DEHAM", null, "350", 1, JAN_2026, null)
+            )
+        );
+
+        assertThat(resolveId(index, Scope.SCOPE_2, Sector.CEMENT, "DE", null)).isEqualTo(3L);
+        assertThat(resolveId(index, Scope.SCOPE_2, Sector.GLASS, "de", null)).isEqualTo(2L);
+        assertThat(resolveId(index, Scope.SCOPE_2, null, "DE HAM", null)).isEqualTo(4L);
+        assertThat(resolveId(index, Scope.SCOPE_2, null, "DEBER", null)).isEqualTo(2L);
+        assertThat(resolveId(index, Scope.SCOPE_2, null, "FR", null)).isEqualTo(1L);
+        assertThat(index.resolve(Scope.SCOPE_1, null, "DE", null, JAN_2026)).isEmpty();
+    }
+
+    @Test
+    void shouldPreferActivityTypeOverRegion() {
+        EmissionFactorIndex index = EmissionFactorIndex.build(
+            1L,
+            List.of(
+                factor(1L, Scope.SCOPE_1, null, "DE", null, "1.5", 1, JAN_2026, null),
+                factor(2L, Scope.SCOPE_1, null, null, "natural-gas", "2.02", 1, JAN_2026, null)
+            )
+        );
+
+        assertThat(resolveId(index, Scope.SCOPE_1, null, "DE", "Natural-Gas")).isEqualTo(2L);
+        assertThat(resolveId(index, Scope.SCOPE_1, null, "DE", "diesel")).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldSelectNewestVersionValidOnDate() {
+        EmissionFactorIndex index = EmissionFactorIndex.build(
+            7L,
+            List.of(
+                factor(1L, Scope.SCOPE_3, null, null, "steel", "1.9", 1, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)),
+                factor(2L, Scope.SCOPE_3, null, null, "steel", "1.8", 2, JAN_2026, null),
+                factor(3L, Scope.SCOPE_3, null, null, "steel", "1.75", 3, JAN_2026, null)
+            )
+        );
+
+        assertThat(index.generation()).isEqualTo(7L);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.resolve(Scope.SCOPE_3, null, null, "steel", LocalDate.of(2025, 6, 1)).map(ResolvedEmissionFactor::id)).contains(
+            1L
+        );
+        assertThat(index.resolve(Scope.SCOPE_3, null, null, "steel", LocalDate.of(2026, 6, 1)).map(ResolvedEmissionFactor::id)).contains(
+            3L
+        );
+        assertThat(index.resolve(Scope.SCOPE_3, null, null, "steel", LocalDate.of(2024, 6, 1))).isEmpty();
+    }
+
+    private static Long resolveId(EmissionFactorIndex index, Scope scope, Sector sector, String regionCode, String activityType) {
+        return index.resolve(scope, sector, regionCode, activityType, JAN_2026).map(ResolvedEmissionFactor::id).orElse(null);
+    }
+
+    private static EmissionFactor factor(
+        Long id,
+        Scope scope,
+        Sector sector,
+        String regionCode,
+        String activityType,
+        String value,
+        int version,
+        LocalDate validFrom,
+        LocalDate validTo
+    ) {
+        EmissionFactor factor = new EmissionFactor();
+        factor.setId(id);
+        factor.setScope(scope);
+        factor.setSector(sector);
+        factor.setRegionCode(regionCode);
+        factor.setActivityType(activityType);
+        factor.setFactor(new BigDecimal(value));
+        factor.setVersion(version);
+        factor.setValidFrom(validFrom);
+        factor.setValidTo(validTo);
+        return factor;
+    }
+}
@@ -0,0 +1,293 @@
+package com.ecotrack.api.service.carbon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.AuditTrail;
+import com.ecotrack.api.domain.EmissionRecalculationJob;
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.AuditTrailRepository;
+import com.ecotrack.api.repository.EmissionRecalculationJobRepository;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.service.CarbonCalculationService;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import com.ecotrack.api.service.mapper.CarbonCalculationMapper;
+import com.ecotrack.api.service.rollup.EmissionRollupDeltas;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmissionRecalculationJobRunnerTest {
+
+    private static final LocalDate MARCH_3 = LocalDate.of(2026, 3, 3);
+
+    private EmissionRecalculationJobRepository emissionRecalculationJobRepository;
+
+    private EmissionRecordRepository emissionRecordRepository;
+
+    private CarbonCalculationService carbonCalculationService;
+
+    private EmissionRecalculationJobRunner emissionRecalculationJobRunner;
+
+    private EmissionRecalculationJob job;
+
+    private final List<EmissionRecord> records = new ArrayList<>();
+
+    private final List<AuditTrail> auditTrails = new ArrayList<>();
+
+    private final List<EmissionRollupDeltas.Delta> rollupDeltas = new ArrayList<>();
+
+    // Checkpoint and counters of the job each time a chunk is read.
+    private final List<List<Long>> checkpoints = new ArrayList<>();
+
+    // Carbon grams each record recalculates to; records missing here fail to calculate.
+    private final Map<Long, Long> recalculated = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        emissionRecalculationJobRepository = mock(EmissionRecalculationJobRepository.class);
+        emissionRecordRepository = mock(EmissionRecordRepository.class);
+        carbonCalculationService = mock(CarbonCalculationService.class);
+        AuditTrailRepository auditTrailRepository = mock(AuditTrailRepository.class);
+        EmissionRollupService emissionRollupService = mock(EmissionRollupService.class);
+        CarbonCalculationMapper carbonCalculationMapper = mock(CarbonCalculationMapper.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCarbonCalculation().getRecalculation().setChunkSize(2);
+
+        job = new EmissionRecalculationJob();
+        job.setId(1L);
+        job.setTenantId("tenant-a");
+        job.setStatus(RecalculationJobStatus.PENDING);
+        when(emissionRecalculationJobRepository.findByIdForUpdate(1L)).thenAnswer(invocation -> Optional.of(job));
+        // Claims like the conditional update does.
+        when(
+            emissionRecalculationJobRepository.claim(
+                eq(1L),
+                anyString(),
+                any(Instant.class),
+                any(Instant.class),
+                eq(RecalculationJobStatus.RUNNING),
+                eq(RecalculationJobStatus.COMPLETED)
+            )
+        ).thenAnswer(invocation -> {
+            Instant now = invocation.getArgument(2);
+            Instant staleBefore = invocation.getArgument(3);
+            boolean live =
+                job.getStatus() == RecalculationJobStatus.RUNNING &&
+                job.getHeartbeatAt() != null &&
+                !job.getHeartbeatAt().isBefore(staleBefore);
+            if (job.getStatus() == RecalculationJobStatus.COMPLETED || live) {
+                return 0;
+            }
+            job.setStatus(RecalculationJobStatus.RUNNING);
+            job.setClaimedBy(invocation.getArgument(1));
+            job.setHeartbeatAt(now);
+            return 1;
+        });
+
+        when(
+            emissionRecordRepository.findRecalculationChunk(
+                eq("tenant-a"),
+                isNull(),
+                isNull(),
+                isNull(),
+                isNull(),
+                isNull(),
+                isNull(),
+                anyLong(),
+                any(Pageable.class)
+            )
+        ).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(7);
+            Pageable pageable = invocation.getArgument(8);
+            checkpoints.add(Arrays.asList(job.getLastRecordId(), job.getProcessedCount(), job.getChangedCount(), job.getFailedCount()));
+            return records.stream().filter(record -> record.getId() > afterId).limit(pageable.getPageSize()).toList();
+        });
+        when(carbonCalculationMapper.toCalculationRequest(any(EmissionRecord.class))).thenAnswer(invocation -> {
+            CarbonCalculationRequestDTO request = new CarbonCalculationRequestDTO();
+            request.setSupplierId(String.valueOf(invocation.<EmissionRecord>getArgument(0).getId()));
+            return request;
+        });
+        when(carbonCalculationService.recalculate(any(CarbonCalculationRequestDTO.class))).thenAnswer(invocation -> {
+            Long carbonGrams = recalculated.get(Long.valueOf(invocation.<CarbonCalculationRequestDTO>getArgument(0).getSupplierId()));
+            if (carbonGrams == null) {
+                throw new IllegalArgumentException("Formula no longer exists");
+            }
+            return new EmissionComputation(carbonGrams, null, null, "ACTIVITY_BASED");
+        });
+        when(auditTrailRepository.saveAll(any())).thenAnswer(invocation -> {
+            invocation.<List<AuditTrail>>getArgument(0).forEach(auditTrails::add);
+            return invocation.getArgument(0);
+        });
+        doAnswer(invocation -> rollupDeltas.addAll(invocation.<EmissionRollupDeltas>getArgument(0).toList()))
+            .when(emissionRollupService)
+            .apply(any());
+
+        emissionRecalculationJobRunner = new EmissionRecalculationJobRunner(
+            emissionRecalculationJobRepository,
+            emissionRecordRepository,
+            auditTrailRepository,
+            carbonCalculationService,
+            carbonCalculationMapper,
+            emissionRollupService,
+            entityManager,
+            applicationProperties,
+            new ObjectMapper(),
+            mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @Test
+    void shouldAuditAndRollUpOnlyRecordsWhoseTotalsChanged() {
+        addRecord(10L, 100L, 100L);
+        addRecord(20L, 200L, 260L);
+        addRecord(30L, 300L, 300L);
+
+        emissionRecalculationJobRunner.run(1L);
+
+        assertThat(auditTrails).extracting(AuditTrail::getEntityId).containsExactly(20L);
+        assertThat(auditTrails.get(0).getOldValue()).contains("\"carbonGrams\":200");
+        assertThat(auditTrails.get(0).getNewValue()).contains("\"carbonGrams\":260");
+        assertThat(rollupDeltas)
+            .extracting(delta -> delta.key().periodType(), EmissionRollupDeltas.Delta::carbonGrams, EmissionRollupDeltas.Delta::recordCount)
+            .containsExactly(tuple(RollupPeriod.DAY, 60L, 0L), tuple(RollupPeriod.MONTH, 60L, 0L));
+        assertThat(records.get(1).getCarbonGrams()).isEqualTo(260L);
+        assertThat(job.getStatus()).isEqualTo(RecalculationJobStatus.COMPLETED);
+        assertThat(job.getChangedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAdvanceTheCheckpointAndCountersOncePerChunk() {
+        addRecord(10L, 100L, 110L);
+        addRecord(20L, 200L, 200L);
+        addRecord(30L, 300L, 330L);
+
+        emissionRecalculationJobRunner.run(1L);
+
+        // Chunks of two: [10, 20], then [30], which is short and completes the job.
+        assertThat(checkpoints).containsExactly(Arrays.asList(null, 0L, 0L, 0L), Arrays.asList(20L, 2L, 1L, 0L));
+        verify(emissionRecordRepository).findRecalculationChunk(any(), any(), any(), any(), any(), any(), any(), eq(0L), any());
+        verify(emissionRecordRepository).findRecalculationChunk(any(), any(), any(), any(), any(), any(), any(), eq(20L), any());
+        assertThat(job.getLastRecordId()).isEqualTo(30L);
+        assertThat(job.getProcessedCount()).isEqualTo(3);
+        assertThat(job.getChangedCount()).isEqualTo(2);
+        assertThat(job.getStatus()).isEqualTo(RecalculationJobStatus.COMPLETED);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldResumeAfterTheCheckpointWithoutAuditingEarlierRecordsAgain() {
+        addRecord(10L, 100L, 110L);
+        addRecord(20L, 200L, 220L);
+        addRecord(30L, 300L, 330L);
+        // The runner that wrote the first chunk stopped checkpointing an hour ago.
+        job.setStatus(RecalculationJobStatus.RUNNING);
+        job.setClaimedBy("stopped-runner");
+        job.setHeartbeatAt(Instant.now().minus(Duration.ofHours(1)));
+        job.setLastRecordId(20L);
+        job.setProcessedCount(2L);
+        job.setChangedCount(2L);
+
+        emissionRecalculationJobRunner.run(1L);
+
+        assertThat(auditTrails).extracting(AuditTrail::getEntityId).containsExactly(30L);
+        verify(emissionRecordRepository, never()).findRecalculationChunk(any(), any(), any(), any(), any(), any(), any(), eq(0L), any());
+        assertThat(records.get(0).getCarbonGrams()).isEqualTo(100L);
+        assertThat(job.getProcessedCount()).isEqualTo(3);
+        assertThat(job.getChangedCount()).isEqualTo(3);
+        assertThat(job.getStatus()).isEqualTo(RecalculationJobStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldCountRecordsThatFailToCalculateWithoutAbortingTheChunk() {
+        addRecord(10L, 100L, null);
+        addRecord(20L, 200L, 250L);
+
+        emissionRecalculationJobRunner.run(1L);
+
+        assertThat(auditTrails).extracting(AuditTrail::getEntityId).containsExactly(20L);
+        assertThat(records.get(0).getCarbonGrams()).isEqualTo(100L);
+        assertThat(job.getFailedCount()).isEqualTo(1);
+        assertThat(job.getChangedCount()).isEqualTo(1);
+        assertThat(job.getProcessedCount()).isEqualTo(2);
+        assertThat(job.getStatus()).isEqualTo(RecalculationJobStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldNotStartAJobThatIsAlreadyRunning() {
+        addRecord(10L, 100L, 110L);
+        job.setStatus(RecalculationJobStatus.RUNNING);
+        job.setClaimedBy("live-runner");
+        job.setHeartbeatAt(Instant.now());
+
+        emissionRecalculationJobRunner.run(1L);
+
+        assertThat(emissionRecalculationJobRunner.isRunning(job)).isTrue();
+        assertThat(job.getClaimedBy()).isEqualTo("live-runner");
+        verify(emissionRecalculationJobRepository, never()).findByIdForUpdate(any());
+        verify(emissionRecordRepository, never()).findRecalculationChunk(any(), any(), any(), any(), any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void shouldStopOnceAnotherRunnerTookTheJobOver() {
+        addRecord(10L, 100L, 110L);
+        addRecord(20L, 200L, 220L);
+        addRecord(30L, 300L, 330L);
+        when(emissionRecalculationJobRepository.findByIdForUpdate(1L)).thenAnswer(invocation -> {
+            if (job.getLastRecordId() != null) {
+                job.setClaimedBy("other-runner");
+            }
+            return Optional.of(job);
+        });
+
+        emissionRecalculationJobRunner.run(1L);
+
+        assertThat(auditTrails).extracting(AuditTrail::getEntityId).containsExactly(10L, 20L);
+        assertThat(job.getLastRecordId()).isEqualTo(20L);
+        assertThat(job.getStatus()).isEqualTo(RecalculationJobStatus.RUNNING);
+    }
+
+    private void addRecord(Long id, Long carbonGrams, Long recalculatedCarbonGrams) {
+        EmissionRecord record = new EmissionRecord();
+        record.setId(id);
+        record.setTenantId("tenant-a");
+        record.setScope(Scope.SCOPE_1);
+        record.setDateRecorded(MARCH_3);
+        record.setCarbonGrams(carbonGrams);
+        record.setCalculationMethod("ACTIVITY_BASED");
+        records.add(record);
+        if (recalculatedCarbonGrams != null) {
+            recalculated.put(id, recalculatedCarbonGrams);
+        }
+    }
+}
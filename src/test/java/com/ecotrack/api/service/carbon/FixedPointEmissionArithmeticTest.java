@@ -0,0 +1,107 @@
+package com.ecotrack.api.service.carbon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Property tests checking that the fixed-point fast path agrees with the {@link BigDecimal} reference computation.
+ */
+class FixedPointEmissionArithmeticTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void shouldAgreeWithBigDecimalForRealisticInputs() {
+        SplittableRandom random = new SplittableRandom(20261018L);
+        int fastPathHits = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal activityData = randomDecimal(random, 9, 0, 4);
+            BigDecimal emissionFactor = randomDecimal(random, 6, 0, 6);
+            BigDecimal efficiencyRatio = randomRatio(random);
+
+            long fast = FixedPointEmissionArithmetic.fixedPointCarbonGrams(activityData, emissionFactor, efficiencyRatio);
+            if (fast != FixedPointEmissionArithmetic.NOT_REPRESENTABLE) {
+                fastPathHits++;
+            }
+            assertAgreement(activityData, emissionFactor, efficiencyRatio);
+        }
+        assertThat(fastPathHits).isGreaterThan(SAMPLES / 2);
+    }
+
+    @Test
+    void shouldAgreeWithBigDecimalForExtremeInputs() {
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal activityData = randomDecimal(random, 20, -4, 12).multiply(BigDecimal.valueOf(random.nextBoolean() ? 1 : -1));
+            BigDecimal emissionFactor = randomDecimal(random, 20, -4, 12);
+            BigDecimal efficiencyRatio = randomDecimal(random, 20, -2, 20);
+            assertAgreement(activityData, emissionFactor, efficiencyRatio);
+        }
+    }
+
+    @Test
+    void shouldRoundHalfUpOnExactTies() {
+        for (long units = -1000; units <= 1000; units++) {
+            BigDecimal activityData = BigDecimal.valueOf(units * 10 + 5, 1);
+            assertAgreement(activityData, BigDecimal.ONE, BigDecimal.ZERO);
+            assertAgreement(activityData, new BigDecimal("0.5"), new BigDecimal("0.50"));
+        }
+        assertThat(FixedPointEmissionArithmetic.carbonGrams(new BigDecimal("2.5"), BigDecimal.ONE, BigDecimal.ZERO)).isEqualTo(3L);
+        assertThat(FixedPointEmissionArithmetic.carbonGrams(new BigDecimal("-2.5"), BigDecimal.ONE, BigDecimal.ZERO)).isEqualTo(-3L);
+    }
+
+    @Test
+    void shouldFallBackWhenProductOverflows() {
+        BigDecimal large = new BigDecimal("999999999999999999");
+
+        assertThat(FixedPointEmissionArithmetic.fixedPointCarbonGrams(large, new BigDecimal("0.0011"), BigDecimal.ZERO)).isEqualTo(
+            FixedPointEmissionArithmetic.NOT_REPRESENTABLE
+        );
+        assertThat(FixedPointEmissionArithmetic.carbonGrams(large, new BigDecimal("0.0011"), BigDecimal.ZERO)).isEqualTo(
+            1100000000000000L
+        );
+        assertThatThrownBy(() -> FixedPointEmissionArithmetic.carbonGrams(large, large, BigDecimal.ZERO)).isInstanceOf(
+            ArithmeticException.class
+        );
+    }
+
+    private static void assertAgreement(BigDecimal activityData, BigDecimal emissionFactor, BigDecimal efficiencyRatio) {
+        Long expected;
+        try {
+            expected = FixedPointEmissionArithmetic.bigDecimalCarbonGrams(activityData, emissionFactor, efficiencyRatio);
+        } catch (ArithmeticException ex) {
+            expected = null;
+        }
+
+        long fast = FixedPointEmissionArithmetic.fixedPointCarbonGrams(activityData, emissionFactor, efficiencyRatio);
+        if (fast != FixedPointEmissionArithmetic.NOT_REPRESENTABLE) {
+            assertThat(fast).as("fast path for %s * %s * (1 - %s)", activityData, emissionFactor, efficiencyRatio).isEqualTo(expected);
+        }
+
+        if (expected == null) {
+            assertThatThrownBy(() -> FixedPointEmissionArithmetic.carbonGrams(activityData, emissionFactor, efficiencyRatio)).isInstanceOf(
+                ArithmeticException.class
+            );
+        } else {
+            assertThat(FixedPointEmissionArithmetic.carbonGrams(activityData, emissionFactor, efficiencyRatio)).isEqualTo(expected);
+        }
+    }
+
+    private static BigDecimal randomDecimal(SplittableRandom random, int maxDigits, int minScale, int maxScale) {
+        int digits = random.nextInt(1, maxDigits + 1);
+        BigInteger unscaled = new BigInteger(digits * 4, new Random(random.nextLong())).add(BigInteger.ONE);
+        return new BigDecimal(unscaled, random.nextInt(minScale, maxScale + 1));
+    }
+
+    private static BigDecimal randomRatio(SplittableRandom random) {
+        int scale = random.nextInt(0, 5);
+        long bound = BigInteger.TEN.pow(scale).longValueExact();
+        return BigDecimal.valueOf(random.nextLong(bound + 1), scale);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecotrack.api.service.carbon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MonteCarloUncertaintySimulatorTest {
+
+    private static final int ITERATIONS = 20000;
+
+    @Test
+    void shouldBeReproducibleForSameSeed() {
+        double[] values = { 1000, 2500, 400 };
+        double[] uncertainties = { 0.1, 0.3, 0.05 };
+
+        double[] first = MonteCarloUncertaintySimulator.simulate(values, uncertainties, ITERATIONS, new SplittableRandom(42));
+        double[] second = MonteCarloUncertaintySimulator.simulate(values, uncertainties, ITERATIONS, new SplittableRandom(42));
+        double[] other = MonteCarloUncertaintySimulator.simulate(values, uncertainties, ITERATIONS, new SplittableRandom(43));
+
+        assertThat(second).containsExactly(first);
+        assertThat(Arrays.equals(first, other)).isFalse();
+    }
+
+    @Test
+    void shouldReturnRecordedTotalWhenValuesAreExact() {
+        double[] totals = MonteCarloUncertaintySimulator.simulate(
+            new double[] { 100, 250 },
+            new double[] { 0, 0 },
+            10,
+            new SplittableRandom(1)
+        );
+
+        assertThat(totals).containsOnly(350.0);
+    }
+
+    @Test
+    void shouldPreserveMeanAndSpreadOfUncertainRecords() {
+        double[] values = new double[1000];
+        double[] uncertainties = new double[1000];
+        Arrays.fill(values, 1000);
+        Arrays.fill(uncertainties, 0.2);
+
+        MonteCarloUncertaintySimulator.Distribution distribution = MonteCarloUncertaintySimulator.summarize(
+            MonteCarloUncertaintySimulator.simulate(values, uncertainties, ITERATIONS, new SplittableRandom(7))
+        );
+
+        // 1000 independent records of 1000 g at 20% give a total of 1e6 g with a standard deviation of ~6325 g.
+        assertThat(distribution.mean()).isCloseTo(1_000_000, within(500.0));
+        assertThat(distribution.p5()).isCloseTo(1_000_000 - 1.645 * 6325, within(1000.0));
+        assertThat(distribution.p95()).isCloseTo(1_000_000 + 1.645 * 6325, within(1000.0));
+    }
+
+    @Test
+    void shouldUseNearestRankPercentiles() {
+        double[] totals = new double[100];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = 100 - i;
+        }
+
+        MonteCarloUncertaintySimulator.Distribution distribution = MonteCarloUncertaintySimulator.summarize(totals);
+
+        assertThat(distribution.mean()).isEqualTo(50.5);
+        assertThat(distribution.p5()).isEqualTo(5.0);
+        assertThat(distribution.p95()).isEqualTo(95.0);
+    }
+}
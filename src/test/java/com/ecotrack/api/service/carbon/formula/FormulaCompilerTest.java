@@ -0,0 +1,71 @@
+package com.ecotrack.api.service.carbon.formula;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FormulaCompilerTest {
+
+    @Test
+    void shouldEvaluateDefaultFormulaLikeHandWrittenStrategy() {
+        CompiledFormula formula = FormulaCompiler.compile("A * EF * (1 - ER)");
+
+        assertThat(formula.variables()).containsExactly("A", "EF", "ER");
+        BigDecimal result = formula.evaluate(Map.of("A", new BigDecimal("100"), "EF", new BigDecimal("2.5"), "ER", new BigDecimal("0.1")));
+        assertThat(result).isEqualByComparingTo("225");
+    }
+
+    @Test
+    void shouldRespectPrecedenceUnaryMinusAndFunctions() {
+        CompiledFormula formula = FormulaCompiler.compile("-A + EF * 2 / 4 - max(A, 3) + min(1, abs(-EF))");
+
+        BigDecimal result = formula.evaluate(new BigDecimal[] { new BigDecimal("2"), new BigDecimal("8") });
+
+        // -2 + 8 * 2 / 4 - 3 + 1
+        assertThat(result).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void shouldEvaluateMassBalanceWithTenantParameters() {
+        CompiledFormula formula = FormulaCompiler.compile("(input_carbon - output_carbon) * oxidation * 44 / 12");
+
+        BigDecimal result = formula.evaluate(
+            Map.of("input_carbon", new BigDecimal("120"), "output_carbon", new BigDecimal("24"), "oxidation", new BigDecimal("0.99"))
+        );
+
+        assertThat(result).isEqualByComparingTo("348.48");
+    }
+
+    @Test
+    void shouldReuseSlotForRepeatedVariable() {
+        CompiledFormula formula = FormulaCompiler.compile("A * A + A");
+
+        assertThat(formula.variables()).containsExactly("A");
+        assertThat(formula.evaluate(new BigDecimal[] { new BigDecimal("3") })).isEqualByComparingTo("12");
+    }
+
+    @Test
+    void shouldRejectInvalidExpressions() {
+        assertThatThrownBy(() -> FormulaCompiler.compile("A * (EF + 1")).isInstanceOf(FormulaSyntaxException.class).hasMessageContaining(
+            "Expected ')'"
+        );
+        assertThatThrownBy(() -> FormulaCompiler.compile("A ** EF")).isInstanceOf(FormulaSyntaxException.class);
+        assertThatThrownBy(() -> FormulaCompiler.compile("pow(A, 2)")).isInstanceOf(FormulaSyntaxException.class).hasMessageContaining(
+            "Unknown function"
+        );
+        assertThatThrownBy(() -> FormulaCompiler.compile("A + 1 / (2 - 2)")).isInstanceOf(FormulaSyntaxException.class);
+        assertThatThrownBy(() -> FormulaCompiler.compile(" ")).isInstanceOf(FormulaSyntaxException.class);
+    }
+
+    @Test
+    void shouldRejectMissingBinding() {
+        CompiledFormula formula = FormulaCompiler.compile("A * oxidation");
+
+        assertThatThrownBy(() -> formula.evaluate(Map.of("A", BigDecimal.ONE))).isInstanceOf(IllegalArgumentException.class).hasMessageContaining(
+            "oxidation"
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecotrack.api.service.carbon.scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRecordScenarioInput;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmissionLedgerSnapshotCacheTest {
+
+    private static final List<EmissionRecordScenarioInput> INPUTS = List.of(
+        new EmissionRecordScenarioInput(Scope.SCOPE_1, "supplier-a", 1000L, null)
+    );
+
+    private EmissionRecordRepository emissionRecordRepository;
+
+    private EmissionLedgerSnapshotCache emissionLedgerSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        emissionRecordRepository = mock(EmissionRecordRepository.class);
+        emissionLedgerSnapshotCache = new EmissionLedgerSnapshotCache(emissionRecordRepository, new ApplicationProperties());
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentRequestsWithoutBlockingOtherTenants() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(emissionRecordRepository.findScenarioInputs("tenant-a")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return INPUTS;
+        });
+        when(emissionRecordRepository.findScenarioInputs("tenant-b")).thenReturn(INPUTS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<EmissionLedgerSnapshot> first = executor.submit(() -> emissionLedgerSnapshotCache.get("tenant-a", false));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<EmissionLedgerSnapshot> second = executor.submit(() -> emissionLedgerSnapshotCache.get("tenant-a", false));
+
+            // Another tenant loads while tenant-a's load is still running.
+            assertThat(emissionLedgerSnapshotCache.get("tenant-b", false).recordCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(emissionRecordRepository, times(1)).findScenarioInputs("tenant-a");
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        when(emissionRecordRepository.findScenarioInputs("tenant-a")).thenThrow(new IllegalStateException("down")).thenReturn(INPUTS);
+
+        assertThatThrownBy(() -> emissionLedgerSnapshotCache.get("tenant-a", false)).isInstanceOf(IllegalStateException.class);
+        assertThat(emissionLedgerSnapshotCache.get("tenant-a", false).recordCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadOnDemand() {
+        when(emissionRecordRepository.findScenarioInputs("tenant-a")).thenReturn(INPUTS);
+
+        EmissionLedgerSnapshot first = emissionLedgerSnapshotCache.get("tenant-a", false);
+
+        assertThat(emissionLedgerSnapshotCache.get("tenant-a", false)).isSameAs(first);
+        assertThat(emissionLedgerSnapshotCache.get("tenant-a", true)).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecotrack.api.service.carbon.scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordScenarioInput;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmissionLedgerSnapshotTest {
+
+    private final EmissionLedgerSnapshot snapshot = EmissionLedgerSnapshot.build(
+        "tenant-a",
+        List.of(
+            new EmissionRecordScenarioInput(Scope.SCOPE_1, "supplier-a", 1000L, null),
+            new EmissionRecordScenarioInput(Scope.SCOPE_2, "supplier-a", 4000L, null),
+            new EmissionRecordScenarioInput(Scope.SCOPE_2, "supplier-b", 2000L, null),
+            new EmissionRecordScenarioInput(Scope.SCOPE_3, null, 500L, null),
+            new EmissionRecordScenarioInput(Scope.SCOPE_3, "supplier-b", null, null)
+        ),
+        Instant.now()
+    );
+
+    @Test
+    void shouldScaleSelectedScopeByFactorMultiplier() {
+        ScenarioOutcome outcome = snapshot.evaluate(List.of(new ScenarioOverride(Scope.SCOPE_2, null, 0.8, Double.NaN)));
+
+        assertThat(snapshot.recordCount()).isEqualTo(4);
+        assertThat(outcome.baselineTotal()).isEqualTo(7500);
+        assertThat(outcome.scenarioTotal()).isCloseTo(6300, within(1e-6));
+        assertThat(outcome.scenarioForScope(Scope.SCOPE_1)).isEqualTo(1000);
+        assertThat(outcome.scenarioForScope(Scope.SCOPE_2)).isCloseTo(4800, within(1e-6));
+        assertThat(outcome.scenarioForSupplier(snapshot.suppliers().indexOf("supplier-b"))).isCloseTo(1600, within(1e-6));
+    }
+
+    @Test
+    void shouldRecomputeSelectedSupplierWithEfficiencyRatio() {
+        ScenarioOutcome outcome = snapshot.evaluate(List.of(new ScenarioOverride(null, "supplier-a", 1, 0.3)));
+
+        int supplierA = snapshot.suppliers().indexOf("supplier-a");
+        assertThat(outcome.baselineForSupplier(supplierA)).isEqualTo(5000);
+        assertThat(outcome.scenarioForSupplier(supplierA)).isCloseTo(3500, within(1e-6));
+        assertThat(outcome.scenarioForSupplier(snapshot.suppliers().indexOf(null))).isEqualTo(500);
+    }
+
+    @Test
+    void shouldRescaleFromPersistedEfficiencyRatio() {
+        EmissionLedgerSnapshot withEfficiency = EmissionLedgerSnapshot.build(
+            "tenant-a",
+            List.of(
+                new EmissionRecordScenarioInput(Scope.SCOPE_1, "supplier-a", 3000L, new BigDecimal("0.25")),
+                new EmissionRecordScenarioInput(Scope.SCOPE_1, "supplier-a", 1000L, null)
+            ),
+            Instant.now()
+        );
+
+        ScenarioOutcome outcome = withEfficiency.evaluate(List.of(new ScenarioOverride(Scope.SCOPE_1, null, 1, 0.5)));
+
+        // 3000 g at 25% becomes 2000 g at 50%; the record without a stored ratio is taken as 0% and halves.
+        assertThat(outcome.scenarioTotal()).isCloseTo(2000 + 500, within(1e-6));
+    }
+
+    @Test
+    void shouldCompoundOverridesInOrder() {
+        ScenarioOutcome outcome = snapshot.evaluate(
+            List.of(new ScenarioOverride(Scope.SCOPE_2, null, 0.5, Double.NaN), new ScenarioOverride(null, "supplier-b", 0.5, 0.5))
+        );
+
+        assertThat(outcome.scenarioForScope(Scope.SCOPE_2)).isCloseTo(2000 + 250, within(1e-6));
+    }
+
+    @Test
+    void shouldIgnoreUnknownSupplier() {
+        ScenarioOutcome outcome = snapshot.evaluate(List.of(new ScenarioOverride(null, "unknown", 0.1, Double.NaN)));
+
+        assertThat(outcome.scenarioTotal()).isEqualTo(outcome.baselineTotal());
+    }
+
+    @Test
+    void shouldEvaluateScenariosConcurrentlyAgainstSameSnapshot() {
+        List<Double> totals = IntStream.range(0, 200)
+            .parallel()
+            .mapToObj(i -> snapshot.evaluate(List.of(new ScenarioOverride(null, null, (i % 4 + 1) / 4.0, Double.NaN))).scenarioTotal())
+            .toList();
+
+        for (int i = 0; i < totals.size(); i++) {
+            assertThat(totals.get(i)).isCloseTo(7500 * ((i % 4 + 1) / 4.0), within(1e-6));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ecotrack.api.service.exports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.ecotrack.api.service.imports.EmissionImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EmissionRecordExportWriterTest {
+
+    // Indented like the dev profile's mapper; exports must still write one record per line.
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void writesCsvThatTheImportReaderReadsBack() throws IOException {
+        String csv = write(EmissionExportFormat.CSV, List.of(record(1L, "a \"quoted\", note"), record(2L, null)));
+
+        String[] lines = csv.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,tenantId,supplierId,installationId,productEmissionId,scope,carbonGrams,dateRecorded");
+        assertThat(lines[2]).startsWith("2,tenant-a,,,,SCOPE_1,1200,2025-03-04,");
+
+        try (
+            EmissionImportReader reader = EmissionImportReader.open(
+                EmissionImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                objectMapper
+            )
+        ) {
+            EmissionRecordDTO first = reader.next().record();
+            assertThat(first.getNotes()).isEqualTo("a \"quoted\", note");
+            assertThat(first.getActivityData()).isEqualByComparingTo("12.5");
+            assertThat(first.getCalculationParameters()).containsEntry("load", new BigDecimal("0.8"));
+            assertThat(reader.next().record().getNotes()).isNull();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void writesOneNdjsonRecordPerLine() throws IOException {
+        String ndjson = write(EmissionExportFormat.NDJSON, List.of(record(1L, "first"), record(2L, null)));
+
+        assertThat(ndjson).endsWith("}\n");
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(1), EmissionRecordDTO.class).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void writesOnlyTheHeaderOfAnEmptyCsvExport() throws IOException {
+        assertThat(write(EmissionExportFormat.CSV, List.of())).startsWith("id,").doesNotContain("\n1");
+        assertThat(write(EmissionExportFormat.NDJSON, List.of())).isEmpty();
+    }
+
+    private String write(EmissionExportFormat format, List<EmissionRecordDTO> records) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (EmissionRecordExportWriter writer = EmissionRecordExportWriter.open(format, output, objectMapper)) {
+            for (EmissionRecordDTO record : records) {
+                writer.write(record);
+            }
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static EmissionRecordDTO record(Long id, String notes) {
+        EmissionRecordDTO record = new EmissionRecordDTO();
+        record.setId(id);
+        record.setTenantId("tenant-a");
+        record.setScope(Scope.SCOPE_1);
+        record.setCarbonGrams(1200L);
+        record.setDateRecorded(LocalDate.of(2025, 3, 4));
+        record.setNotes(notes);
+        record.setActivityData(new BigDecimal("12.5"));
+        record.setCalculationParameters(Map.of("load", new BigDecimal("0.8")));
+        return record;
+    }
+}
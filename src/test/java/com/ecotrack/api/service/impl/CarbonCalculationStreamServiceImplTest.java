@@ -0,0 +1,104 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.service.CarbonCalculationService;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchItemResultDTO;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchResultDTO;
+import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CarbonCalculationStreamServiceImplTest {
+
+    private static final String VALID_LINE = "{\"tenantId\":\"tenant-a\",\"scope\":\"SCOPE_1\",\"activityData\":10,\"emissionFactor\":2}";
+
+    @Mock
+    private CarbonCalculationService carbonCalculationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CarbonCalculationStreamServiceImpl streamService;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCarbonCalculation().getBatch().setPersistChunkSize(2);
+        streamService = new CarbonCalculationStreamServiceImpl(carbonCalculationService, objectMapper, applicationProperties);
+
+        when(carbonCalculationService.calculateAndSaveEmissionRecords(anyList())).thenAnswer(invocation -> {
+            List<CarbonCalculationRequestDTO> requests = invocation.getArgument(0);
+            List<CarbonCalculationBatchItemResultDTO> results = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                EmissionRecordDTO record = new EmissionRecordDTO();
+                record.setId(100L + i);
+                results.add(CarbonCalculationBatchItemResultDTO.created(i, record));
+            }
+            return new CarbonCalculationBatchResultDTO(results);
+        });
+    }
+
+    @Test
+    void shouldStreamResultsInChunksAndReportUnbindableLines() throws Exception {
+        String input = String.join("\n", VALID_LINE, "{\"tenantId\":\"tenant-a\",\"scope\":\"SCOPE_9\"}", VALID_LINE, VALID_LINE) + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long processed = streamService.calculateAndSaveEmissionRecords(
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+            output
+        );
+
+        assertThat(processed).isEqualTo(4);
+        verify(carbonCalculationService, times(2)).calculateAndSaveEmissionRecords(anyList());
+        List<JsonNode> lines = readLines(output);
+        assertThat(lines).hasSize(4);
+        assertThat(lines).extracting(line -> line.get("index").asInt()).containsExactly(0, 1, 2, 3);
+        assertThat(lines).extracting(line -> line.get("status").asText()).containsExactly("CREATED", "FAILED", "CREATED", "CREATED");
+        assertThat(lines.get(1).get("error").asText()).isNotBlank();
+    }
+
+    @Test
+    void shouldStopOnMalformedJsonAfterFlushingPendingItems() throws Exception {
+        String input = VALID_LINE + "\n{\"tenantId\": oops\n" + VALID_LINE + "\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long processed = streamService.calculateAndSaveEmissionRecords(
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+            output
+        );
+
+        assertThat(processed).isEqualTo(2);
+        List<JsonNode> lines = readLines(output);
+        assertThat(lines).extracting(line -> line.get("status").asText()).containsExactly("CREATED", "FAILED");
+        assertThat(lines.get(1).get("error").asText()).startsWith("Malformed NDJSON input");
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream output) throws Exception {
+        String body = output.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        return body.lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).toList();
+    }
+}
@@ -3,23 +3,44 @@ package com.ecotrack.api.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.ecotrack.api.config.ApplicationProperties;
 import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.security.TenantContext;
 import com.ecotrack.api.service.EmissionRecordService;
 import com.ecotrack.api.service.EmissionReportService;
+import com.ecotrack.api.service.carbon.CarbonEstimateCache;
 import com.ecotrack.api.service.carbon.EmissionCalculationStrategy;
+import com.ecotrack.api.service.carbon.EmissionFactorRegistry;
+import com.ecotrack.api.service.carbon.FormulaEmissionCalculationStrategy;
+import com.ecotrack.api.service.carbon.ResolvedEmissionFactor;
 import com.ecotrack.api.service.carbon.Scope1DirectEmissionStrategy;
 import com.ecotrack.api.service.carbon.Scope2IndirectEmissionStrategy;
 import com.ecotrack.api.service.carbon.Scope3SupplyChainEmissionStrategy;
+import com.ecotrack.api.service.carbon.formula.CompiledFormulaCache;
+import com.ecotrack.api.service.carbon.formula.FormulaCompiler;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchItemResultDTO;
+import com.ecotrack.api.service.dto.CarbonCalculationBatchResultDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationRequestDTO;
 import com.ecotrack.api.service.dto.CarbonCalculationResultDTO;
 import com.ecotrack.api.service.dto.EmissionRecordDTO;
 import com.ecotrack.api.service.dto.EmissionReportDTO;
 import com.ecotrack.api.service.mapper.CarbonCalculationMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,17 +58,41 @@ class CarbonCalculatorServiceTest {
     @Mock
     private EmissionReportService emissionReportService;
 
+    @Mock
+    private EmissionFactorRegistry emissionFactorRegistry;
+
+    @Mock
+    private CompiledFormulaCache compiledFormulaCache;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     private CarbonCalculatorService carbonCalculatorService;
 
     @BeforeEach
     void setUp() {
         CarbonCalculationMapper mapper = Mappers.getMapper(CarbonCalculationMapper.class);
         List<EmissionCalculationStrategy> strategies = List.of(
-            new Scope1DirectEmissionStrategy(),
-            new Scope2IndirectEmissionStrategy(),
-            new Scope3SupplyChainEmissionStrategy()
+            new Scope1DirectEmissionStrategy(emissionFactorRegistry),
+            new Scope2IndirectEmissionStrategy(emissionFactorRegistry),
+            new Scope3SupplyChainEmissionStrategy(emissionFactorRegistry),
+            new FormulaEmissionCalculationStrategy(emissionFactorRegistry, compiledFormulaCache)
+        );
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCarbonCalculation().getEstimateCache().setEnabled(false);
+        CarbonEstimateCache carbonEstimateCache = new CarbonEstimateCache(
+            null,
+            emissionFactorRegistry,
+            applicationProperties,
+            new SimpleMeterRegistry()
+        );
+        carbonCalculatorService = new CarbonCalculatorService(
+            strategies,
+            mapper,
+            emissionRecordService,
+            emissionReportService,
+            carbonEstimateCache,
+            validator
         );
-        carbonCalculatorService = new CarbonCalculatorService(strategies, mapper, emissionRecordService, emissionReportService);
     }
 
     @Test
@@ -88,6 +133,94 @@ class CarbonCalculatorServiceTest {
             .hasMessageContaining("Emission factor is required");
     }
 
+    @Test
+    void shouldUseRegisteredFactorWhenFactorMissing() {
+        CarbonCalculationRequestDTO request = baseRequest(Scope.SCOPE_1, new BigDecimal("10"), null, null);
+        request.setActivityType("natural-gas");
+        request.setRegionCode("DE");
+        when(emissionFactorRegistry.resolve(eq(Scope.SCOPE_1), isNull(), eq("DE"), eq("natural-gas"), any(LocalDate.class))).thenReturn(
+            Optional.of(new ResolvedEmissionFactor(11L, new BigDecimal("2.02"), "kgCO2e/m3", 3, LocalDate.of(2026, 1, 1), null))
+        );
+
+        CarbonCalculationResultDTO result = carbonCalculatorService.calculate(request);
+
+        assertThat(result.getCarbonGrams()).isEqualTo(20L);
+        assertThat(result.getEmissionFactorUsed()).isEqualByComparingTo("2.02");
+        assertThat(result.getCalculationMethod()).contains("SCOPE_1_DIRECT").contains("EF=REGISTRY#11v3");
+    }
+
+    @Test
+    void shouldPreferRegisteredGridFactorOverScope2Default() {
+        CarbonCalculationRequestDTO request = baseRequest(Scope.SCOPE_2, new BigDecimal("10"), null, null);
+        request.setRegionCode("FR");
+        when(emissionFactorRegistry.resolve(eq(Scope.SCOPE_2), isNull(), eq("FR"), isNull(), any(LocalDate.class))).thenReturn(
+            Optional.of(new ResolvedEmissionFactor(12L, new BigDecimal("56"), "gCO2e/kWh", 1, LocalDate.of(2026, 1, 1), null))
+        );
+
+        CarbonCalculationResultDTO result = carbonCalculatorService.calculate(request);
+
+        assertThat(result.getCarbonGrams()).isEqualTo(560L);
+        assertThat(result.getCalculationMethod()).contains("SCOPE_2_INDIRECT_REGISTRY_FACTOR");
+    }
+
+    @Test
+    void shouldEvaluateTenantFormulaWhenFormulaCodeGiven() {
+        CarbonCalculationRequestDTO request = baseRequest(Scope.SCOPE_1, new BigDecimal("100"), new BigDecimal("2"), null);
+        request.setFormulaCode("OXIDATION");
+        request.setParameters(Map.of("oxidation", new BigDecimal("0.995")));
+        when(compiledFormulaCache.get("tenant-a", "OXIDATION")).thenReturn(FormulaCompiler.compile("A * EF * oxidation"));
+
+        CarbonCalculationResultDTO result = TenantContext.callWithTenant("tenant-a", () -> carbonCalculatorService.calculate(request));
+
+        assertThat(result.getCarbonGrams()).isEqualTo(199L);
+        assertThat(result.getCalculationMethod()).isEqualTo("FORMULA_OXIDATION:E=A * EF * oxidation");
+    }
+
+    @Test
+    void shouldRejectTenantFormulaWithMissingParameter() {
+        CarbonCalculationRequestDTO request = baseRequest(Scope.SCOPE_1, new BigDecimal("100"), new BigDecimal("2"), null);
+        request.setFormulaCode("OXIDATION");
+        when(compiledFormulaCache.get("tenant-a", "OXIDATION")).thenReturn(FormulaCompiler.compile("A * EF * oxidation"));
+
+        assertThatThrownBy(() -> TenantContext.runWithTenant("tenant-a", () -> carbonCalculatorService.calculate(request)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires parameter oxidation");
+    }
+
+    @Test
+    void shouldValidateBeforeConsultingTheEstimateCache() {
+        CarbonEstimateCache carbonEstimateCache = mock(CarbonEstimateCache.class);
+        CarbonCalculatorService cachedService = new CarbonCalculatorService(
+            List.of(new Scope1DirectEmissionStrategy(emissionFactorRegistry)),
+            Mappers.getMapper(CarbonCalculationMapper.class),
+            emissionRecordService,
+            emissionReportService,
+            carbonEstimateCache,
+            validator
+        );
+        CarbonCalculationRequestDTO request = baseRequest(Scope.SCOPE_1, new BigDecimal("100"), new BigDecimal("2"), new BigDecimal("1.5"));
+
+        assertThatThrownBy(() -> cachedService.calculate(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Efficiency ratio");
+        request.setEfficiencyRatio(null);
+        request.setTenantId(" ");
+        assertThatThrownBy(() -> cachedService.calculate(request)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Tenant");
+        verifyNoInteractions(carbonEstimateCache);
+    }
+
+    @Test
+    void shouldNotEvaluateFormulaOfAnotherTenant() {
+        CarbonCalculationRequestDTO request = baseRequest(Scope.SCOPE_1, new BigDecimal("100"), new BigDecimal("2"), null);
+        request.setFormulaCode("OXIDATION");
+        request.setParameters(Map.of("oxidation", new BigDecimal("0.995")));
+
+        assertThatThrownBy(() -> TenantContext.runWithTenant("tenant-b", () -> carbonCalculatorService.calculate(request)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only available to the current tenant");
+        verifyNoInteractions(compiledFormulaCache);
+    }
+
     @Test
     void shouldCalculateAndPersistEmissionRecord() {
         CarbonCalculationRequestDTO request = baseRequest(
@@ -115,6 +248,87 @@ class CarbonCalculatorServiceTest {
         assertThat(result.getId()).isEqualTo(99L);
     }
 
+    @Test
+    void shouldCalculateBatchAndReportPerItemFailures() {
+        List<CarbonCalculationRequestDTO> requests = List.of(
+            baseRequest(Scope.SCOPE_1, new BigDecimal("10"), new BigDecimal("20"), new BigDecimal("0.25")),
+            baseRequest(Scope.SCOPE_3, new BigDecimal("10"), null, BigDecimal.ZERO),
+            baseRequest(Scope.SCOPE_2, new BigDecimal("10"), null, null)
+        );
+
+        when(emissionRecordService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<EmissionRecordDTO> dtos = invocation.getArgument(0);
+            long id = 1000L;
+            for (EmissionRecordDTO dto : dtos) {
+                dto.setId(id++);
+            }
+            return dtos;
+        });
+
+        CarbonCalculationBatchResultDTO result = carbonCalculatorService.calculateAndSaveEmissionRecords(requests);
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(CarbonCalculationBatchItemResultDTO::getIndex).containsExactly(0, 1, 2);
+
+        CarbonCalculationBatchItemResultDTO first = result.getResults().get(0);
+        assertThat(first.getStatus()).isEqualTo(CarbonCalculationBatchItemResultDTO.Status.CREATED);
+        assertThat(first.getEmissionRecord().getId()).isEqualTo(1000L);
+        assertThat(first.getEmissionRecord().getCarbonGrams()).isEqualTo(150L);
+
+        CarbonCalculationBatchItemResultDTO second = result.getResults().get(1);
+        assertThat(second.getStatus()).isEqualTo(CarbonCalculationBatchItemResultDTO.Status.FAILED);
+        assertThat(second.getError()).contains("Emission factor is required");
+
+        CarbonCalculationBatchItemResultDTO third = result.getResults().get(2);
+        assertThat(third.getStatus()).isEqualTo(CarbonCalculationBatchItemResultDTO.Status.CREATED);
+        assertThat(third.getEmissionRecord().getId()).isEqualTo(1001L);
+        assertThat(third.getEmissionRecord().getCarbonGrams()).isEqualTo(1250L);
+    }
+
+    @Test
+    void shouldReportConstraintViolationsAsFailedItems() {
+        CarbonCalculationRequestDTO valid = baseRequest(Scope.SCOPE_1, new BigDecimal("10"), new BigDecimal("20"), null);
+        CarbonCalculationRequestDTO negativeUncertainty = baseRequest(Scope.SCOPE_1, new BigDecimal("10"), new BigDecimal("20"), null);
+        negativeUncertainty.setUncertaintyFactor(new BigDecimal("-0.5"));
+        CarbonCalculationRequestDTO oversizedSupplier = baseRequest(Scope.SCOPE_1, new BigDecimal("10"), new BigDecimal("20"), null);
+        oversizedSupplier.setSupplierId("s".repeat(101));
+
+        when(emissionRecordService.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CarbonCalculationBatchResultDTO result = carbonCalculatorService.calculateAndSaveEmissionRecords(
+            List.of(valid, negativeUncertainty, oversizedSupplier)
+        );
+
+        assertThat(result.getResults())
+            .extracting(CarbonCalculationBatchItemResultDTO::getStatus)
+            .containsExactly(
+                CarbonCalculationBatchItemResultDTO.Status.CREATED,
+                CarbonCalculationBatchItemResultDTO.Status.FAILED,
+                CarbonCalculationBatchItemResultDTO.Status.FAILED
+            );
+        assertThat(result.getResults().get(1).getError()).startsWith("uncertaintyFactor: ");
+        assertThat(result.getResults().get(2).getError()).startsWith("supplierId: ");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmissionRecordDTO>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(emissionRecordService).saveAll(savedCaptor.capture());
+        assertThat(savedCaptor.getValue()).hasSize(1);
+    }
+
+    @Test
+    void shouldPropagateUnexpectedBatchItemErrors() {
+        when(emissionFactorRegistry.resolve(eq(Scope.SCOPE_2), isNull(), isNull(), isNull(), any(LocalDate.class))).thenThrow(
+            new IllegalStateException("registry unavailable")
+        );
+        List<CarbonCalculationRequestDTO> requests = List.of(baseRequest(Scope.SCOPE_2, new BigDecimal("10"), null, null));
+
+        assertThatThrownBy(() -> carbonCalculatorService.calculateAndSaveEmissionRecords(requests))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("registry unavailable");
+        verifyNoInteractions(emissionRecordService);
+    }
+
     @Test
     void shouldRejectEfficiencyRatioAboveOne() {
         CarbonCalculationRequestDTO request = baseRequest(
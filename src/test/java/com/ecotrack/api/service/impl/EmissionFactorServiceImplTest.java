@@ -0,0 +1,89 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.domain.EmissionFactor;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionFactorRepository;
+import com.ecotrack.api.service.dto.EmissionFactorDTO;
+import com.ecotrack.api.service.mapper.EmissionFactorMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmissionFactorServiceImplTest {
+
+    private static final DataIntegrityViolationException VERSION_CONFLICT = new DataIntegrityViolationException(
+        "duplicate key value violates unique constraint \"" + EmissionFactorServiceImpl.VERSION_CONSTRAINT + "\""
+    );
+
+    private EmissionFactorRepository emissionFactorRepository;
+
+    private EmissionFactorServiceImpl emissionFactorService;
+
+    @BeforeEach
+    void setUp() {
+        emissionFactorRepository = mock(EmissionFactorRepository.class);
+        emissionFactorService = new EmissionFactorServiceImpl(
+            emissionFactorRepository,
+            new EmissionFactorMapper(),
+            mock(ApplicationEventPublisher.class),
+            mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @Test
+    void shouldRetryWithTheNextVersionWhenAConcurrentPublishTookIt() {
+        when(emissionFactorRepository.findLatestVersion(Scope.SCOPE_1, null, null, null)).thenReturn(Optional.of(1), Optional.of(2));
+        when(emissionFactorRepository.saveAndFlush(any(EmissionFactor.class)))
+            .thenThrow(VERSION_CONFLICT)
+            .thenAnswer(invocation -> {
+                EmissionFactor emissionFactor = invocation.getArgument(0);
+                emissionFactor.setId(7L);
+                return emissionFactor;
+            });
+
+        EmissionFactorDTO published = emissionFactorService.publish(factor());
+
+        assertThat(published.getVersion()).isEqualTo(3);
+        verify(emissionFactorRepository, times(2)).saveAndFlush(any(EmissionFactor.class));
+    }
+
+    @Test
+    void shouldGiveUpWhenTheVersionStaysContended() {
+        when(emissionFactorRepository.findLatestVersion(Scope.SCOPE_1, null, null, null)).thenReturn(Optional.empty());
+        when(emissionFactorRepository.saveAndFlush(any(EmissionFactor.class))).thenThrow(VERSION_CONFLICT);
+
+        assertThatThrownBy(() -> emissionFactorService.publish(factor())).isInstanceOf(ConcurrencyFailureException.class);
+        verify(emissionFactorRepository, times(3)).saveAndFlush(any(EmissionFactor.class));
+    }
+
+    @Test
+    void shouldNotRetryOtherViolations() {
+        when(emissionFactorRepository.findLatestVersion(Scope.SCOPE_1, null, null, null)).thenReturn(Optional.empty());
+        when(emissionFactorRepository.saveAndFlush(any(EmissionFactor.class))).thenThrow(new DataIntegrityViolationException("not null"));
+
+        assertThatThrownBy(() -> emissionFactorService.publish(factor())).isInstanceOf(DataIntegrityViolationException.class);
+        verify(emissionFactorRepository, times(1)).saveAndFlush(any(EmissionFactor.class));
+    }
+
+    private static EmissionFactorDTO factor() {
+        EmissionFactorDTO factor = new EmissionFactorDTO();
+        factor.setScope(Scope.SCOPE_1);
+        factor.setFactor(new BigDecimal("2.5"));
+        factor.setValidFrom(LocalDate.of(2026, 1, 1));
+        return factor;
+    }
+}
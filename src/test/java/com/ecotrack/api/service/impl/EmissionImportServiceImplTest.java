@@ -0,0 +1,90 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.EmissionImport;
+import com.ecotrack.api.domain.enumeration.EmissionImportStatus;
+import com.ecotrack.api.repository.EmissionImportErrorRepository;
+import com.ecotrack.api.repository.EmissionImportRepository;
+import com.ecotrack.api.repository.EmissionImportRowRepository;
+import com.ecotrack.api.service.TenantSchemaService;
+import com.ecotrack.api.service.imports.EmissionImportMerger;
+import com.ecotrack.api.service.imports.EmissionImportRowValidator;
+import com.ecotrack.api.service.mapper.EmissionImportMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmissionImportServiceImplTest {
+
+    private EmissionImportRepository emissionImportRepository;
+
+    private EmissionImportMerger emissionImportMerger;
+
+    private EmissionImportServiceImpl emissionImportService;
+
+    @BeforeEach
+    void setUp() {
+        emissionImportRepository = mock(EmissionImportRepository.class);
+        emissionImportMerger = mock(EmissionImportMerger.class);
+        TenantSchemaService tenantSchemaService = mock(TenantSchemaService.class);
+        doAnswer(invocation -> {
+            Consumer<Set<String>> task = invocation.getArgument(0);
+            task.accept(Set.of());
+            return null;
+        })
+            .when(tenantSchemaService)
+            .forEachSchema(any());
+        emissionImportService = new EmissionImportServiceImpl(
+            emissionImportRepository,
+            mock(EmissionImportErrorRepository.class),
+            mock(EmissionImportRowRepository.class),
+            mock(EmissionImportMapper.class),
+            mock(EmissionImportRowValidator.class),
+            emissionImportMerger,
+            mock(ApplicationEventPublisher.class),
+            new ApplicationProperties(),
+            new ObjectMapper(),
+            mock(PlatformTransactionManager.class),
+            tenantSchemaService
+        );
+    }
+
+    @Test
+    void shouldOnlyFailLoadingImportsNoNodeIsLoading() {
+        EmissionImport abandoned = emissionImport(1L, EmissionImportStatus.LOADING);
+        EmissionImport loading = emissionImport(2L, EmissionImportStatus.LOADING);
+        EmissionImport staged = emissionImport(3L, EmissionImportStatus.MERGING);
+        when(emissionImportRepository.findByStatusIn(anyCollection())).thenReturn(List.of(abandoned, loading, staged));
+        when(emissionImportRepository.tryTransactionLock("emission_import:tenant-a:1")).thenReturn(true);
+        when(emissionImportRepository.tryTransactionLock("emission_import:tenant-a:2")).thenReturn(false);
+
+        emissionImportService.resumeInterruptedImports();
+
+        assertThat(abandoned.getStatus()).isEqualTo(EmissionImportStatus.FAILED);
+        assertThat(abandoned.getFinishedAt()).isNotNull();
+        assertThat(loading.getStatus()).isEqualTo(EmissionImportStatus.LOADING);
+        assertThat(loading.getFinishedAt()).isNull();
+        verify(emissionImportMerger).merge(3L);
+    }
+
+    private static EmissionImport emissionImport(Long id, EmissionImportStatus status) {
+        EmissionImport emissionImport = new EmissionImport();
+        emissionImport.setId(id);
+        emissionImport.setTenantId("tenant-a");
+        emissionImport.setStatus(status);
+        return emissionImport;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.domain.EmissionRecalculationJob;
+import com.ecotrack.api.domain.enumeration.RecalculationJobStatus;
+import com.ecotrack.api.repository.EmissionRecalculationJobRepository;
+import com.ecotrack.api.service.TenantSchemaService;
+import com.ecotrack.api.service.carbon.EmissionRecalculationJobRunner;
+import com.ecotrack.api.service.carbon.EmissionRecalculationRequestedEvent;
+import com.ecotrack.api.service.mapper.EmissionRecalculationJobMapper;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class EmissionRecalculationServiceImplTest {
+
+    private EmissionRecalculationJobRepository emissionRecalculationJobRepository;
+
+    private EmissionRecalculationJobRunner emissionRecalculationJobRunner;
+
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private EmissionRecalculationServiceImpl emissionRecalculationService;
+
+    @BeforeEach
+    void setUp() {
+        emissionRecalculationJobRepository = mock(EmissionRecalculationJobRepository.class);
+        emissionRecalculationJobRunner = mock(EmissionRecalculationJobRunner.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        TenantSchemaService tenantSchemaService = mock(TenantSchemaService.class);
+        doAnswer(invocation -> {
+            Consumer<Set<String>> task = invocation.getArgument(0);
+            task.accept(Set.of());
+            return null;
+        })
+            .when(tenantSchemaService)
+            .forEachSchema(any());
+        emissionRecalculationService = new EmissionRecalculationServiceImpl(
+            emissionRecalculationJobRepository,
+            new EmissionRecalculationJobMapper(),
+            emissionRecalculationJobRunner,
+            applicationEventPublisher,
+            tenantSchemaService
+        );
+    }
+
+    @Test
+    void shouldOnlyResumeJobsWithoutALiveRunner() {
+        EmissionRecalculationJob pending = job(1L, RecalculationJobStatus.PENDING);
+        EmissionRecalculationJob abandoned = job(2L, RecalculationJobStatus.RUNNING);
+        EmissionRecalculationJob running = job(3L, RecalculationJobStatus.RUNNING);
+        when(emissionRecalculationJobRepository.findByStatusIn(anyCollection())).thenReturn(List.of(pending, abandoned, running));
+        when(emissionRecalculationJobRunner.isRunning(running)).thenReturn(true);
+
+        emissionRecalculationService.resumeInterruptedJobs();
+
+        verify(emissionRecalculationJobRunner).run(1L);
+        verify(emissionRecalculationJobRunner).run(2L);
+        verify(emissionRecalculationJobRunner, never()).run(3L);
+    }
+
+    @Test
+    void shouldNotRequeueAJobThatIsStillRunning() {
+        EmissionRecalculationJob running = job(3L, RecalculationJobStatus.RUNNING);
+        when(emissionRecalculationJobRepository.findById(3L)).thenReturn(Optional.of(running));
+        when(emissionRecalculationJobRunner.isRunning(running)).thenReturn(true);
+
+        emissionRecalculationService.resume(3L);
+
+        assertThat(running.getStatus()).isEqualTo(RecalculationJobStatus.RUNNING);
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldRequeueAFailedJob() {
+        EmissionRecalculationJob failed = job(4L, RecalculationJobStatus.FAILED);
+        when(emissionRecalculationJobRepository.findById(4L)).thenReturn(Optional.of(failed));
+
+        emissionRecalculationService.resume(4L);
+
+        assertThat(failed.getStatus()).isEqualTo(RecalculationJobStatus.PENDING);
+        verify(applicationEventPublisher).publishEvent(new EmissionRecalculationRequestedEvent(4L));
+    }
+
+    private static EmissionRecalculationJob job(Long id, RecalculationJobStatus status) {
+        EmissionRecalculationJob job = new EmissionRecalculationJob();
+        job.setId(id);
+        job.setTenantId("tenant-a");
+        job.setStatus(status);
+        return job;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionRecordPatch;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.dto.EmissionRecordBulkPatchResultDTO;
+import com.ecotrack.api.service.dto.EmissionRecordPatchDTO;
+import com.ecotrack.api.service.mapper.EmissionRecordMapper;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmissionRecordBulkPatchTest {
+
+    private EmissionRecordRepository emissionRecordRepository;
+
+    private EmissionRollupService emissionRollupService;
+
+    private EmissionSeriesCache emissionSeriesCache;
+
+    private EmissionRecordServiceImpl emissionRecordService;
+
+    @BeforeEach
+    void setUp() {
+        emissionRecordRepository = mock(EmissionRecordRepository.class);
+        emissionRollupService = mock(EmissionRollupService.class);
+        emissionSeriesCache = mock(EmissionSeriesCache.class);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCarbonCalculation().getBatch().setPersistChunkSize(2);
+        emissionRecordService = new EmissionRecordServiceImpl(
+            emissionRecordRepository,
+            new EmissionRecordMapper(),
+            mock(EntityManager.class),
+            applicationProperties,
+            emissionRollupService,
+            emissionSeriesCache
+        );
+    }
+
+    @Test
+    void shouldApplyPatchesOneStatementPerChunk() {
+        when(emissionRecordRepository.applyPatches(eq("tenant-a"), anyList(), anyString(), any(Instant.class))).thenAnswer(invocation ->
+            invocation.<List<?>>getArgument(1).size()
+        );
+
+        EmissionRecordBulkPatchResultDTO result = emissionRecordService.bulkPartialUpdate("tenant-a", patches(1, 2, 3));
+
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getUpdated()).isEqualTo(3);
+        assertThat(result.getNotFoundIds()).isEmpty();
+        verify(emissionRecordRepository).applyPatches(
+            eq("tenant-a"),
+            eq(List.of(new EmissionRecordPatch(1L, true, 80, null), new EmissionRecordPatch(2L, true, 80, null))),
+            anyString(),
+            any(Instant.class)
+        );
+        verify(emissionRecordRepository).applyPatches(
+            eq("tenant-a"),
+            eq(List.of(new EmissionRecordPatch(3L, true, 80, null))),
+            anyString(),
+            any(Instant.class)
+        );
+        verify(emissionRecordRepository, never()).findIdsByTenantIdAndIdIn(anyString(), anyList());
+        verify(emissionRecordRepository, never()).findById(any());
+        verify(emissionRollupService, never()).apply(any());
+        verify(emissionSeriesCache).invalidate("tenant-a");
+    }
+
+    @Test
+    void shouldReportIdsThatWereNotUpdated() {
+        when(emissionRecordRepository.applyPatches(eq("tenant-a"), anyList(), anyString(), any(Instant.class))).thenReturn(2, 0);
+        when(emissionRecordRepository.findIdsByTenantIdAndIdIn("tenant-a", List.of(4L, 3L))).thenReturn(List.of());
+
+        EmissionRecordBulkPatchResultDTO result = emissionRecordService.bulkPartialUpdate("tenant-a", patches(1, 2, 4, 3));
+
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getNotFoundIds()).containsExactly(4L, 3L);
+        verify(emissionRecordRepository, times(1)).findIdsByTenantIdAndIdIn(anyString(), anyList());
+    }
+
+    @Test
+    void shouldRejectMissingAndRepeatedIds() {
+        List<EmissionRecordPatchDTO> repeated = patches(1, 2, 1);
+        List<EmissionRecordPatchDTO> missing = patches(1);
+        missing.get(0).setId(null);
+
+        assertThatThrownBy(() -> emissionRecordService.bulkPartialUpdate("tenant-a", repeated)).isInstanceOf(
+            IllegalArgumentException.class
+        );
+        assertThatThrownBy(() -> emissionRecordService.bulkPartialUpdate("tenant-a", missing)).isInstanceOf(
+            IllegalArgumentException.class
+        );
+        verify(emissionRecordRepository, never()).applyPatches(anyString(), anyList(), anyString(), any(Instant.class));
+    }
+
+    private static List<EmissionRecordPatchDTO> patches(long... ids) {
+        return LongStream.of(ids)
+            .mapToObj(id -> {
+                EmissionRecordPatchDTO patch = new EmissionRecordPatchDTO();
+                patch.setId(id);
+                patch.setVerified(true);
+                patch.setConfidenceScore(80);
+                return patch;
+            })
+            .toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRecordSummary;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.dto.CursorPage;
+import com.ecotrack.api.service.dto.EmissionRecordDTO;
+import com.ecotrack.api.service.mapper.EmissionRecordMapper;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class EmissionRecordCursorTest {
+
+    private EmissionRecordRepository emissionRecordRepository;
+
+    private EmissionRecordServiceImpl emissionRecordService;
+
+    @BeforeEach
+    void setUp() {
+        emissionRecordRepository = mock(EmissionRecordRepository.class);
+        emissionRecordService = new EmissionRecordServiceImpl(
+            emissionRecordRepository,
+            new EmissionRecordMapper(),
+            mock(EntityManager.class),
+            new ApplicationProperties(),
+            mock(EmissionRollupService.class),
+            mock(EmissionSeriesCache.class)
+        );
+    }
+
+    @Test
+    void shouldRoundTripDatedAndUndatedCursors() {
+        EmissionRecordCursor dated = new EmissionRecordCursor(LocalDate.of(2026, 3, 14), 1042L);
+        EmissionRecordCursor undated = new EmissionRecordCursor(null, 7L);
+
+        assertThat(EmissionRecordCursor.decode(dated.encode())).isEqualTo(dated);
+        assertThat(EmissionRecordCursor.decode(undated.encode())).isEqualTo(undated);
+        assertThat(dated.encode()).doesNotContain("2026").matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void shouldRejectForeignCursors() {
+        assertThatThrownBy(() -> EmissionRecordCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmissionRecordCursor.decode("MjoyMDI2LTAxLTAxOjE")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmissionRecordCursor.decode("MTp5ZXN0ZXJkYXk6MQ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldContinueAfterTheLastRecordOfAFullPage() {
+        when(emissionRecordRepository.findDatedKeysetPage("tenant-a", PageRequest.of(0, 3))).thenReturn(
+            List.of(record(30L, LocalDate.of(2026, 3, 2)), record(20L, LocalDate.of(2026, 3, 1)), record(10L, LocalDate.of(2026, 3, 1)))
+        );
+
+        CursorPage<EmissionRecordDTO> page = emissionRecordService.findByTenantId("tenant-a", null, 2);
+
+        assertThat(page.content()).extracting(EmissionRecordDTO::getId).containsExactly(30L, 20L);
+        assertThat(EmissionRecordCursor.decode(page.nextCursor())).isEqualTo(new EmissionRecordCursor(LocalDate.of(2026, 3, 1), 20L));
+        verify(emissionRecordRepository, never()).findUndatedKeysetPageAfter(any(), eq(Long.MAX_VALUE), any());
+    }
+
+    @Test
+    void shouldListUndatedRecordsAfterTheDatedOnes() {
+        String cursor = new EmissionRecordCursor(LocalDate.of(2026, 3, 1), 20L).encode();
+        when(emissionRecordRepository.findDatedKeysetPageAfter("tenant-a", LocalDate.of(2026, 3, 1), 20L, PageRequest.of(0, 3))).thenReturn(
+            List.of(record(10L, LocalDate.of(2026, 3, 1)))
+        );
+        when(emissionRecordRepository.findUndatedKeysetPageAfter("tenant-a", Long.MAX_VALUE, PageRequest.of(0, 2))).thenReturn(
+            List.of(record(40L, null), record(5L, null))
+        );
+        when(emissionRecordRepository.findUndatedKeysetPageAfter("tenant-a", 40L, PageRequest.of(0, 3))).thenReturn(
+            List.of(record(5L, null))
+        );
+
+        CursorPage<EmissionRecordDTO> page = emissionRecordService.findByTenantId("tenant-a", cursor, 2);
+        CursorPage<EmissionRecordDTO> last = emissionRecordService.findByTenantId("tenant-a", page.nextCursor(), 2);
+
+        assertThat(page.content()).extracting(EmissionRecordDTO::getId).containsExactly(10L, 40L);
+        assertThat(last.content()).extracting(EmissionRecordDTO::getId).containsExactly(5L);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldPageSummariesWithTheSameCursors() {
+        String cursor = new EmissionRecordCursor(LocalDate.of(2026, 3, 1), 20L).encode();
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        when(emissionRecordRepository.findDatedKeysetSummariesAfter("tenant-a", date, 20L, PageRequest.of(0, 2))).thenReturn(
+            List.of(summary(10L, date), summary(9L, LocalDate.of(2026, 2, 27)))
+        );
+
+        CursorPage<EmissionRecordSummary> page = emissionRecordService.findSummariesByTenantId("tenant-a", cursor, 1);
+
+        assertThat(page.content()).extracting(EmissionRecordSummary::id).containsExactly(10L);
+        assertThat(EmissionRecordCursor.decode(page.nextCursor())).isEqualTo(new EmissionRecordCursor(date, 10L));
+        verify(emissionRecordRepository, never()).findDatedKeysetPageAfter(any(), any(), any(Long.class), any());
+        verify(emissionRecordRepository, never()).findUndatedKeysetSummariesAfter(any(), any(Long.class), any());
+    }
+
+    private static EmissionRecord record(Long id, LocalDate dateRecorded) {
+        EmissionRecord emissionRecord = new EmissionRecord("tenant-a", Scope.SCOPE_1, 100L);
+        emissionRecord.setId(id);
+        emissionRecord.setDateRecorded(dateRecorded);
+        return emissionRecord;
+    }
+
+    private static EmissionRecordSummary summary(Long id, LocalDate dateRecorded) {
+        return new EmissionRecordSummary(id, "tenant-a", null, null, Scope.SCOPE_1, 100L, dateRecorded, false, null, null, null);
+    }
+}
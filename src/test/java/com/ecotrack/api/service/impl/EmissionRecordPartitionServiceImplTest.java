@@ -0,0 +1,64 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmissionRecordPartitionServiceImplTest {
+
+    private EmissionRecordRepository emissionRecordRepository;
+
+    private ApplicationProperties applicationProperties;
+
+    private EmissionRecordPartitionServiceImpl emissionRecordPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        emissionRecordRepository = mock(EmissionRecordRepository.class);
+        applicationProperties = new ApplicationProperties();
+        emissionRecordPartitionService = new EmissionRecordPartitionServiceImpl(
+            emissionRecordRepository,
+            applicationProperties,
+            mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @Test
+    void shouldCreatePartitionsAheadOfTheCurrentYear() {
+        int currentYear = LocalDate.now(ZoneOffset.UTC).getYear();
+        applicationProperties.getPartitioning().setYearsAhead(2);
+        when(emissionRecordRepository.ensurePartitions(currentYear, currentYear + 2)).thenReturn(16);
+
+        assertThat(emissionRecordPartitionService.ensurePartitions()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldCopyBatchesUntilEveryRecordIsCovered() {
+        applicationProperties.getPartitioning().setBackfillBatchSize(1000);
+        when(emissionRecordRepository.isPartitionBackfillPending()).thenReturn(true);
+        when(emissionRecordRepository.backfillPartitions(1000)).thenReturn(1000, 1000, 250, 0);
+
+        assertThat(emissionRecordPartitionService.backfill()).isEqualTo(2250);
+        verify(emissionRecordRepository, times(4)).backfillPartitions(1000);
+    }
+
+    @Test
+    void shouldNotBackfillOnceTheTablesAreSwapped() {
+        when(emissionRecordRepository.isPartitionBackfillPending()).thenReturn(false);
+
+        assertThat(emissionRecordPartitionService.backfill()).isZero();
+        verify(emissionRecordRepository, never()).backfillPartitions(anyInt());
+    }
+}
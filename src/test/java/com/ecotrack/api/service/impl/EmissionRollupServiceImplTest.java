@@ -0,0 +1,118 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRollupRepository;
+import com.ecotrack.api.repository.EmissionScopeTotal;
+import com.ecotrack.api.repository.TenantSchemaRepository;
+import com.ecotrack.api.service.dto.EmissionTotalsDTO;
+import com.ecotrack.api.service.rollup.EmissionRollupDeltas;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmissionRollupServiceImplTest {
+
+    private EmissionRollupRepository emissionRollupRepository;
+
+    private EmissionSeriesCache emissionSeriesCache;
+
+    private EmissionRollupServiceImpl emissionRollupService;
+
+    @BeforeEach
+    void setUp() {
+        emissionRollupRepository = mock(EmissionRollupRepository.class);
+        emissionSeriesCache = mock(EmissionSeriesCache.class);
+        emissionRollupService = new EmissionRollupServiceImpl(
+            emissionRollupRepository,
+            mock(EmissionRecordRepository.class),
+            mock(PlatformTransactionManager.class),
+            emissionSeriesCache,
+            mock(TenantSchemaRepository.class)
+        );
+    }
+
+    @Test
+    void shouldCombineWholeMonthsWithEdgeDays() {
+        LocalDate from = LocalDate.of(2026, 1, 20);
+        LocalDate to = LocalDate.of(2026, 4, 10);
+        when(emissionRollupRepository.sumByScope("tenant-a", RollupPeriod.MONTH, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1)))
+            .thenReturn(List.of(new EmissionScopeTotal(Scope.SCOPE_1, 5000L, 10L)));
+        when(emissionRollupRepository.sumByScope("tenant-a", RollupPeriod.DAY, from, LocalDate.of(2026, 1, 31)))
+            .thenReturn(List.of(new EmissionScopeTotal(Scope.SCOPE_1, 100L, 1L), new EmissionScopeTotal(Scope.SCOPE_2, 40L, 1L)));
+        when(emissionRollupRepository.sumByScope("tenant-a", RollupPeriod.DAY, LocalDate.of(2026, 4, 1), to))
+            .thenReturn(List.of(new EmissionScopeTotal(Scope.SCOPE_2, 60L, 2L)));
+
+        EmissionTotalsDTO totals = emissionRollupService.getTotals("tenant-a", from, to);
+
+        assertThat(totals.getCarbonGrams()).isEqualTo(5200);
+        assertThat(totals.getRecordCount()).isEqualTo(14);
+        assertThat(totals.getScopes()).extracting("scope", "carbonGrams").containsExactly(
+            tuple(Scope.SCOPE_1, 5100L),
+            tuple(Scope.SCOPE_2, 100L)
+        );
+    }
+
+    @Test
+    void shouldReadOnlyMonthsForWholeMonthRange() {
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 28);
+        when(emissionRollupRepository.sumByScope("tenant-a", RollupPeriod.MONTH, from, from)).thenReturn(List.of());
+
+        emissionRollupService.getTotals("tenant-a", from, to);
+
+        verify(emissionRollupRepository).sumByScope("tenant-a", RollupPeriod.MONTH, from, from);
+        verifyNoMoreInteractions(emissionRollupRepository);
+    }
+
+    @Test
+    void shouldReadOnlyDaysWithinASingleMonth() {
+        LocalDate from = LocalDate.of(2026, 2, 3);
+        LocalDate to = LocalDate.of(2026, 2, 17);
+        when(emissionRollupRepository.sumByScope(any(), any(), any(), any())).thenReturn(List.of());
+
+        emissionRollupService.getTotals("tenant-a", from, to);
+
+        verify(emissionRollupRepository).sumByScope("tenant-a", RollupPeriod.DAY, from, to);
+        verifyNoMoreInteractions(emissionRollupRepository);
+    }
+
+    @Test
+    void shouldRetireCachedSeriesWhenOnlyTheSupplierChanges() {
+        EmissionRecord emissionRecord = new EmissionRecord();
+        emissionRecord.setTenantId("tenant-a");
+        emissionRecord.setSupplierId("supplier-a");
+        emissionRecord.setScope(Scope.SCOPE_3);
+        emissionRecord.setDateRecorded(LocalDate.of(2026, 3, 3));
+        emissionRecord.setCarbonGrams(900L);
+        EmissionRollupDeltas deltas = new EmissionRollupDeltas().remove(emissionRecord);
+        emissionRecord.setSupplierId("supplier-b");
+
+        emissionRollupService.apply(deltas.add(emissionRecord));
+
+        verifyNoInteractions(emissionRollupRepository);
+        verify(emissionSeriesCache).invalidate("tenant-a");
+    }
+
+    @Test
+    void shouldRejectHalfOpenRange() {
+        assertThatThrownBy(() -> emissionRollupService.getTotals("tenant-a", LocalDate.of(2026, 2, 3), null)).isInstanceOf(
+            IllegalArgumentException.class
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionPeriodTotal;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.repository.EmissionRollupRepository;
+import com.ecotrack.api.service.dto.EmissionSeriesDTO;
+import com.ecotrack.api.service.dto.EmissionSeriesPointDTO;
+import com.ecotrack.api.service.series.EmissionSeriesCache;
+import com.ecotrack.api.service.series.EmissionSeriesGrouping;
+import com.ecotrack.api.service.series.EmissionSeriesPeriod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmissionSeriesServiceImplTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+
+    private EmissionRecordRepository emissionRecordRepository;
+
+    private EmissionRollupRepository emissionRollupRepository;
+
+    private EmissionSeriesCache emissionSeriesCache;
+
+    private EmissionSeriesServiceImpl emissionSeriesService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        emissionRecordRepository = mock(EmissionRecordRepository.class);
+        emissionRollupRepository = mock(EmissionRollupRepository.class);
+        Map<Object, Object> entries = new HashMap<>();
+        Cache<Object, Object> cache = mock(Cache.class);
+        when(cache.get(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1))).when(cache).put(any(), any());
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(EmissionSeriesCache.CACHE_NAME)).thenReturn(cache);
+        emissionSeriesCache = new EmissionSeriesCache(cacheManager, new ApplicationProperties(), new SimpleMeterRegistry());
+        emissionSeriesService = new EmissionSeriesServiceImpl(emissionRecordRepository, emissionRollupRepository, emissionSeriesCache);
+    }
+
+    @Test
+    void shouldSumRunningTotalsPerGroup() {
+        when(emissionRecordRepository.findPeriodTotals("tenant-a", "SUPPLIER", "week", null, null)).thenReturn(
+            List.of(
+                new Total("sup-1", JAN_1, 10L, 1L),
+                new Total("sup-1", JAN_1.plusWeeks(1), 5L, 2L),
+                new Total(null, JAN_1, 7L, 1L)
+            )
+        );
+
+        EmissionSeriesDTO series = emissionSeriesService.getSeries(
+            "tenant-a",
+            EmissionSeriesPeriod.WEEK,
+            EmissionSeriesGrouping.SUPPLIER,
+            null,
+            null,
+            true
+        );
+
+        assertThat(series.getPoints())
+            .extracting(
+                EmissionSeriesPointDTO::getGroup,
+                EmissionSeriesPointDTO::getCarbonGrams,
+                EmissionSeriesPointDTO::getCumulativeCarbonGrams
+            )
+            .containsExactly(tuple("sup-1", 10L, 10L), tuple("sup-1", 5L, 15L), tuple(null, 7L, 7L));
+    }
+
+    @Test
+    void shouldReadMonthRollupsOnlyForWholeMonths() {
+        LocalDate endOfMarch = LocalDate.of(2026, 3, 31);
+        byScope(EmissionSeriesPeriod.QUARTER, JAN_1, endOfMarch);
+        byScope(EmissionSeriesPeriod.MONTH, JAN_1, endOfMarch.minusDays(1));
+        byScope(EmissionSeriesPeriod.WEEK, null, null);
+
+        verify(emissionRollupRepository).findScopePeriodTotals("tenant-a", "MONTH", "quarter", JAN_1, endOfMarch);
+        verify(emissionRollupRepository).findScopePeriodTotals("tenant-a", "DAY", "month", JAN_1, endOfMarch.minusDays(1));
+        verify(emissionRollupRepository).findScopePeriodTotals("tenant-a", "DAY", "week", null, null);
+    }
+
+    @Test
+    void shouldServeCachedSeriesUntilTheTenantIsWrittenTo() {
+        EmissionSeriesDTO first = byScope(EmissionSeriesPeriod.DAY, null, null);
+        EmissionSeriesDTO cached = byScope(EmissionSeriesPeriod.DAY, null, null);
+        emissionSeriesCache.invalidate("tenant-b");
+        byScope(EmissionSeriesPeriod.DAY, null, null);
+        emissionSeriesCache.invalidate("tenant-a");
+        EmissionSeriesDTO recomputed = byScope(EmissionSeriesPeriod.DAY, null, null);
+
+        assertThat(cached).isSameAs(first);
+        assertThat(recomputed).isNotSameAs(first);
+        verify(emissionRollupRepository, times(2)).findScopePeriodTotals("tenant-a", "DAY", "day", null, null);
+    }
+
+    @Test
+    void shouldRejectHalfOpenRange() {
+        assertThatThrownBy(() -> byScope(EmissionSeriesPeriod.DAY, JAN_1, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EmissionSeriesDTO byScope(EmissionSeriesPeriod period, LocalDate from, LocalDate to) {
+        return emissionSeriesService.getSeries("tenant-a", period, EmissionSeriesGrouping.SCOPE, from, to, false);
+    }
+
+    private record Total(String getGroupKey, LocalDate getPeriodStart, Long getCarbonGrams, Long getRecordCount)
+        implements EmissionPeriodTotal {}
+}
@@ -0,0 +1,75 @@
+package com.ecotrack.api.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.domain.enumeration.TenantSchemaStatus;
+import com.ecotrack.api.repository.TenantSchemaRepository;
+import com.ecotrack.api.security.TenantContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TenantSchemaServiceImplTest {
+
+    private TenantSchemaRepository tenantSchemaRepository;
+
+    private TenantSchemaServiceImpl tenantSchemaService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        tenantSchemaRepository = mock(TenantSchemaRepository.class);
+        tenantSchemaService = new TenantSchemaServiceImpl(
+            tenantSchemaRepository,
+            new ApplicationProperties(),
+            mock(PlatformTransactionManager.class),
+            new LiquibaseProperties(),
+            mock(ObjectProvider.class),
+            mock(ObjectProvider.class),
+            new DataSourceProperties(),
+            new DefaultResourceLoader()
+        );
+    }
+
+    @Test
+    void shouldDeriveSchemaNamesThatNeverNeedQuoting() {
+        assertThat(TenantSchemaServiceImpl.schemaNameOf("Steel-Corp.EU")).isEqualTo("tenant_steel_corp_eu");
+        assertThat(TenantSchemaServiceImpl.schemaNameOf("x".repeat(100))).hasSize(63).startsWith("tenant_xxx");
+    }
+
+    @Test
+    void shouldRunOnTheSharedTablesThenOnEachTenantSchema() {
+        when(tenantSchemaRepository.findTenantIdsByStatus(TenantSchemaStatus.ACTIVE)).thenReturn(List.of("big-t"));
+        List<String> runs = new ArrayList<>();
+
+        tenantSchemaService.forEachSchema(skippedTenantIds -> runs.add(TenantContext.getTenantId() + " skipping " + skippedTenantIds));
+
+        assertThat(runs).containsExactly("null skipping [big-t]", "big-t skipping []");
+        assertThat(TenantContext.getTenantId()).isNull();
+    }
+
+    @Test
+    void shouldKeepRunningWhenOneSchemaFails() {
+        when(tenantSchemaRepository.findTenantIdsByStatus(TenantSchemaStatus.ACTIVE)).thenReturn(List.of("tenant-a"));
+        List<Set<String>> runs = new ArrayList<>();
+
+        tenantSchemaService.forEachSchema(skippedTenantIds -> {
+            runs.add(skippedTenantIds);
+            if (!skippedTenantIds.isEmpty()) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertThat(runs).containsExactly(Set.of("tenant-a"), Set.of());
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecotrack.api.service.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecotrack.api.domain.enumeration.EmissionImportFormat;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EmissionImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void readsCsvRowsByHeader() throws IOException {
+        List<EmissionImportReader.Row> rows = read(
+            EmissionImportFormat.CSV,
+            """
+            scope,carbonGrams,dateRecorded,supplierId,activityData,calculationParameters
+            SCOPE_1,1200,2025-03-04,,12.5,"{""load"": 0.8}"
+            SCOPE_2, 300 ,,SUP-1,,
+            """
+        );
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).rowNumber()).isEqualTo(1);
+        assertThat(rows.get(0).error()).isNull();
+        assertThat(rows.get(0).record().getScope()).isEqualTo(Scope.SCOPE_1);
+        assertThat(rows.get(0).record().getCarbonGrams()).isEqualTo(1200L);
+        assertThat(rows.get(0).record().getDateRecorded()).isEqualTo(LocalDate.of(2025, 3, 4));
+        assertThat(rows.get(0).record().getSupplierId()).isNull();
+        assertThat(rows.get(0).record().getActivityData()).isEqualByComparingTo("12.5");
+        assertThat(rows.get(0).record().getCalculationParameters()).isEqualTo(Map.of("load", new BigDecimal("0.8")));
+        assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).record().getCarbonGrams()).isEqualTo(300L);
+        assertThat(rows.get(1).record().getSupplierId()).isEqualTo("SUP-1");
+    }
+
+    @Test
+    void reportsCsvRowsThatDoNotBindAndContinues() throws IOException {
+        List<EmissionImportReader.Row> rows = read(
+            EmissionImportFormat.CSV,
+            """
+            scope,carbonGrams,metadata
+            SCOPE_4,10,
+            SCOPE_1,abc,
+            SCOPE_1,10,{not json
+            SCOPE_3,20,
+            """
+        );
+
+        assertThat(rows).extracting(EmissionImportReader.Row::rowNumber).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rows.get(0).error()).startsWith("Invalid value for 'scope'");
+        assertThat(rows.get(1).error()).startsWith("Invalid value for 'carbonGrams'");
+        assertThat(rows.get(2).error()).startsWith("'metadata' is not valid JSON");
+        assertThat(rows.get(3).error()).isNull();
+        assertThat(rows.get(3).record().getScope()).isEqualTo(Scope.SCOPE_3);
+    }
+
+    @Test
+    void readsNdjsonRowsAndStopsAtMalformedInput() throws IOException {
+        List<EmissionImportReader.Row> rows = read(
+            EmissionImportFormat.NDJSON,
+            """
+            {"scope":"SCOPE_1","carbonGrams":5}
+            {"scope":"SCOPE_1","carbonGrams":"many"}
+            {"scope":"SCOPE_2","carbonGrams":7}
+            {"scope" SCOPE_1}
+            {"scope":"SCOPE_3","carbonGrams":9}
+            """
+        );
+
+        assertThat(rows).extracting(EmissionImportReader.Row::rowNumber).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rows.get(0).record().getCarbonGrams()).isEqualTo(5L);
+        assertThat(rows.get(1).error()).startsWith("Invalid value for 'carbonGrams'");
+        assertThat(rows.get(2).record().getScope()).isEqualTo(Scope.SCOPE_2);
+        assertThat(rows.get(3).error()).startsWith("Malformed NDJSON input");
+    }
+
+    private List<EmissionImportReader.Row> read(EmissionImportFormat format, String input) throws IOException {
+        List<EmissionImportReader.Row> rows = new ArrayList<>();
+        try (
+            EmissionImportReader reader = EmissionImportReader.open(
+                format,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                objectMapper
+            )
+        ) {
+            for (EmissionImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecotrack.api.service.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecotrack.api.domain.EmissionRecord;
+import com.ecotrack.api.domain.EmissionRollup;
+import com.ecotrack.api.domain.EmissionRollupId;
+import com.ecotrack.api.domain.enumeration.RollupPeriod;
+import com.ecotrack.api.domain.enumeration.Scope;
+import com.ecotrack.api.repository.EmissionRecordDailyTotal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmissionRollupDeltasTest {
+
+    private static final LocalDate MARCH_3 = LocalDate.of(2026, 3, 3);
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void shouldContributeToDayAndMonth() {
+        List<EmissionRollupDeltas.Delta> deltas = new EmissionRollupDeltas().add(record(Scope.SCOPE_1, MARCH_3, 1200L)).toList();
+
+        assertThat(deltas).containsExactly(
+            delta(Scope.SCOPE_1, RollupPeriod.DAY, MARCH_3, 1200, 1),
+            delta(Scope.SCOPE_1, RollupPeriod.MONTH, MARCH_1, 1200, 1)
+        );
+    }
+
+    @Test
+    void shouldOnlyCarryTheChangeOfAnUpdatedRecord() {
+        EmissionRecord emissionRecord = record(Scope.SCOPE_2, MARCH_3, 1000L);
+        EmissionRollupDeltas deltas = new EmissionRollupDeltas().remove(emissionRecord);
+        emissionRecord.setCarbonGrams(1500L);
+        deltas.add(emissionRecord);
+
+        assertThat(deltas.toList()).containsExactly(
+            delta(Scope.SCOPE_2, RollupPeriod.DAY, MARCH_3, 500, 0),
+            delta(Scope.SCOPE_2, RollupPeriod.MONTH, MARCH_1, 500, 0)
+        );
+    }
+
+    @Test
+    void shouldMoveRecordBetweenDaysOfTheSameMonth() {
+        EmissionRecord emissionRecord = record(Scope.SCOPE_1, MARCH_3, 700L);
+        EmissionRollupDeltas deltas = new EmissionRollupDeltas().remove(emissionRecord);
+        emissionRecord.setDateRecorded(MARCH_3.plusDays(1));
+        deltas.add(emissionRecord);
+
+        assertThat(deltas.toList()).containsExactly(
+            delta(Scope.SCOPE_1, RollupPeriod.DAY, MARCH_3, -700, -1),
+            delta(Scope.SCOPE_1, RollupPeriod.DAY, MARCH_3.plusDays(1), 700, 1)
+        );
+    }
+
+    @Test
+    void shouldIgnoreUndatedRecordsAndUnchangedUpdates() {
+        EmissionRecord emissionRecord = record(Scope.SCOPE_3, MARCH_3, 900L);
+        EmissionRollupDeltas deltas = new EmissionRollupDeltas().remove(emissionRecord).add(emissionRecord);
+        deltas.add(record(Scope.SCOPE_3, null, 300L));
+
+        assertThat(deltas.toList()).isEmpty();
+    }
+
+    @Test
+    void shouldComputeDriftBetweenRecordsAndStoredRollups() {
+        List<EmissionRecordDailyTotal> actual = List.of(new EmissionRecordDailyTotal(Scope.SCOPE_1, MARCH_3, 1000L, 2L));
+        List<EmissionRollup> stored = List.of(
+            rollup(Scope.SCOPE_1, RollupPeriod.DAY, MARCH_3, 1000, 2),
+            rollup(Scope.SCOPE_1, RollupPeriod.MONTH, MARCH_1, 1400, 3),
+            rollup(Scope.SCOPE_2, RollupPeriod.DAY, MARCH_3, 50, 1)
+        );
+
+        assertThat(EmissionRollupDeltas.drift("tenant-a", actual, stored).toList()).containsExactly(
+            delta(Scope.SCOPE_1, RollupPeriod.MONTH, MARCH_1, -400, -1),
+            delta(Scope.SCOPE_2, RollupPeriod.DAY, MARCH_3, -50, -1)
+        );
+    }
+
+    private static EmissionRecord record(Scope scope, LocalDate dateRecorded, Long carbonGrams) {
+        EmissionRecord emissionRecord = new EmissionRecord();
+        emissionRecord.setTenantId("tenant-a");
+        emissionRecord.setScope(scope);
+        emissionRecord.setDateRecorded(dateRecorded);
+        emissionRecord.setCarbonGrams(carbonGrams);
+        return emissionRecord;
+    }
+
+    private static EmissionRollup rollup(Scope scope, RollupPeriod periodType, LocalDate periodStart, long carbonGrams, long recordCount) {
+        EmissionRollup rollup = new EmissionRollup();
+        rollup.setId(new EmissionRollupId("tenant-a", scope, periodType, periodStart));
+        rollup.setCarbonGrams(carbonGrams);
+        rollup.setRecordCount(recordCount);
+        return rollup;
+    }
+
+    private static EmissionRollupDeltas.Delta delta(
+        Scope scope,
+        RollupPeriod periodType,
+        LocalDate periodStart,
+        long carbonGrams,
+        long recordCount
+    ) {
+        return new EmissionRollupDeltas.Delta(
+            new EmissionRollupDeltas.Key("tenant-a", scope, periodType, periodStart),
+            carbonGrams,
+            recordCount
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecotrack.api.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import com.ecotrack.api.repository.EmissionRecordExportCriteria;
+import com.ecotrack.api.repository.EmissionRecordRepository;
+import com.ecotrack.api.security.TenantContext;
+import com.ecotrack.api.service.EmissionRecordExportService;
+import com.ecotrack.api.service.EmissionRecordService;
+import com.ecotrack.api.service.EmissionRollupService;
+import com.ecotrack.api.service.EmissionSeriesService;
+import com.ecotrack.api.service.EmissionUncertaintyService;
+import com.ecotrack.api.service.exports.EmissionExportFormat;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Unit tests for the {@link EmissionRecordResource} REST controller.
+ */
+class EmissionRecordResourceTest {
+
+    private EmissionRecordExportService emissionRecordExportService;
+
+    private EmissionRecordResource emissionRecordResource;
+
+    @BeforeEach
+    void setUp() {
+        emissionRecordExportService = mock(EmissionRecordExportService.class);
+        emissionRecordResource = new EmissionRecordResource(
+            mock(EmissionRecordService.class),
+            mock(EmissionRecordRepository.class),
+            mock(EmissionUncertaintyService.class),
+            mock(EmissionRollupService.class),
+            new ApplicationProperties(),
+            emissionRecordExportService,
+            mock(EmissionSeriesService.class)
+        );
+    }
+
+    @Test
+    void shouldStreamTheExportForTheTenantOfTheRequest() throws Exception {
+        AtomicReference<String> exportTenantId = new AtomicReference<>();
+        when(emissionRecordExportService.export(any(EmissionRecordExportCriteria.class), eq(EmissionExportFormat.CSV), any())).thenAnswer(
+            invocation -> {
+                exportTenantId.set(TenantContext.getTenantId());
+                return 0L;
+            }
+        );
+
+        StreamingResponseBody body = TenantContext.callWithTenant("tenant-a", () ->
+            emissionRecordResource
+                .exportEmissionRecordsByTenant("tenant-a", EmissionExportFormat.CSV, null, null, null, null, null, null)
+                .getBody()
+        );
+        // The body is written on a thread that has no tenant of its own.
+        CompletableFuture.runAsync(() -> {
+            try {
+                body.writeTo(new ByteArrayOutputStream());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        assertThat(exportTenantId.get()).isEqualTo("tenant-a");
+    }
+}
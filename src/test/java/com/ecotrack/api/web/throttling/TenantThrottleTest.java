@@ -0,0 +1,127 @@
+package com.ecotrack.api.web.throttling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.ecotrack.api.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TenantThrottle tenantThrottle;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties properties = new ApplicationProperties();
+        ApplicationProperties.Throttling.Budget export = properties.getThrottling().getExport();
+        export.setRequestsPerSecond(1);
+        export.setBurst(2);
+        export.setMaxConcurrent(5);
+        ApplicationProperties.Throttling.Budget report = properties.getThrottling().getReport();
+        report.setRequestsPerSecond(1000);
+        report.setBurst(1000);
+        report.setMaxConcurrent(1);
+        properties.getThrottling().setIdleTimeout(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        tenantThrottle = new TenantThrottle(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectRequestsOverTheBurstUntilATokenIsBack() {
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.EXPORT)).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.EXPORT)).isZero();
+
+        long retryAfter = tenantThrottle.tryAcquire("tenant-a", EndpointClass.EXPORT);
+        assertThat(retryAfter).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        // Other tenants and classes have budgets of their own.
+        assertThat(tenantThrottle.tryAcquire("tenant-b", EndpointClass.EXPORT)).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.LIST)).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.IMPORT)).isZero();
+        assertThat(
+            meterRegistry.get("ecotrack.throttle.rejected").tags("tenant", "tenant-a", "endpoint", "export", "reason", "rate").counter().count()
+        ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLimitConcurrentRequestsUntilReleased() {
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.REPORT)).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.REPORT)).isPositive();
+        assertThat(reportPermits()).isEqualTo(1);
+
+        tenantThrottle.release("tenant-a", EndpointClass.REPORT);
+
+        assertThat(reportPermits()).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.REPORT)).isZero();
+    }
+
+    @Test
+    void shouldEvictIdleLimitersWithTheirMeters() {
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.REPORT)).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-b", EndpointClass.REPORT)).isZero();
+        tenantThrottle.release("tenant-b", EndpointClass.REPORT);
+        assertThat(tenantThrottle.tryAcquire("tenant-a", EndpointClass.EXPORT)).isZero();
+        tenantThrottle.release("tenant-a", EndpointClass.EXPORT);
+
+        // The report bucket of tenant-b is full again within a millisecond.
+        await()
+            .atMost(Duration.ofMillis(500))
+            .untilAsserted(() -> {
+                tenantThrottle.evictIdleLimiters();
+                assertThat(meterRegistry.find("ecotrack.throttle.permits").tags("tenant", "tenant-b").meters()).isEmpty();
+            });
+
+        assertThat(meterRegistry.find("ecotrack.throttle.rejected").tags("tenant", "tenant-b").meters()).isEmpty();
+        // A request in progress or a bucket still refilling keeps a limiter.
+        assertThat(meterRegistry.find("ecotrack.throttle.permits").tags("tenant", "tenant-a", "endpoint", "report").gauge()).isNotNull();
+        assertThat(meterRegistry.find("ecotrack.throttle.tokens").tags("tenant", "tenant-a", "endpoint", "export").gauge()).isNotNull();
+
+        tenantThrottle.release("tenant-a", EndpointClass.REPORT);
+        await()
+            .atMost(Duration.ofMillis(500))
+            .untilAsserted(() -> {
+                tenantThrottle.evictIdleLimiters();
+                assertThat(meterRegistry.find("ecotrack.throttle.permits").tags("tenant", "tenant-a", "endpoint", "report").meters())
+                    .isEmpty();
+            });
+        assertThat(tenantThrottle.tryAcquire("tenant-b", EndpointClass.REPORT)).isZero();
+        assertThat(tenantThrottle.tryAcquire("tenant-b", EndpointClass.REPORT)).isPositive();
+        assertThat(meterRegistry.get("ecotrack.throttle.permits").tags("tenant", "tenant-b").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyRetireLimitersWithNothingInProgressAndAFullBucket() {
+        TenantThrottle.Limiter limiter = new TenantThrottle.Limiter(TimeUnit.MILLISECONDS.toNanos(100), 2, 1, 0);
+        assertThat(limiter.tryEnter()).isTrue();
+        assertThat(limiter.tryTake(0)).isZero();
+
+        assertThat(limiter.tryRetire(TimeUnit.MILLISECONDS.toNanos(100))).isFalse();
+        limiter.exit();
+        assertThat(limiter.tryRetire(TimeUnit.MILLISECONDS.toNanos(50))).isFalse();
+        assertThat(limiter.tryRetire(TimeUnit.MILLISECONDS.toNanos(100))).isTrue();
+
+        assertThat(limiter.isRetired()).isTrue();
+        assertThat(limiter.tryEnter()).isFalse();
+    }
+
+    @Test
+    void shouldRefillTokensAtTheSustainedRate() {
+        TenantThrottle.Limiter limiter = new TenantThrottle.Limiter(TimeUnit.MILLISECONDS.toNanos(100), 2, 1, 0);
+
+        assertThat(limiter.tryTake(0)).isZero();
+        assertThat(limiter.tryTake(0)).isZero();
+        assertThat(limiter.tryTake(0)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryTake(TimeUnit.MILLISECONDS.toNanos(100))).isZero();
+        assertThat(limiter.availableTokens(TimeUnit.MILLISECONDS.toNanos(300))).isEqualTo(2.0);
+    }
+
+    private double reportPermits() {
+        return meterRegistry.get("ecotrack.throttle.permits").tags("tenant", "tenant-a", "endpoint", "report").gauge().value();
+    }
+}